@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.RepositoryService;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.repository.DeploymentBuilder;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Base class for benchmarks that need a process engine. Every benchmark gets its own in-memory H2 process engine, with the processes of
+ * {@link #getProcessResources()} deployed to it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class AbstractProcessEngineBenchmark {
+
+    protected static final String ONE_TASK_PROCESS = "org/flowable/benchmark/oneTaskProcess.bpmn20.xml";
+    protected static final String ASYNC_SERVICE_TASK_PROCESS = "org/flowable/benchmark/asyncServiceTaskProcess.bpmn20.xml";
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected ProcessEngine processEngine;
+    protected RepositoryService repositoryService;
+    protected RuntimeService runtimeService;
+    protected TaskService taskService;
+    protected ManagementService managementService;
+
+    @Setup(Level.Trial)
+    public void setUpProcessEngine() {
+        processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-benchmark");
+        processEngineConfiguration.setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        configureProcessEngine(processEngineConfiguration);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        repositoryService = processEngine.getRepositoryService();
+        runtimeService = processEngine.getRuntimeService();
+        taskService = processEngine.getTaskService();
+        managementService = processEngine.getManagementService();
+
+        DeploymentBuilder deploymentBuilder = repositoryService.createDeployment().name(getClass().getSimpleName());
+        for (String resource : getProcessResources()) {
+            deploymentBuilder.addClasspathResource(resource);
+        }
+        deploymentBuilder.deploy();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownProcessEngine() {
+        if (processEngine != null) {
+            processEngine.close();
+        }
+    }
+
+    /**
+     * Hook to change the configuration of the process engine before it is built.
+     */
+    protected void configureProcessEngine(ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+    }
+
+    protected abstract String[] getProcessResources();
+
+}
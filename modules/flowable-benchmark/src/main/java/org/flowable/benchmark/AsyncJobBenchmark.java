@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import org.flowable.engine.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.ExecuteAsyncRunnable;
+import org.flowable.engine.impl.cmd.AcquireJobsCmd;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Acquiring and executing an async job, the same way the async executor does, but on the benchmark thread.
+ */
+public class AsyncJobBenchmark extends AbstractProcessEngineBenchmark {
+
+    @Override
+    protected String[] getProcessResources() {
+        return new String[] { ASYNC_SERVICE_TASK_PROCESS };
+    }
+
+    @Benchmark
+    public int acquireAndExecuteJob(AsyncJobState asyncJobState) {
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        AcquiredJobEntities acquiredJobs = processEngineConfiguration.getCommandExecutor().execute(
+                new AcquireJobsCmd(asyncExecutor, 1, processEngineConfiguration.getJobEntityManager()));
+
+        for (JobInfoEntity job : acquiredJobs.getJobs()) {
+            new ExecuteAsyncRunnable(job, processEngineConfiguration, processEngineConfiguration.getJobEntityManager(),
+                    processEngineConfiguration.getAsyncRunnableExecutionExceptionHandler()).run();
+        }
+        return acquiredJobs.size();
+    }
+
+    /**
+     * Provides a new async job for every invocation, created outside of the measured time.
+     */
+    @State(Scope.Thread)
+    public static class AsyncJobState {
+
+        @Setup(Level.Invocation)
+        public void createJob(AsyncJobBenchmark benchmark) {
+            benchmark.runtimeService.startProcessInstanceByKey("asyncServiceTaskProcess");
+        }
+
+    }
+
+}
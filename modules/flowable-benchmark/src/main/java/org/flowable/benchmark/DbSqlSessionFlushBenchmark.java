@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Flushing a {@link org.flowable.engine.common.impl.db.DbSqlSession} with a number of updated variables.
+ * The variables are loaded and changed in the same command, so the flush is the larger part of the measured time.
+ */
+public class DbSqlSessionFlushBenchmark extends AbstractProcessEngineBenchmark {
+
+    @Param({ "1", "10", "50" })
+    public int variableCount;
+
+    protected String processInstanceId;
+    protected int counter;
+
+    @Override
+    protected String[] getProcessResources() {
+        return new String[] { ONE_TASK_PROCESS };
+    }
+
+    @Setup(Level.Trial)
+    public void startProcessInstance() {
+        Map<String, Object> variables = new HashMap<String, Object>();
+        for (int i = 0; i < variableCount; i++) {
+            variables.put("var" + i, 0);
+        }
+        processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables).getId();
+    }
+
+    @Benchmark
+    public void flushUpdatedVariables() {
+        final int value = ++counter;
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                ExecutionEntity processInstance = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstanceId);
+                for (int i = 0; i < variableCount; i++) {
+                    processInstance.setVariable("var" + i, value);
+                }
+                CommandContextUtil.getDbSqlSession(commandContext).flush();
+                return null;
+            }
+
+        });
+    }
+
+}
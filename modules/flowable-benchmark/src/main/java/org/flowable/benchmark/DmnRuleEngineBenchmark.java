@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.DmnRepositoryService;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+import org.flowable.dmn.model.Decision;
+import org.flowable.engine.common.AbstractEngineConfiguration;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executing a decision table with the {@link org.flowable.dmn.engine.RuleEngineExecutor} of an in-memory H2 DMN engine.
+ * The decision is resolved once, so only the execution of the decision table (and its audit trail) is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DmnRuleEngineBenchmark {
+
+    protected static final String DECISION_TABLE_RESOURCE = "org/flowable/benchmark/riskRating.dmn";
+    protected static final String DECISION_TABLE_KEY = "RiskRatingDecisionTable";
+
+    protected DmnEngineConfiguration dmnEngineConfiguration;
+    protected DmnEngine dmnEngine;
+    protected Decision decision;
+    protected DmnDecisionTable decisionTable;
+
+    @Setup(Level.Trial)
+    public void setUpDmnEngine() {
+        dmnEngineConfiguration = DmnEngineConfiguration.createStandaloneInMemDmnEngineConfiguration();
+        dmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-benchmark-dmn");
+        dmnEngineConfiguration.setDatabaseSchemaUpdate(AbstractEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        dmnEngine = dmnEngineConfiguration.buildDmnEngine();
+
+        DmnRepositoryService dmnRepositoryService = dmnEngine.getDmnRepositoryService();
+        dmnRepositoryService.createDeployment().addClasspathResource(DECISION_TABLE_RESOURCE).deploy();
+        decisionTable = dmnRepositoryService.createDecisionTableQuery().decisionTableKey(DECISION_TABLE_KEY).singleResult();
+        decision = dmnRepositoryService.getDmnDefinition(decisionTable.getId()).getDecisionById(DECISION_TABLE_KEY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownDmnEngine() {
+        if (dmnEngine != null) {
+            dmnEngine.close();
+        }
+    }
+
+    @Benchmark
+    public DecisionExecutionAuditContainer executeDecision() {
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("age", 30);
+        variables.put("riskcategory", "MEDIUM");
+        variables.put("debtreview", true);
+
+        final ExecuteDecisionInfo executeDecisionInfo = new ExecuteDecisionInfo();
+        executeDecisionInfo.setDecisionKey(DECISION_TABLE_KEY);
+        executeDecisionInfo.setDecisionDefinitionId(decisionTable.getId());
+        executeDecisionInfo.setDeploymentId(decisionTable.getDeploymentId());
+        executeDecisionInfo.setVariables(variables);
+
+        return dmnEngineConfiguration.getCommandExecutor().execute(new Command<DecisionExecutionAuditContainer>() {
+
+            @Override
+            public DecisionExecutionAuditContainer execute(CommandContext commandContext) {
+                return dmnEngineConfiguration.getRuleEngineExecutor().execute(decision, executeDecisionInfo,
+                        dmnEngineConfiguration.getCustomExpressionFunctions(), dmnEngineConfiguration.getCustomPropertyHandlers());
+            }
+
+        });
+    }
+
+}
@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.delegate.Expression;
+import org.flowable.engine.impl.el.DefaultExpressionManager;
+import org.flowable.engine.impl.el.NoExecutionVariableScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creating and evaluating expressions with the {@link DefaultExpressionManager}. No process engine is needed: the expressions
+ * only refer to beans, which are resolved the same way as the beans of a standalone process engine configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpressionBenchmark {
+
+    protected static final String EXPRESSION_TEXT = "${order.amount > 100 && order.customer == 'kermit'}";
+
+    protected DefaultExpressionManager expressionManager;
+    protected Expression expression;
+
+    @Setup
+    public void setUp() {
+        Map<Object, Object> beans = new HashMap<Object, Object>();
+        beans.put("order", new Order("kermit", 150));
+        expressionManager = new DefaultExpressionManager(beans);
+        expression = expressionManager.createExpression(EXPRESSION_TEXT);
+    }
+
+    @Benchmark
+    public Expression createExpression() {
+        return expressionManager.createExpression(EXPRESSION_TEXT);
+    }
+
+    @Benchmark
+    public Object evaluateExpression() {
+        return expression.getValue(NoExecutionVariableScope.getSharedInstance());
+    }
+
+    public static class Order {
+
+        protected String customer;
+        protected int amount;
+
+        public Order(String customer, int amount) {
+            this.customer = customer;
+            this.amount = amount;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public int getAmount() {
+            return amount;
+        }
+
+    }
+
+}
@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Starting process instances and completing user tasks.
+ */
+public class ProcessInstanceBenchmark extends AbstractProcessEngineBenchmark {
+
+    @Override
+    protected String[] getProcessResources() {
+        return new String[] { ONE_TASK_PROCESS };
+    }
+
+    @Benchmark
+    public ProcessInstance startProcessInstance() {
+        return runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    }
+
+    @Benchmark
+    public void completeUserTask(UserTaskState userTaskState) {
+        taskService.complete(userTaskState.taskId);
+    }
+
+    /**
+     * Provides a new user task for every invocation, created outside of the measured time.
+     */
+    @State(Scope.Thread)
+    public static class UserTaskState {
+
+        protected String taskId;
+
+        @Setup(Level.Invocation)
+        public void createTask(ProcessInstanceBenchmark benchmark) {
+            ProcessInstance processInstance = benchmark.runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            Task task = benchmark.taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            taskId = task.getId();
+        }
+
+    }
+
+}
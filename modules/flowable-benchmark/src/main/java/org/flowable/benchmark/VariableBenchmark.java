@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Getting and setting a variable of a process instance with a number of other variables.
+ */
+public class VariableBenchmark extends AbstractProcessEngineBenchmark {
+
+    @Param({ "1", "20" })
+    public int variableCount;
+
+    protected String processInstanceId;
+    protected int counter;
+
+    @Override
+    protected String[] getProcessResources() {
+        return new String[] { ONE_TASK_PROCESS };
+    }
+
+    @Setup(Level.Trial)
+    public void startProcessInstance() {
+        Map<String, Object> variables = new HashMap<String, Object>();
+        for (int i = 0; i < variableCount; i++) {
+            variables.put("var" + i, "value" + i);
+        }
+        processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables).getId();
+    }
+
+    @Benchmark
+    public Object getVariable() {
+        return runtimeService.getVariable(processInstanceId, "var0");
+    }
+
+    @Benchmark
+    public void setVariable() {
+        runtimeService.setVariable(processInstanceId, "var0", "value" + counter++);
+    }
+
+}
@@ -0,0 +1,178 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.bpmn.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Lookup structures for the flow elements of a {@link FlowElementsContainer}, so the flow elements don't need to be scanned for every lookup.
+ *
+ * The index reflects the flow elements at the moment it was built and is dropped by the container when its flow elements change (see {@link Process#buildFlowElementsIndex()}).
+ */
+public class FlowElementsContainerIndex {
+
+    protected final Map<String, FlowElement> flowElementsById;
+    protected final TypeIndex typeIndex;
+    protected final TypeIndex recursiveTypeIndex;
+    protected final Map<String, List<BoundaryEvent>> boundaryEventsByAttachedToRef;
+
+    public FlowElementsContainerIndex(FlowElementsContainer flowElementsContainer) {
+        Collection<FlowElement> flowElements = flowElementsContainer.getFlowElements();
+
+        Map<String, FlowElement> flowElementsById = new HashMap<String, FlowElement>();
+        for (FlowElement flowElement : flowElements) {
+            // The first element with an id wins, like when looking through the list of flow elements
+            if (flowElement.getId() != null && !flowElementsById.containsKey(flowElement.getId())) {
+                flowElementsById.put(flowElement.getId(), flowElement);
+            }
+        }
+        this.flowElementsById = flowElementsById;
+
+        // Same order as when going into the sub processes while looking through the flow elements: an element followed by the elements of its sub process
+        List<FlowElement> recursiveFlowElements = new ArrayList<FlowElement>(flowElements.size());
+        addFlowElementsRecursive(flowElements, recursiveFlowElements);
+
+        Map<String, List<BoundaryEvent>> boundaryEventsByAttachedToRef = new HashMap<String, List<BoundaryEvent>>();
+        for (FlowElement flowElement : recursiveFlowElements) {
+            if (flowElement instanceof BoundaryEvent) {
+                BoundaryEvent boundaryEvent = (BoundaryEvent) flowElement;
+                if (boundaryEvent.getAttachedToRefId() != null) {
+                    List<BoundaryEvent> boundaryEvents = boundaryEventsByAttachedToRef.get(boundaryEvent.getAttachedToRefId());
+                    if (boundaryEvents == null) {
+                        boundaryEvents = new ArrayList<BoundaryEvent>(1);
+                        boundaryEventsByAttachedToRef.put(boundaryEvent.getAttachedToRefId(), boundaryEvents);
+                    }
+                    boundaryEvents.add(boundaryEvent);
+                }
+            }
+        }
+        this.boundaryEventsByAttachedToRef = boundaryEventsByAttachedToRef;
+
+        this.typeIndex = new TypeIndex(flowElements);
+        this.recursiveTypeIndex = new TypeIndex(recursiveFlowElements);
+    }
+
+    protected void addFlowElementsRecursive(Collection<FlowElement> flowElements, List<FlowElement> recursiveFlowElements) {
+        for (FlowElement flowElement : flowElements) {
+            recursiveFlowElements.add(flowElement);
+            if (flowElement instanceof SubProcess) {
+                addFlowElementsRecursive(((SubProcess) flowElement).getFlowElements(), recursiveFlowElements);
+            }
+        }
+    }
+
+    /**
+     * @return the flow element with the given id, not looking into sub processes.
+     */
+    public FlowElement getFlowElement(String flowElementId) {
+        return flowElementsById.get(flowElementId);
+    }
+
+    /**
+     * @return a new list with the flow elements of the given type, in the same order as they are found when looking through the flow elements.
+     */
+    public <FlowElementType extends FlowElement> List<FlowElementType> findFlowElementsOfType(Class<FlowElementType> type, boolean goIntoSubprocesses) {
+        return goIntoSubprocesses ? recursiveTypeIndex.findFlowElementsOfType(type) : typeIndex.findFlowElementsOfType(type);
+    }
+
+    /**
+     * @return the boundary events attached to the flow element with the given id, including those in sub processes.
+     */
+    public List<BoundaryEvent> findBoundaryEventsAttachedTo(String attachedToRefId) {
+        List<BoundaryEvent> boundaryEvents = boundaryEventsByAttachedToRef.get(attachedToRefId);
+        if (boundaryEvents == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(boundaryEvents);
+    }
+
+    /**
+     * Positions of the flow elements by their class. The positions for a type (which includes its subclasses) are resolved once, when the type is first asked for.
+     */
+    protected static class TypeIndex {
+
+        protected final FlowElement[] flowElements;
+        protected final Map<Class<?>, int[]> positionsByClass;
+        protected final ConcurrentMap<Class<?>, int[]> positionsByType = new ConcurrentHashMap<Class<?>, int[]>();
+
+        public TypeIndex(Collection<FlowElement> flowElements) {
+            this.flowElements = flowElements.toArray(new FlowElement[flowElements.size()]);
+
+            Map<Class<?>, List<Integer>> positionLists = new LinkedHashMap<Class<?>, List<Integer>>();
+            for (int i = 0; i < this.flowElements.length; i++) {
+                Class<?> flowElementClass = this.flowElements[i].getClass();
+                List<Integer> positionList = positionLists.get(flowElementClass);
+                if (positionList == null) {
+                    positionList = new ArrayList<Integer>();
+                    positionLists.put(flowElementClass, positionList);
+                }
+                positionList.add(i);
+            }
+
+            Map<Class<?>, int[]> positionsByClass = new HashMap<Class<?>, int[]>();
+            for (Map.Entry<Class<?>, List<Integer>> positionList : positionLists.entrySet()) {
+                int[] positions = new int[positionList.getValue().size()];
+                for (int i = 0; i < positions.length; i++) {
+                    positions[i] = positionList.getValue().get(i);
+                }
+                positionsByClass.put(positionList.getKey(), positions);
+            }
+            this.positionsByClass = positionsByClass;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <FlowElementType extends FlowElement> List<FlowElementType> findFlowElementsOfType(Class<FlowElementType> type) {
+            int[] positions = positionsByType.get(type);
+            if (positions == null) {
+                positions = resolvePositions(type);
+                positionsByType.putIfAbsent(type, positions);
+            }
+
+            List<FlowElementType> foundFlowElements = new ArrayList<FlowElementType>(positions.length);
+            for (int position : positions) {
+                foundFlowElements.add((FlowElementType) flowElements[position]);
+            }
+            return foundFlowElements;
+        }
+
+        protected int[] resolvePositions(Class<?> type) {
+            int[] positions = new int[0];
+            int matchingClassCount = 0;
+            for (Map.Entry<Class<?>, int[]> classPositions : positionsByClass.entrySet()) {
+                if (type.isAssignableFrom(classPositions.getKey())) {
+                    int[] newPositions = Arrays.copyOf(positions, positions.length + classPositions.getValue().length);
+                    System.arraycopy(classPositions.getValue(), 0, newPositions, positions.length, classPositions.getValue().length);
+                    positions = newPositions;
+                    matchingClassCount++;
+                }
+            }
+
+            // Positions of different classes are interleaved
+            if (matchingClassCount > 1) {
+                Arrays.sort(positions);
+            }
+            return positions;
+        }
+
+    }
+
+}
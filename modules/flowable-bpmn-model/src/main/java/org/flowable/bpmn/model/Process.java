@@ -43,6 +43,9 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
     // Added during process definition parsing
     protected FlowElement initialFlowElement;
 
+    // Built when the process is deployed, dropped when the flow elements change
+    protected volatile FlowElementsContainerIndex flowElementsIndex;
+
     public Process() {
 
     }
@@ -101,6 +104,7 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
 
     public void setFlowElementMap(Map<String, FlowElement> flowElementMap) {
         this.flowElementMap = flowElementMap;
+        resetFlowElementsIndex();
     }
 
     public boolean containsFlowElementId(String id) {
@@ -119,6 +123,10 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
         if (searchRecursive) {
             return flowElementMap.get(flowElementId);
         } else {
+            FlowElementsContainerIndex index = flowElementsIndex;
+            if (index != null) {
+                return index.getFlowElement(flowElementId);
+            }
             return findFlowElementInList(flowElementId);
         }
     }
@@ -206,12 +214,14 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
     public void addFlowElement(FlowElement element) {
         flowElementList.add(element);
         element.setParentContainer(this);
+        resetFlowElementsIndex();
         addFlowElementToMap(element);
     }
 
     public void addFlowElementToMap(FlowElement element) {
         if (element != null && StringUtils.isNotEmpty(element.getId())) {
             flowElementMap.put(element.getId(), element);
+            resetFlowElementsIndex();
         }
     }
 
@@ -220,13 +230,60 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
         if (element != null) {
             flowElementList.remove(element);
             flowElementMap.remove(element.getId());
+            resetFlowElementsIndex();
         }
     }
 
     public void removeFlowElementFromMap(String elementId) {
         if (StringUtils.isNotEmpty(elementId)) {
             flowElementMap.remove(elementId);
+            resetFlowElementsIndex();
+        }
+    }
+
+    /**
+     * Builds the indexes used to look up the flow elements of this process and of its sub processes, instead of looking through all the flow elements.
+     * Should be called once the process won't change anymore, eg when it's deployed. Changing the flow elements afterwards drops the indexes.
+     */
+    public void buildFlowElementsIndex() {
+        buildSubProcessFlowElementsIndex(flowElementList);
+        flowElementsIndex = new FlowElementsContainerIndex(this);
+    }
+
+    protected void buildSubProcessFlowElementsIndex(Collection<FlowElement> flowElements) {
+        for (FlowElement flowElement : flowElements) {
+            if (flowElement instanceof SubProcess) {
+                SubProcess subProcess = (SubProcess) flowElement;
+                buildSubProcessFlowElementsIndex(subProcess.getFlowElements());
+                subProcess.flowElementsIndex = new FlowElementsContainerIndex(subProcess);
+            }
+        }
+    }
+
+    protected void resetFlowElementsIndex() {
+        flowElementsIndex = null;
+    }
+
+    public FlowElementsContainerIndex getFlowElementsIndex() {
+        return flowElementsIndex;
+    }
+
+    /**
+     * @return the boundary events attached to the flow element with the given id, searching the whole process including subprocesses
+     */
+    public List<BoundaryEvent> findBoundaryEventsAttachedTo(String attachedToRefId) {
+        FlowElementsContainerIndex index = flowElementsIndex;
+        if (index != null) {
+            return index.findBoundaryEventsAttachedTo(attachedToRefId);
         }
+
+        List<BoundaryEvent> results = new ArrayList<BoundaryEvent>(1);
+        for (BoundaryEvent boundaryEvent : findFlowElementsOfType(BoundaryEvent.class, true)) {
+            if (boundaryEvent.getAttachedToRefId() != null && boundaryEvent.getAttachedToRefId().equals(attachedToRefId)) {
+                results.add(boundaryEvent);
+            }
+        }
+        return results;
     }
 
     public Artifact getArtifact(String id) {
@@ -285,6 +342,11 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
 
     @SuppressWarnings("unchecked")
     public <FlowElementType extends FlowElement> List<FlowElementType> findFlowElementsOfType(Class<FlowElementType> type, boolean goIntoSubprocesses) {
+        FlowElementsContainerIndex index = flowElementsIndex;
+        if (index != null) {
+            return index.findFlowElementsOfType(type, goIntoSubprocesses);
+        }
+
         List<FlowElementType> foundFlowElements = new ArrayList<FlowElementType>();
         for (FlowElement flowElement : this.getFlowElements()) {
             if (type.isInstance(flowElement)) {
@@ -306,6 +368,10 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
 
     @SuppressWarnings("unchecked")
     public <FlowElementType extends FlowElement> List<FlowElementType> findFlowElementsInSubProcessOfType(SubProcess subProcess, Class<FlowElementType> type, boolean goIntoSubprocesses) {
+        FlowElementsContainerIndex index = subProcess.getFlowElementsIndex();
+        if (index != null) {
+            return index.findFlowElementsOfType(type, goIntoSubprocesses);
+        }
 
         List<FlowElementType> foundFlowElements = new ArrayList<FlowElementType>();
         for (FlowElement flowElement : subProcess.getFlowElements()) {
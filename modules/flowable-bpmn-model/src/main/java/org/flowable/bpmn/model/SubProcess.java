@@ -30,6 +30,9 @@ public class SubProcess extends Activity implements FlowElementsContainer {
     protected List<Artifact> artifactList = new ArrayList<Artifact>();
     protected List<ValuedDataObject> dataObjects = new ArrayList<ValuedDataObject>();
 
+    // Built together with the index of the process, dropped when the flow elements change
+    protected volatile FlowElementsContainerIndex flowElementsIndex;
+
     public FlowElement getFlowElement(String id) {
         FlowElement foundElement = null;
         if (StringUtils.isNotEmpty(id)) {
@@ -45,12 +48,14 @@ public class SubProcess extends Activity implements FlowElementsContainer {
     public void addFlowElement(FlowElement element) {
         flowElementList.add(element);
         element.setParentContainer(this);
+        resetFlowElementsIndex();
         addFlowElementToMap(element);
     }
 
     public void addFlowElementToMap(FlowElement element) {
         if (element != null && StringUtils.isNotEmpty(element.getId())) {
             flowElementMap.put(element.getId(), element);
+            resetFlowElementsIndex();
             if (getParentContainer() != null) {
                 getParentContainer().addFlowElementToMap(element);
             }
@@ -62,6 +67,7 @@ public class SubProcess extends Activity implements FlowElementsContainer {
         if (element != null) {
             flowElementList.remove(element);
             flowElementMap.remove(elementId);
+            resetFlowElementsIndex();
             if (element.getParentContainer() != null) {
                 element.getParentContainer().removeFlowElementFromMap(elementId);
             }
@@ -71,6 +77,7 @@ public class SubProcess extends Activity implements FlowElementsContainer {
     public void removeFlowElementFromMap(String elementId) {
         if (StringUtils.isNotEmpty(elementId)) {
             flowElementMap.remove(elementId);
+            resetFlowElementsIndex();
         }
     }
 
@@ -80,6 +87,24 @@ public class SubProcess extends Activity implements FlowElementsContainer {
 
     public void setFlowElementMap(Map<String, FlowElement> flowElementMap) {
         this.flowElementMap = flowElementMap;
+        resetFlowElementsIndex();
+    }
+
+    /**
+     * Drops the index of this sub process and of the containers it's part of, as these also index the flow elements of this sub process.
+     */
+    protected void resetFlowElementsIndex() {
+        flowElementsIndex = null;
+        FlowElementsContainer parentContainer = getParentContainer();
+        if (parentContainer instanceof SubProcess) {
+            ((SubProcess) parentContainer).resetFlowElementsIndex();
+        } else if (parentContainer instanceof Process) {
+            ((Process) parentContainer).resetFlowElementsIndex();
+        }
+    }
+
+    public FlowElementsContainerIndex getFlowElementsIndex() {
+        return flowElementsIndex;
     }
 
     public boolean containsFlowElementId(String id) {
@@ -153,6 +178,7 @@ public class SubProcess extends Activity implements FlowElementsContainer {
         }
 
         flowElementList.clear();
+        resetFlowElementsIndex();
         for (FlowElement flowElement : otherElement.getFlowElements()) {
             addFlowElement(flowElement);
         }
@@ -53,6 +53,7 @@ import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyOutputOrder;
 import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyPriority;
 import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyRuleOrder;
 import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyUnique;
+import org.flowable.dmn.engine.impl.mvel.MvelCompiledExpressionCache;
 import org.flowable.dmn.engine.impl.mvel.config.DefaultCustomExpressionFunctionRegistry;
 import org.flowable.dmn.engine.impl.parser.DmnParseFactory;
 import org.flowable.dmn.engine.impl.persistence.GenericManagerFactory;
@@ -152,6 +153,13 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
 
     protected int decisionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<DecisionTableCacheEntry> decisionCache;
+
+    /**
+     * Set this to false to compile the MVEL expressions of the decision tables on every decision execution,
+     * instead of compiling them once when the decision table is deployed (see {@link MvelCompiledExpressionCache}).
+     */
+    protected boolean compiledExpressionCacheEnabled = true;
+    protected MvelCompiledExpressionCache compiledExpressionCache;
     
     protected ObjectMapper objectMapper = new ObjectMapper();
 
@@ -448,6 +456,11 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
             }
         }
 
+        // Compiled expressions cache
+        if (compiledExpressionCache == null && compiledExpressionCacheEnabled) {
+            compiledExpressionCache = new MvelCompiledExpressionCache(decisionCacheLimit);
+        }
+
         // Decision cache
         if (decisionCache == null) {
             if (decisionCacheLimit <= 0) {
@@ -918,6 +931,24 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public boolean isCompiledExpressionCacheEnabled() {
+        return compiledExpressionCacheEnabled;
+    }
+
+    public DmnEngineConfiguration setCompiledExpressionCacheEnabled(boolean compiledExpressionCacheEnabled) {
+        this.compiledExpressionCacheEnabled = compiledExpressionCacheEnabled;
+        return this;
+    }
+
+    public MvelCompiledExpressionCache getCompiledExpressionCache() {
+        return compiledExpressionCache;
+    }
+
+    public DmnEngineConfiguration setCompiledExpressionCache(MvelCompiledExpressionCache compiledExpressionCache) {
+        this.compiledExpressionCache = compiledExpressionCache;
+        return this;
+    }
+
     public boolean isStrictMode() {
         return strictMode;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.List;
@@ -28,6 +29,7 @@ import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
 import org.flowable.dmn.engine.impl.mvel.ExecutionVariableFactory;
+import org.flowable.dmn.engine.impl.mvel.MvelCompiledExpressionCache;
 import org.flowable.dmn.engine.impl.mvel.MvelExecutionContext;
 import org.flowable.dmn.engine.impl.mvel.MvelExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.mvel.MvelExpressionExecutor;
@@ -88,6 +90,17 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         MvelExecutionContext executionContext = MvelExecutionContextBuilder.build(decision, executeDecisionInfo.getVariables(),
             customExpressionFunctions, propertyHandlers);
 
+        // use the expressions compiled when the decision table was deployed, or compile them again when they were evicted
+        MvelCompiledExpressionCache compiledExpressionCache = CommandContextUtil.getDmnEngineConfiguration().getCompiledExpressionCache();
+        String decisionTableId = executeDecisionInfo.getDecisionDefinitionId();
+        if (compiledExpressionCache != null && decisionTableId != null) {
+            Map<String, Serializable> compiledExpressions = compiledExpressionCache.getCompiledExpressions(decisionTableId);
+            if (compiledExpressions == null) {
+                compiledExpressions = compiledExpressionCache.addDecisionTable(decisionTableId, currentDecisionTable, customExpressionFunctions);
+            }
+            executionContext.setCompiledExpressions(compiledExpressions);
+        }
+
         try {
             sanityCheckDecisionTable(currentDecisionTable);
 
@@ -215,7 +228,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 if (StringUtils.isEmpty(conditionContainer.getInputEntry().getText()) || "-".equals(conditionContainer.getInputEntry().getText())) {
                     conditionResult = true;
                 } else {
-                    conditionResult = executeInputExpressionEvaluation(conditionContainer, executionContext);
+                    conditionResult = executeInputExpressionEvaluation(rule.getRuleNumber(), conditionContainer, executionContext);
                 }
 
                 // add audit entry
@@ -263,6 +276,11 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return MvelExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), executionContext);
     }
 
+    protected Boolean executeInputExpressionEvaluation(int ruleNumber, RuleInputClauseContainer ruleContainer, MvelExecutionContext executionContext) {
+        Serializable compiledExpression = executionContext.getCompiledInputExpression(ruleNumber, ruleContainer.getInputClause().getInputNumber());
+        return MvelExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), compiledExpression, executionContext);
+    }
+
     protected void executeOutputEntryAction(int ruleNumber, List<RuleOutputClauseContainer> ruleOutputContainers, HitPolicy hitPolicy, MvelExecutionContext executionContext) {
         LOGGER.debug("Start conclusion processing");
 
@@ -284,7 +302,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         if (StringUtils.isNotEmpty(outputEntryExpression.getText())) {
             Object executionVariable = null;
             try {
-                Object resultValue = MvelExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression, executionContext);
+                Serializable compiledExpression = executionContext.getCompiledOutputExpression(ruleNumber, ruleClauseContainer.getOutputClause().getOutputNumber());
+                Object resultValue = MvelExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression,
+                    compiledExpression, executionContext);
                 executionVariable = ExecutionVariableFactory.getExecutionVariable(outputVariableType, resultValue);
 
                 // create result
@@ -13,12 +13,14 @@
 package org.flowable.dmn.engine.impl.deployer;
 
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.mvel.MvelCompiledExpressionCache;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
 
 /**
@@ -32,6 +34,7 @@ public class CachingAndArtifactsManager {
     public void updateCachingAndArtifacts(ParsedDeployment parsedDeployment) {
         final DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
         DeploymentCache<DecisionTableCacheEntry> decisionTableCache = dmnEngineConfiguration.getDeploymentManager().getDecisionCache();
+        MvelCompiledExpressionCache compiledExpressionCache = dmnEngineConfiguration.getCompiledExpressionCache();
         DmnDeploymentEntity deployment = parsedDeployment.getDeployment();
 
         for (DecisionTableEntity decisionTable : parsedDeployment.getAllDecisionTables()) {
@@ -40,6 +43,11 @@ public class CachingAndArtifactsManager {
             DecisionTableCacheEntry cacheEntry = new DecisionTableCacheEntry(decisionTable, dmnDefinition, decision);
             decisionTableCache.add(decisionTable.getId(), cacheEntry);
 
+            if (compiledExpressionCache != null && decision.getExpression() instanceof DecisionTable) {
+                compiledExpressionCache.addDecisionTable(decisionTable.getId(), (DecisionTable) decision.getExpression(),
+                        dmnEngineConfiguration.getCustomExpressionFunctions());
+            }
+
             // Add to deployment for further usage
             deployment.addDeployedArtifact(decisionTable);
         }
@@ -0,0 +1,135 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.mvel;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.flowable.engine.common.impl.util.BoundedConcurrentCache;
+import org.mvel2.MVEL;
+import org.mvel2.ParserContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the compiled MVEL expressions of the input and output entries of deployed decision tables,
+ * so that they don't need to be parsed and compiled again on every decision execution.
+ *
+ * The expressions are compiled when a decision table is deployed (or put in the decision cache again) and are
+ * stored by decision table id, rule number and clause number. They are removed when the deployment is deleted.
+ * The cache has the same limit as the decision cache: when a decision table was evicted, its expressions are compiled again
+ * the next time it is executed.
+ */
+public class MvelCompiledExpressionCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MvelCompiledExpressionCache.class);
+
+    protected BoundedConcurrentCache<String, Map<String, Serializable>> compiledExpressionsByDecisionTable;
+
+    /** Cache with no limit */
+    public MvelCompiledExpressionCache() {
+        this(-1);
+    }
+
+    /** Cache which keeps the compiled expressions of at most the given number of decision tables. */
+    public MvelCompiledExpressionCache(int decisionTableLimit) {
+        this.compiledExpressionsByDecisionTable = new BoundedConcurrentCache<>(decisionTableLimit);
+    }
+
+    /**
+     * Compiles all input and output entries of the given decision table and returns them by expression key.
+     * Entries that can't be compiled are skipped, they will be compiled (and fail) when the decision table is executed.
+     */
+    public Map<String, Serializable> addDecisionTable(String decisionTableId, DecisionTable decisionTable, Map<String, Method> customExpressionFunctions) {
+        ParserContext parserContext = new ParserContext();
+        if (customExpressionFunctions != null) {
+            for (Map.Entry<String, Method> customExpressionFunction : customExpressionFunctions.entrySet()) {
+                parserContext.addImport(customExpressionFunction.getKey(), customExpressionFunction.getValue());
+            }
+        }
+
+        Map<String, Serializable> compiledExpressions = new HashMap<>();
+        for (DecisionRule rule : decisionTable.getRules()) {
+            for (RuleInputClauseContainer inputContainer : rule.getInputEntries()) {
+                String inputEntryText = inputContainer.getInputEntry().getText();
+                if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+                    continue;
+                }
+
+                InputClause inputClause = inputContainer.getInputClause();
+                try {
+                    String parsedExpression = MvelConditionExpressionPreParser.parse(inputEntryText,
+                            inputClause.getInputExpression().getText(), inputClause.getInputExpression().getTypeRef());
+                    compiledExpressions.put(getInputExpressionKey(rule.getRuleNumber(), inputClause.getInputNumber()),
+                            MVEL.compileExpression(parsedExpression, parserContext));
+                } catch (Exception e) {
+                    LOGGER.debug("Could not compile input entry {} of rule {} of decision table {}", inputEntryText, rule.getRuleNumber(), decisionTableId, e);
+                }
+            }
+
+            for (RuleOutputClauseContainer outputContainer : rule.getOutputEntries()) {
+                String outputEntryText = outputContainer.getOutputEntry().getText();
+                if (StringUtils.isEmpty(outputEntryText)) {
+                    continue;
+                }
+
+                try {
+                    compiledExpressions.put(getOutputExpressionKey(rule.getRuleNumber(), outputContainer.getOutputClause().getOutputNumber()),
+                            MVEL.compileExpression(outputEntryText, parserContext));
+                } catch (Exception e) {
+                    LOGGER.debug("Could not compile output entry {} of rule {} of decision table {}", outputEntryText, rule.getRuleNumber(), decisionTableId, e);
+                }
+            }
+        }
+
+        compiledExpressionsByDecisionTable.put(decisionTableId, compiledExpressions);
+        return compiledExpressions;
+    }
+
+    /**
+     * Returns the compiled expressions of the given decision table by expression key
+     * (see {@link #getInputExpressionKey(int, int)} and {@link #getOutputExpressionKey(int, int)}), or null when the decision table isn't cached.
+     */
+    public Map<String, Serializable> getCompiledExpressions(String decisionTableId) {
+        return compiledExpressionsByDecisionTable.get(decisionTableId);
+    }
+
+    public void removeDecisionTable(String decisionTableId) {
+        compiledExpressionsByDecisionTable.remove(decisionTableId);
+    }
+
+    public void clear() {
+        compiledExpressionsByDecisionTable.clear();
+    }
+
+    public int size() {
+        return compiledExpressionsByDecisionTable.size();
+    }
+
+    public static String getInputExpressionKey(int ruleNumber, int inputNumber) {
+        return "input_" + ruleNumber + "_" + inputNumber;
+    }
+
+    public static String getOutputExpressionKey(int ruleNumber, int outputNumber) {
+        return "output_" + ruleNumber + "_" + outputNumber;
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.dmn.engine.impl.mvel;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -36,6 +37,7 @@ public class MvelExecutionContext {
     protected DecisionExecutionAuditContainer auditContainer;
     protected Map<String, List<Object>> outputValues = new HashMap<>();
     protected BuiltinAggregator aggregator;
+    protected Map<String, Serializable> compiledExpressions;
 
     public void checkExecutionContext(String variableId) {
 
@@ -124,4 +126,20 @@ public class MvelExecutionContext {
     public void setAggregator(BuiltinAggregator aggregator) {
         this.aggregator = aggregator;
     }
+
+    public Map<String, Serializable> getCompiledExpressions() {
+        return compiledExpressions;
+    }
+
+    public void setCompiledExpressions(Map<String, Serializable> compiledExpressions) {
+        this.compiledExpressions = compiledExpressions;
+    }
+
+    public Serializable getCompiledInputExpression(int ruleNumber, int inputNumber) {
+        return compiledExpressions != null ? compiledExpressions.get(MvelCompiledExpressionCache.getInputExpressionKey(ruleNumber, inputNumber)) : null;
+    }
+
+    public Serializable getCompiledOutputExpression(int ruleNumber, int outputNumber) {
+        return compiledExpressions != null ? compiledExpressions.get(MvelCompiledExpressionCache.getOutputExpressionKey(ruleNumber, outputNumber)) : null;
+    }
 }
@@ -13,6 +13,7 @@
 package org.flowable.dmn.engine.impl.mvel;
 
 import java.io.Serializable;
+import java.util.Map;
 
 import org.flowable.dmn.engine.FlowableDmnExpressionException;
 import org.flowable.dmn.model.InputClause;
@@ -20,6 +21,7 @@ import org.flowable.dmn.model.LiteralExpression;
 import org.flowable.dmn.model.OutputClause;
 import org.flowable.dmn.model.UnaryTests;
 import org.mvel2.MVEL;
+import org.mvel2.integration.PropertyHandler;
 import org.mvel2.integration.PropertyHandlerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +34,14 @@ public class MvelExpressionExecutor {
     private static final Logger LOGGER = LoggerFactory.getLogger(MvelExpressionExecutor.class);
 
     public static Boolean executeInputExpression(InputClause inputClause, UnaryTests inputEntry, MvelExecutionContext executionContext) {
+        return executeInputExpression(inputClause, inputEntry, null, executionContext);
+    }
+
+    /**
+     * Executes the input entry using the given compiled expression (see {@link MvelCompiledExpressionCache}).
+     * When no compiled expression is given, the input entry is parsed and compiled first.
+     */
+    public static Boolean executeInputExpression(InputClause inputClause, UnaryTests inputEntry, Serializable compiledExpression, MvelExecutionContext executionContext) {
         if (inputClause == null) {
             throw new IllegalArgumentException("input clause is required");
         }
@@ -45,18 +55,15 @@ public class MvelExpressionExecutor {
             throw new IllegalArgumentException("execution context is required");
         }
 
-        for (Class<?> variableClass : executionContext.getPropertyHandlers().keySet()) {
-            PropertyHandlerFactory.registerPropertyHandler(variableClass, executionContext.getPropertyHandlers().get(variableClass));
-        }
+        registerPropertyHandlers(executionContext);
 
         // check if variable is present MVEL execution context
         executionContext.checkExecutionContext(inputClause.getInputExpression().getText());
 
-        // pre parse expression
-        String parsedExpression = MvelConditionExpressionPreParser.parse(inputEntry.getText(), inputClause.getInputExpression().getText(), inputClause.getInputExpression().getTypeRef());
-
-        // compile MVEL expression
-        Serializable compiledExpression = MVEL.compileExpression(parsedExpression, executionContext.getParserContext());
+        // pre parse and compile MVEL expression, when not compiled already
+        if (compiledExpression == null) {
+            compiledExpression = MVEL.compileExpression(preParseInputExpression(inputClause, inputEntry), executionContext.getParserContext());
+        }
 
         // execute MVEL expression
         Boolean result;
@@ -64,6 +71,7 @@ public class MvelExpressionExecutor {
         try {
             result = MVEL.executeExpression(compiledExpression, executionContext.getStackVariables(), Boolean.class);
         } catch (Exception ex) {
+            String parsedExpression = preParseInputExpression(inputClause, inputEntry);
             LOGGER.warn("Error while executing input entry: {}", parsedExpression, ex);
             throw new FlowableDmnExpressionException("error while executing input entry", parsedExpression, ex);
         }
@@ -71,7 +79,19 @@ public class MvelExpressionExecutor {
         return result;
     }
 
+    protected static String preParseInputExpression(InputClause inputClause, UnaryTests inputEntry) {
+        return MvelConditionExpressionPreParser.parse(inputEntry.getText(), inputClause.getInputExpression().getText(), inputClause.getInputExpression().getTypeRef());
+    }
+
     public static Object executeOutputExpression(OutputClause outputClause, LiteralExpression outputEntry, MvelExecutionContext executionContext) {
+        return executeOutputExpression(outputClause, outputEntry, null, executionContext);
+    }
+
+    /**
+     * Executes the output entry using the given compiled expression (see {@link MvelCompiledExpressionCache}).
+     * When no compiled expression is given, the output entry is compiled first.
+     */
+    public static Object executeOutputExpression(OutputClause outputClause, LiteralExpression outputEntry, Serializable compiledExpression, MvelExecutionContext executionContext) {
         if (outputClause == null) {
             throw new IllegalArgumentException("output clause is required");
         }
@@ -83,7 +103,9 @@ public class MvelExpressionExecutor {
         }
 
         // compile MVEL expression
-        Serializable compiledExpression = MVEL.compileExpression(outputEntry.getText(), executionContext.getParserContext());
+        if (compiledExpression == null) {
+            compiledExpression = MVEL.compileExpression(outputEntry.getText(), executionContext.getParserContext());
+        }
 
         // execute MVEL expression
         Object result = null;
@@ -97,4 +119,14 @@ public class MvelExpressionExecutor {
 
         return result;
     }
+
+    protected static void registerPropertyHandlers(MvelExecutionContext executionContext) {
+        // property handlers are registered globally, only register them when not registered yet
+        for (Map.Entry<Class<?>, PropertyHandler> propertyHandler : executionContext.getPropertyHandlers().entrySet()) {
+            Class<?> variableClass = propertyHandler.getKey();
+            if (!PropertyHandlerFactory.hasPropertyHandler(variableClass) || PropertyHandlerFactory.getPropertyHandler(variableClass) != propertyHandler.getValue()) {
+                PropertyHandlerFactory.registerPropertyHandler(variableClass, propertyHandler.getValue());
+            }
+        }
+    }
 }
@@ -18,6 +18,7 @@ import java.util.Map;
 import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.DecisionTableQueryImpl;
+import org.flowable.dmn.engine.impl.mvel.MvelCompiledExpressionCache;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntityManager;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
@@ -170,8 +171,12 @@ public class DeploymentManager {
         // Delete data
         deploymentEntityManager.deleteDeployment(deploymentId);
 
+        MvelCompiledExpressionCache compiledExpressionCache = engineConfig.getCompiledExpressionCache();
         for (DmnDecisionTable decisionTable : decisionTables) {
             decisionCache.remove(decisionTable.getId());
+            if (compiledExpressionCache != null) {
+                compiledExpressionCache.removeDecisionTable(decisionTable.getId());
+            }
         }
     }
 
@@ -15,12 +15,16 @@ package org.flowable.dmn.engine.test.deployment;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.Serializable;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.engine.impl.mvel.MvelCompiledExpressionCache;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
@@ -81,6 +85,35 @@ public class DeploymentTest extends AbstractFlowableDmnTest {
         assertEquals(2, decision.getVersion());
     }
 
+    @Test
+    public void deploySingleDecisionAndValidateCompiledExpressionCache() throws Exception {
+        DmnDeployment deployment = repositoryService.createDeployment().name("compiledExpressions")
+                .addClasspathResource("org/flowable/dmn/engine/test/deployment/multiple_conclusions.dmn")
+                .deploy();
+
+        DmnDecisionTable decision = repositoryService.createDecisionTableQuery()
+                .deploymentId(deployment.getId())
+                .singleResult();
+
+        MvelCompiledExpressionCache compiledExpressionCache = dmnEngineConfiguration.getCompiledExpressionCache();
+        Map<String, Serializable> compiledExpressions = compiledExpressionCache.getCompiledExpressions(decision.getId());
+        assertNotNull(compiledExpressions);
+        assertNotNull(compiledExpressions.get(MvelCompiledExpressionCache.getInputExpressionKey(1, 1)));
+        assertNotNull(compiledExpressions.get(MvelCompiledExpressionCache.getOutputExpressionKey(1, 1)));
+
+        // compiled again when the decision table is executed after being evicted
+        compiledExpressionCache.clear();
+        Map<String, Object> result = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision")
+                .variable("input1", 10)
+                .executeWithSingleResult();
+        assertEquals("test3", result.get("output1"));
+        assertNotNull(compiledExpressionCache.getCompiledExpressions(decision.getId()));
+
+        repositoryService.deleteDeployment(deployment.getId());
+        assertNull(compiledExpressionCache.getCompiledExpressions(decision.getId()));
+    }
+
     @Test
     public void deploySingleDecisionInTenantAndValidateCache() throws Exception {
         repositoryService.createDeployment().name("secondDeployment")
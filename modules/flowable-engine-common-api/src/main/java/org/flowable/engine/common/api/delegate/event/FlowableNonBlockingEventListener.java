@@ -0,0 +1,26 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.api.delegate.event;
+
+/**
+ * Marks a {@link FlowableEventListener} that doesn't need to take part in the transaction of the command that caused the event.
+ *
+ * When asynchronous event dispatching is enabled on the engine, these listeners are not called on the engine thread.
+ * Instead, the events are buffered and handed to the listener in batches by a separate thread pool, after the transaction has been committed.
+ * Events of a failed transaction are never delivered. When the buffer is full, events can be dropped.
+ *
+ * When asynchronous event dispatching is disabled, these listeners are called like any other listener.
+ */
+public interface FlowableNonBlockingEventListener extends FlowableEventListener {
+
+}
@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.api.delegate.event;
+
+import java.util.Collection;
+
+/**
+ * A {@link FlowableEventListener} that declares the types of events it wants to receive when it is added as a global listener
+ * (i.e. without explicitly passing types when adding it). It then only receives events of those types.
+ */
+public interface FlowableTypedEventListener extends FlowableEventListener {
+
+    /**
+     * @return the types of events this listener wants to receive. When null or empty, the listener receives all events.
+     *         The types are read once, when the listener is added.
+     */
+    Collection<? extends FlowableEventType> getTypes();
+
+}
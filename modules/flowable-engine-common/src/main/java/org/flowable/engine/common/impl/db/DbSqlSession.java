@@ -23,12 +23,21 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.RowBounds;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableOptimisticLockingException;
 import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.common.impl.interceptor.Session;
+import org.flowable.engine.common.impl.metrics.MetricNames;
+import org.flowable.engine.common.impl.metrics.MetricsRegistry;
 import org.flowable.engine.common.impl.persistence.cache.CachedEntity;
 import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.common.impl.persistence.entity.AlwaysUpdatedPersistentObject;
@@ -48,6 +57,7 @@ public class DbSqlSession implements Session {
 
     protected EntityCache entityCache;
     protected SqlSession sqlSession;
+    protected SqlSession batchSqlSession;
     protected DbSqlSessionFactory dbSqlSessionFactory;
     protected String connectionMetadataDefaultCatalog;
     protected String connectionMetadataDefaultSchema;
@@ -55,6 +65,7 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, Map<String, Entity>> insertedObjects = new HashMap<Class<? extends Entity>, Map<String, Entity>>();
     protected Map<Class<? extends Entity>, Map<String, Entity>> deletedObjects = new HashMap<Class<? extends Entity>, Map<String, Entity>>();
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<Class<? extends Entity>, List<BulkDeleteOperation>>();
+    protected Map<Class<? extends Entity>, Set<String>> bulkDeletedObjects = new HashMap<Class<? extends Entity>, Set<String>>();
     protected List<Entity> updatedObjects = new ArrayList<Entity>();
     
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
@@ -121,6 +132,26 @@ public class DbSqlSession implements Session {
         bulkDeleteOperations.get(entityClass).add(new BulkDeleteOperation(dbSqlSessionFactory.mapStatement(statement), parameter));
     }
 
+    /**
+     * Same as {@link #delete(String, Object, Class)}, for a statement that is known to delete the rows of the given entities.
+     * These entities are seen as deleted from now on: they won't be inserted or updated anymore when flushing.
+     */
+    public void delete(String statement, Object parameter, Class<? extends Entity> entityClass, Collection<? extends Entity> deletedEntities) {
+        delete(statement, parameter, entityClass);
+
+        for (Entity entity : deletedEntities) {
+            Class<? extends Entity> clazz = entity.getClass();
+            if (insertedObjects.containsKey(clazz)) {
+                insertedObjects.get(clazz).remove(entity.getId()); // never flushed, so nothing to delete either
+            }
+            if (!bulkDeletedObjects.containsKey(clazz)) {
+                bulkDeletedObjects.put(clazz, new HashSet<String>());
+            }
+            bulkDeletedObjects.get(clazz).add(entity.getId());
+            entity.setDeleted(true);
+        }
+    }
+
     public void delete(Entity entity) {
         Class<? extends Entity> clazz = entity.getClass();
         if (!deletedObjects.containsKey(clazz)) {
@@ -188,6 +219,18 @@ public class DbSqlSession implements Session {
         return selectListWithRawParameter(statement, parameter, false);
     }
     
+    /**
+     * Selects at most maxRows rows, by limiting the number of rows fetched instead of paging in the query itself.
+     * Only to be used for queries that can't be wrapped in a paging query, e.g. a select for update on Oracle.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public List selectListWithRowLimit(String statement, ListQueryParameterObject parameter, int maxRows) {
+        parameter.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        statement = dbSqlSessionFactory.mapStatement(statement);
+        List loadedObjects = sqlSession.selectList(statement, parameter, new RowBounds(0, maxRows));
+        return cacheLoadOrStore(loadedObjects);
+    }
+
     @SuppressWarnings("rawtypes")
     public List selectListWithRawParameter(String statement, Object parameter) {
         // All other selectList methods eventually end up here, passing it into the method
@@ -287,9 +330,40 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
+        MetricsRegistry metricsRegistry = dbSqlSessionFactory.getMetricsRegistry();
+        long flushStart = 0L;
+        if (metricsRegistry != null) {
+            countFlushedObjects(metricsRegistry);
+            flushStart = System.nanoTime();
+        }
+
         flushInserts();
         flushUpdates();
         flushDeletes();
+
+        if (metricsRegistry != null) {
+            metricsRegistry.timer(MetricNames.DB_FLUSH).record(System.nanoTime() - flushStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    protected void countFlushedObjects(MetricsRegistry metricsRegistry) {
+        long nrOfInserts = 0L;
+        for (Map<String, Entity> insertedObjectMap : insertedObjects.values()) {
+            nrOfInserts += insertedObjectMap.size();
+        }
+        long nrOfDeletes = 0L;
+        for (Map<String, Entity> deletedObjectMap : deletedObjects.values()) {
+            nrOfDeletes += deletedObjectMap.size();
+        }
+        long nrOfBulkDeletes = 0L;
+        for (Collection<BulkDeleteOperation> bulkDeleteOperationList : bulkDeleteOperations.values()) {
+            nrOfBulkDeletes += bulkDeleteOperationList.size();
+        }
+
+        metricsRegistry.counter(MetricNames.DB_INSERTS).increment(nrOfInserts);
+        metricsRegistry.counter(MetricNames.DB_UPDATES).increment(updatedObjects.size());
+        metricsRegistry.counter(MetricNames.DB_DELETES).increment(nrOfDeletes);
+        metricsRegistry.counter(MetricNames.DB_BULK_DELETE_STATEMENTS).increment(nrOfBulkDeletes);
     }
 
     /**
@@ -385,8 +459,10 @@ public class DbSqlSession implements Session {
     }
 
     public boolean isEntityToBeDeleted(Entity entity) {
-        return deletedObjects.containsKey(entity.getClass())
-                && deletedObjects.get(entity.getClass()).containsKey(entity.getId());
+        return (deletedObjects.containsKey(entity.getClass())
+                && deletedObjects.get(entity.getClass()).containsKey(entity.getId()))
+                || (bulkDeletedObjects.containsKey(entity.getClass())
+                && bulkDeletedObjects.get(entity.getClass()).contains(entity.getId()));
     }
 
     protected void flushInserts() {
@@ -466,6 +542,10 @@ public class DbSqlSession implements Session {
                 index++;
             }
             sqlSession.insert(insertStatement, subList);
+
+            if (dbSqlSessionFactory.getMetricsRegistry() != null) {
+                dbSqlSessionFactory.getMetricsRegistry().counter(MetricNames.DB_BULK_INSERT_STATEMENTS).increment();
+            }
         }
 
         if (hasRevision != null && hasRevision) {
@@ -485,28 +565,73 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
-        for (Entity updatedObject : updatedObjects) {
-            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+        if (dbSqlSessionFactory.isBatchedFlushEnabled() && updatedObjects.size() > 1) {
+            flushBatchedUpdates();
+        } else {
+            for (Entity updatedObject : updatedObjects) {
+                flushRegularUpdate(updatedObject);
+            }
+        }
+        updatedObjects.clear();
+    }
+
+    protected void flushRegularUpdate(Entity updatedObject) {
+        String updateStatement = getMappedUpdateStatement(updatedObject);
+
+        LOGGER.debug("updating: {}", updatedObject);
+
+        int updatedRecords = sqlSession.update(updateStatement, updatedObject);
+        if (updatedRecords == 0) {
+            throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+        }
+
+        // See https://activiti.atlassian.net/browse/ACT-1290
+        if (updatedObject instanceof HasRevision) {
+            ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+        }
+    }
 
-            if (updateStatement == null) {
-                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+    /**
+     * Groups the updates by statement and sends them to the database as jdbc batches.
+     * The optimistic locking check is done afterwards, using the update count of every row in the batch.
+     */
+    protected void flushBatchedUpdates() {
+        Map<String, List<Entity>> updatesByStatement = new LinkedHashMap<String, List<Entity>>();
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = getMappedUpdateStatement(updatedObject);
+            List<Entity> updates = updatesByStatement.get(updateStatement);
+            if (updates == null) {
+                updates = new ArrayList<Entity>();
+                updatesByStatement.put(updateStatement, updates);
             }
+            updates.add(updatedObject);
+        }
 
-            LOGGER.debug("updating: {}", updatedObject);
-            
-            int updatedRecords = sqlSession.update(updateStatement, updatedObject);
-            if (updatedRecords == 0) {
-                throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+        SqlSession batchSqlSession = getBatchSqlSession();
+        for (String updateStatement : updatesByStatement.keySet()) {
+            for (Entity updatedObject : updatesByStatement.get(updateStatement)) {
+                LOGGER.debug("updating (batched): {}", updatedObject);
+                batchSqlSession.update(updateStatement, updatedObject);
             }
-            
-            // See https://activiti.atlassian.net/browse/ACT-1290
+        }
+        verifyBatchResults(flushBatchStatements(), false);
+
+        // See https://activiti.atlassian.net/browse/ACT-1290
+        for (Entity updatedObject : updatedObjects) {
             if (updatedObject instanceof HasRevision) {
                 ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
             }
+        }
+    }
 
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
         }
-        updatedObjects.clear();
+        return updateStatement;
     }
 
     protected void flushDeletes() {
@@ -545,12 +670,13 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (dbSqlSessionFactory.isBatchedFlushEnabled() && entitiesToDelete.size() > 1) {
+            flushBatchedDeleteEntities(entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
-            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
-            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
-            if (deleteStatement == null) {
-                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
-            }
+            String deleteStatement = getMappedDeleteStatement(entity);
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
@@ -564,17 +690,82 @@ public class DbSqlSession implements Session {
             }
         }
     }
-    
+
+    /**
+     * Sends the deletes of one entity class as jdbc batch. The batch is executed immediately,
+     * as the bulk deletes and the deletes of the next entity class depend on it (see {@link #flushDeletes()}).
+     */
+    protected void flushBatchedDeleteEntities(Collection<Entity> entitiesToDelete) {
+        SqlSession batchSqlSession = getBatchSqlSession();
+        for (Entity entity : entitiesToDelete) {
+            LOGGER.debug("deleting (batched): {}", entity);
+            batchSqlSession.delete(getMappedDeleteStatement(entity), entity);
+        }
+        verifyBatchResults(flushBatchStatements(), true);
+    }
+
+    protected String getMappedDeleteStatement(Entity entity) {
+        String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+        deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+        if (deleteStatement == null) {
+            throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+        }
+        return deleteStatement;
+    }
+
+    protected List<BatchResult> flushBatchStatements() {
+        List<BatchResult> batchResults = getBatchSqlSession().flushStatements();
+        
+        // The local cache of the regular session hasn't seen the batched changes
+        sqlSession.clearCache();
+        
+        return batchResults;
+    }
+
+    /**
+     * Checks the update counts of an executed batch: a row for which nothing was changed was updated or deleted by another transaction.
+     * Drivers that return {@link java.sql.Statement#SUCCESS_NO_INFO} for batched statements can't be checked this way.
+     */
+    protected void verifyBatchResults(List<BatchResult> batchResults, boolean onlyCheckRevisionedEntities) {
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                Object parameterObject = parameterObjects.get(i);
+                if (updateCounts[i] == 0 && (!onlyCheckRevisionedEntities || parameterObject instanceof HasRevision)) {
+                    throw new FlowableOptimisticLockingException(parameterObject + " was updated by another transaction concurrently");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a {@link SqlSession} using a batch executor on the connection of the regular session,
+     * so batched statements take part in the same transaction.
+     */
+    protected SqlSession getBatchSqlSession() {
+        if (batchSqlSession == null) {
+            Configuration configuration = dbSqlSessionFactory.getSqlSessionFactory().getConfiguration();
+            Executor executor = configuration.newExecutor(new SharedConnectionTransaction(sqlSession.getConnection()), ExecutorType.BATCH);
+            batchSqlSession = new DefaultSqlSession(configuration, executor, false);
+        }
+        return batchSqlSession;
+    }
+
     public void close() {
+        if (batchSqlSession != null) {
+            batchSqlSession.close();
+        }
         sqlSession.close();
     }
 
     public void commit() {
-        sqlSession.commit();
+        // Statements executed through the batch executor don't mark the regular session as dirty
+        sqlSession.commit(batchSqlSession != null);
     }
 
     public void rollback() {
-        sqlSession.rollback();
+        sqlSession.rollback(batchSqlSession != null);
     }
     
     public <T> T getCustomMapper(Class<T> type) {
@@ -29,6 +29,7 @@ import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.interceptor.Session;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
+import org.flowable.engine.common.impl.metrics.MetricsRegistry;
 import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 
@@ -64,6 +65,10 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<Class<?>, String>();
     
     protected int maxNrOfStatementsInBulkInsert = 100;
+    
+    protected boolean isBatchedFlushEnabled;
+
+    protected MetricsRegistry metricsRegistry;
 
     public Class<?> getSessionType() {
         return DbSqlSession.class;
@@ -194,6 +199,22 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
     
+    public boolean isBatchedFlushEnabled() {
+        return isBatchedFlushEnabled;
+    }
+
+    public void setBatchedFlushEnabled(boolean isBatchedFlushEnabled) {
+        this.isBatchedFlushEnabled = isBatchedFlushEnabled;
+    }
+
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
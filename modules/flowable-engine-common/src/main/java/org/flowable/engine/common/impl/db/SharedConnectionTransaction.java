@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.apache.ibatis.transaction.Transaction;
+
+/**
+ * A MyBatis {@link Transaction} that wraps a connection owned by another {@link org.apache.ibatis.session.SqlSession}.
+ *
+ * Used for the batch executor of the {@link DbSqlSession} flush: statements are executed on the same connection
+ * (and thus in the same transaction) as the regular session, but committing, rolling back and closing are left
+ * to the owner of the connection.
+ */
+public class SharedConnectionTransaction implements Transaction {
+
+    protected Connection connection;
+
+    public SharedConnectionTransaction(Connection connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection;
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        // Owned by the regular sql session
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        // Owned by the regular sql session
+    }
+
+    @Override
+    public void close() throws SQLException {
+        // Owned by the regular sql session
+    }
+
+    @Override
+    public Integer getTimeout() throws SQLException {
+        return null;
+    }
+
+}
@@ -0,0 +1,296 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableNonBlockingEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers events to {@link FlowableNonBlockingEventListener} instances on a separate thread pool.
+ *
+ * Events are put in a bounded, array backed buffer. Each dispatcher thread takes the events out of the buffer
+ * in batches of at most {@link #getBatchSize()} events and hands them to the listeners, in the order they were buffered.
+ * When more than one thread is used, batches can be delivered concurrently and ordering between batches isn't guaranteed.
+ *
+ * When the buffer is full, the producing thread waits at most {@link #getOfferTimeout()} milliseconds for space
+ * to become available (backpressure), after which the event is dropped. Both are counted and exposed as metrics.
+ */
+public class AsyncEventDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventDispatcher.class);
+
+    protected int queueSize = 8192;
+    protected int batchSize = 100;
+    protected int threadPoolSize = 1;
+    protected long offerTimeout;
+    protected long secondsToWaitOnShutdown = 10L;
+
+    protected FlowableEventSupport eventSupport = new FlowableEventSupport();
+
+    protected BlockingQueue<FlowableEvent> queue;
+    protected ExecutorService executorService;
+    protected volatile boolean active;
+
+    protected AtomicLong bufferedEventCount = new AtomicLong();
+    protected AtomicLong deliveredEventCount = new AtomicLong();
+    protected AtomicLong deliveredBatchCount = new AtomicLong();
+    protected AtomicLong droppedEventCount = new AtomicLong();
+    protected AtomicLong backpressureCount = new AtomicLong();
+
+    public synchronized void start() {
+        if (active) {
+            return;
+        }
+
+        if (queue == null) {
+            queue = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        executorService = Executors.newFixedThreadPool(threadPoolSize, new ThreadFactory() {
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "flowable-async-event-dispatcher-thread-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        active = true;
+        for (int i = 0; i < threadPoolSize; i++) {
+            executorService.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    dispatchBufferedEvents();
+                }
+            });
+        }
+
+        LOGGER.info("Async event dispatcher started with {} thread(s) and a buffer of {} events", threadPoolSize, queueSize);
+    }
+
+    public synchronized void shutdown() {
+        if (!active) {
+            return;
+        }
+
+        active = false;
+        executorService.shutdownNow();
+        try {
+            if (!executorService.awaitTermination(secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timeout during shutdown of async event dispatcher. The current batches could not be delivered within {} seconds after shutdown operation.",
+                        secondsToWaitOnShutdown);
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while shutting down the async event dispatcher", e);
+            Thread.currentThread().interrupt();
+        }
+        executorService = null;
+
+        // Deliver what was buffered before the shutdown on the calling thread
+        List<FlowableEvent> remainingEvents = new ArrayList<>();
+        queue.drainTo(remainingEvents);
+        if (!remainingEvents.isEmpty()) {
+            deliver(remainingEvents);
+        }
+    }
+
+    /**
+     * Buffers the given events for delivery. Returns the number of events that were dropped because the buffer was full
+     * or the dispatcher isn't active.
+     */
+    public int bufferEvents(List<FlowableEvent> events) {
+        int dropped = 0;
+        for (FlowableEvent event : events) {
+            if (!bufferEvent(event)) {
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * Buffers the given event for delivery. Returns false when the event was dropped.
+     */
+    public boolean bufferEvent(FlowableEvent event) {
+        if (!active) {
+            droppedEventCount.incrementAndGet();
+            return false;
+        }
+
+        boolean buffered = queue.offer(event);
+        if (!buffered && offerTimeout > 0) {
+            backpressureCount.incrementAndGet();
+            try {
+                buffered = queue.offer(event, offerTimeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (buffered) {
+            bufferedEventCount.incrementAndGet();
+        } else {
+            droppedEventCount.incrementAndGet();
+            LOGGER.debug("Async event buffer is full, dropped event {}", event.getType());
+        }
+        return buffered;
+    }
+
+    protected void dispatchBufferedEvents() {
+        List<FlowableEvent> batch = new ArrayList<>(batchSize);
+        while (active) {
+            try {
+                // Wait for at least one event, then take whatever else is available up to the batch size
+                FlowableEvent event = queue.poll(500L, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    continue;
+                }
+
+                batch.add(event);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+
+            } catch (InterruptedException e) {
+                if (!batch.isEmpty()) {
+                    deliver(batch);
+                }
+                Thread.currentThread().interrupt();
+                return;
+
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    protected void deliver(List<FlowableEvent> batch) {
+        for (FlowableEvent event : batch) {
+            try {
+                eventSupport.dispatchEvent(event);
+            } catch (Throwable t) {
+                // There's no transaction or caller to report to anymore
+                LOGGER.warn("Exception while executing non-blocking event-listener for event {}", event.getType(), t);
+            }
+        }
+        deliveredEventCount.addAndGet(batch.size());
+        deliveredBatchCount.incrementAndGet();
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public FlowableEventSupport getEventSupport() {
+        return eventSupport;
+    }
+
+    public void setEventSupport(FlowableEventSupport eventSupport) {
+        this.eventSupport = eventSupport;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    public void setThreadPoolSize(int threadPoolSize) {
+        this.threadPoolSize = threadPoolSize;
+    }
+
+    public long getOfferTimeout() {
+        return offerTimeout;
+    }
+
+    public void setOfferTimeout(long offerTimeout) {
+        this.offerTimeout = offerTimeout;
+    }
+
+    public long getSecondsToWaitOnShutdown() {
+        return secondsToWaitOnShutdown;
+    }
+
+    public void setSecondsToWaitOnShutdown(long secondsToWaitOnShutdown) {
+        this.secondsToWaitOnShutdown = secondsToWaitOnShutdown;
+    }
+
+    // metrics
+
+    /**
+     * @return the number of events currently waiting in the buffer.
+     */
+    public int getBufferedEventsInQueue() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    /**
+     * @return the number of events that can still be buffered before backpressure is applied.
+     */
+    public int getRemainingCapacity() {
+        return queue != null ? queue.remainingCapacity() : queueSize;
+    }
+
+    public long getBufferedEventCount() {
+        return bufferedEventCount.get();
+    }
+
+    public long getDeliveredEventCount() {
+        return deliveredEventCount.get();
+    }
+
+    public long getDeliveredBatchCount() {
+        return deliveredBatchCount.get();
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEventCount.get();
+    }
+
+    /**
+     * @return the number of times an event couldn't be buffered immediately and the producing thread had to wait.
+     */
+    public long getBackpressureCount() {
+        return backpressureCount.get();
+    }
+
+}
@@ -12,22 +12,36 @@
  */
 package org.flowable.engine.common.impl.event;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.flowable.engine.common.AbstractEngineConfiguration;
 import org.flowable.engine.common.api.delegate.event.FlowableEvent;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+import org.flowable.engine.common.api.delegate.event.FlowableNonBlockingEventListener;
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 
 /**
  * Class capable of dispatching events.
  * 
+ * When an {@link AsyncEventDispatcher} is set, {@link FlowableNonBlockingEventListener} instances are registered with it instead
+ * of being called on the engine thread. The events for those listeners are collected per command and buffered when the transaction
+ * of the command has been committed. Events without such a listener are not collected at all.
+ * 
  * @author Frederik Heremans
  */
 public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
 
+    protected static final String ASYNC_EVENTS_ATTRIBUTE = "asyncDispatchedEvents";
+
     protected FlowableEventSupport eventSupport;
+    protected AsyncEventDispatcher asyncEventDispatcher;
     protected boolean enabled = true;
 
     public FlowableEventDispatcherImpl() {
@@ -44,23 +58,36 @@ public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
 
     @Override
     public void addEventListener(FlowableEventListener listenerToAdd) {
-        eventSupport.addEventListener(listenerToAdd);
+        getEventSupport(listenerToAdd).addEventListener(listenerToAdd);
     }
 
     @Override
     public void addEventListener(FlowableEventListener listenerToAdd, FlowableEventType... types) {
-        eventSupport.addEventListener(listenerToAdd, types);
+        getEventSupport(listenerToAdd).addEventListener(listenerToAdd, types);
     }
 
     @Override
     public void removeEventListener(FlowableEventListener listenerToRemove) {
         eventSupport.removeEventListener(listenerToRemove);
+        if (asyncEventDispatcher != null) {
+            asyncEventDispatcher.getEventSupport().removeEventListener(listenerToRemove);
+        }
+    }
+
+    protected FlowableEventSupport getEventSupport(FlowableEventListener listener) {
+        if (asyncEventDispatcher != null && listener instanceof FlowableNonBlockingEventListener) {
+            return asyncEventDispatcher.getEventSupport();
+        }
+        return eventSupport;
     }
 
     @Override
     public void dispatchEvent(FlowableEvent event) {
         if (enabled) {
             eventSupport.dispatchEvent(event);
+            if (asyncEventDispatcher != null && asyncEventDispatcher.getEventSupport().hasListeners(event.getType())) {
+                dispatchEventAsync(event);
+            }
         }
 
         CommandContext commandContext = Context.getCommandContext();
@@ -74,6 +101,34 @@ public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
         }
     }
 
+    /**
+     * Events dispatched within a command are only handed to the async event dispatcher after the transaction has been committed.
+     */
+    @SuppressWarnings("unchecked")
+    protected void dispatchEventAsync(FlowableEvent event) {
+        CommandContext commandContext = Context.getCommandContext();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (commandContext == null || transactionContext == null) {
+            asyncEventDispatcher.bufferEvent(event);
+            return;
+        }
+
+        List<FlowableEvent> events = (List<FlowableEvent>) commandContext.getAttribute(ASYNC_EVENTS_ATTRIBUTE);
+        if (events == null) {
+            final List<FlowableEvent> commandEvents = new ArrayList<>();
+            commandContext.addAttribute(ASYNC_EVENTS_ATTRIBUTE, commandEvents);
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                @Override
+                public void execute(CommandContext commandContext) {
+                    asyncEventDispatcher.bufferEvents(commandEvents);
+                }
+            });
+            events = commandEvents;
+        }
+        events.add(event);
+    }
+
     public FlowableEventSupport getEventSupport() {
         return eventSupport;
     }
@@ -82,4 +137,12 @@ public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
         this.eventSupport = eventSupport;
     }
 
+    public AsyncEventDispatcher getAsyncEventDispatcher() {
+        return asyncEventDispatcher;
+    }
+
+    public void setAsyncEventDispatcher(AsyncEventDispatcher asyncEventDispatcher) {
+        this.asyncEventDispatcher = asyncEventDispatcher;
+    }
+
 }
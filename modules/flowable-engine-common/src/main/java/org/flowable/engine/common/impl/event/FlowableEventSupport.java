@@ -12,7 +12,11 @@
  */
 package org.flowable.engine.common.impl.event;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -22,24 +26,35 @@ import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.delegate.event.FlowableEvent;
 import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+import org.flowable.engine.common.api.delegate.event.FlowableTypedEventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Class that allows adding and removing event listeners and dispatching events to the appropriate listeners.
- * 
+ *
+ * Dispatching uses an immutable dispatch table, containing the listeners to call per event type, which is rebuilt
+ * whenever a listener is added or removed. Global listeners are called before the listeners that were added for specific types.
+ *
  * @author Frederik Heremans
  */
 public class FlowableEventSupport {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FlowableEventSupport.class);
 
+    protected static final FlowableEventListener[] NO_LISTENERS = new FlowableEventListener[0];
+
     protected List<FlowableEventListener> eventListeners;
     protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
 
+    /**
+     * Published as a whole, so that a dispatching thread never sees the listeners per type and the global listeners of different versions.
+     */
+    protected volatile DispatchTable dispatchTable = new DispatchTable(Collections.<FlowableEventType, FlowableEventListener[]> emptyMap(), NO_LISTENERS);
+
     public FlowableEventSupport() {
         eventListeners = new CopyOnWriteArrayList<FlowableEventListener>();
-        typedListeners = new HashMap<FlowableEventType, List<FlowableEventListener>>();
+        typedListeners = new LinkedHashMap<FlowableEventType, List<FlowableEventListener>>();
     }
 
     public synchronized void addEventListener(FlowableEventListener listenerToAdd) {
@@ -48,6 +63,7 @@ public class FlowableEventSupport {
         }
         if (!eventListeners.contains(listenerToAdd)) {
             eventListeners.add(listenerToAdd);
+            rebuildDispatchTable();
         }
     }
 
@@ -63,15 +79,18 @@ public class FlowableEventSupport {
             for (FlowableEventType type : types) {
                 addTypedEventListener(listenerToAdd, type);
             }
+            rebuildDispatchTable();
         }
     }
 
-    public void removeEventListener(FlowableEventListener listenerToRemove) {
+    public synchronized void removeEventListener(FlowableEventListener listenerToRemove) {
         eventListeners.remove(listenerToRemove);
 
         for (List<FlowableEventListener> listeners : typedListeners.values()) {
             listeners.remove(listenerToRemove);
         }
+
+        rebuildDispatchTable();
     }
 
     public void dispatchEvent(FlowableEvent event) {
@@ -83,20 +102,16 @@ public class FlowableEventSupport {
             throw new FlowableIllegalArgumentException("Event type cannot be null.");
         }
 
-        // Call global listeners
-        if (!eventListeners.isEmpty()) {
-            for (FlowableEventListener listener : eventListeners) {
-                dispatchEvent(event, listener);
-            }
+        for (FlowableEventListener listener : dispatchTable.getListeners(event.getType())) {
+            dispatchEvent(event, listener);
         }
+    }
 
-        // Call typed listeners, if any
-        List<FlowableEventListener> typed = typedListeners.get(event.getType());
-        if (typed != null && !typed.isEmpty()) {
-            for (FlowableEventListener listener : typed) {
-                dispatchEvent(event, listener);
-            }
-        }
+    /**
+     * Returns whether any listener would be called for an event of the given type.
+     */
+    public boolean hasListeners(FlowableEventType type) {
+        return dispatchTable.getListeners(type).length > 0;
     }
 
     protected void dispatchEvent(FlowableEvent event, FlowableEventListener listener) {
@@ -125,4 +140,86 @@ public class FlowableEventSupport {
             listeners.add(listener);
         }
     }
+
+    /**
+     * Builds a new dispatch table from the registered listeners and publishes it, replacing the previous one.
+     */
+    protected synchronized void rebuildDispatchTable() {
+        List<FlowableEventListener> newAllEventsListeners = new ArrayList<FlowableEventListener>();
+        Map<FlowableEventType, List<FlowableEventListener>> listenersByType = new LinkedHashMap<FlowableEventType, List<FlowableEventListener>>();
+
+        // Global listeners first, in order of registration
+        for (FlowableEventListener listener : eventListeners) {
+            Collection<? extends FlowableEventType> declaredTypes = null;
+            if (listener instanceof FlowableTypedEventListener) {
+                declaredTypes = ((FlowableTypedEventListener) listener).getTypes();
+            }
+
+            if (declaredTypes == null || declaredTypes.isEmpty()) {
+                newAllEventsListeners.add(listener);
+                for (List<FlowableEventListener> listeners : listenersByType.values()) {
+                    listeners.add(listener);
+                }
+
+            } else {
+                for (FlowableEventType type : declaredTypes) {
+                    if (type != null) {
+                        List<FlowableEventListener> listeners = listenersByType.get(type);
+                        if (listeners == null) {
+                            listeners = new ArrayList<FlowableEventListener>(newAllEventsListeners);
+                            listenersByType.put(type, listeners);
+                        }
+                        if (!listeners.contains(listener)) {
+                            listeners.add(listener);
+                        }
+                    }
+                }
+            }
+        }
+
+        // Then the listeners that were added for specific types
+        for (Map.Entry<FlowableEventType, List<FlowableEventListener>> typedListenersEntry : typedListeners.entrySet()) {
+            if (typedListenersEntry.getKey() == null || typedListenersEntry.getValue().isEmpty()) {
+                continue;
+            }
+
+            List<FlowableEventListener> listeners = listenersByType.get(typedListenersEntry.getKey());
+            if (listeners == null) {
+                listeners = new ArrayList<FlowableEventListener>(newAllEventsListeners);
+                listenersByType.put(typedListenersEntry.getKey(), listeners);
+            }
+            listeners.addAll(typedListenersEntry.getValue());
+        }
+
+        Map<FlowableEventType, FlowableEventListener[]> newDispatchTable = new HashMap<FlowableEventType, FlowableEventListener[]>();
+        for (Map.Entry<FlowableEventType, List<FlowableEventListener>> listenersEntry : listenersByType.entrySet()) {
+            newDispatchTable.put(listenersEntry.getKey(), listenersEntry.getValue().toArray(new FlowableEventListener[listenersEntry.getValue().size()]));
+        }
+
+        dispatchTable = new DispatchTable(Collections.unmodifiableMap(newDispatchTable),
+                newAllEventsListeners.toArray(new FlowableEventListener[newAllEventsListeners.size()]));
+    }
+
+    /**
+     * Immutable snapshot of the listeners to call per event type.
+     */
+    protected static class DispatchTable {
+
+        /**
+         * The listeners to call for an event type. Types that aren't in here only have the global listeners that receive all events.
+         */
+        protected final Map<FlowableEventType, FlowableEventListener[]> listenersByType;
+        protected final FlowableEventListener[] allEventsListeners;
+
+        public DispatchTable(Map<FlowableEventType, FlowableEventListener[]> listenersByType, FlowableEventListener[] allEventsListeners) {
+            this.listenersByType = listenersByType;
+            this.allEventsListeners = allEventsListeners;
+        }
+
+        public FlowableEventListener[] getListeners(FlowableEventType type) {
+            FlowableEventListener[] listeners = listenersByType.get(type);
+            return listeners != null ? listeners : allEventsListeners;
+        }
+
+    }
 }
@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandConfig;
+
+/**
+ * Records the latency of every command, per command class, in a {@link MetricsTimer}.
+ * Commands that throw an exception are also counted per command class.
+ */
+public class CommandMetricsInterceptor extends AbstractCommandInterceptor {
+
+    protected MetricsRegistry metricsRegistry;
+    protected ConcurrentMap<Class<?>, MetricsTimer> timersByCommandClass = new ConcurrentHashMap<Class<?>, MetricsTimer>();
+
+    public CommandMetricsInterceptor(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    public <T> T execute(CommandConfig config, Command<T> command) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = next.execute(config, command);
+            failed = false;
+            return result;
+
+        } finally {
+            getTimer(command.getClass()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (failed) {
+                metricsRegistry.counter(MetricNames.COMMAND_FAILURES + command.getClass().getName()).increment();
+            }
+        }
+    }
+
+    protected MetricsTimer getTimer(Class<?> commandClass) {
+        MetricsTimer timer = timersByCommandClass.get(commandClass);
+        if (timer == null) {
+            timer = metricsRegistry.timer(MetricNames.COMMAND + commandClass.getName());
+            timersByCommandClass.put(commandClass, timer);
+        }
+        return timer;
+    }
+
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+}
@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.metrics;
+
+/**
+ * Names of the metrics recorded by the engine in the {@link MetricsRegistry}.
+ */
+public final class MetricNames {
+
+    /** Timer per command class, the class name is appended. Nested commands are recorded as well. */
+    public static final String COMMAND = "flowable.command.";
+
+    /** Counter per command class of the commands that threw an exception, the class name is appended. */
+    public static final String COMMAND_FAILURES = "flowable.command.failures.";
+
+    /** Timer of the flush of the inserts, updates and deletes to the database. */
+    public static final String DB_FLUSH = "flowable.db.flush";
+
+    /** Counters of the flushed entities and of the bulk insert and delete statements. */
+    public static final String DB_INSERTS = "flowable.db.flush.inserts";
+    public static final String DB_UPDATES = "flowable.db.flush.updates";
+    public static final String DB_DELETES = "flowable.db.flush.deletes";
+    public static final String DB_BULK_INSERT_STATEMENTS = "flowable.db.flush.bulk-insert-statements";
+    public static final String DB_BULK_DELETE_STATEMENTS = "flowable.db.flush.bulk-delete-statements";
+
+    /** Metrics of an async executor, appended to its metrics prefix (e.g. flowable.async-executor). */
+    public static final String ASYNC_EXECUTOR_QUEUE_SIZE = ".queue-size";
+    public static final String ASYNC_EXECUTOR_ACTIVE_THREADS = ".active-threads";
+    public static final String ASYNC_EXECUTOR_REJECTIONS = ".rejections";
+    public static final String ASYNC_EXECUTOR_JOB_ACQUISITION = ".job-acquisition";
+    public static final String ASYNC_EXECUTOR_TIMER_ACQUISITION = ".timer-acquisition";
+    public static final String ASYNC_EXECUTOR_ACQUISITION_OPTIMISTIC_LOCK_FAILURES = ".acquisition-optimistic-lock-failures";
+
+    /** Counter of the jobs of which the execution failed because of an optimistic locking exception. */
+    public static final String JOB_EXECUTION_OPTIMISTIC_LOCK_FAILURES = "flowable.job.execution-optimistic-lock-failures";
+
+    /** Metrics of the process definition cache. */
+    public static final String PROCESS_DEFINITION_CACHE_HITS = "flowable.deployment-cache.process-definitions.hits";
+    public static final String PROCESS_DEFINITION_CACHE_MISSES = "flowable.deployment-cache.process-definitions.misses";
+    public static final String PROCESS_DEFINITION_CACHE_HIT_RATIO = "flowable.deployment-cache.process-definitions.hit-ratio";
+
+    /**
+     * Metrics of the history cleaning: the deleted historic process instances, the duration of a cleaning batch and the lag in milliseconds,
+     * i.e. how long ago the oldest historic process instance deleted by the last batch was due to be deleted (0 once the cleaning has caught up).
+     */
+    public static final String HISTORY_CLEANING_DELETED_PROCESS_INSTANCES = "flowable.history-cleaning.deleted-process-instances";
+    public static final String HISTORY_CLEANING_BATCH = "flowable.history-cleaning.batch";
+    public static final String HISTORY_CLEANING_LAG = "flowable.history-cleaning.lag";
+
+    private MetricNames() {
+    }
+
+}
@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A monotonically increasing count, e.g. the number of rejected jobs.
+ */
+public class MetricsCounter {
+
+    protected final String name;
+    protected final AtomicLong count = new AtomicLong();
+
+    public MetricsCounter(String name) {
+        this.name = name;
+    }
+
+    public void increment() {
+        count.incrementAndGet();
+    }
+
+    public void increment(long amount) {
+        count.addAndGet(amount);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+}
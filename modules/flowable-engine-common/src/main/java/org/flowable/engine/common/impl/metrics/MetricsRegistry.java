@@ -0,0 +1,97 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the timers, counters and gauges of an engine, by name (see {@link MetricNames}).
+ *
+ * The metrics are kept in memory. To report them to a monitoring system, either read them periodically
+ * or override the create methods to return timers and counters that also record to that system.
+ */
+public class MetricsRegistry {
+
+    protected final ConcurrentMap<String, MetricsTimer> timers = new ConcurrentHashMap<String, MetricsTimer>();
+    protected final ConcurrentMap<String, MetricsCounter> counters = new ConcurrentHashMap<String, MetricsCounter>();
+    protected final ConcurrentMap<String, MetricsGauge> gauges = new ConcurrentHashMap<String, MetricsGauge>();
+
+    public MetricsTimer timer(String name) {
+        MetricsTimer timer = timers.get(name);
+        if (timer == null) {
+            MetricsTimer newTimer = createTimer(name);
+            timer = timers.putIfAbsent(name, newTimer);
+            if (timer == null) {
+                timer = newTimer;
+            }
+        }
+        return timer;
+    }
+
+    public MetricsCounter counter(String name) {
+        MetricsCounter counter = counters.get(name);
+        if (counter == null) {
+            MetricsCounter newCounter = createCounter(name);
+            counter = counters.putIfAbsent(name, newCounter);
+            if (counter == null) {
+                counter = newCounter;
+            }
+        }
+        return counter;
+    }
+
+    /**
+     * Registers the gauge with the given name, replacing a gauge that was registered before with that name.
+     */
+    public void gauge(String name, MetricsGauge gauge) {
+        gauges.put(name, gauge);
+    }
+
+    public void removeGauge(String name) {
+        gauges.remove(name);
+    }
+
+    protected MetricsTimer createTimer(String name) {
+        return new MetricsTimer(name);
+    }
+
+    protected MetricsCounter createCounter(String name) {
+        return new MetricsCounter(name);
+    }
+
+    /**
+     * @return the timers sorted by name
+     */
+    public Map<String, MetricsTimer> getTimers() {
+        return Collections.unmodifiableMap(new TreeMap<String, MetricsTimer>(timers));
+    }
+
+    /**
+     * @return the counters sorted by name
+     */
+    public Map<String, MetricsCounter> getCounters() {
+        return Collections.unmodifiableMap(new TreeMap<String, MetricsCounter>(counters));
+    }
+
+    /**
+     * @return the gauges sorted by name
+     */
+    public Map<String, MetricsGauge> getGauges() {
+        return Collections.unmodifiableMap(new TreeMap<String, MetricsGauge>(gauges));
+    }
+
+}
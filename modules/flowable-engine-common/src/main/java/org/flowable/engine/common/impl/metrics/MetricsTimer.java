@@ -0,0 +1,135 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records durations: the count, total and maximum duration and a histogram with fixed buckets,
+ * from which percentiles can be estimated.
+ */
+public class MetricsTimer {
+
+    /**
+     * The upper bounds (inclusive) of the histogram buckets. Durations longer than the last bound are counted in an extra bucket.
+     */
+    public static final long[] DEFAULT_BUCKET_BOUNDARIES_IN_MILLIS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000 };
+
+    protected final String name;
+    protected final long[] bucketBoundariesInNanos;
+    protected final AtomicLongArray bucketCounts;
+    protected final AtomicLong count = new AtomicLong();
+    protected final AtomicLong totalTimeInNanos = new AtomicLong();
+    protected final AtomicLong maxTimeInNanos = new AtomicLong();
+
+    public MetricsTimer(String name) {
+        this(name, DEFAULT_BUCKET_BOUNDARIES_IN_MILLIS);
+    }
+
+    public MetricsTimer(String name, long[] bucketBoundariesInMillis) {
+        this.name = name;
+        this.bucketBoundariesInNanos = new long[bucketBoundariesInMillis.length];
+        for (int i = 0; i < bucketBoundariesInMillis.length; i++) {
+            bucketBoundariesInNanos[i] = TimeUnit.MILLISECONDS.toNanos(bucketBoundariesInMillis[i]);
+        }
+        this.bucketCounts = new AtomicLongArray(bucketBoundariesInMillis.length + 1);
+    }
+
+    public void record(long duration, TimeUnit timeUnit) {
+        long durationInNanos = Math.max(0L, timeUnit.toNanos(duration));
+
+        count.incrementAndGet();
+        totalTimeInNanos.addAndGet(durationInNanos);
+
+        long max = maxTimeInNanos.get();
+        while (durationInNanos > max && !maxTimeInNanos.compareAndSet(max, durationInNanos)) {
+            max = maxTimeInNanos.get();
+        }
+
+        int bucket = Arrays.binarySearch(bucketBoundariesInNanos, durationInNanos);
+        bucketCounts.incrementAndGet(bucket >= 0 ? bucket : -bucket - 1);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public double getTotalTime(TimeUnit timeUnit) {
+        return toUnit(totalTimeInNanos.get(), timeUnit);
+    }
+
+    public double getMax(TimeUnit timeUnit) {
+        return toUnit(maxTimeInNanos.get(), timeUnit);
+    }
+
+    public double getMean(TimeUnit timeUnit) {
+        long currentCount = count.get();
+        return currentCount > 0 ? toUnit(totalTimeInNanos.get(), timeUnit) / currentCount : 0.0;
+    }
+
+    /**
+     * Estimates the given percentile (e.g. 0.99) as the upper bound of the histogram bucket it falls in,
+     * or as the maximum duration when it falls in the last bucket.
+     */
+    public double getPercentile(double percentile, TimeUnit timeUnit) {
+        long[] counts = getBucketCounts();
+        long total = 0L;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        if (total == 0L) {
+            return 0.0;
+        }
+
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0L;
+        for (int i = 0; i < bucketBoundariesInNanos.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return toUnit(bucketBoundariesInNanos[i], timeUnit);
+            }
+        }
+        return getMax(timeUnit);
+    }
+
+    public long[] getBucketBoundaries(TimeUnit timeUnit) {
+        long[] bucketBoundaries = new long[bucketBoundariesInNanos.length];
+        for (int i = 0; i < bucketBoundariesInNanos.length; i++) {
+            bucketBoundaries[i] = timeUnit.convert(bucketBoundariesInNanos[i], TimeUnit.NANOSECONDS);
+        }
+        return bucketBoundaries;
+    }
+
+    /**
+     * @return the counts per histogram bucket, with one more element than {@link #getBucketBoundaries(TimeUnit)} for the durations longer than the last bound.
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[bucketCounts.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = bucketCounts.get(i);
+        }
+        return counts;
+    }
+
+    protected double toUnit(long nanos, TimeUnit timeUnit) {
+        return (double) nanos / timeUnit.toNanos(1L);
+    }
+
+}
@@ -42,6 +42,14 @@ public class CachedEntity {
         }
     }
 
+    /**
+     * Creates a {@link CachedEntity} for an entity of which the original persistent state was already stored by the cache.
+     */
+    protected CachedEntity(Entity entity, Object originalPersistentState) {
+        this.entity = entity;
+        this.originalPersistentState = originalPersistentState;
+    }
+
     public Entity getEntity() {
         return entity;
     }
@@ -59,7 +67,8 @@ public class CachedEntity {
     }
 
     public boolean hasChanged() {
-        return entity.getPersistentState() != null && !entity.getPersistentState().equals(originalPersistentState);
+        Object persistentState = entity.getPersistentState();
+        return persistentState != null && !persistentState.equals(originalPersistentState);
     }
 
 }
\ No newline at end of file
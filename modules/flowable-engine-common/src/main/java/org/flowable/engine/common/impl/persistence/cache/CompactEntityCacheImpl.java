@@ -0,0 +1,553 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.cache;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * {@link EntityCache} optimized for short commands that cache many entities.
+ *
+ * Compared to the {@link EntityCacheImpl}:
+ * <ul>
+ * <li>The entity classes are kept in a small array of slots. A lookup by a super class or interface is resolved to a slot once, instead of checking all cached classes on every miss.</li>
+ * <li>The entities of a class are kept in an open addressing map (linear probing) on their id, without map entry objects.</li>
+ * <li>The original persistent state is stored inline next to the entity, no {@link CachedEntity} is created when an entity is put in the cache.
+ * {@link CachedEntity} views are only created when they are asked for, e.g. when flushing, and are then kept next to the entity.</li>
+ * <li>The cached entities of a class are returned as a live view on the slot, no collection is copied per call.</li>
+ * </ul>
+ *
+ * Like the {@link EntityCacheImpl}, this cache is used by one thread only.
+ */
+public class CompactEntityCacheImpl implements EntityCache {
+
+    protected static final int INITIAL_SLOT_CAPACITY = 8;
+
+    /**
+     * When true, {@link DirtyTrackingEntity} instances are only seen as changed when their dirty flag is set (see {@link DirtyTrackingEntityCacheImpl}).
+     */
+    protected boolean dirtyTracking;
+
+    protected Class<?>[] slotClasses = new Class<?>[INITIAL_SLOT_CAPACITY];
+    protected EntityIdMap[] slots = new EntityIdMap[INITIAL_SLOT_CAPACITY];
+    protected int slotCount;
+
+    /**
+     * Lookup classes that are not an entity class themselves (e.g. interfaces), with the slot they were resolved to.
+     */
+    protected Class<?>[] resolvedClasses = new Class<?>[INITIAL_SLOT_CAPACITY];
+    protected int[] resolvedSlots = new int[INITIAL_SLOT_CAPACITY];
+    protected int resolvedCount;
+
+    /**
+     * The map returned by {@link #getAllCachedEntities()}, which only changes when a slot is added.
+     */
+    protected Map<Class<?>, Map<String, CachedEntity>> allCachedEntities;
+
+    public CompactEntityCacheImpl() {
+        this(false);
+    }
+
+    protected CompactEntityCacheImpl(boolean dirtyTracking) {
+        this.dirtyTracking = dirtyTracking;
+    }
+
+    @Override
+    public CachedEntity put(Entity entity, boolean storeState) {
+        Object originalPersistentState = null;
+        if (storeState) {
+            originalPersistentState = entity.getPersistentState();
+            entity.setOriginalPersistentState(originalPersistentState);
+        } else if (entity.getOriginalPersistentState() == null) {
+            entity.setOriginalPersistentState(new HashMap<>(1));
+        }
+
+        if (dirtyTracking && entity instanceof DirtyTrackingEntity) {
+            // Same as the DirtyTrackingCachedEntity: the setters called when mapping the result don't count as changes
+            ((DirtyTrackingEntity) entity).setDirty(!storeState);
+        }
+
+        getOrCreateSlot(entity.getClass()).put(entity.getId(), entity, originalPersistentState);
+        return new CompactCachedEntity(entity, originalPersistentState, dirtyTracking);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T findInCache(Class<T> entityClass, String id) {
+        EntityIdMap slot = findSlot(entityClass);
+        if (slot != null) {
+            return (T) slot.get(id);
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> findInCache(Class<T> entityClass) {
+        EntityIdMap slot = findSlot(entityClass);
+        if (slot == null) {
+            return Collections.emptyList();
+        }
+
+        List<T> entities = new ArrayList<>(slot.size);
+        Entity[] slotEntities = slot.entities;
+        for (int i = 0; i < slotEntities.length; i++) {
+            if (slotEntities[i] != null) {
+                entities.add((T) slotEntities[i]);
+            }
+        }
+        return entities;
+    }
+
+    @Override
+    public <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass) {
+        EntityIdMap slot = findExactSlot(entityClass);
+        if (slot != null) {
+            return slot.cachedEntitiesView.values();
+        }
+        return null;
+    }
+
+    @Override
+    public void cacheRemove(Class<?> entityClass, String entityId) {
+        EntityIdMap slot = findExactSlot(entityClass);
+        if (slot != null) {
+            slot.remove(entityId);
+        }
+    }
+
+    @Override
+    public Map<Class<?>, Map<String, CachedEntity>> getAllCachedEntities() {
+        if (allCachedEntities == null) {
+            Map<Class<?>, Map<String, CachedEntity>> cachedEntities = new LinkedHashMap<>(slotCount * 2);
+            for (int i = 0; i < slotCount; i++) {
+                cachedEntities.put(slotClasses[i], slots[i].cachedEntitiesView);
+            }
+            allCachedEntities = Collections.unmodifiableMap(cachedEntities);
+        }
+        return allCachedEntities;
+    }
+
+    protected EntityIdMap findExactSlot(Class<?> entityClass) {
+        for (int i = 0; i < slotCount; i++) {
+            if (slotClasses[i] == entityClass) {
+                return slots[i];
+            }
+        }
+        return null;
+    }
+
+    protected EntityIdMap findSlot(Class<?> entityClass) {
+        EntityIdMap slot = findExactSlot(entityClass);
+        if (slot != null) {
+            return slot;
+        }
+
+        for (int i = 0; i < resolvedCount; i++) {
+            if (resolvedClasses[i] == entityClass) {
+                return slots[resolvedSlots[i]];
+            }
+        }
+
+        for (int i = 0; i < slotCount; i++) {
+            if (entityClass.isAssignableFrom(slotClasses[i])) {
+                // Only found slots are remembered: a class that isn't cached yet could still be added later on
+                addResolvedClass(entityClass, i);
+                return slots[i];
+            }
+        }
+        return null;
+    }
+
+    protected EntityIdMap getOrCreateSlot(Class<?> entityClass) {
+        EntityIdMap slot = findExactSlot(entityClass);
+        if (slot == null) {
+            if (slotCount == slotClasses.length) {
+                Class<?>[] newSlotClasses = new Class<?>[slotCount * 2];
+                System.arraycopy(slotClasses, 0, newSlotClasses, 0, slotCount);
+                slotClasses = newSlotClasses;
+
+                EntityIdMap[] newSlots = new EntityIdMap[slotCount * 2];
+                System.arraycopy(slots, 0, newSlots, 0, slotCount);
+                slots = newSlots;
+            }
+
+            slot = new EntityIdMap(dirtyTracking);
+            slotClasses[slotCount] = entityClass;
+            slots[slotCount] = slot;
+            slotCount++;
+            allCachedEntities = null;
+        }
+        return slot;
+    }
+
+    protected void addResolvedClass(Class<?> entityClass, int slotIndex) {
+        if (resolvedCount == resolvedClasses.length) {
+            Class<?>[] newResolvedClasses = new Class<?>[resolvedCount * 2];
+            System.arraycopy(resolvedClasses, 0, newResolvedClasses, 0, resolvedCount);
+            resolvedClasses = newResolvedClasses;
+
+            int[] newResolvedSlots = new int[resolvedCount * 2];
+            System.arraycopy(resolvedSlots, 0, newResolvedSlots, 0, resolvedCount);
+            resolvedSlots = newResolvedSlots;
+        }
+
+        resolvedClasses[resolvedCount] = entityClass;
+        resolvedSlots[resolvedCount] = slotIndex;
+        resolvedCount++;
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+    @Override
+    public void flush() {
+
+    }
+
+    /**
+     * Open addressing map of entity id to entity and original persistent state, using linear probing.
+     * The capacity is always a power of two and the map is kept at most half full.
+     * The {@link CachedEntity} of a position is created the first time it is asked for and dropped when the position changes.
+     */
+    protected static class EntityIdMap {
+
+        protected static final int INITIAL_CAPACITY = 16;
+
+        /**
+         * Used as key for entities without id, as null marks a free position.
+         */
+        protected static final Object NULL_ID = new Object();
+
+        protected Object[] ids;
+        protected Entity[] entities;
+        protected Object[] originalPersistentStates;
+        protected CachedEntity[] cachedEntities;
+        protected int size;
+
+        protected boolean dirtyTracking;
+        protected CachedEntitiesView cachedEntitiesView = new CachedEntitiesView(this);
+
+        public EntityIdMap(boolean dirtyTracking) {
+            this.dirtyTracking = dirtyTracking;
+            allocate(INITIAL_CAPACITY);
+        }
+
+        public Entity get(String id) {
+            int index = indexOf(toKey(id));
+            return index >= 0 ? entities[index] : null;
+        }
+
+        public void put(String id, Entity entity, Object originalPersistentState) {
+            if ((size + 1) * 2 > ids.length) {
+                resize(ids.length * 2);
+            }
+
+            Object key = toKey(id);
+            int mask = ids.length - 1;
+            int index = hash(key) & mask;
+            while (ids[index] != null) {
+                if (ids[index].equals(key)) {
+                    entities[index] = entity;
+                    originalPersistentStates[index] = originalPersistentState;
+                    cachedEntities[index] = null;
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+
+            ids[index] = key;
+            entities[index] = entity;
+            originalPersistentStates[index] = originalPersistentState;
+            cachedEntities[index] = null;
+            size++;
+        }
+
+        public void remove(String id) {
+            int hole = indexOf(toKey(id));
+            if (hole < 0) {
+                return;
+            }
+
+            // Shift the following entries of the probe sequence back, so no tombstones are needed
+            int mask = ids.length - 1;
+            int index = (hole + 1) & mask;
+            while (ids[index] != null) {
+                int idealIndex = hash(ids[index]) & mask;
+                if (((index - idealIndex) & mask) >= ((index - hole) & mask)) {
+                    ids[hole] = ids[index];
+                    entities[hole] = entities[index];
+                    originalPersistentStates[hole] = originalPersistentStates[index];
+                    cachedEntities[hole] = cachedEntities[index];
+                    hole = index;
+                }
+                index = (index + 1) & mask;
+            }
+
+            ids[hole] = null;
+            entities[hole] = null;
+            originalPersistentStates[hole] = null;
+            cachedEntities[hole] = null;
+            size--;
+        }
+
+        public String getId(int index) {
+            return ids[index] != NULL_ID ? (String) ids[index] : null;
+        }
+
+        public CachedEntity getCachedEntity(int index) {
+            return getCachedEntity(entities, originalPersistentStates, cachedEntities, index);
+        }
+
+        protected CachedEntity getCachedEntity(Entity[] entities, Object[] originalPersistentStates, CachedEntity[] cachedEntities, int index) {
+            CachedEntity cachedEntity = cachedEntities[index];
+            if (cachedEntity == null) {
+                cachedEntity = new CompactCachedEntity(entities[index], originalPersistentStates[index], dirtyTracking);
+                cachedEntities[index] = cachedEntity;
+            }
+            return cachedEntity;
+        }
+
+        protected int indexOf(Object key) {
+            int mask = ids.length - 1;
+            int index = hash(key) & mask;
+            Object current;
+            while ((current = ids[index]) != null) {
+                if (current.equals(key)) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;
+        }
+
+        protected void resize(int capacity) {
+            Object[] oldIds = ids;
+            Entity[] oldEntities = entities;
+            Object[] oldOriginalPersistentStates = originalPersistentStates;
+            CachedEntity[] oldCachedEntities = cachedEntities;
+
+            allocate(capacity);
+            int mask = capacity - 1;
+            for (int i = 0; i < oldIds.length; i++) {
+                if (oldIds[i] != null) {
+                    int index = hash(oldIds[i]) & mask;
+                    while (ids[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    ids[index] = oldIds[i];
+                    entities[index] = oldEntities[i];
+                    originalPersistentStates[index] = oldOriginalPersistentStates[i];
+                    cachedEntities[index] = oldCachedEntities[i];
+                }
+            }
+        }
+
+        protected void allocate(int capacity) {
+            ids = new Object[capacity];
+            entities = new Entity[capacity];
+            originalPersistentStates = new Object[capacity];
+            cachedEntities = new CachedEntity[capacity];
+        }
+
+        protected static Object toKey(String id) {
+            return id != null ? id : NULL_ID;
+        }
+
+        protected static int hash(Object key) {
+            int hashCode = key.hashCode();
+            return hashCode ^ (hashCode >>> 16);
+        }
+
+    }
+
+    /**
+     * Live, read-only map view of id to {@link CachedEntity} on an {@link EntityIdMap}.
+     * Iterating the values doesn't allocate anything but the iterator (and the {@link CachedEntity} of an entity, the first time only).
+     */
+    protected static class CachedEntitiesView extends AbstractMap<String, CachedEntity> {
+
+        protected EntityIdMap slot;
+        protected Collection<CachedEntity> values;
+
+        public CachedEntitiesView(EntityIdMap slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public int size() {
+            return slot.size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && slot.get((String) key) != null;
+        }
+
+        @Override
+        public CachedEntity get(Object key) {
+            if (key instanceof String) {
+                int index = slot.indexOf(EntityIdMap.toKey((String) key));
+                if (index >= 0) {
+                    return slot.getCachedEntity(index);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Collection<CachedEntity> values() {
+            if (values == null) {
+                values = new AbstractCollection<CachedEntity>() {
+
+                    @Override
+                    public Iterator<CachedEntity> iterator() {
+                        return new SlotIterator<CachedEntity>(slot) {
+
+                            @Override
+                            protected CachedEntity get(int index) {
+                                return getCachedEntity(index);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return slot.size;
+                    }
+                };
+            }
+            return values;
+        }
+
+        @Override
+        public Set<Map.Entry<String, CachedEntity>> entrySet() {
+            return new AbstractSet<Map.Entry<String, CachedEntity>>() {
+
+                @Override
+                public Iterator<Map.Entry<String, CachedEntity>> iterator() {
+                    return new SlotIterator<Map.Entry<String, CachedEntity>>(slot) {
+
+                        @Override
+                        protected Map.Entry<String, CachedEntity> get(int index) {
+                            return new AbstractMap.SimpleImmutableEntry<>(ids[index] != EntityIdMap.NULL_ID ? (String) ids[index] : null, getCachedEntity(index));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return slot.size;
+                }
+            };
+        }
+
+    }
+
+    /**
+     * Iterator over the used positions of an {@link EntityIdMap}.
+     * It iterates over the arrays of the map at the time it was created: when entities are added to the cache while iterating
+     * (e.g. by lazy loading while matching cached entities) and the map is resized, the iteration continues unaffected on the old arrays.
+     */
+    protected abstract static class SlotIterator<E> implements Iterator<E> {
+
+        protected EntityIdMap slot;
+        protected Object[] ids;
+        protected Entity[] entities;
+        protected Object[] originalPersistentStates;
+        protected CachedEntity[] cachedEntities;
+        protected int nextIndex;
+
+        public SlotIterator(EntityIdMap slot) {
+            this.slot = slot;
+            this.ids = slot.ids;
+            this.entities = slot.entities;
+            this.originalPersistentStates = slot.originalPersistentStates;
+            this.cachedEntities = slot.cachedEntities;
+            advance(0);
+        }
+
+        protected void advance(int index) {
+            while (index < entities.length && entities[index] == null) {
+                index++;
+            }
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < entities.length;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E next = get(nextIndex);
+            advance(nextIndex + 1);
+            return next;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        protected CachedEntity getCachedEntity(int index) {
+            return slot.getCachedEntity(entities, originalPersistentStates, cachedEntities, index);
+        }
+
+        protected abstract E get(int index);
+
+    }
+
+    /**
+     * {@link CachedEntity} view on an entity of the {@link CompactEntityCacheImpl}.
+     */
+    protected static class CompactCachedEntity extends CachedEntity {
+
+        protected boolean dirtyTracking;
+
+        public CompactCachedEntity(Entity entity, Object originalPersistentState, boolean dirtyTracking) {
+            super(entity, originalPersistentState);
+            this.dirtyTracking = dirtyTracking;
+        }
+
+        @Override
+        public boolean hasChanged() {
+            if (dirtyTracking && entity instanceof DirtyTrackingEntity && !((DirtyTrackingEntity) entity).isDirty()) {
+                return false;
+            }
+            return super.hasChanged();
+        }
+
+    }
+
+}
@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.cache;
+
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
+
+/**
+ * A {@link CachedEntity} for a {@link DirtyTrackingEntity}: an entity of which no setter was called since it was loaded
+ * is known to be unchanged, without building and comparing its persistent state.
+ * The original persistent state is still stored, as the update statements use it to only update the changed columns.
+ */
+public class DirtyTrackingCachedEntity extends CachedEntity {
+
+    public DirtyTrackingCachedEntity(DirtyTrackingEntity entity, boolean storeState) {
+        super(entity, storeState);
+
+        // When storing the state, the entity has just been loaded: the setters called when mapping the result don't count as changes.
+        // When not storing the state, the entity must always be seen as changed.
+        entity.setDirty(!storeState);
+    }
+
+    @Override
+    public boolean hasChanged() {
+        // A setter could have been called with the value it already had, hence the comparison for dirty entities
+        return ((DirtyTrackingEntity) entity).isDirty() && super.hasChanged();
+    }
+
+}
@@ -0,0 +1,33 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.cache;
+
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * {@link EntityCache} that uses the dirty flag of {@link DirtyTrackingEntity} instances to determine if they have changed,
+ * which avoids building and comparing the persistent state of the unchanged ones when flushing.
+ * Other entities are handled like in the {@link EntityCacheImpl}.
+ */
+public class DirtyTrackingEntityCacheImpl extends EntityCacheImpl {
+
+    @Override
+    protected CachedEntity createCachedEntity(Entity entity, boolean storeState) {
+        if (entity instanceof DirtyTrackingEntity) {
+            return new DirtyTrackingCachedEntity((DirtyTrackingEntity) entity, storeState);
+        }
+        return super.createCachedEntity(entity, storeState);
+    }
+
+}
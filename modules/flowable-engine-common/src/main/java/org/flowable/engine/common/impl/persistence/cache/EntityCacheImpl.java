@@ -35,11 +35,15 @@ public class EntityCacheImpl implements EntityCache {
             classCache = new HashMap<String, CachedEntity>();
             cachedObjects.put(entity.getClass(), classCache);
         }
-        CachedEntity cachedObject = new CachedEntity(entity, storeState);
+        CachedEntity cachedObject = createCachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
         return cachedObject;
     }
 
+    protected CachedEntity createCachedEntity(Entity entity, boolean storeState) {
+        return new CachedEntity(entity, storeState);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> T findInCache(Class<T> entityClass, String id) {
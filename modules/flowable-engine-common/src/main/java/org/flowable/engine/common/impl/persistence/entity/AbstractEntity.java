@@ -28,6 +28,11 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     protected boolean isUpdated;
     protected boolean isDeleted;
     
+    /**
+     * Only maintained by subclasses implementing {@link DirtyTrackingEntity}.
+     */
+    protected boolean isDirty;
+    
     protected Object originalPersistentState;
 
     @Override
@@ -76,6 +81,14 @@ public abstract class AbstractEntity implements Entity, HasRevision {
         this.isDeleted = isDeleted;
     }
 
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    public void setDirty(boolean isDirty) {
+        this.isDirty = isDirty;
+    }
+
     @Override
     public Object getOriginalPersistentState() {
         return originalPersistentState;
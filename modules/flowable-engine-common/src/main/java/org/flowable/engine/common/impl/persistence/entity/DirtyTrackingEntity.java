@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.entity;
+
+/**
+ * An {@link Entity} that keeps track itself of changes to its persistent state:
+ * every setter of a field that is part of the {@link #getPersistentState()} marks the entity as dirty.
+ * 
+ * When entity dirty tracking is enabled, the flush only uses this flag to decide whether the entity needs to be updated,
+ * instead of building and comparing the persistent state.
+ */
+public interface DirtyTrackingEntity extends Entity {
+
+    boolean isDirty();
+
+    void setDirty(boolean dirty);
+
+}
@@ -0,0 +1,487 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache that can be read concurrently without locking, with an optional limit on the total weight of the cached values.
+ * Used for the deployment caches, the compiled scripts and the LDAP groups.
+ *
+ * When a limit is set, the access frequency of the keys (also of the ones that were evicted before) is kept in a compact count-min sketch (TinyLFU).
+ * When the limit is exceeded, the least frequently used entry is evicted, using the last access time as tie-breaker. The last access time is
+ * only updated when it is older than {@link #ACCESS_TIME_GRANULARITY}, so threads reading the same popular entry aren't all writing to it.
+ * Reads don't update the sketch directly: they are recorded in a lossy buffer, striped by thread, which is applied to the sketch in batches
+ * by whichever thread gets the lock, so concurrent readers never contend on the sketch.
+ * Changes (put, remove, clear) take the lock, so the map and its weighted size are always updated together. A value that was just put is
+ * never evicted by that same put.
+ *
+ * By default every value has weight 1, a {@link Weigher} can be passed to give big values a bigger weight.
+ * Hits, misses and evictions are counted and can be retrieved for monitoring.
+ */
+public class BoundedConcurrentCache<K, V> {
+
+    /**
+     * The last access time of an entry is only updated when it is older than this (in nanoseconds).
+     */
+    protected static final long ACCESS_TIME_GRANULARITY = 1000000L;
+
+    protected ConcurrentMap<K, CacheEntry<V>> cache = new ConcurrentHashMap<K, CacheEntry<V>>();
+    protected long maximumWeight;
+    protected Weigher<K, V> weigher;
+    protected EvictionListener<K, V> evictionListener;
+    protected FrequencySketch frequencySketch;
+    protected ReadBuffer readBuffer;
+
+    protected AtomicLong weightedSize = new AtomicLong();
+    protected ReentrantLock evictionLock = new ReentrantLock();
+
+    protected StripedCounter hitCount = new StripedCounter();
+    protected StripedCounter missCount = new StripedCounter();
+    protected StripedCounter evictionCount = new StripedCounter();
+
+    /** Cache with no limit */
+    public BoundedConcurrentCache() {
+        this(-1, null);
+    }
+
+    /** Cache which has a hard limit: no more values will be cached than the limit. */
+    public BoundedConcurrentCache(long limit) {
+        this(limit, null);
+    }
+
+    /**
+     * Cache which has a limit on the total weight of the cached values, as calculated by the given weigher.
+     * When the weigher is null, every value has weight 1. When the maximum weight is zero or negative, there is no limit.
+     */
+    public BoundedConcurrentCache(long maximumWeight, Weigher<K, V> weigher) {
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        if (maximumWeight > 0) {
+            this.frequencySketch = new FrequencySketch(maximumWeight);
+            this.readBuffer = new ReadBuffer();
+        }
+    }
+
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+
+        CacheEntry<V> entry = cache.get(key);
+        if (readBuffer != null && readBuffer.record(key) && evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        long now = System.nanoTime();
+        if (now - entry.lastAccessTime > ACCESS_TIME_GRANULARITY) {
+            entry.lastAccessTime = now;
+        }
+        return entry.value;
+    }
+
+    public boolean containsKey(K key) {
+        return key != null && cache.containsKey(key);
+    }
+
+    public void put(K key, V value) {
+        int weight = weigher != null ? Math.max(1, weigher.weigh(key, value)) : 1;
+        CacheEntry<V> newEntry = new CacheEntry<V>(value, weight, System.nanoTime());
+
+        evictionLock.lock();
+        try {
+            CacheEntry<V> previousEntry = cache.put(key, newEntry);
+            weightedSize.addAndGet(previousEntry != null ? weight - previousEntry.weight : weight);
+
+            if (maximumWeight > 0) {
+                drainReadBuffer();
+                frequencySketch.increment(key);
+                if (weightedSize.get() > maximumWeight) {
+                    evict(key);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void remove(K key) {
+        if (key == null) {
+            return;
+        }
+
+        evictionLock.lock();
+        try {
+            CacheEntry<V> entry = cache.remove(key);
+            if (entry != null) {
+                weightedSize.addAndGet(-entry.weight);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry of the key only when it still holds the given value (compared by identity), e.g. when several threads find the same expired value.
+     *
+     * @return true when the entry was removed
+     */
+    public boolean remove(K key, V value) {
+        if (key == null) {
+            return false;
+        }
+
+        evictionLock.lock();
+        try {
+            CacheEntry<V> entry = cache.get(key);
+            if (entry != null && entry.value == value) {
+                cache.remove(key);
+                weightedSize.addAndGet(-entry.weight);
+                return true;
+            }
+            return false;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void clear() {
+        evictionLock.lock();
+        try {
+            cache.clear();
+            weightedSize.set(0);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view on the keys of the cache.
+     */
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(cache.keySet());
+    }
+
+    /**
+     * Must be called while holding the eviction lock.
+     */
+    protected void evict(K addedKey) {
+        while (weightedSize.get() > maximumWeight) {
+            Map.Entry<K, CacheEntry<V>> victim = findVictim(addedKey);
+            if (victim == null) {
+                break; // Only the added entry is left
+            }
+
+            cache.remove(victim.getKey());
+            weightedSize.addAndGet(-victim.getValue().weight);
+            evictionCount.increment();
+            if (evictionListener != null) {
+                evictionListener.onEviction(victim.getKey(), victim.getValue().value);
+            }
+        }
+    }
+
+    /**
+     * Applies the recorded reads to the frequency sketch. Must be called while holding the eviction lock.
+     */
+    protected void drainReadBuffer() {
+        readBuffer.drainTo(frequencySketch);
+    }
+
+    /**
+     * Finds the least frequently used entry (the least recently used one for equal frequencies).
+     * The whole cache is scanned: this only happens when a value is put, which follows the far more expensive creation of that value.
+     */
+    protected Map.Entry<K, CacheEntry<V>> findVictim(K addedKey) {
+        Map.Entry<K, CacheEntry<V>> victim = null;
+        int victimFrequency = Integer.MAX_VALUE;
+        for (Map.Entry<K, CacheEntry<V>> candidate : cache.entrySet()) {
+            if (candidate.getKey().equals(addedKey)) {
+                continue;
+            }
+
+            int candidateFrequency = frequencySketch.frequency(candidate.getKey());
+            if (victim == null || candidateFrequency < victimFrequency
+                    || (candidateFrequency == victimFrequency && candidate.getValue().lastAccessTime < victim.getValue().lastAccessTime)) {
+                victim = candidate;
+                victimFrequency = candidateFrequency;
+            }
+        }
+        return victim;
+    }
+
+    // statistics
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the ratio of gets that found a value in the cache, or 1.0 when there were no gets yet.
+     */
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long requests = hits + getMissCount();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    public long getWeightedSize() {
+        return weightedSize.get();
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public EvictionListener<K, V> getEvictionListener() {
+        return evictionListener;
+    }
+
+    /**
+     * The listener is called by the thread that puts a value, while holding the lock of the cache.
+     */
+    public void setEvictionListener(EvictionListener<K, V> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Calculates the weight of a cached value, used to decide when the cache limit is reached.
+     */
+    public static interface Weigher<K, V> {
+
+        /**
+         * Returns the weight of the given value. Must be at least 1.
+         */
+        int weigh(K key, V value);
+
+    }
+
+    /**
+     * Notified of the entries that are evicted because the cache limit is reached.
+     */
+    public static interface EvictionListener<K, V> {
+
+        void onEviction(K key, V value);
+
+    }
+
+    protected static class CacheEntry<V> {
+
+        protected final V value;
+        protected final int weight;
+        protected volatile long lastAccessTime;
+
+        public CacheEntry(V value, int weight, long lastAccessTime) {
+            this.value = value;
+            this.weight = weight;
+            this.lastAccessTime = lastAccessTime;
+        }
+
+    }
+
+    /**
+     * Count-min sketch with four 4-bit counters per key, which are halved periodically so that old popularity fades.
+     * It is only updated while holding the eviction lock, from the put and from the draining of the read buffer.
+     * A counter that reached its maximum isn't written anymore.
+     */
+    protected static class FrequencySketch {
+
+        protected static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        protected static final long RESET_MASK = 0x7777777777777777L;
+        protected static final int MAXIMUM_TABLE_SIZE = 1 << 20;
+
+        protected final AtomicLongArray table;
+        protected final int tableMask;
+        protected final int sampleSize;
+        protected final AtomicInteger size = new AtomicInteger();
+
+        public FrequencySketch(long expectedNumberOfKeys) {
+            int tableSize = 16;
+            while (tableSize < expectedNumberOfKeys && tableSize < MAXIMUM_TABLE_SIZE) {
+                tableSize <<= 1;
+            }
+            this.table = new AtomicLongArray(tableSize);
+            this.tableMask = tableSize - 1;
+            this.sampleSize = 10 * tableSize;
+        }
+
+        public int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int count = (int) ((table.get(indexOf(hash, i)) >>> counterOffset(hash, i)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        public void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                added |= incrementAt(indexOf(hash, i), counterOffset(hash, i));
+            }
+
+            if (added && size.incrementAndGet() == sampleSize) {
+                reset();
+            }
+        }
+
+        protected boolean incrementAt(int index, int offset) {
+            long mask = 0xfL << offset;
+            long value = table.get(index);
+            if ((value & mask) != mask) {
+                table.set(index, value + (1L << offset));
+                return true;
+            }
+            return false;
+        }
+
+        protected void reset() {
+            for (int i = 0; i < table.length(); i++) {
+                table.set(i, (table.get(i) >>> 1) & RESET_MASK);
+            }
+            size.addAndGet(-(sampleSize / 2));
+        }
+
+        protected int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return ((int) h) & tableMask;
+        }
+
+        protected int counterOffset(int hash, int i) {
+            return ((i << 2) + ((hash >>> (i << 3)) & 3)) << 2;
+        }
+
+        protected int spread(int hash) {
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            return (hash >>> 16) ^ hash;
+        }
+
+    }
+
+    /**
+     * Lossy buffer of the keys that were read, with a small ring per stripe (indexed by thread) so concurrent readers mostly write to different slots.
+     * Recording is a plain ordered write without compare-and-set: when two threads of the same stripe race, a read is lost or overwritten,
+     * which is fine for a frequency estimate.
+     */
+    protected static class ReadBuffer {
+
+        protected static final int BUFFER_SIZE = 16;
+        protected static final int PADDING = 8; // 8 longs = one 64 byte cache line
+
+        protected final AtomicReferenceArray<Object> slots;
+        protected final AtomicLongArray writeCounts;
+        protected final int stripeMask;
+
+        public ReadBuffer() {
+            int stripes = 1;
+            while (stripes < Runtime.getRuntime().availableProcessors() && stripes < 64) {
+                stripes <<= 1;
+            }
+            this.slots = new AtomicReferenceArray<Object>(stripes * BUFFER_SIZE);
+            this.writeCounts = new AtomicLongArray(stripes * PADDING);
+            this.stripeMask = stripes - 1;
+        }
+
+        /**
+         * Records a read, returns true when the ring of the current stripe is full and the buffer should be drained.
+         */
+        public boolean record(Object key) {
+            int stripe = (int) Thread.currentThread().getId() & stripeMask;
+            long writeCount = writeCounts.get(stripe * PADDING);
+            writeCounts.lazySet(stripe * PADDING, writeCount + 1);
+            slots.lazySet(stripe * BUFFER_SIZE + (int) (writeCount & (BUFFER_SIZE - 1)), key);
+            return (writeCount & (BUFFER_SIZE - 1)) == BUFFER_SIZE - 1;
+        }
+
+        public void drainTo(FrequencySketch frequencySketch) {
+            for (int i = 0; i < slots.length(); i++) {
+                Object key = slots.get(i);
+                if (key != null) {
+                    slots.lazySet(i, null);
+                    frequencySketch.increment(key);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Counter spread over multiple cache lines, indexed by thread, so concurrent readers don't contend on the same value.
+     */
+    protected static class StripedCounter {
+
+        protected static final int PADDING = 8; // 8 longs = one 64 byte cache line
+
+        protected final AtomicLongArray cells;
+        protected final int stripeMask;
+
+        public StripedCounter() {
+            int stripes = 1;
+            while (stripes < Runtime.getRuntime().availableProcessors() && stripes < 64) {
+                stripes <<= 1;
+            }
+            this.cells = new AtomicLongArray(stripes * PADDING);
+            this.stripeMask = stripes - 1;
+        }
+
+        public void increment() {
+            int stripe = (int) Thread.currentThread().getId() & stripeMask;
+            cells.getAndIncrement(stripe * PADDING);
+        }
+
+        public long sum() {
+            long sum = 0;
+            for (int i = 0; i < cells.length(); i += PADDING) {
+                sum += cells.get(i);
+            }
+            return sum;
+        }
+
+    }
+
+}
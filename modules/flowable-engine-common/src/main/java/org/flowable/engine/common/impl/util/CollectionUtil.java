@@ -12,8 +12,10 @@
  */
 package org.flowable.engine.common.impl.util;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
@@ -67,4 +69,17 @@ public class CollectionUtil {
         return !isEmpty(collection);
     }
 
+    /**
+     * Splits the values in lists of at most the given size, e.g. to stay below the maximum number of expressions of an IN clause.
+     * The lists are copies, so they can still be used (e.g. as parameter of a deferred bulk delete) when the values change.
+     */
+    public static <T> List<List<T>> partition(Collection<T> values, int partitionSize) {
+        List<T> list = values instanceof List ? (List<T>) values : new ArrayList<T>(values);
+        List<List<T>> partitions = new ArrayList<List<T>>();
+        for (int i = 0; i < list.size(); i += partitionSize) {
+            partitions.add(new ArrayList<T>(list.subList(i, Math.min(i + partitionSize, list.size()))));
+        }
+        return partitions;
+    }
+
 }
@@ -90,6 +90,15 @@ public interface HistoryService {
      */
     void deleteHistoricProcessInstance(String processInstanceId);
 
+    /**
+     * Deletes one batch of the historic process instances that ended longer ago than their retention period (as configured on the process engine configuration),
+     * together with their historic activities, tasks, variables, details, identity links, comments and attachments. This is what the history cleaning job
+     * does when history cleaning is enabled, but it can also be used to clean the history on demand. Every call is one transaction.
+     * 
+     * @return the number of deleted historic process instances. When this equals the configured batch size, there probably are more to delete.
+     */
+    long cleanHistory();
+
     /**
      * creates a native query to search for {@link HistoricProcessInstance}s via SQL
      */
@@ -16,6 +16,7 @@ import java.sql.Connection;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.api.management.TableMetaData;
 import org.flowable.engine.common.api.management.TablePage;
@@ -31,6 +32,7 @@ import org.flowable.engine.runtime.DeadLetterJobQuery;
 import org.flowable.engine.runtime.HistoryJobQuery;
 import org.flowable.engine.runtime.Job;
 import org.flowable.engine.runtime.JobQuery;
+import org.flowable.engine.runtime.ProcessInstancesDeletionStatus;
 import org.flowable.engine.runtime.SuspendedJobQuery;
 import org.flowable.engine.runtime.TimerJobQuery;
 
@@ -208,6 +210,17 @@ public interface ManagementService {
      */
     void setTimerJobRetries(String jobId, int retries);
 
+    /**
+     * Sets the priority of an async job. Jobs with a higher priority are acquired by the async executor before jobs with a lower priority,
+     * jobs with the same priority are acquired in order of creation.
+     * 
+     * @param jobId
+     *            id of the job to modify, cannot be null.
+     * @param priority
+     *            the new priority of the job.
+     */
+    void setJobPriority(String jobId, int priority);
+
     /**
      * Reschedule a timer job with a time date.
      * 
@@ -296,6 +309,36 @@ public interface ManagementService {
      */
     String getDeadLetterJobExceptionStacktrace(String jobId);
 
+    /**
+     * Deletes the process instances of the given process definition in the background, in batches that are each deleted by a job
+     * (and thus in a transaction) of their own, instead of all at once in the current transaction.
+     * The size of the batches and the delay between them are configured on the process engine configuration.
+     * The deletion continues where it was when a batch failed or the engine was stopped.
+     * 
+     * Once the deletion is done (see {@link #getProcessInstancesDeletionStatus(String)}), the deployment can be deleted without cascading.
+     * 
+     * @param processDefinitionId
+     *            id of the process definition, cannot be null.
+     * @param deleteReason
+     *            reason for the deletion of the process instances, can be null.
+     * @param deleteHistory
+     *            when true, the historic process instances of the process definition are deleted too.
+     * @throws FlowableObjectNotFoundException
+     *             when no process definition exists with the given id.
+     * @throws FlowableException
+     *             when the process instances of the process definition are already being deleted.
+     */
+    void deleteProcessInstancesInBackground(String processDefinitionId, String deleteReason, boolean deleteHistory);
+
+    /**
+     * Returns the progress of the deletion of the process instances of the given process definition, started with
+     * {@link #deleteProcessInstancesInBackground(String, String, boolean)}. Returns null when the process instances aren't being deleted (anymore).
+     * 
+     * @param processDefinitionId
+     *            id of the process definition, cannot be null.
+     */
+    ProcessInstancesDeletionStatus getProcessInstancesDeletionStatus(String processDefinitionId);
+
     /** get the list of properties. */
     Map<String, String> getProperties();
 
@@ -24,6 +24,18 @@ public class HttpClientConfig {
     protected int requestRetryLimit = 3;
     // https settings
     protected boolean disableCertVerify;
+    // async response settings
+    /**
+     * The number of requests of http tasks with asyncResponse that are sent at the same time. As every request keeps a thread until its response
+     * has arrived, this caps the throughput of those tasks at asyncRequestThreadPoolSize / average response time, e.g. 10 threads and
+     * responses taking 500ms give at most 20 requests per second.
+     */
+    protected int asyncRequestThreadPoolSize = 10;
+    /**
+     * The number of requests that wait for a free request thread. When the queue is full, the thread that committed the transaction
+     * (e.g. a job executor thread) sends the request itself, which slows down the creation of new requests instead of dropping them.
+     */
+    protected int asyncRequestQueueSize = 100;
 
     public int getConnectTimeout() {
         return connectTimeout;
@@ -65,6 +77,22 @@ public class HttpClientConfig {
         this.disableCertVerify = disableCertVerify;
     }
 
+    public int getAsyncRequestThreadPoolSize() {
+        return asyncRequestThreadPoolSize;
+    }
+
+    public void setAsyncRequestThreadPoolSize(int asyncRequestThreadPoolSize) {
+        this.asyncRequestThreadPoolSize = asyncRequestThreadPoolSize;
+    }
+
+    public int getAsyncRequestQueueSize() {
+        return asyncRequestQueueSize;
+    }
+
+    public void setAsyncRequestQueueSize(int asyncRequestQueueSize) {
+        this.asyncRequestQueueSize = asyncRequestQueueSize;
+    }
+
     public void merge(HttpClientConfig other) {
         if (this.connectTimeout != other.getConnectTimeout()) {
             setConnectTimeout(other.getConnectTimeout());
@@ -85,5 +113,13 @@ public class HttpClientConfig {
         if (this.disableCertVerify != other.isDisableCertVerify()) {
             setDisableCertVerify(other.isDisableCertVerify());
         }
+
+        if (this.asyncRequestThreadPoolSize != other.getAsyncRequestThreadPoolSize()) {
+            setAsyncRequestThreadPoolSize(other.getAsyncRequestThreadPoolSize());
+        }
+
+        if (this.asyncRequestQueueSize != other.getAsyncRequestQueueSize()) {
+            setAsyncRequestQueueSize(other.getAsyncRequestQueueSize());
+        }
     }
 }
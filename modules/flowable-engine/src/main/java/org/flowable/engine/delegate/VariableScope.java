@@ -123,6 +123,19 @@ public interface VariableScope {
      */
     VariableInstance getVariableInstance(String variableName, boolean fetchAllVariables);
 
+    /**
+     * Similar to {@link #getVariable(String)}, but the returned value must not be modified.
+     * 
+     * Changes to deserialized objects of 'serializable' variables are normally detected by serializing the object again when the command ends.
+     * This is skipped for values fetched through this method, which is cheaper for large objects that are only read. Changes to the returned object won't be stored.
+     */
+    Object getVariableReadOnly(String variableName);
+
+    /**
+     * Similar to {@link #getVariableReadOnly(String)}, but only checks this scope and not any parent scope.
+     */
+    Object getVariableLocalReadOnly(String variableName);
+
     /**
      * Returns the value for the specific variable and only checks this scope and not any parent scope.
      */
@@ -14,6 +14,7 @@
 package org.flowable.engine.history;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -297,6 +298,12 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
      */
     HistoricProcessInstanceQuery includeProcessVariables();
 
+    /**
+     * Include only the process variables with the given names in the process query result.
+     * Other variables are not fetched, and neither are their byte array values. At least one name is required.
+     */
+    HistoricProcessInstanceQuery includeProcessVariables(Collection<String> variableNames);
+
     /**
      * Limit process instance variables
      */
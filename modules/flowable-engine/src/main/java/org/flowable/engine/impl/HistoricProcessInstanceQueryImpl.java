@@ -14,6 +14,7 @@
 package org.flowable.engine.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -68,6 +69,7 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     protected Set<String> processInstanceIds;
     protected String involvedUser;
     protected boolean includeProcessVariables;
+    protected Collection<String> includeProcessVariableNames;
     protected Integer processInstanceVariablesLimit;
     protected boolean withJobException;
     protected String tenantId;
@@ -325,6 +327,15 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return this;
     }
 
+    public HistoricProcessInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.includeProcessVariableNames = new ArrayList<>(variableNames);
+        return this;
+    }
+
     public HistoricProcessInstanceQuery limitProcessInstanceVariables(Integer processInstanceVariablesLimit) {
         this.processInstanceVariablesLimit = processInstanceVariablesLimit;
         return this;
@@ -767,6 +778,10 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return includeProcessVariables;
     }
 
+    public Collection<String> getIncludeProcessVariableNames() {
+        return includeProcessVariableNames;
+    }
+
     public boolean isWithException() {
         return withJobException;
     }
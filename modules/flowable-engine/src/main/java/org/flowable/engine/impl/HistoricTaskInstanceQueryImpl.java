@@ -14,6 +14,7 @@
 package org.flowable.engine.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -105,6 +106,7 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     protected boolean withLocalizationFallback;
     protected boolean includeTaskLocalVariables;
     protected boolean includeProcessVariables;
+    protected Collection<String> includeProcessVariableNames;
     protected Integer taskVariablesLimit;
     protected boolean includeIdentityLinks;
     protected List<HistoricTaskInstanceQueryImpl> orQueryObjects = new ArrayList<HistoricTaskInstanceQueryImpl>();
@@ -1085,6 +1087,15 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return this;
     }
 
+    public HistoricTaskInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.includeProcessVariableNames = new ArrayList<>(variableNames);
+        return this;
+    }
+
     public HistoricTaskInstanceQuery limitTaskVariables(Integer taskVariablesLimit) {
         this.taskVariablesLimit = taskVariablesLimit;
         return this;
@@ -1435,6 +1446,10 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return includeProcessVariables;
     }
 
+    public Collection<String> getIncludeProcessVariableNames() {
+        return includeProcessVariableNames;
+    }
+
     public boolean isIncludeIdentityLinks() {
         return includeIdentityLinks;
     }
@@ -32,12 +32,14 @@ import org.flowable.engine.impl.cmd.DeleteDeadLetterJobCmd;
 import org.flowable.engine.impl.cmd.DeleteEventLogEntry;
 import org.flowable.engine.impl.cmd.DeleteHistoryJobCmd;
 import org.flowable.engine.impl.cmd.DeleteJobCmd;
+import org.flowable.engine.impl.cmd.DeleteProcessInstancesInBackgroundCmd;
 import org.flowable.engine.impl.cmd.DeleteSuspendedJobCmd;
 import org.flowable.engine.impl.cmd.DeleteTimerJobCmd;
 import org.flowable.engine.impl.cmd.ExecuteCustomSqlCmd;
 import org.flowable.engine.impl.cmd.ExecuteJobCmd;
 import org.flowable.engine.impl.cmd.GetEventLogEntriesCmd;
 import org.flowable.engine.impl.cmd.GetJobExceptionStacktraceCmd;
+import org.flowable.engine.impl.cmd.GetProcessInstancesDeletionStatusCmd;
 import org.flowable.engine.impl.cmd.GetPropertiesCmd;
 import org.flowable.engine.impl.cmd.GetTableCountCmd;
 import org.flowable.engine.impl.cmd.GetTableMetaDataCmd;
@@ -47,6 +49,7 @@ import org.flowable.engine.impl.cmd.MoveDeadLetterJobToExecutableJobCmd;
 import org.flowable.engine.impl.cmd.MoveJobToDeadLetterJobCmd;
 import org.flowable.engine.impl.cmd.MoveTimerToExecutableJobCmd;
 import org.flowable.engine.impl.cmd.RescheduleTimerJobCmd;
+import org.flowable.engine.impl.cmd.SetJobPriorityCmd;
 import org.flowable.engine.impl.cmd.SetJobRetriesCmd;
 import org.flowable.engine.impl.cmd.SetTimerJobRetriesCmd;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -54,6 +57,7 @@ import org.flowable.engine.runtime.DeadLetterJobQuery;
 import org.flowable.engine.runtime.HistoryJobQuery;
 import org.flowable.engine.runtime.Job;
 import org.flowable.engine.runtime.JobQuery;
+import org.flowable.engine.runtime.ProcessInstancesDeletionStatus;
 import org.flowable.engine.runtime.SuspendedJobQuery;
 import org.flowable.engine.runtime.TimerJobQuery;
 
@@ -135,6 +139,10 @@ public class ManagementServiceImpl extends ServiceImpl implements ManagementServ
         commandExecutor.execute(new SetTimerJobRetriesCmd(jobId, retries));
     }
 
+    public void setJobPriority(String jobId, int priority) {
+        commandExecutor.execute(new SetJobPriorityCmd(jobId, priority));
+    }
+
     @Override
     public Job rescheduleTimeDateJob(String jobId, String timeDate) {
         return commandExecutor.execute(new RescheduleTimerJobCmd(jobId, timeDate, null, null, null, null));
@@ -195,6 +203,14 @@ public class ManagementServiceImpl extends ServiceImpl implements ManagementServ
         return commandExecutor.execute(new GetJobExceptionStacktraceCmd(jobId, JobType.DEADLETTER));
     }
 
+    public void deleteProcessInstancesInBackground(String processDefinitionId, String deleteReason, boolean deleteHistory) {
+        commandExecutor.execute(new DeleteProcessInstancesInBackgroundCmd(processDefinitionId, deleteReason, deleteHistory));
+    }
+
+    public ProcessInstancesDeletionStatus getProcessInstancesDeletionStatus(String processDefinitionId) {
+        return commandExecutor.execute(new GetProcessInstancesDeletionStatusCmd(processDefinitionId));
+    }
+
     public Map<String, String> getProperties() {
         return commandExecutor.execute(new GetPropertiesCmd());
     }
@@ -31,6 +31,7 @@ import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.HandleHistoryCleaningTimerJobCmd;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,6 +79,10 @@ public class ProcessEngineImpl implements ProcessEngine {
             commandExecutor.execute(processEngineConfiguration.getSchemaCommandConfig(), new SchemaOperationsProcessEngineBuild());
         }
 
+        if (processEngineConfiguration.isEnableHistoryCleaning()) {
+            commandExecutor.execute(new HandleHistoryCleaningTimerJobCmd());
+        }
+
         if (name == null) {
             LOGGER.info("default ProcessEngine created");
         } else {
@@ -90,6 +95,10 @@ public class ProcessEngineImpl implements ProcessEngine {
             processEngineConfiguration.getProcessEngineLifecycleListener().onProcessEngineBuilt(this);
         }
 
+        if (processEngineConfiguration.getAsyncEventDispatcher() != null) {
+            processEngineConfiguration.getAsyncEventDispatcher().start();
+        }
+
         processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createGlobalEvent(FlowableEngineEventType.ENGINE_CREATED));
 
         if (asyncExecutor != null && asyncExecutor.isAutoActivate()) {
@@ -119,6 +128,10 @@ public class ProcessEngineImpl implements ProcessEngine {
         }
 
         processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createGlobalEvent(FlowableEngineEventType.ENGINE_CLOSED));
+
+        if (processEngineConfiguration.getAsyncEventDispatcher() != null) {
+            processEngineConfiguration.getAsyncEventDispatcher().shutdown();
+        }
     }
 
     // getters and setters
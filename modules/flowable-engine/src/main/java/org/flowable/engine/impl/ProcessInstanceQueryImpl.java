@@ -15,6 +15,7 @@ package org.flowable.engine.impl;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -65,6 +66,7 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     protected String involvedUser;
     protected SuspensionState suspensionState;
     protected boolean includeProcessVariables;
+    protected Collection<String> includeProcessVariableNames;
     protected Integer processInstanceVariablesLimit;
     protected boolean withJobException;
     protected String name;
@@ -383,6 +385,15 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return this;
     }
 
+    public ProcessInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.includeProcessVariableNames = new ArrayList<>(variableNames);
+        return this;
+    }
+
     public ProcessInstanceQuery limitProcessInstanceVariables(Integer processInstanceVariablesLimit) {
         this.processInstanceVariablesLimit = processInstanceVariablesLimit;
         return this;
@@ -822,6 +833,10 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return includeProcessVariables;
     }
 
+    public Collection<String> getIncludeProcessVariableNames() {
+        return includeProcessVariableNames;
+    }
+
     public boolean iswithException() {
         return withJobException;
     }
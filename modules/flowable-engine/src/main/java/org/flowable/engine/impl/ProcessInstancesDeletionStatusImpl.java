@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl;
+
+import java.io.Serializable;
+
+import org.flowable.engine.runtime.ProcessInstancesDeletionStatus;
+
+public class ProcessInstancesDeletionStatusImpl implements ProcessInstancesDeletionStatus, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String processDefinitionId;
+    protected String jobId;
+    protected String deleteReason;
+    protected boolean deleteHistory;
+    protected long deletedProcessInstanceCount;
+    protected long deletedHistoricProcessInstanceCount;
+    protected long remainingProcessInstanceCount;
+    protected long remainingHistoricProcessInstanceCount;
+    protected String exceptionMessage;
+    protected boolean failed;
+
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    public void setProcessDefinitionId(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getDeleteReason() {
+        return deleteReason;
+    }
+
+    public void setDeleteReason(String deleteReason) {
+        this.deleteReason = deleteReason;
+    }
+
+    public boolean isDeleteHistory() {
+        return deleteHistory;
+    }
+
+    public void setDeleteHistory(boolean deleteHistory) {
+        this.deleteHistory = deleteHistory;
+    }
+
+    public long getDeletedProcessInstanceCount() {
+        return deletedProcessInstanceCount;
+    }
+
+    public void setDeletedProcessInstanceCount(long deletedProcessInstanceCount) {
+        this.deletedProcessInstanceCount = deletedProcessInstanceCount;
+    }
+
+    public long getDeletedHistoricProcessInstanceCount() {
+        return deletedHistoricProcessInstanceCount;
+    }
+
+    public void setDeletedHistoricProcessInstanceCount(long deletedHistoricProcessInstanceCount) {
+        this.deletedHistoricProcessInstanceCount = deletedHistoricProcessInstanceCount;
+    }
+
+    public long getRemainingProcessInstanceCount() {
+        return remainingProcessInstanceCount;
+    }
+
+    public void setRemainingProcessInstanceCount(long remainingProcessInstanceCount) {
+        this.remainingProcessInstanceCount = remainingProcessInstanceCount;
+    }
+
+    public long getRemainingHistoricProcessInstanceCount() {
+        return remainingHistoricProcessInstanceCount;
+    }
+
+    public void setRemainingHistoricProcessInstanceCount(long remainingHistoricProcessInstanceCount) {
+        this.remainingHistoricProcessInstanceCount = remainingHistoricProcessInstanceCount;
+    }
+
+    public String getExceptionMessage() {
+        return exceptionMessage;
+    }
+
+    public void setExceptionMessage(String exceptionMessage) {
+        this.exceptionMessage = exceptionMessage;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public void setFailed(boolean failed) {
+        this.failed = failed;
+    }
+
+}
@@ -13,6 +13,7 @@
 package org.flowable.engine.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -102,6 +103,7 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected boolean excludeSubtasks;
     protected boolean includeTaskLocalVariables;
     protected boolean includeProcessVariables;
+    protected Collection<String> includeProcessVariableNames;
     protected Integer taskVariablesLimit;
     protected boolean includeIdentityLinks;
     protected String userIdForCandidateAndAssignee;
@@ -1124,6 +1126,15 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return this;
     }
 
+    public TaskQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.includeProcessVariableNames = new ArrayList<>(variableNames);
+        return this;
+    }
+
     public TaskQuery limitTaskVariables(Integer taskVariablesLimit) {
         this.taskVariablesLimit = taskVariablesLimit;
         return this;
@@ -1562,6 +1573,10 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return includeProcessVariables;
     }
 
+    public Collection<String> getIncludeProcessVariableNames() {
+        return includeProcessVariableNames;
+    }
+
     public boolean isIncludeIdentityLinks() {
         return includeIdentityLinks;
     }
@@ -15,6 +15,7 @@ package org.flowable.engine.impl.asyncexecutor;
 import java.util.LinkedList;
 import java.util.UUID;
 
+import org.flowable.engine.common.impl.metrics.MetricsRegistry;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.UnacquireOwnedJobsCmd;
 import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
@@ -70,6 +71,8 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected ProcessEngineConfigurationImpl processEngineConfiguration;
 
+    protected String metricsPrefix = "flowable.async-executor";
+
     public boolean executeAsyncJob(final JobInfo job) {
         if (isMessageQueueMode) {
             // When running with a message queue based job executor,
@@ -344,5 +347,20 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     public void setAsyncRunnableExecutionExceptionHandler(AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler) {
         this.asyncRunnableExecutionExceptionHandler = asyncRunnableExecutionExceptionHandler;
     }
+
+    public String getMetricsPrefix() {
+        return metricsPrefix;
+    }
+
+    public void setMetricsPrefix(String metricsPrefix) {
+        this.metricsPrefix = metricsPrefix;
+    }
+
+    /**
+     * @return the metrics registry of the process engine, or null when metrics are not enabled
+     */
+    public MetricsRegistry getMetricsRegistry() {
+        return processEngineConfiguration != null ? processEngineConfiguration.getMetricsRegistry() : null;
+    }
     
 }
@@ -14,10 +14,13 @@ package org.flowable.engine.impl.asyncexecutor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.engine.common.api.FlowableOptimisticLockingException;
 import org.flowable.engine.common.impl.interceptor.CommandExecutor;
+import org.flowable.engine.common.impl.metrics.MetricNames;
+import org.flowable.engine.common.impl.metrics.MetricsRegistry;
 import org.flowable.engine.impl.cmd.AcquireJobsCmd;
 import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
 import org.flowable.engine.impl.persistence.entity.JobInfoEntityManager;
@@ -80,8 +83,14 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         try {
+            long acquisitionStart = System.nanoTime();
             AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
 
+            MetricsRegistry metricsRegistry = asyncExecutor.getProcessEngineConfiguration().getMetricsRegistry();
+            if (metricsRegistry != null) {
+                metricsRegistry.timer(asyncExecutor.getMetricsPrefix() + MetricNames.ASYNC_EXECUTOR_JOB_ACQUISITION).record(System.nanoTime() - acquisitionStart, TimeUnit.NANOSECONDS);
+            }
+
             List<JobInfoEntity> rejectedJobs = offerJobs(acquiredJobs);
 
             LOGGER.debug("Jobs acquired: {}, rejected: {}", acquiredJobs.size(), rejectedJobs.size());
@@ -95,6 +104,11 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
             }
 
         } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            MetricsRegistry metricsRegistry = asyncExecutor.getProcessEngineConfiguration().getMetricsRegistry();
+            if (metricsRegistry != null) {
+                metricsRegistry.counter(asyncExecutor.getMetricsPrefix() + MetricNames.ASYNC_EXECUTOR_ACQUISITION_OPTIMISTIC_LOCK_FAILURES).increment();
+            }
+
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Optimistic locking exception during async job acquisition. If you have multiple async executors running against the same database, "
                         + "this exception means that this thread tried to acquire a due async job, which already was acquired by another async executor acquisition thread."
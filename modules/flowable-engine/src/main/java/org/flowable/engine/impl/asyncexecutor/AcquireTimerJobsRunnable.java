@@ -12,12 +12,15 @@
  */
 package org.flowable.engine.impl.asyncexecutor;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.engine.common.api.FlowableOptimisticLockingException;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.interceptor.CommandExecutor;
+import org.flowable.engine.common.impl.metrics.MetricNames;
+import org.flowable.engine.common.impl.metrics.MetricsRegistry;
 import org.flowable.engine.impl.cmd.AcquireTimerJobsCmd;
 import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
 import org.slf4j.Logger;
@@ -54,8 +57,14 @@ public class AcquireTimerJobsRunnable implements Runnable {
         while (!isInterrupted) {
 
             try {
+                long acquisitionStart = System.nanoTime();
                 final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
 
+                MetricsRegistry metricsRegistry = asyncExecutor.getProcessEngineConfiguration().getMetricsRegistry();
+                if (metricsRegistry != null) {
+                    metricsRegistry.timer(asyncExecutor.getMetricsPrefix() + MetricNames.ASYNC_EXECUTOR_TIMER_ACQUISITION).record(System.nanoTime() - acquisitionStart, TimeUnit.NANOSECONDS);
+                }
+
                 commandExecutor.execute(new Command<Void>() {
 
                     @Override
@@ -75,6 +84,11 @@ public class AcquireTimerJobsRunnable implements Runnable {
                 }
 
             } catch (FlowableOptimisticLockingException optimisticLockingException) {
+                MetricsRegistry metricsRegistry = asyncExecutor.getProcessEngineConfiguration().getMetricsRegistry();
+                if (metricsRegistry != null) {
+                    metricsRegistry.counter(asyncExecutor.getMetricsPrefix() + MetricNames.ASYNC_EXECUTOR_ACQUISITION_OPTIMISTIC_LOCK_FAILURES).increment();
+                }
+
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("Optimistic locking exception during timer job acquisition. If you have multiple timer executors running against the same database, "
                             + "this exception means that this thread tried to acquire a timer job, which already was acquired by another timer executor acquisition thread."
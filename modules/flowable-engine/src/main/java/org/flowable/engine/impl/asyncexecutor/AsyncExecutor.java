@@ -93,4 +93,11 @@ public interface AsyncExecutor {
 
     void setResetExpiredJobsPageSize(int resetExpiredJobsPageSize);
 
+    /**
+     * The prefix of the names of the metrics recorded for this executor (see {@link org.flowable.engine.common.impl.metrics.MetricNames}).
+     */
+    String getMetricsPrefix();
+
+    void setMetricsPrefix(String metricsPrefix);
+
 }
@@ -23,6 +23,9 @@ import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.metrics.MetricNames;
+import org.flowable.engine.common.impl.metrics.MetricsGauge;
+import org.flowable.engine.common.impl.metrics.MetricsRegistry;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.JobInfo;
 import org.slf4j.Logger;
@@ -102,6 +105,8 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
                 });
             }
 
+            countRejectedJobs(1);
+
             // Job queue full, returning true so (if wanted) the acquiring can be throttled
             return false;
         }
@@ -111,6 +116,7 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     protected void startAdditionalComponents() {
         if (!isMessageQueueMode) {
             initAsyncJobExecutionThreadPool();
+            registerThreadPoolGauges();
             startJobAcquisitionThread();
         }
         
@@ -146,7 +152,57 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    /**
+     * Registers the size of the queue and the number of active threads of the thread pool as gauges, when metrics are enabled.
+     */
+    protected void registerThreadPoolGauges() {
+        MetricsRegistry metricsRegistry = getMetricsRegistry();
+        if (metricsRegistry == null) {
+            return;
+        }
+
+        metricsRegistry.gauge(metricsPrefix + MetricNames.ASYNC_EXECUTOR_QUEUE_SIZE, new MetricsGauge() {
+
+            @Override
+            public double getValue() {
+                BlockingQueue<Runnable> queue = threadPoolQueue;
+                return queue != null ? queue.size() : 0;
+            }
+
+        });
+
+        metricsRegistry.gauge(metricsPrefix + MetricNames.ASYNC_EXECUTOR_ACTIVE_THREADS, new MetricsGauge() {
+
+            @Override
+            public double getValue() {
+                ExecutorService currentExecutorService = executorService;
+                return currentExecutorService instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) currentExecutorService).getActiveCount() : 0;
+            }
+
+        });
+    }
+
+    /**
+     * Removes the gauges registered by {@link #registerThreadPoolGauges()}, so the registry doesn't keep a reference to this executor after shutdown.
+     */
+    protected void removeThreadPoolGauges() {
+        MetricsRegistry metricsRegistry = getMetricsRegistry();
+        if (metricsRegistry != null) {
+            metricsRegistry.removeGauge(metricsPrefix + MetricNames.ASYNC_EXECUTOR_QUEUE_SIZE);
+            metricsRegistry.removeGauge(metricsPrefix + MetricNames.ASYNC_EXECUTOR_ACTIVE_THREADS);
+        }
+    }
+
+    protected void countRejectedJobs(int nrOfJobs) {
+        MetricsRegistry metricsRegistry = getMetricsRegistry();
+        if (metricsRegistry != null) {
+            metricsRegistry.counter(metricsPrefix + MetricNames.ASYNC_EXECUTOR_REJECTIONS).increment(nrOfJobs);
+        }
+    }
+
     protected void stopExecutingAsyncJobs() {
+        removeThreadPoolGauges();
+
         if (executorService != null) {
 
             // Ask the thread pool to finish and exit
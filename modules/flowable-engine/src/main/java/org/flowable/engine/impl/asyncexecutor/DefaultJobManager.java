@@ -94,6 +94,23 @@ public class DefaultJobManager implements JobManager {
         return jobEntity;
     }
 
+    @Override
+    public JobEntity createAsyncJob(String jobHandlerType, String jobHandlerConfiguration) {
+        JobEntity jobEntity = processEngineConfiguration.getJobEntityManager().create();
+        jobEntity.setJobType(JobEntity.JOB_TYPE_MESSAGE);
+        jobEntity.setRevision(1);
+        jobEntity.setRetries(processEngineConfiguration.getAsyncExecutorNumberOfRetries());
+        jobEntity.setJobHandlerType(jobHandlerType);
+        jobEntity.setJobHandlerConfiguration(jobHandlerConfiguration);
+
+        // When the async executor is activated, the job is directly passed on to the async executor thread
+        if (isAsyncExecutorActive()) {
+            setAsyncJobLockInfo(jobEntity);
+        }
+
+        return jobEntity;
+    }
+
     @Override
     public void scheduleAsyncJob(JobEntity jobEntity) {
         processEngineConfiguration.getJobEntityManager().insert(jobEntity);
@@ -567,14 +584,16 @@ public class DefaultJobManager implements JobManager {
     protected JobEntity internalCreateLockedAsyncJob(ExecutionEntity execution, boolean exclusive) {
         JobEntity asyncJob = processEngineConfiguration.getJobEntityManager().create();
         fillDefaultAsyncJobInfo(asyncJob, execution, exclusive);
+        setAsyncJobLockInfo(asyncJob);
+        return asyncJob;
+    }
 
+    protected void setAsyncJobLockInfo(JobEntity asyncJob) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(processEngineConfiguration.getClock().getCurrentTime());
         gregorianCalendar.add(Calendar.MILLISECOND, getAsyncExecutor().getAsyncJobLockTimeInMillis());
         asyncJob.setLockExpirationTime(gregorianCalendar.getTime());
         asyncJob.setLockOwner(getAsyncExecutor().getLockOwner());
-
-        return asyncJob;
     }
 
     protected void fillDefaultAsyncJobInfo(JobEntity jobEntity, ExecutionEntity execution, boolean exclusive) {
@@ -642,6 +661,7 @@ public class DefaultJobManager implements JobManager {
         copyToJob.setProcessInstanceId(copyFromJob.getProcessInstanceId());
         copyToJob.setRepeat(copyFromJob.getRepeat());
         copyToJob.setRetries(copyFromJob.getRetries());
+        copyToJob.setPriority(copyFromJob.getPriority());
         copyToJob.setRevision(copyFromJob.getRevision());
         copyToJob.setTenantId(copyFromJob.getTenantId());
 
@@ -17,11 +17,14 @@ import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandConfig;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.metrics.MetricNames;
+import org.flowable.engine.common.impl.metrics.MetricsRegistry;
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.ExecuteAsyncJobCmd;
+import org.flowable.engine.impl.cmd.ExecuteExclusiveAsyncJobCmd;
 import org.flowable.engine.impl.cmd.LockExclusiveJobCmd;
 import org.flowable.engine.impl.cmd.UnlockExclusiveJobCmd;
 import org.flowable.engine.impl.jobexecutor.FailedJobCommandFactory;
@@ -88,8 +91,12 @@ public class ExecuteAsyncRunnable implements Runnable {
             boolean lockNotNeededOrSuccess = lockJobIfNeeded();
     
             if (lockNotNeededOrSuccess) {
-                executeJob();
-                unlockJobIfNeeded();
+                if (((Job) job).isExclusive() && processEngineConfiguration.isAsyncExecutorUnlockExclusiveJobsInJobTransaction()) {
+                    executeExclusiveJobAndUnlock();
+                } else {
+                    executeJob();
+                    unlockJobIfNeeded();
+                }
             }
             
         } else { // history jobs
@@ -117,11 +124,35 @@ public class ExecuteAsyncRunnable implements Runnable {
     }
 
     protected void executeJob() {
+        executeJob(new ExecuteAsyncJobCmd(jobId, jobEntityManager));
+    }
+
+    /**
+     * Executes the job and unlocks the process instance, which was locked in {@link #lockJobIfNeeded()}, in one transaction.
+     * When the job fails, that transaction is rolled back and the process instance is unlocked separately.
+     */
+    protected void executeExclusiveJobAndUnlock() {
+        boolean executed = executeJob(new ExecuteExclusiveAsyncJobCmd((Job) job, jobEntityManager));
+        if (!executed) {
+            unlockJobIfNeeded();
+        }
+    }
+
+    /**
+     * Returns true if the job was executed successfully, false if it failed (the failure has been handled then).
+     */
+    protected boolean executeJob(Command<Object> executeJobCommand) {
         try {
-            processEngineConfiguration.getCommandExecutor().execute(new ExecuteAsyncJobCmd(jobId, jobEntityManager));
+            processEngineConfiguration.getCommandExecutor().execute(executeJobCommand);
+            return true;
 
         } catch (final FlowableOptimisticLockingException e) {
 
+            MetricsRegistry metricsRegistry = processEngineConfiguration.getMetricsRegistry();
+            if (metricsRegistry != null) {
+                metricsRegistry.counter(MetricNames.JOB_EXECUTION_OPTIMISTIC_LOCK_FAILURES).increment();
+            }
+
             handleFailedJob(e);
 
             if (LOGGER.isDebugEnabled()) {
@@ -134,6 +165,7 @@ public class ExecuteAsyncRunnable implements Runnable {
         } catch (Throwable exception) {
             handleFailedJob(exception);
         }
+        return false;
     }
 
     protected void unlockJobIfNeeded() {
@@ -52,6 +52,12 @@ public interface JobManager {
      */
     JobEntity createAsyncJob(ExecutionEntity execution, boolean exclusive);
 
+    /**
+     * Creates an async job that isn't related to an execution, with the given job handler, e.g. for work that the engine does in the background.
+     * Like for {@link #createAsyncJob(ExecutionEntity, boolean)}, the job is locked when the {@link AsyncExecutor} is active, as it is then directly passed on to it.
+     */
+    JobEntity createAsyncJob(String jobHandlerType, String jobHandlerConfiguration);
+
     /**
      * Schedules and async job. If the {@link AsyncExecutor} is running, it can be executed immediately after the transaction. Otherwise it can be picked up by other executors.
      */
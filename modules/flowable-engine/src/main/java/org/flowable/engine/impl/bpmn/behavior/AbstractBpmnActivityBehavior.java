@@ -13,9 +13,7 @@
 
 package org.flowable.engine.impl.bpmn.behavior;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 import org.flowable.bpmn.model.BoundaryEvent;
 import org.flowable.bpmn.model.CompensateEventDefinition;
@@ -82,16 +80,7 @@ public class AbstractBpmnActivityBehavior extends FlowNodeActivityBehavior {
 
     protected Collection<BoundaryEvent> findBoundaryEventsForFlowNode(final String processDefinitionId, final FlowElement flowElement) {
         Process process = getProcessDefinition(processDefinitionId);
-
-        // This could be cached or could be done at parsing time
-        List<BoundaryEvent> results = new ArrayList<BoundaryEvent>(1);
-        Collection<BoundaryEvent> boundaryEvents = process.findFlowElementsOfType(BoundaryEvent.class, true);
-        for (BoundaryEvent boundaryEvent : boundaryEvents) {
-            if (boundaryEvent.getAttachedToRefId() != null && boundaryEvent.getAttachedToRefId().equals(flowElement.getId())) {
-                results.add(boundaryEvent);
-            }
-        }
-        return results;
+        return process.findBoundaryEventsAttachedTo(flowElement.getId());
     }
 
     protected Process getProcessDefinition(String processDefinitionId) {
@@ -13,10 +13,8 @@
 
 package org.flowable.engine.impl.bpmn.behavior;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
 
 import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.BoundaryEvent;
@@ -163,16 +161,7 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
 
     protected Collection<BoundaryEvent> findBoundaryEventsForFlowNode(final String processDefinitionId, final FlowElement flowElement) {
         Process process = getProcessDefinition(processDefinitionId);
-
-        // This could be cached or could be done at parsing time
-        List<BoundaryEvent> results = new ArrayList<BoundaryEvent>(1);
-        Collection<BoundaryEvent> boundaryEvents = process.findFlowElementsOfType(BoundaryEvent.class, true);
-        for (BoundaryEvent boundaryEvent : boundaryEvents) {
-            if (boundaryEvent.getAttachedToRefId() != null && boundaryEvent.getAttachedToRefId().equals(flowElement.getId())) {
-                results.add(boundaryEvent);
-            }
-        }
-        return results;
+        return process.findBoundaryEventsAttachedTo(flowElement.getId());
     }
 
     protected Process getProcessDefinition(String processDefinitionId) {
@@ -86,6 +86,7 @@ public class BpmnDeployer implements Deployer {
             setProcessDefinitionVersionsAndIds(parsedDeployment, mapOfNewProcessDefinitionToPreviousVersion);
             persistProcessDefinitionsAndAuthorizations(parsedDeployment);
             updateTimersAndEvents(parsedDeployment, mapOfNewProcessDefinitionToPreviousVersion);
+            CommandContextUtil.getProcessEngineConfiguration().getDeploymentManager().latestProcessDefinitionsChanged(parsedDeployment.getAllProcessDefinitions(), true);
         } else {
             makeProcessDefinitionsConsistentWithPersistedVersions(parsedDeployment);
         }
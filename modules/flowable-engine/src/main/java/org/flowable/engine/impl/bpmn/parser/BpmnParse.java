@@ -279,6 +279,8 @@ public class BpmnParse implements BpmnXMLConstants {
         for (Process process : bpmnModel.getProcesses()) {
             currentProcess = process;
             if (process.isExecutable()) {
+                // Parse handlers look up flow elements too
+                process.buildFlowElementsIndex();
                 bpmnParserHandlers.parseElement(this, process);
             }
         }
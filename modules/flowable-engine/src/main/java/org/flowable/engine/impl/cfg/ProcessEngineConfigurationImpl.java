@@ -63,6 +63,7 @@ import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.common.impl.cfg.IdGenerator;
 import org.flowable.engine.common.impl.cfg.standalone.StandaloneMybatisTransactionContextFactory;
 import org.flowable.engine.common.impl.db.DbSqlSessionFactory;
+import org.flowable.engine.common.impl.event.AsyncEventDispatcher;
 import org.flowable.engine.common.impl.event.FlowableEventDispatcherImpl;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandConfig;
@@ -75,9 +76,16 @@ import org.flowable.engine.common.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.engine.common.impl.interceptor.LogInterceptor;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
 import org.flowable.engine.common.impl.interceptor.TransactionContextInterceptor;
+import org.flowable.engine.common.impl.metrics.CommandMetricsInterceptor;
+import org.flowable.engine.common.impl.metrics.MetricNames;
+import org.flowable.engine.common.impl.metrics.MetricsRegistry;
 import org.flowable.engine.common.impl.persistence.GenericManagerFactory;
+import org.flowable.engine.common.impl.persistence.cache.CompactEntityCacheImpl;
+import org.flowable.engine.common.impl.persistence.cache.DirtyTrackingCompactEntityCacheImpl;
+import org.flowable.engine.common.impl.persistence.cache.DirtyTrackingEntityCacheImpl;
 import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.common.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.flowable.engine.common.impl.util.ReflectUtil;
 import org.flowable.engine.common.runtime.Clock;
@@ -191,32 +199,43 @@ import org.flowable.engine.impl.history.DefaultHistoryManager;
 import org.flowable.engine.impl.history.HistoryLevel;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.engine.impl.history.async.AsyncHistoryJobPayloadCodec;
 import org.flowable.engine.impl.history.async.AsyncHistoryJobZippedHandler;
 import org.flowable.engine.impl.history.async.AsyncHistoryListener;
 import org.flowable.engine.impl.history.async.AsyncHistoryManager;
 import org.flowable.engine.impl.history.async.AsyncHistorySession;
 import org.flowable.engine.impl.history.async.AsyncHistorySessionFactory;
+import org.flowable.engine.impl.history.async.BinaryAsyncHistoryJobPayloadCodec;
 import org.flowable.engine.impl.history.async.DefaultAsyncHistoryJobExecutor;
 import org.flowable.engine.impl.history.async.DefaultAsyncHistoryJobProducer;
+import org.flowable.engine.impl.history.async.JsonAsyncHistoryJobPayloadCodec;
 import org.flowable.engine.impl.interceptor.BpmnOverrideContextInterceptor;
 import org.flowable.engine.impl.interceptor.CommandInvoker;
 import org.flowable.engine.impl.interceptor.DelegateInterceptor;
 import org.flowable.engine.impl.interceptor.LoggingExecutionTreeCommandInvoker;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
+import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.FailedJobCommandFactory;
+import org.flowable.engine.impl.jobexecutor.HistoryCleaningJobHandler;
 import org.flowable.engine.impl.jobexecutor.HistoryJobHandler;
 import org.flowable.engine.impl.jobexecutor.JobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstancesDeletionJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
+import org.flowable.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.Deployer;
 import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.DeploymentCacheWeigher;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
+import org.flowable.engine.impl.persistence.deploy.LatestProcessDefinitionCache;
+import org.flowable.engine.impl.persistence.deploy.MetricsDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManagerImpl;
@@ -326,6 +345,7 @@ import org.flowable.engine.impl.persistence.entity.data.impl.MybatisTaskDataMana
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisTimerJobDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisVariableInstanceDataManager;
 import org.flowable.engine.impl.scripting.BeansResolverFactory;
+import org.flowable.engine.impl.scripting.CompiledScriptCache;
 import org.flowable.engine.impl.scripting.ResolverFactory;
 import org.flowable.engine.impl.scripting.ScriptBindingsFactory;
 import org.flowable.engine.impl.scripting.ScriptingEngines;
@@ -466,6 +486,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int asyncHistoryJsonGroupingThreshold = 10;
     protected AsyncHistoryListener asyncHistoryListener;
 
+    /**
+     * When true and no {@link #asyncHistoryJobPayloadCodec} is set, the historic data of async history jobs is stored
+     * in a compact binary format ({@link BinaryAsyncHistoryJobPayloadCodec}) instead of json text.
+     */
+    protected boolean isAsyncHistoryBinaryPayloadEnabled;
+
+    /**
+     * Encodes and decodes the historic data stored with async history jobs. Defaults to json.
+     */
+    protected AsyncHistoryJobPayloadCodec asyncHistoryJobPayloadCodec;
+
     // Job Manager
 
     protected JobManager jobManager;
@@ -494,9 +525,21 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected List<Deployer> deployers;
     protected DeploymentManager deploymentManager;
 
+    /**
+     * When enabled, the process definition, knowledge base and app resource caches are {@link ConcurrentDeploymentCache} instances,
+     * which can be read without locking and evict the least frequently used objects instead of the least recently used ones.
+     */
+    protected boolean isConcurrentDeploymentCacheEnabled;
+
     protected int processDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+    /**
+     * Only used when the concurrent deployment cache is enabled: when set, the processDefinitionCacheLimit is the maximum total weight
+     * of the cached process definitions instead of the maximum number of them (see {@link ProcessDefinitionCacheEntryWeigher}).
+     */
+    protected DeploymentCacheWeigher<ProcessDefinitionCacheEntry> processDefinitionCacheWeigher;
+
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
@@ -506,6 +549,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int appResourceCacheLimit = -1;
     protected DeploymentCache<Object> appResourceCache;
 
+    /**
+     * When enabled, the id of the latest version of a process definition is cached by key and tenant id,
+     * so that starting a process instance by key doesn't query the latest version every time.
+     * When multiple engines share the same database, the {@link LatestProcessDefinitionCache} of the other engines
+     * needs to be invalidated when deploying or deleting, see {@link DeploymentManager#invalidateLatestProcessDefinition(String, String)}.
+     * Not used when the Flowable 5 compatibility is enabled, as Flowable 5 deployments don't update the cache.
+     */
+    protected boolean isLatestProcessDefinitionCacheEnabled;
+    protected LatestProcessDefinitionCache latestProcessDefinitionCache;
+
     protected AppResourceConverter appResourceConverter;
 
     // JOB EXECUTOR /////////////////////////////////////////////////////////////
@@ -675,6 +728,27 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean asyncExecutorMessageQueueMode;
     protected boolean asyncHistoryExecutorMessageQueueMode;
 
+    /**
+     * When larger than 1, the async history executor executes the acquired history jobs in batches of this size, each batch in one transaction.
+     * Enough jobs are acquired at once to give each thread of the pool one batch. When a batch fails, its jobs are executed one by one.
+     */
+    protected int asyncHistoryExecutorBatchSize = 1;
+
+    /**
+     * When true, an exclusive job is executed and its process instance is unlocked in one transaction, instead of in two separate transactions.
+     * Locking the process instance is still committed in a transaction of its own first, so other async executors see the lock right away
+     * and release their jobs of the same process instance, instead of blocking on the row lock until the job is executed.
+     * When the job fails, the process instance is unlocked in a separate transaction, as before.
+     */
+    protected boolean asyncExecutorUnlockExclusiveJobsInJobTransaction;
+
+    /**
+     * When true, async jobs are acquired with a 'select ... for update skip locked' on Postgres, MySQL and Oracle,
+     * so that concurrent acquiring async executors get disjoint sets of jobs instead of competing for the same jobs.
+     * Requires Postgres 9.5, MySQL 8 or Oracle 11g (or newer). Ignored on other databases.
+     */
+    protected boolean asyncExecutorSkipLockedJobAcquisition;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      *
@@ -682,6 +756,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected ExecuteAsyncRunnableFactory asyncExecutorExecuteAsyncRunnableFactory;
 
+    /**
+     * The number of process instances (or historic process instances) deleted per job, and thus per transaction,
+     * when deleting the process instances of a process definition in the background (see {@link ManagementService#deleteProcessInstancesInBackground(String, String, boolean)}).
+     */
+    protected int processInstancesDeletionBatchSize = 100;
+
+    /**
+     * The time (in milliseconds) between two consecutive batches when deleting the process instances of a process definition in the background,
+     * to limit the load the deletion puts on the database. By default 0, meaning the next batch is executed as soon as the previous one is done.
+     */
+    protected int processInstancesDeletionBatchDelay;
+
+    /**
+     * When a deployment is deleted with cascade and one of its process definitions has more process instances than this, a warning is logged:
+     * all of them are deleted in one transaction, so these are better deleted in the background first
+     * (see {@link ManagementService#deleteProcessInstancesInBackground(String, String, boolean)}). A negative value disables the check.
+     */
+    protected int processInstancesCascadeDeletionWarningThreshold = 10000;
+
+    /**
+     * If set to true, a timer job is created on boot that periodically deletes the historic process instances that ended longer ago than their retention period,
+     * with all their related historic data (see {@link HistoryService#cleanHistory()}). On an engine where this is false, the job does nothing.
+     */
+    protected boolean enableHistoryCleaning;
+
+    /**
+     * The cycle of the history cleaning job, as a cron expression or an ISO 8601 repeating interval. By default every night at 1 am.
+     */
+    protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
+
+    /**
+     * The number of days the historic process instances are kept after they ended, when no retention is configured for their process definition key or tenant.
+     * A negative value means they are kept forever.
+     */
+    protected int historyRetentionDays = 365;
+
+    /**
+     * The number of days the historic process instances of a process definition key are kept after they ended. Takes precedence over the retention by tenant
+     * and the global retention. A negative value means they are kept forever.
+     */
+    protected Map<String, Integer> historyRetentionDaysByProcessDefinitionKey;
+
+    /**
+     * The number of days the historic process instances of a tenant are kept after they ended. Takes precedence over the global retention.
+     * A negative value means they are kept forever.
+     */
+    protected Map<String, Integer> historyRetentionDaysByTenantId;
+
+    /**
+     * The maximum number of historic process instances deleted per transaction by the history cleaning. When a batch is full, the history cleaning job
+     * schedules an async job for the next batch right away. Keep it at most 1000, as the ids are passed in an 'in' clause.
+     */
+    protected int historyCleaningBatchSize = 100;
+
     // JUEL functions ///////////////////////////////////////////////////////////
     protected List<FlowableFunctionDelegate> flowableFunctionDelegates;
     protected List<FlowableFunctionDelegate> customFlowableFunctionDelegates;
@@ -722,11 +850,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * Classes of which the instances can't be changed once created. Variables of the type 'serializable' holding such a value are never tracked,
+     * on top of enums and the default immutable types of the {@link SerializableType}.
+     */
+    protected Collection<Class<?>> serializableVariableTypeImmutableClasses;
+
     protected ExpressionManager expressionManager;
     protected List<String> customScriptingEngineClasses;
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
 
+    /**
+     * When enabled, scripts of script tasks, script listeners and script conditions are compiled once by script engines that support it (e.g. Groovy),
+     * instead of on every evaluation. At most compiledScriptCacheLimit compiled scripts are kept, the least recently used are evicted.
+     */
+    protected boolean enableCompiledScriptCache = true;
+    protected int compiledScriptCacheLimit = 1000;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     protected int executionQueryLimit = 20000;
@@ -734,6 +875,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int historicTaskQueryLimit = 20000;
     protected int historicProcessInstancesQueryLimit = 20000;
 
+    /**
+     * When enabled, a task query including variables or identity links first selects the requested page of tasks and then fetches
+     * their variables and identity links with 'in' queries of at most taskQueryRelatedEntitiesPrefetchBatchSize ids.
+     * When disabled, they are outer joined in one query, which is paged in memory within the taskQueryLimit.
+     */
+    protected boolean enableTaskQueryRelatedEntitiesPrefetch;
+    protected int taskQueryRelatedEntitiesPrefetchBatchSize = 500;
+
     protected String wsSyncFactoryClassName = DEFAULT_WS_SYNC_FACTORY;
     protected ConcurrentMap<QName, URL> wsOverridenEndpointAddresses = new ConcurrentHashMap<QName, URL>();
 
@@ -764,6 +913,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // Event logging to database
     protected boolean enableDatabaseEventLogging;
 
+    /**
+     * When enabled, {@link org.flowable.engine.common.api.delegate.event.FlowableNonBlockingEventListener} instances are not called on the engine thread.
+     * Their events are buffered after the transaction has been committed and are delivered in batches by a separate thread pool.
+     * When the buffer is full, the engine thread waits at most asyncEventDispatchOfferTimeout milliseconds, after which the event is dropped.
+     */
+    protected boolean enableAsyncEventDispatch;
+    protected int asyncEventDispatchQueueSize = 8192;
+    protected int asyncEventDispatchBatchSize = 100;
+    protected int asyncEventDispatchThreadPoolSize = 1;
+    protected long asyncEventDispatchOfferTimeout;
+    protected AsyncEventDispatcher asyncEventDispatcher;
+
     /**
      * Using field injection together with a delegate expression for a service task / execution listener / task listener is not thread-sade , see user guide section 'Field Injection' for more
      * information.
@@ -792,6 +953,37 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    /**
+     * If set to true, the updates and deletes of one flush are grouped by statement and sent to the database as jdbc batches, which saves a network roundtrip per entity.
+     * The optimistic locking check is done using the update count of every statement in the batch.
+     * Default false. Needs a jdbc driver that returns the update counts of batched statements.
+     */
+    protected boolean isBatchedFlushEnabled;
+
+    /**
+     * If set to true, entities that track their own changes (see {@link DirtyTrackingEntity}) are only updated when their dirty flag is set,
+     * instead of building and comparing their persistent state when they are cached and flushed. Default false.
+     */
+    protected boolean isEntityDirtyTrackingEnabled;
+
+    /**
+     * If set to true, the {@link CompactEntityCacheImpl} is used as the entity cache of a command, which avoids a wrapper object and map entries per cached entity.
+     * Meant for high throughput of short commands. Default false.
+     */
+    protected boolean isCompactEntityCacheEnabled;
+
+    /**
+     * If set to true, metrics are recorded in the {@link #metricsRegistry}: the latency per command class, the flushed inserts, updates and deletes,
+     * the queue size, acquisition latency and rejections of the async executors and the hits and misses of the process definition cache.
+     * Default false.
+     */
+    protected boolean isMetricsEnabled;
+
+    /**
+     * The registry in which the metrics are recorded, created when metrics are enabled and no registry is set.
+     */
+    protected MetricsRegistry metricsRegistry;
+
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 70; // currently Execution has most params (28). 2000 / 28 = 71.
 
     protected ObjectMapper objectMapper = new ObjectMapper();
@@ -873,6 +1065,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initFormTypes();
         initScriptingEngines();
         initClock();
+        initMetrics();
         initBusinessCalendarManager();
         initCommandContextFactory();
         initTransactionContextFactory();
@@ -886,8 +1079,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initProcessDefinitionInfoCache();
         initAppResourceCache();
         initKnowledgeBaseCache();
+        initLatestProcessDefinitionCache();
         initJobHandlers();
         initHistoryJobHandlers();
+        initAsyncHistoryJobPayloadCodec();
         initJobManager();
 
         initTransactionFactory();
@@ -965,6 +1160,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     public Collection<? extends CommandInterceptor> getDefaultCommandInterceptors() {
         if (defaultCommandInterceptors == null) {
             List<CommandInterceptor> interceptors = new ArrayList<CommandInterceptor>();
+            if (metricsRegistry != null) {
+                interceptors.add(new CommandMetricsInterceptor(metricsRegistry));
+            }
             interceptors.add(new LogInterceptor());
     
             CommandInterceptor transactionInterceptor = createTransactionInterceptor();
@@ -1281,7 +1479,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 addSessionFactory(new AgendaSessionFactory(agendaFactory));
             }
 
-            addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+            if (isCompactEntityCacheEnabled) {
+                addSessionFactory(new GenericManagerFactory(EntityCache.class,
+                        isEntityDirtyTrackingEnabled ? DirtyTrackingCompactEntityCacheImpl.class : CompactEntityCacheImpl.class));
+            } else if (isEntityDirtyTrackingEnabled) {
+                addSessionFactory(new GenericManagerFactory(EntityCache.class, DirtyTrackingEntityCacheImpl.class));
+            } else {
+                addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+            }
             
             commandContextFactory.setSessionFactories(sessionFactories);
         }
@@ -1307,6 +1512,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchedFlushEnabled(isBatchedFlushEnabled);
+        dbSqlSessionFactory.setMetricsRegistry(metricsRegistry);
         
         initDbSqlSessionFactoryEntitySettings();
         
@@ -1437,11 +1644,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
+            if (isConcurrentDeploymentCacheEnabled) {
+                processDefinitionCache = new ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>(processDefinitionCacheLimit, processDefinitionCacheWeigher);
+            } else if (processDefinitionCacheLimit <= 0) {
                 processDefinitionCache = new DefaultDeploymentCache<ProcessDefinitionCacheEntry>();
             } else {
                 processDefinitionCache = new DefaultDeploymentCache<ProcessDefinitionCacheEntry>(processDefinitionCacheLimit);
             }
+
+            if (metricsRegistry != null) {
+                processDefinitionCache = new MetricsDeploymentCache<ProcessDefinitionCacheEntry>(processDefinitionCache, metricsRegistry,
+                        MetricNames.PROCESS_DEFINITION_CACHE_HITS, MetricNames.PROCESS_DEFINITION_CACHE_MISSES, MetricNames.PROCESS_DEFINITION_CACHE_HIT_RATIO);
+            }
+        }
+    }
+
+    public void initMetrics() {
+        if (isMetricsEnabled && metricsRegistry == null) {
+            metricsRegistry = new MetricsRegistry();
         }
     }
 
@@ -1457,7 +1677,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initAppResourceCache() {
         if (appResourceCache == null) {
-            if (appResourceCacheLimit <= 0) {
+            if (isConcurrentDeploymentCacheEnabled) {
+                appResourceCache = new ConcurrentDeploymentCache<Object>(appResourceCacheLimit);
+            } else if (appResourceCacheLimit <= 0) {
                 appResourceCache = new DefaultDeploymentCache<Object>();
             } else {
                 appResourceCache = new DefaultDeploymentCache<Object>(appResourceCacheLimit);
@@ -1467,7 +1689,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initKnowledgeBaseCache() {
         if (knowledgeBaseCache == null) {
-            if (knowledgeBaseCacheLimit <= 0) {
+            if (isConcurrentDeploymentCacheEnabled) {
+                knowledgeBaseCache = new ConcurrentDeploymentCache<Object>(knowledgeBaseCacheLimit);
+            } else if (knowledgeBaseCacheLimit <= 0) {
                 knowledgeBaseCache = new DefaultDeploymentCache<Object>();
             } else {
                 knowledgeBaseCache = new DefaultDeploymentCache<Object>(knowledgeBaseCacheLimit);
@@ -1475,6 +1699,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    public void initLatestProcessDefinitionCache() {
+        if (latestProcessDefinitionCache == null && isLatestProcessDefinitionCacheEnabled && !flowable5CompatibilityEnabled) {
+            latestProcessDefinitionCache = new LatestProcessDefinitionCache();
+        }
+    }
+
     public void initDeployers() {
         if (this.deployers == null) {
             this.deployers = new ArrayList<Deployer>();
@@ -1495,6 +1725,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             deploymentManager.setProcessDefinitionInfoCache(processDefinitionInfoCache);
             deploymentManager.setAppResourceCache(appResourceCache);
             deploymentManager.setKnowledgeBaseCache(knowledgeBaseCache);
+            deploymentManager.setLatestProcessDefinitionCache(latestProcessDefinitionCache);
             deploymentManager.setProcessEngineConfiguration(this);
             deploymentManager.setProcessDefinitionEntityManager(processDefinitionEntityManager);
             deploymentManager.setDeploymentEntityManager(deploymentEntityManager);
@@ -1696,6 +1927,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         AsyncContinuationJobHandler asyncContinuationJobHandler = new AsyncContinuationJobHandler();
         jobHandlers.put(asyncContinuationJobHandler.getType(), asyncContinuationJobHandler);
 
+        AsyncTriggerJobHandler asyncTriggerJobHandler = new AsyncTriggerJobHandler();
+        jobHandlers.put(asyncTriggerJobHandler.getType(), asyncTriggerJobHandler);
+
         TriggerTimerEventJobHandler triggerTimerEventJobHandler = new TriggerTimerEventJobHandler();
         jobHandlers.put(triggerTimerEventJobHandler.getType(), triggerTimerEventJobHandler);
 
@@ -1711,6 +1945,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         ProcessEventJobHandler processEventJobHandler = new ProcessEventJobHandler();
         jobHandlers.put(processEventJobHandler.getType(), processEventJobHandler);
 
+        ProcessInstancesDeletionJobHandler processInstancesDeletionJobHandler = new ProcessInstancesDeletionJobHandler();
+        jobHandlers.put(processInstancesDeletionJobHandler.getType(), processInstancesDeletionJobHandler);
+
+        HistoryCleaningJobHandler historyCleaningJobHandler = new HistoryCleaningJobHandler();
+        jobHandlers.put(historyCleaningJobHandler.getType(), historyCleaningJobHandler);
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -1719,6 +1959,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
     
+    public void initAsyncHistoryJobPayloadCodec() {
+        if (asyncHistoryJobPayloadCodec == null) {
+            if (isAsyncHistoryBinaryPayloadEnabled) {
+                asyncHistoryJobPayloadCodec = new BinaryAsyncHistoryJobPayloadCodec(objectMapper);
+            } else {
+                asyncHistoryJobPayloadCodec = new JsonAsyncHistoryJobPayloadCodec(objectMapper);
+            }
+        }
+    }
+
     protected void initHistoryJobHandlers() {
         if (isAsyncHistoryEnabled) {
             historyJobHandlers = new HashMap<String, HistoryJobHandler>();
@@ -1795,7 +2045,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     
     public void initAsyncHistoryExecutor() {
         if (asyncHistoryExecutor == null) {
-            DefaultAsyncJobExecutor defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
+            DefaultAsyncHistoryJobExecutor defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
             
             // Message queue mode
             defaultAsyncHistoryExecutor.setMessageQueueMode(asyncHistoryExecutorMessageQueueMode);
@@ -1830,6 +2080,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             // Shutdown
             defaultAsyncHistoryExecutor.setSecondsToWaitOnShutdown(asyncExecutorSecondsToWaitOnShutdown);
 
+            // Batch execution
+            if (asyncHistoryExecutorBatchSize > 1) {
+                defaultAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryExecutorBatchSize);
+                defaultAsyncHistoryExecutor.setMaxAsyncJobsDuePerAcquisition(asyncHistoryExecutorBatchSize * asyncExecutorCorePoolSize);
+            }
+
             asyncHistoryExecutor = defaultAsyncHistoryExecutor;
         }
 
@@ -1919,7 +2175,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper));
             variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper));
             variableTypes.addType(new ByteArrayType());
-            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
+            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects, serializableVariableTypeImmutableClasses));
             variableTypes.addType(new CustomObjectType("item", ItemInstance.class));
             variableTypes.addType(new CustomObjectType("message", MessageInstance.class));
             if (customPostVariableTypes != null) {
@@ -1982,6 +2238,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
         }
+        if (enableCompiledScriptCache && scriptingEngines.getCompiledScriptCache() == null) {
+            scriptingEngines.setCompiledScriptCache(new CompiledScriptCache(compiledScriptCacheLimit));
+        }
     }
 
     public void initExpressionManager() {
@@ -2079,6 +2338,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.eventDispatcher.setEnabled(enableEventDispatcher);
 
+        if (enableAsyncEventDispatch && this.eventDispatcher instanceof FlowableEventDispatcherImpl) {
+            if (asyncEventDispatcher == null) {
+                asyncEventDispatcher = new AsyncEventDispatcher();
+                asyncEventDispatcher.setQueueSize(asyncEventDispatchQueueSize);
+                asyncEventDispatcher.setBatchSize(asyncEventDispatchBatchSize);
+                asyncEventDispatcher.setThreadPoolSize(asyncEventDispatchThreadPoolSize);
+                asyncEventDispatcher.setOfferTimeout(asyncEventDispatchOfferTimeout);
+            }
+            ((FlowableEventDispatcherImpl) this.eventDispatcher).setAsyncEventDispatcher(asyncEventDispatcher);
+        }
+
         if (eventListeners != null) {
             for (FlowableEventListener listenerToAdd : eventListeners) {
                 this.eventDispatcher.addEventListener(listenerToAdd);
@@ -2536,6 +2806,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public Collection<Class<?>> getSerializableVariableTypeImmutableClasses() {
+        return serializableVariableTypeImmutableClasses;
+    }
+
+    public ProcessEngineConfigurationImpl setSerializableVariableTypeImmutableClasses(Collection<Class<?>> serializableVariableTypeImmutableClasses) {
+        this.serializableVariableTypeImmutableClasses = serializableVariableTypeImmutableClasses;
+        return this;
+    }
+
+    public boolean isEnableCompiledScriptCache() {
+        return enableCompiledScriptCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableCompiledScriptCache(boolean enableCompiledScriptCache) {
+        this.enableCompiledScriptCache = enableCompiledScriptCache;
+        return this;
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+        return this;
+    }
+
     public ExpressionManager getExpressionManager() {
         return expressionManager;
     }
@@ -2572,6 +2869,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableTaskQueryRelatedEntitiesPrefetch() {
+        return enableTaskQueryRelatedEntitiesPrefetch;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableTaskQueryRelatedEntitiesPrefetch(boolean enableTaskQueryRelatedEntitiesPrefetch) {
+        this.enableTaskQueryRelatedEntitiesPrefetch = enableTaskQueryRelatedEntitiesPrefetch;
+        return this;
+    }
+
+    public int getTaskQueryRelatedEntitiesPrefetchBatchSize() {
+        return taskQueryRelatedEntitiesPrefetchBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setTaskQueryRelatedEntitiesPrefetchBatchSize(int taskQueryRelatedEntitiesPrefetchBatchSize) {
+        this.taskQueryRelatedEntitiesPrefetchBatchSize = taskQueryRelatedEntitiesPrefetchBatchSize;
+        return this;
+    }
+
     public int getHistoricTaskQueryLimit() {
         return historicTaskQueryLimit;
     }
@@ -2870,6 +3185,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isConcurrentDeploymentCacheEnabled() {
+        return isConcurrentDeploymentCacheEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setConcurrentDeploymentCacheEnabled(boolean isConcurrentDeploymentCacheEnabled) {
+        this.isConcurrentDeploymentCacheEnabled = isConcurrentDeploymentCacheEnabled;
+        return this;
+    }
+
     public int getProcessDefinitionCacheLimit() {
         return processDefinitionCacheLimit;
     }
@@ -2888,6 +3212,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public DeploymentCacheWeigher<ProcessDefinitionCacheEntry> getProcessDefinitionCacheWeigher() {
+        return processDefinitionCacheWeigher;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWeigher(DeploymentCacheWeigher<ProcessDefinitionCacheEntry> processDefinitionCacheWeigher) {
+        this.processDefinitionCacheWeigher = processDefinitionCacheWeigher;
+        return this;
+    }
+
     public int getKnowledgeBaseCacheLimit() {
         return knowledgeBaseCacheLimit;
     }
@@ -2915,6 +3248,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isLatestProcessDefinitionCacheEnabled() {
+        return isLatestProcessDefinitionCacheEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setLatestProcessDefinitionCacheEnabled(boolean isLatestProcessDefinitionCacheEnabled) {
+        this.isLatestProcessDefinitionCacheEnabled = isLatestProcessDefinitionCacheEnabled;
+        return this;
+    }
+
+    public LatestProcessDefinitionCache getLatestProcessDefinitionCache() {
+        return latestProcessDefinitionCache;
+    }
+
+    public ProcessEngineConfigurationImpl setLatestProcessDefinitionCache(LatestProcessDefinitionCache latestProcessDefinitionCache) {
+        this.latestProcessDefinitionCache = latestProcessDefinitionCache;
+        return this;
+    }
+
     public int getAppResourceCacheLimit() {
         return appResourceCacheLimit;
     }
@@ -2966,6 +3317,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableAsyncEventDispatch() {
+        return enableAsyncEventDispatch;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableAsyncEventDispatch(boolean enableAsyncEventDispatch) {
+        this.enableAsyncEventDispatch = enableAsyncEventDispatch;
+        return this;
+    }
+
+    public int getAsyncEventDispatchQueueSize() {
+        return asyncEventDispatchQueueSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventDispatchQueueSize(int asyncEventDispatchQueueSize) {
+        this.asyncEventDispatchQueueSize = asyncEventDispatchQueueSize;
+        return this;
+    }
+
+    public int getAsyncEventDispatchBatchSize() {
+        return asyncEventDispatchBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventDispatchBatchSize(int asyncEventDispatchBatchSize) {
+        this.asyncEventDispatchBatchSize = asyncEventDispatchBatchSize;
+        return this;
+    }
+
+    public int getAsyncEventDispatchThreadPoolSize() {
+        return asyncEventDispatchThreadPoolSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventDispatchThreadPoolSize(int asyncEventDispatchThreadPoolSize) {
+        this.asyncEventDispatchThreadPoolSize = asyncEventDispatchThreadPoolSize;
+        return this;
+    }
+
+    public long getAsyncEventDispatchOfferTimeout() {
+        return asyncEventDispatchOfferTimeout;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventDispatchOfferTimeout(long asyncEventDispatchOfferTimeout) {
+        this.asyncEventDispatchOfferTimeout = asyncEventDispatchOfferTimeout;
+        return this;
+    }
+
+    public AsyncEventDispatcher getAsyncEventDispatcher() {
+        return asyncEventDispatcher;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventDispatcher(AsyncEventDispatcher asyncEventDispatcher) {
+        this.asyncEventDispatcher = asyncEventDispatcher;
+        return this;
+    }
+
     public ProcessValidator getProcessValidator() {
         return processValidator;
     }
@@ -3020,6 +3425,51 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isBatchedFlushEnabled() {
+        return isBatchedFlushEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchedFlushEnabled(boolean isBatchedFlushEnabled) {
+        this.isBatchedFlushEnabled = isBatchedFlushEnabled;
+        return this;
+    }
+
+    public boolean isEntityDirtyTrackingEnabled() {
+        return isEntityDirtyTrackingEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setEntityDirtyTrackingEnabled(boolean isEntityDirtyTrackingEnabled) {
+        this.isEntityDirtyTrackingEnabled = isEntityDirtyTrackingEnabled;
+        return this;
+    }
+
+    public boolean isCompactEntityCacheEnabled() {
+        return isCompactEntityCacheEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setCompactEntityCacheEnabled(boolean isCompactEntityCacheEnabled) {
+        this.isCompactEntityCacheEnabled = isCompactEntityCacheEnabled;
+        return this;
+    }
+
+    public boolean isMetricsEnabled() {
+        return isMetricsEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setMetricsEnabled(boolean isMetricsEnabled) {
+        this.isMetricsEnabled = isMetricsEnabled;
+        return this;
+    }
+
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    public ProcessEngineConfigurationImpl setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+        return this;
+    }
+
     public int getMaxNrOfStatementsInBulkInsert() {
         return maxNrOfStatementsInBulkInsert;
     }
@@ -3625,6 +4075,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncHistoryBinaryPayloadEnabled() {
+        return isAsyncHistoryBinaryPayloadEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryBinaryPayloadEnabled(boolean isAsyncHistoryBinaryPayloadEnabled) {
+        this.isAsyncHistoryBinaryPayloadEnabled = isAsyncHistoryBinaryPayloadEnabled;
+        return this;
+    }
+
+    public AsyncHistoryJobPayloadCodec getAsyncHistoryJobPayloadCodec() {
+        return asyncHistoryJobPayloadCodec;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryJobPayloadCodec(AsyncHistoryJobPayloadCodec asyncHistoryJobPayloadCodec) {
+        this.asyncHistoryJobPayloadCodec = asyncHistoryJobPayloadCodec;
+        return this;
+    }
+
     public JobManager getJobManager() {
         return jobManager;
     }
@@ -3969,6 +4437,87 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.asyncExecutorExecuteAsyncRunnableFactory = asyncExecutorExecuteAsyncRunnableFactory;
         return this;
     }
+
+    public int getProcessInstancesDeletionBatchSize() {
+        return processInstancesDeletionBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstancesDeletionBatchSize(int processInstancesDeletionBatchSize) {
+        this.processInstancesDeletionBatchSize = processInstancesDeletionBatchSize;
+        return this;
+    }
+
+    public int getProcessInstancesDeletionBatchDelay() {
+        return processInstancesDeletionBatchDelay;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstancesDeletionBatchDelay(int processInstancesDeletionBatchDelay) {
+        this.processInstancesDeletionBatchDelay = processInstancesDeletionBatchDelay;
+        return this;
+    }
+
+    public int getProcessInstancesCascadeDeletionWarningThreshold() {
+        return processInstancesCascadeDeletionWarningThreshold;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstancesCascadeDeletionWarningThreshold(int processInstancesCascadeDeletionWarningThreshold) {
+        this.processInstancesCascadeDeletionWarningThreshold = processInstancesCascadeDeletionWarningThreshold;
+        return this;
+    }
+
+    public boolean isEnableHistoryCleaning() {
+        return enableHistoryCleaning;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableHistoryCleaning(boolean enableHistoryCleaning) {
+        this.enableHistoryCleaning = enableHistoryCleaning;
+        return this;
+    }
+
+    public String getHistoryCleaningTimeCycleConfig() {
+        return historyCleaningTimeCycleConfig;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningTimeCycleConfig(String historyCleaningTimeCycleConfig) {
+        this.historyCleaningTimeCycleConfig = historyCleaningTimeCycleConfig;
+        return this;
+    }
+
+    public int getHistoryRetentionDays() {
+        return historyRetentionDays;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryRetentionDays(int historyRetentionDays) {
+        this.historyRetentionDays = historyRetentionDays;
+        return this;
+    }
+
+    public Map<String, Integer> getHistoryRetentionDaysByProcessDefinitionKey() {
+        return historyRetentionDaysByProcessDefinitionKey;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryRetentionDaysByProcessDefinitionKey(Map<String, Integer> historyRetentionDaysByProcessDefinitionKey) {
+        this.historyRetentionDaysByProcessDefinitionKey = historyRetentionDaysByProcessDefinitionKey;
+        return this;
+    }
+
+    public Map<String, Integer> getHistoryRetentionDaysByTenantId() {
+        return historyRetentionDaysByTenantId;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryRetentionDaysByTenantId(Map<String, Integer> historyRetentionDaysByTenantId) {
+        this.historyRetentionDaysByTenantId = historyRetentionDaysByTenantId;
+        return this;
+    }
+
+    public int getHistoryCleaningBatchSize() {
+        return historyCleaningBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningBatchSize(int historyCleaningBatchSize) {
+        this.historyCleaningBatchSize = historyCleaningBatchSize;
+        return this;
+    }
     
     public int getAsyncExecutorResetExpiredJobsPageSize() {
         return asyncExecutorResetExpiredJobsPageSize;
@@ -3979,6 +4528,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorUnlockExclusiveJobsInJobTransaction() {
+        return asyncExecutorUnlockExclusiveJobsInJobTransaction;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorUnlockExclusiveJobsInJobTransaction(boolean asyncExecutorUnlockExclusiveJobsInJobTransaction) {
+        this.asyncExecutorUnlockExclusiveJobsInJobTransaction = asyncExecutorUnlockExclusiveJobsInJobTransaction;
+        return this;
+    }
+
+    public boolean isAsyncExecutorSkipLockedJobAcquisition() {
+        return asyncExecutorSkipLockedJobAcquisition;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorSkipLockedJobAcquisition(boolean asyncExecutorSkipLockedJobAcquisition) {
+        this.asyncExecutorSkipLockedJobAcquisition = asyncExecutorSkipLockedJobAcquisition;
+        return this;
+    }
+
     public boolean isAsyncExecutorIsMessageQueueMode() {
         return asyncExecutorMessageQueueMode;
     }
@@ -3996,4 +4563,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.asyncHistoryExecutorMessageQueueMode = asyncHistoryExecutorMessageQueueMode;
         return this;
     }
+
+    public int getAsyncHistoryExecutorBatchSize() {
+        return asyncHistoryExecutorBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorBatchSize(int asyncHistoryExecutorBatchSize) {
+        this.asyncHistoryExecutorBatchSize = asyncHistoryExecutorBatchSize;
+        return this;
+    }
 }
\ No newline at end of file
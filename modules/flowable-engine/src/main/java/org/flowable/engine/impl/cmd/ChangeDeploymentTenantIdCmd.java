@@ -81,6 +81,9 @@ public class ChangeDeploymentTenantIdCmd implements Command<Void>, Serializable
         // Clear process definition cache
         CommandContextUtil.getProcessEngineConfiguration(commandContext).getProcessDefinitionCache().clear();
 
+        // The latest versions change for both the old and the new tenant
+        CommandContextUtil.getProcessEngineConfiguration(commandContext).getDeploymentManager().latestProcessDefinitionsChanged(null, false);
+
         return null;
 
     }
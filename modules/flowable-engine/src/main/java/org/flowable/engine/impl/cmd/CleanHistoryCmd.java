@@ -0,0 +1,152 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.metrics.MetricNames;
+import org.flowable.engine.common.impl.metrics.MetricsGauge;
+import org.flowable.engine.common.impl.metrics.MetricsRegistry;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes one batch of the historic process instances that ended longer ago than their retention period, together with all their related historic data.
+ *
+ * The retention of a process definition key takes precedence over the one of a tenant, which takes precedence over the global retention.
+ * The historic process instances are selected per retention policy, oldest first, and the related historic data of the whole batch
+ * is deleted with one statement per table. Sub process instances are deleted according to their own retention, as they have their own end time.
+ */
+public class CleanHistoryCmd implements Command<Long>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CleanHistoryCmd.class);
+
+    protected static final long MILLIS_PER_DAY = 24L * 60L * 60L * 1000L;
+
+    public Long execute(CommandContext commandContext) {
+        long startTime = System.nanoTime();
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        Date now = processEngineConfiguration.getClock().getCurrentTime();
+        Map<String, Integer> retentionDaysByProcessDefinitionKey = getRetentionDays(processEngineConfiguration.getHistoryRetentionDaysByProcessDefinitionKey());
+        Map<String, Integer> retentionDaysByTenantId = getRetentionDays(processEngineConfiguration.getHistoryRetentionDaysByTenantId());
+
+        CleaningBatch batch = new CleaningBatch(processEngineConfiguration.getHistoryCleaningBatchSize());
+
+        for (Map.Entry<String, Integer> retentionDays : retentionDaysByProcessDefinitionKey.entrySet()) {
+            collectHistoricProcessInstances(batch, now, retentionDays.getValue(), retentionDays.getKey(), null, null, null, commandContext);
+        }
+
+        for (Map.Entry<String, Integer> retentionDays : retentionDaysByTenantId.entrySet()) {
+            collectHistoricProcessInstances(batch, now, retentionDays.getValue(), null, retentionDays.getKey(),
+                    retentionDaysByProcessDefinitionKey.keySet(), null, commandContext);
+        }
+
+        collectHistoricProcessInstances(batch, now, processEngineConfiguration.getHistoryRetentionDays(), null, null,
+                retentionDaysByProcessDefinitionKey.keySet(), retentionDaysByTenantId.keySet(), commandContext);
+
+        if (!batch.historicProcessInstanceIds.isEmpty()) {
+            deleteHistoricProcessInstances(batch.historicProcessInstanceIds, commandContext);
+            LOGGER.debug("Deleted {} historic process instances", batch.historicProcessInstanceIds.size());
+        }
+
+        MetricsRegistry metricsRegistry = processEngineConfiguration.getMetricsRegistry();
+        if (metricsRegistry != null) {
+            metricsRegistry.counter(MetricNames.HISTORY_CLEANING_DELETED_PROCESS_INSTANCES).increment(batch.historicProcessInstanceIds.size());
+            metricsRegistry.timer(MetricNames.HISTORY_CLEANING_BATCH).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            metricsRegistry.gauge(MetricNames.HISTORY_CLEANING_LAG, new LagGauge(batch.lagInMillis));
+        }
+
+        return (long) batch.historicProcessInstanceIds.size();
+    }
+
+    protected void collectHistoricProcessInstances(CleaningBatch batch, Date now, int retentionDays, String processDefinitionKey, String tenantId,
+            Collection<String> excludedProcessDefinitionKeys, Collection<String> excludedTenantIds, CommandContext commandContext) {
+
+        // A negative retention means the historic process instances are kept forever
+        if (retentionDays < 0 || batch.isFull()) {
+            return;
+        }
+
+        Date endedBefore = new Date(now.getTime() - retentionDays * MILLIS_PER_DAY);
+        List<HistoricProcessInstanceEntity> historicProcessInstances = CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext)
+                .findEndedHistoricProcessInstancesToClean(endedBefore, processDefinitionKey, tenantId,
+                        excludedProcessDefinitionKeys, excludedTenantIds, batch.getRemainingSize());
+
+        for (HistoricProcessInstanceEntity historicProcessInstance : historicProcessInstances) {
+            batch.historicProcessInstanceIds.add(historicProcessInstance.getId());
+            batch.lagInMillis = Math.max(batch.lagInMillis, endedBefore.getTime() - historicProcessInstance.getEndTime().getTime());
+        }
+    }
+
+    protected void deleteHistoricProcessInstances(List<String> historicProcessInstanceIds, CommandContext commandContext) {
+        CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).deleteHistoricProcessInstancesAndRelatedDataForIds(historicProcessInstanceIds);
+    }
+
+    protected Map<String, Integer> getRetentionDays(Map<String, Integer> retentionDays) {
+        if (retentionDays == null) {
+            return Collections.emptyMap();
+        }
+        return retentionDays;
+    }
+
+    protected static class CleaningBatch {
+
+        protected int size;
+        protected List<String> historicProcessInstanceIds = new ArrayList<>();
+        protected long lagInMillis;
+
+        public CleaningBatch(int size) {
+            this.size = size;
+        }
+
+        public boolean isFull() {
+            return historicProcessInstanceIds.size() >= size;
+        }
+
+        public int getRemainingSize() {
+            return size - historicProcessInstanceIds.size();
+        }
+
+    }
+
+    protected static class LagGauge implements MetricsGauge {
+
+        protected long lagInMillis;
+
+        public LagGauge(long lagInMillis) {
+            this.lagInMillis = lagInMillis;
+        }
+
+        @Override
+        public double getValue() {
+            return lagInMillis;
+        }
+
+    }
+
+}
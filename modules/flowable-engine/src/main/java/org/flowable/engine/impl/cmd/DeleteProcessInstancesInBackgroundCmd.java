@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.ProcessInstancesDeletionJobHandler;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.repository.ProcessDefinition;
+
+/**
+ * Starts the deletion of the process instances of a process definition in the background, see {@link ProcessInstancesDeletionJobHandler}.
+ */
+public class DeleteProcessInstancesInBackgroundCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String processDefinitionId;
+    protected String deleteReason;
+    protected boolean deleteHistory;
+
+    public DeleteProcessInstancesInBackgroundCmd(String processDefinitionId, String deleteReason, boolean deleteHistory) {
+        this.processDefinitionId = processDefinitionId;
+        this.deleteReason = deleteReason;
+        this.deleteHistory = deleteHistory;
+    }
+
+    public Void execute(CommandContext commandContext) {
+        if (processDefinitionId == null) {
+            throw new FlowableIllegalArgumentException("processDefinitionId is null");
+        }
+
+        ProcessDefinition processDefinition = CommandContextUtil.getProcessEngineConfiguration(commandContext).getDeploymentManager()
+                .findDeployedProcessDefinitionById(processDefinitionId);
+
+        if (Flowable5Util.isFlowable5ProcessDefinition(processDefinition, commandContext)) {
+            throw new FlowableException("Deleting process instances in the background is not supported for v5 process definitions");
+        }
+
+        if (new GetProcessInstancesDeletionStatusCmd(processDefinitionId).execute(commandContext) != null) {
+            throw new FlowableException("The process instances of process definition " + processDefinitionId + " are already being deleted");
+        }
+
+        ProcessInstancesDeletionJobHandler.scheduleJob(processDefinitionId, processDefinition.getTenantId(),
+                ProcessInstancesDeletionJobHandler.createConfiguration(deleteReason, deleteHistory, 0L, 0L), false, commandContext);
+
+        return null;
+    }
+
+}
@@ -0,0 +1,57 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.Job;
+
+/**
+ * Executes an exclusive job and unlocks its process instance in the same transaction, which replaces the separate
+ * {@link ExecuteAsyncJobCmd} and {@link UnlockExclusiveJobCmd} transactions.
+ *
+ * The process instance must have been locked with {@link LockExclusiveJobCmd} in a transaction of its own before:
+ * the lock has to be committed to be seen by the other async executors, so they skip the process instance instead of waiting
+ * for the row lock of this transaction. When the job fails, the unlocking is rolled back too and must be done separately.
+ */
+public class ExecuteExclusiveAsyncJobCmd extends ExecuteAsyncJobCmd {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Job job;
+
+    public ExecuteExclusiveAsyncJobCmd(Job job, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        super(job.getId(), jobEntityManager);
+        this.job = job;
+    }
+
+    @Override
+    public Object execute(CommandContext commandContext) {
+        super.execute(commandContext);
+
+        if (job.getProcessInstanceId() != null) {
+            ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+            ExecutionEntity processInstance = executionEntityManager.findById(job.getProcessInstanceId());
+            if (processInstance != null) {
+                executionEntityManager.clearProcessInstanceLockTime(processInstance.getId());
+            }
+        }
+
+        return null;
+    }
+
+}
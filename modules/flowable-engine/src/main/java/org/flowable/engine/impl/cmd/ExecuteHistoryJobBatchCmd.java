@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.List;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.asyncexecutor.JobManager;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a batch of history jobs in one transaction, in the given order.
+ * 
+ * As all jobs share the same command context, historic entities that are fetched or created by one job are found in the entity cache by the next ones,
+ * and the inserts, updates and deletes of all jobs are flushed together. When one of the jobs fails, none of them is executed.
+ */
+public class ExecuteHistoryJobBatchCmd implements Command<Void> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteHistoryJobBatchCmd.class);
+
+    protected List<String> jobIds;
+    protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+
+    public ExecuteHistoryJobBatchCmd(List<String> jobIds, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        this.jobIds = jobIds;
+        this.jobEntityManager = jobEntityManager;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (jobIds == null) {
+            throw new FlowableIllegalArgumentException("jobIds is null");
+        }
+
+        if (jobEntityManager == null) {
+            jobEntityManager = CommandContextUtil.getHistoryJobEntityManager(commandContext);
+        }
+
+        JobManager jobManager = CommandContextUtil.getJobManager(commandContext);
+        boolean eventDispatcherEnabled = CommandContextUtil.getEventDispatcher().isEnabled();
+        for (String jobId : jobIds) {
+            JobInfoEntity job = jobEntityManager.findById(jobId);
+            if (job == null) {
+                LOGGER.debug("History job {} does not exist anymore and will not be executed.", jobId);
+                continue;
+            }
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Executing history job {} as part of a batch of {} jobs", job.getId(), jobIds.size());
+            }
+
+            jobManager.execute(job);
+
+            if (eventDispatcherEnabled) {
+                CommandContextUtil.getEventDispatcher().dispatchEvent(
+                        FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job));
+            }
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.DeadLetterJobQueryImpl;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.JobQueryImpl;
+import org.flowable.engine.impl.ProcessInstanceQueryImpl;
+import org.flowable.engine.impl.ProcessInstancesDeletionStatusImpl;
+import org.flowable.engine.impl.TimerJobQueryImpl;
+import org.flowable.engine.impl.jobexecutor.ProcessInstancesDeletionJobHandler;
+import org.flowable.engine.impl.util.json.JSONObject;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.runtime.ProcessInstancesDeletionStatus;
+
+public class GetProcessInstancesDeletionStatusCmd implements Command<ProcessInstancesDeletionStatus>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String processDefinitionId;
+
+    public GetProcessInstancesDeletionStatusCmd(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+    }
+
+    public ProcessInstancesDeletionStatus execute(CommandContext commandContext) {
+        if (processDefinitionId == null) {
+            throw new FlowableIllegalArgumentException("processDefinitionId is null");
+        }
+
+        // The job of the next batch is an async job, a timer job (when delayed or waiting for a retry) or a dead letter job (when failed)
+        boolean failed = false;
+        Job job = getFirst(new JobQueryImpl(commandContext)
+                .processDefinitionId(processDefinitionId)
+                .handlerType(ProcessInstancesDeletionJobHandler.TYPE)
+                .list());
+        if (job == null) {
+            job = getFirst(new TimerJobQueryImpl(commandContext)
+                    .processDefinitionId(processDefinitionId)
+                    .handlerType(ProcessInstancesDeletionJobHandler.TYPE)
+                    .list());
+        }
+        if (job == null) {
+            job = getFirst(new DeadLetterJobQueryImpl(commandContext)
+                    .processDefinitionId(processDefinitionId)
+                    .handlerType(ProcessInstancesDeletionJobHandler.TYPE)
+                    .list());
+            failed = job != null;
+        }
+        if (job == null) {
+            return null;
+        }
+
+        JSONObject cfgJson = new JSONObject(job.getJobHandlerConfiguration());
+        ProcessInstancesDeletionStatusImpl status = new ProcessInstancesDeletionStatusImpl();
+        status.setProcessDefinitionId(processDefinitionId);
+        status.setJobId(job.getId());
+        status.setDeleteReason(ProcessInstancesDeletionJobHandler.getDeleteReason(cfgJson));
+        status.setDeleteHistory(ProcessInstancesDeletionJobHandler.isDeleteHistory(cfgJson));
+        status.setDeletedProcessInstanceCount(ProcessInstancesDeletionJobHandler.getDeletedProcessInstances(cfgJson));
+        status.setDeletedHistoricProcessInstanceCount(ProcessInstancesDeletionJobHandler.getDeletedHistoricProcessInstances(cfgJson));
+        status.setRemainingProcessInstanceCount(new ProcessInstanceQueryImpl(commandContext).processDefinitionId(processDefinitionId).count());
+        if (status.isDeleteHistory()) {
+            status.setRemainingHistoricProcessInstanceCount(new HistoricProcessInstanceQueryImpl(commandContext).processDefinitionId(processDefinitionId).count());
+        }
+        status.setExceptionMessage(job.getExceptionMessage());
+        status.setFailed(failed);
+        return status;
+    }
+
+    protected Job getFirst(List<Job> jobs) {
+        return jobs.isEmpty() ? null : jobs.get(0);
+    }
+
+}
@@ -0,0 +1,69 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.TimerJobQueryImpl;
+import org.flowable.engine.impl.calendar.BusinessCalendar;
+import org.flowable.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.HistoryCleaningJobHandler;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.Job;
+
+/**
+ * Makes sure there is exactly one history cleaning timer job, with the configured cycle. Executed when an engine with history cleaning enabled boots.
+ */
+public class HandleHistoryCleaningTimerJobCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public Void execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        TimerJobEntityManager timerJobEntityManager = processEngineConfiguration.getTimerJobEntityManager();
+        String timeCycle = processEngineConfiguration.getHistoryCleaningTimeCycleConfig();
+
+        List<Job> timerJobs = new TimerJobQueryImpl(commandContext).handlerType(HistoryCleaningJobHandler.TYPE).list();
+        if (timerJobs.size() == 1 && timeCycle.equals(((TimerJobEntity) timerJobs.get(0)).getRepeat())) {
+            return null;
+        }
+
+        // The cycle was changed (or the job is there more than once, when engines booted concurrently)
+        for (Job timerJob : timerJobs) {
+            timerJobEntityManager.delete((TimerJobEntity) timerJob);
+        }
+
+        BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+
+        TimerJobEntity timerJob = timerJobEntityManager.create();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setRetries(processEngineConfiguration.getAsyncExecutorNumberOfRetries());
+        timerJob.setJobHandlerType(HistoryCleaningJobHandler.TYPE);
+        // Timers with a repeat expect a json configuration, in which they look for a business calendar name
+        timerJob.setJobHandlerConfiguration("{}");
+        timerJob.setRepeat(timeCycle);
+        timerJob.setDuedate(businessCalendar.resolveDuedate(timeCycle));
+        processEngineConfiguration.getJobManager().scheduleTimerJob(timerJob);
+
+        return null;
+    }
+
+}
@@ -20,6 +20,7 @@ import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
+import org.flowable.engine.impl.scripting.CompiledScriptCache;
 import org.flowable.engine.impl.util.CommandContextUtil;
 
 import com.fasterxml.jackson.databind.ObjectWriter;
@@ -64,6 +65,12 @@ public class SaveProcessDefinitionInfoCmd implements Command<Void>, Serializable
             throw new FlowableException("Unable to serialize info node " + infoNode);
         }
 
+        // Scripts could have been overridden
+        CompiledScriptCache compiledScriptCache = CommandContextUtil.getProcessEngineConfiguration(commandContext).getScriptingEngines().getCompiledScriptCache();
+        if (compiledScriptCache != null) {
+            compiledScriptCache.removeProcessDefinition(processDefinitionId);
+        }
+
         return null;
     }
 
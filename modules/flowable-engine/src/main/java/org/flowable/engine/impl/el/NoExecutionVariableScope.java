@@ -87,6 +87,16 @@ public class NoExecutionVariableScope implements VariableScope {
         return null;
     }
 
+    @Override
+    public Object getVariableReadOnly(String variableName) {
+        return null;
+    }
+
+    @Override
+    public Object getVariableLocalReadOnly(String variableName) {
+        return null;
+    }
+
     @Override
     public Object getVariableLocal(String variableName, boolean fetchAllVariables) {
         return null;
@@ -19,7 +19,6 @@ import org.flowable.engine.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
 public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandler {
@@ -28,12 +27,12 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
 
     @Override
     public void execute(HistoryJobEntity job, String configuration, CommandContext commandContext) {
-        ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+        AsyncHistoryJobPayloadCodec payloadCodec = CommandContextUtil.getProcessEngineConfiguration(commandContext).getAsyncHistoryJobPayloadCodec();
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
             try {
 
                 byte[] bytes = getJobBytes(job);
-                JsonNode historyNode = objectMapper.readTree(bytes);
+                JsonNode historyNode = payloadCodec.decode(bytes);
                 if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
                     ArrayNode arrayNode = (ArrayNode) historyNode;
                     for (JsonNode jsonNode : arrayNode) {
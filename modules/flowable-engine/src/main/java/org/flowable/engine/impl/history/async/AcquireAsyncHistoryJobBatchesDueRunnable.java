@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.impl.asyncexecutor.AcquireAsyncJobsDueRunnable;
+import org.flowable.engine.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.engine.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntityManager;
+
+/**
+ * Acquires history jobs like the {@link AcquireAsyncJobsDueRunnable}, but hands them over to the executor in batches
+ * of {@link DefaultAsyncHistoryJobExecutor#getHistoryJobBatchSize()} jobs instead of one by one.
+ * 
+ * The jobs are ordered by creation time first, so the history of one transaction is applied in the order it was produced.
+ */
+public class AcquireAsyncHistoryJobBatchesDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+    protected static final Comparator<JobInfoEntity> CREATE_TIME_COMPARATOR = new Comparator<JobInfoEntity>() {
+
+        @Override
+        public int compare(JobInfoEntity job1, JobInfoEntity job2) {
+            Date createTime1 = job1 instanceof HistoryJobEntity ? ((HistoryJobEntity) job1).getCreateTime() : null;
+            Date createTime2 = job2 instanceof HistoryJobEntity ? ((HistoryJobEntity) job2).getCreateTime() : null;
+            if (createTime1 != null && createTime2 != null && !createTime1.equals(createTime2)) {
+                return createTime1.compareTo(createTime2);
+            }
+            return compareIds(job1.getId(), job2.getId());
+        }
+
+        protected int compareIds(String id1, String id2) {
+            // Ids of the default id generator are numeric, in which case the shorter id was created first
+            if (id1.length() != id2.length()) {
+                return id1.length() - id2.length();
+            }
+            return id1.compareTo(id2);
+        }
+
+    };
+
+    protected final DefaultAsyncHistoryJobExecutor asyncHistoryExecutor;
+
+    public AcquireAsyncHistoryJobBatchesDueRunnable(String name, DefaultAsyncHistoryJobExecutor asyncHistoryExecutor,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        super(name, asyncHistoryExecutor, jobEntityManager);
+        this.asyncHistoryExecutor = asyncHistoryExecutor;
+    }
+
+    @Override
+    protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
+        List<JobInfoEntity> jobs = new ArrayList<>(acquiredJobs.getJobs());
+        Collections.sort(jobs, CREATE_TIME_COMPARATOR);
+
+        List<JobInfoEntity> rejected = new ArrayList<>();
+        int batchSize = asyncHistoryExecutor.getHistoryJobBatchSize();
+        for (int i = 0; i < jobs.size(); i += batchSize) {
+            List<JobInfoEntity> batch = new ArrayList<>(jobs.subList(i, Math.min(i + batchSize, jobs.size())));
+            boolean batchSuccessFullyOffered = asyncHistoryExecutor.executeAsyncHistoryJobBatch(batch);
+            if (!batchSuccessFullyOffered) {
+                rejected.addAll(batch);
+            }
+        }
+        return rejected;
+    }
+
+}
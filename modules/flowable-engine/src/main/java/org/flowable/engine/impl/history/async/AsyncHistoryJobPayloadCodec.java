@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Encodes the historic data of async history jobs to the bytes stored with the job, and decodes them again when the job is executed.
+ * 
+ * The {@link org.flowable.engine.impl.history.async.json.transformer.HistoryJsonTransformer}s always work on the decoded json tree,
+ * independent of the format that is used to store it.
+ */
+public interface AsyncHistoryJobPayloadCodec {
+
+    byte[] encode(JsonNode historyNode);
+
+    JsonNode decode(byte[] bytes);
+
+}
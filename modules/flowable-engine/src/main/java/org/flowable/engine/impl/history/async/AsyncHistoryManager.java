@@ -54,7 +54,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     @Override
     public void recordProcessInstanceStart(ExecutionEntity processInstance) {
         if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.ID, processInstance.getId());
             putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, processInstance.getProcessInstanceId());
             putIfNotNull(data, HistoryJsonConstants.NAME, processInstance.getName());
@@ -62,7 +62,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
             putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_ID, processInstance.getProcessDefinitionId());
             putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_KEY, processInstance.getProcessDefinitionKey());
             putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_NAME, processInstance.getProcessDefinitionName());
-            putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_VERSION, processInstance.getProcessDefinitionVersion() != null ? Integer.toString(processInstance.getProcessDefinitionVersion()) : null);
+            putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_VERSION, processInstance.getProcessDefinitionVersion());
             putIfNotNull(data, HistoryJsonConstants.DEPLOYMENT_ID, processInstance.getDeploymentId());
             putIfNotNull(data, HistoryJsonConstants.START_TIME, processInstance.getStartTime());
             putIfNotNull(data, HistoryJsonConstants.START_USER_ID, processInstance.getStartUserId());
@@ -77,7 +77,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     @Override
     public void recordProcessInstanceEnd(ExecutionEntity processInstance, String deleteReason, String activityId) {
         if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.ID, processInstance.getId());
             putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, processInstance.getProcessInstanceId());
             putIfNotNull(data, HistoryJsonConstants.NAME, processInstance.getName());
@@ -106,7 +106,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     @Override
     public void recordProcessInstanceNameChange(String processInstanceId, String newName) {
         if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, processInstanceId);
             putIfNotNull(data, HistoryJsonConstants.NAME, newName);
             putIfNotNull(data, HistoryJsonConstants.PROPERTY, ProcessInstancePropertyChangedHistoryJsonTransformer.PROPERTY_NAME);
@@ -118,15 +118,14 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     public void recordSubProcessInstanceStart(ExecutionEntity parentExecution, ExecutionEntity subProcessInstance) {
         
         if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.ID, subProcessInstance.getId());
             putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, subProcessInstance.getProcessInstanceId());
             putIfNotNull(data, HistoryJsonConstants.BUSINESS_KEY, subProcessInstance.getBusinessKey());
             putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_ID, subProcessInstance.getProcessDefinitionId());
             putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_KEY, subProcessInstance.getProcessDefinitionKey());
             putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_NAME, subProcessInstance.getProcessDefinitionName());
-            putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_VERSION, subProcessInstance.getProcessDefinitionVersion() != null ? 
-                    Integer.toString(subProcessInstance.getProcessDefinitionVersion()) : null);
+            putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_VERSION, subProcessInstance.getProcessDefinitionVersion());
             putIfNotNull(data, HistoryJsonConstants.DEPLOYMENT_ID, subProcessInstance.getDeploymentId());
             putIfNotNull(data, HistoryJsonConstants.START_TIME, subProcessInstance.getStartTime());
             putIfNotNull(data, HistoryJsonConstants.START_USER_ID, subProcessInstance.getStartUserId());
@@ -145,7 +144,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     @Override
     public void recordProcessInstanceDeleted(String processInstanceId) {
         if (isHistoryEnabled()) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, processInstanceId);
 
             getAsyncHistorySession().addHistoricData(HistoryJsonConstants.TYPE_PROCESS_INSTANCE_DELETED, data);
@@ -155,7 +154,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     @Override
     public void recordDeleteHistoricProcessInstancesByProcessDefinitionId(String processDefinitionId) {
         if (isHistoryEnabled()) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_ID, processDefinitionId);
 
             getAsyncHistorySession().addHistoricData(HistoryJsonConstants.TYPE_PROCESS_INSTANCE_DELETED_BY_PROCDEF_ID, data);
@@ -167,7 +166,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
         if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
             if (executionEntity.getActivityId() != null && executionEntity.getCurrentFlowElement() != null) {
 
-                Map<String, String> data = new HashMap<String, String>();
+                Map<String, Object> data = new HashMap<String, Object>();
                 putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_ID, executionEntity.getProcessDefinitionId());
                 putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, executionEntity.getProcessInstanceId());
                 putIfNotNull(data, HistoryJsonConstants.EXECUTION_ID, executionEntity.getId());
@@ -194,7 +193,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
         if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
             String activityId = getActivityIdForExecution(executionEntity);
             if (StringUtils.isNotEmpty(activityId)) {
-                Map<String, String> data = new HashMap<String, String>();
+                Map<String, Object> data = new HashMap<String, Object>();
                 
                 putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_ID, executionEntity.getProcessDefinitionId());
                 putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, executionEntity.getProcessInstanceId());
@@ -213,7 +212,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
                 putIfNotNull(data, HistoryJsonConstants.DELETE_REASON, deleteReason);
                 putIfNotNull(data, HistoryJsonConstants.END_TIME, getClock().getCurrentTime());
 
-                Map<String, String> correspondingActivityStartData = getActivityStart(executionEntity.getId(), activityId, true);
+                Map<String, Object> correspondingActivityStartData = getActivityStart(executionEntity.getId(), activityId, true);
                 if (correspondingActivityStartData == null) {
                     getAsyncHistorySession().addHistoricData(HistoryJsonConstants.TYPE_ACTIVITY_END, data);
                 } else {
@@ -226,7 +225,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
 
     @Override
     public void recordProcessDefinitionChange(String processInstanceId, String processDefinitionId) {
-        Map<String, String> data = new HashMap<String, String>();
+        Map<String, Object> data = new HashMap<String, Object>();
         putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, processInstanceId);
         putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_ID, processDefinitionId);
         
@@ -236,7 +235,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     @Override
     public void recordTaskCreated(TaskEntity task, ExecutionEntity execution) {
         if (isHistoryLevelAtLeast(HistoryLevel.AUDIT)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.ID, task.getId());
             putIfNotNull(data, HistoryJsonConstants.NAME, task.getName());
             putIfNotNull(data, HistoryJsonConstants.PARENT_TASK_ID, task.getParentTaskId());
@@ -267,7 +266,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     @Override
     public void recordTaskEnd(TaskEntity task, ExecutionEntity execution, String deleteReason) {
         if (isHistoryLevelAtLeast(HistoryLevel.AUDIT)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.ID, task.getId());
             putIfNotNull(data, HistoryJsonConstants.NAME, task.getName());
             putIfNotNull(data, HistoryJsonConstants.PARENT_TASK_ID, task.getParentTaskId());
@@ -302,7 +301,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     @Override
     public void recordTaskInfoChange(TaskEntity taskEntity) {
         if (isHistoryLevelAtLeast(HistoryLevel.AUDIT)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.ID, taskEntity.getId());
             putIfNotNull(data, HistoryJsonConstants.NAME, taskEntity.getName());
             putIfNotNull(data, HistoryJsonConstants.DESCRIPTION, taskEntity.getDescription());
@@ -336,7 +335,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     
     protected void handleTaskAssigneeChange(TaskEntity taskEntity) {
         if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.ASSIGNEE, taskEntity.getAssignee());
 
             ExecutionEntity executionEntity = taskEntity.getExecution();
@@ -344,10 +343,10 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
                 putIfNotNull(data, HistoryJsonConstants.EXECUTION_ID, executionEntity.getId());
                 String activityId = getActivityIdForExecution(executionEntity);
                 putIfNotNull(data, HistoryJsonConstants.ACTIVITY_ID, activityId);
-                Map<String, String> activityStartData = getActivityStart(executionEntity.getId(), activityId, false); 
+                Map<String, Object> activityStartData = getActivityStart(executionEntity.getId(), activityId, false); 
                 if (activityStartData != null) {
                     putIfNotNull(activityStartData, HistoryJsonConstants.ASSIGNEE, taskEntity.getAssignee());
-                    data.put(HistoryJsonConstants.ACTIVITY_ASSIGNEE_HANDLED, String.valueOf(true));
+                    data.put(HistoryJsonConstants.ACTIVITY_ASSIGNEE_HANDLED, Boolean.TRUE);
                 }
             }
 
@@ -361,7 +360,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     
     protected void handleTaskOwnerChange(TaskEntity taskEntity) {
         if (isHistoryLevelAtLeast(HistoryLevel.AUDIT)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.ID, taskEntity.getId());
             putIfNotNull(data, HistoryJsonConstants.OWNER, taskEntity.getOwner());
             putIfNotNull(data, HistoryJsonConstants.CREATE_TIME, getClock().getCurrentTime());
@@ -373,7 +372,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     @Override
     public void recordVariableCreate(VariableInstanceEntity variable) {
         if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.ID, variable.getId());
             putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, variable.getProcessInstanceId());
             putIfNotNull(data, HistoryJsonConstants.EXECUTION_ID, variable.getExecutionId());
@@ -403,7 +402,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
         
         if (isHistoryLevelAtLeast(HistoryLevel.FULL)) {
 
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, variable.getProcessInstanceId());
             putIfNotNull(data, HistoryJsonConstants.EXECUTION_ID, variable.getExecutionId());
             putIfNotNull(data, HistoryJsonConstants.TASK_ID, variable.getTaskId());
@@ -441,7 +440,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     @Override
     public void recordVariableUpdate(VariableInstanceEntity variable) {
         if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.ID, variable.getId());
             
             Date time = getClock().getCurrentTime();
@@ -463,7 +462,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     @Override
     public void recordVariableRemoved(VariableInstanceEntity variable) {
         if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.ID, variable.getId());
             
             getAsyncHistorySession().addHistoricData(HistoryJsonConstants.TYPE_VARIABLE_REMOVED, data);
@@ -473,7 +472,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     @Override
     public void recordFormPropertiesSubmitted(ExecutionEntity execution, Map<String, String> properties, String taskId) {
         if (isHistoryLevelAtLeast(HistoryLevel.AUDIT)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, execution.getProcessInstanceId());
             putIfNotNull(data, HistoryJsonConstants.EXECUTION_ID, execution.getId());
             putIfNotNull(data, HistoryJsonConstants.TASK_ID, taskId);
@@ -501,7 +500,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
         // It makes no sense storing historic counterpart for an identity-link that is related
         // to a process-definition only as this is never kept in history
         if (isHistoryLevelAtLeast(HistoryLevel.AUDIT) && (identityLink.getProcessInstanceId() != null || identityLink.getTaskId() != null)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.ID, identityLink.getId());
             putIfNotNull(data, HistoryJsonConstants.GROUP_ID, identityLink.getGroupId());
             putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, identityLink.getProcessInstanceId());
@@ -515,7 +514,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     @Override
     public void recordIdentityLinkDeleted(String identityLinkId) {
         if (isHistoryLevelAtLeast(HistoryLevel.AUDIT)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.ID, identityLinkId);
             getAsyncHistorySession().addHistoricData(HistoryJsonConstants.TYPE_IDENTITY_LINK_DELETED, data);
         }
@@ -524,7 +523,7 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
     @Override
     public void updateProcessBusinessKeyInHistory(ExecutionEntity processInstance) {
         if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
-            Map<String, String> data = new HashMap<String, String>();
+            Map<String, Object> data = new HashMap<String, Object>();
             putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, processInstance.getId());
             putIfNotNull(data, HistoryJsonConstants.BUSINESS_KEY, processInstance.getBusinessKey());
             putIfNotNull(data, HistoryJsonConstants.PROPERTY, ProcessInstancePropertyChangedHistoryJsonTransformer.PROPERTY_BUSINESS_KEY);
@@ -534,13 +533,13 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
 
     /* Helper methods */
     
-    protected Map<String, String> getActivityStart(String executionId, String activityId, boolean removeFromAsyncHistorySession) {
-        Map<String, List<Map<String, String>>> jobData = getAsyncHistorySession().getJobData();
+    protected Map<String, Object> getActivityStart(String executionId, String activityId, boolean removeFromAsyncHistorySession) {
+        Map<String, List<Map<String, Object>>> jobData = getAsyncHistorySession().getJobData();
         if (jobData != null && jobData.containsKey(HistoryJsonConstants.TYPE_ACTIVITY_START)) {
-            List<Map<String, String>> activityStartDataList = jobData.get(HistoryJsonConstants.TYPE_ACTIVITY_START);
-            Iterator<Map<String, String>> activityStartDataIterator = activityStartDataList.iterator();
+            List<Map<String, Object>> activityStartDataList = jobData.get(HistoryJsonConstants.TYPE_ACTIVITY_START);
+            Iterator<Map<String, Object>> activityStartDataIterator = activityStartDataList.iterator();
             while (activityStartDataIterator.hasNext()) {
-                Map<String, String> activityStartData = activityStartDataIterator.next();
+                Map<String, Object> activityStartData = activityStartDataIterator.next();
                 if (activityId.equals(activityStartData.get(HistoryJsonConstants.ACTIVITY_ID))
                         && executionId.equals(activityStartData.get(HistoryJsonConstants.EXECUTION_ID))) {
                     if (removeFromAsyncHistorySession) {
@@ -553,37 +552,39 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
         return null;
     }
     
-    protected void putIfNotNull(Map<String, String> map, String key, String value) {
+    protected void putIfNotNull(Map<String, Object> map, String key, String value) {
         if (value != null) {
             map.put(key, value);
         }
     }
 
-    protected void putIfNotNull(Map<String, String> map, String key, int value) {
-        map.put(key, Integer.toString(value));
+    protected void putIfNotNull(Map<String, Object> map, String key, Integer value) {
+        if (value != null) {
+            map.put(key, value);
+        }
     }
     
-    protected void putIfNotNull(Map<String, String> map, String key, Double value) {
+    protected void putIfNotNull(Map<String, Object> map, String key, Double value) {
         if (value != null) {
-            map.put(key, Double.toString(value));
+            map.put(key, value);
         }
     }
     
-    protected void putIfNotNull(Map<String, String> map, String key, Long value) {
+    protected void putIfNotNull(Map<String, Object> map, String key, Long value) {
         if (value != null) {
-            map.put(key, Long.toString(value));
+            map.put(key, value);
         }
     }
 
-    protected void putIfNotNull(Map<String, String> map, String key, Date value) {
+    protected void putIfNotNull(Map<String, Object> map, String key, Date value) {
         if (value != null) {
-            map.put(key, AsyncHistoryDateUtil.formatDate(value));
+            map.put(key, value);
         }
     }
     
-    protected void putIfNotNull(Map<String, String> map, String key, Boolean value) {
+    protected void putIfNotNull(Map<String, Object> map, String key, Boolean value) {
         if (value != null) {
-            map.put(key, Boolean.toString(value));
+            map.put(key, value);
         }
     }
 
@@ -37,7 +37,7 @@ public class AsyncHistorySession implements Session {
     protected AsyncHistoryCommittedTransactionListener asyncHistoryCommittedTransactionListener;
 
     protected String tenantId;
-    protected Map<String, List<Map<String, String>>> jobData;
+    protected Map<String, List<Map<String, Object>>> jobData;
 
     public AsyncHistorySession(CommandContext commandContext, AsyncHistoryListener asyncHistoryJobListener) {
         this.commandContext = commandContext;
@@ -73,13 +73,13 @@ public class AsyncHistorySession implements Session {
         }
     }
 
-    public void addHistoricData(String type, Map<String, String> data) {
+    public void addHistoricData(String type, Map<String, Object> data) {
         addHistoricData(type, data, null);
     }
 
-    public void addHistoricData(String type, Map<String, String> data, String tenantId) {
+    public void addHistoricData(String type, Map<String, Object> data, String tenantId) {
         
-        data.put(HistoryJsonConstants.TIMESTAMP, AsyncHistoryDateUtil.formatDate(CommandContextUtil.getProcessEngineConfiguration(commandContext).getClock().getCurrentTime()));
+        data.put(HistoryJsonConstants.TIMESTAMP, CommandContextUtil.getProcessEngineConfiguration(commandContext).getClock().getCurrentTime());
         
         if (jobData == null) {
             jobData = new LinkedHashMap<>(); // linked: insertion order is important
@@ -90,7 +90,7 @@ public class AsyncHistorySession implements Session {
         }
         
         if (!jobData.containsKey(type)) {
-            jobData.put(type, new ArrayList<Map<String, String>>(1));
+            jobData.put(type, new ArrayList<Map<String, Object>>(1));
         }
         jobData.get(type).add(data);
     }
@@ -113,11 +113,11 @@ public class AsyncHistorySession implements Session {
         this.tenantId = tenantId;
     }
 
-    public Map<String, List<Map<String, String>>> getJobData() {
+    public Map<String, List<Map<String, Object>>> getJobData() {
         return jobData;
     }
 
-    public void setJobData(Map<String, List<Map<String, String>>> jobData) {
+    public void setJobData(Map<String, List<Map<String, Object>>> jobData) {
         this.jobData = jobData;
     }
     
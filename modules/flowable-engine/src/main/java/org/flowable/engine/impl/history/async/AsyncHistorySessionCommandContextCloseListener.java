@@ -14,6 +14,7 @@ package org.flowable.engine.impl.history.async;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
@@ -65,7 +66,7 @@ public class AsyncHistorySessionCommandContextCloseListener implements CommandCo
     
     @Override
     public void closing(CommandContext commandContext) {
-        Map<String, List<Map<String, String>>> jobData = asyncHistorySession.getJobData();
+        Map<String, List<Map<String, Object>>> jobData = asyncHistorySession.getJobData();
         if (!jobData.isEmpty()) {
             List<ObjectNode> objectNodes = new ArrayList<>();
             for (String type : TYPE_ORDER) {
@@ -83,27 +84,51 @@ public class AsyncHistorySessionCommandContextCloseListener implements CommandCo
         }
     }
 
-    protected void generateJson(CommandContext commandContext, Map<String, List<Map<String, String>>> jobData, List<ObjectNode> objectNodes, String type) {
-        List<Map<String, String>> historicDataList = jobData.get(type);
-        for (Map<String, String> historicData: historicDataList) {
+    protected void generateJson(CommandContext commandContext, Map<String, List<Map<String, Object>>> jobData, List<ObjectNode> objectNodes, String type) {
+        List<Map<String, Object>> historicDataList = jobData.get(type);
+        for (Map<String, Object> historicData: historicDataList) {
             ObjectNode historyJson = generateJson(commandContext, type, historicData);
             objectNodes.add(historyJson);
         }
         jobData.remove(type);
     }
     
-    protected ObjectNode generateJson(CommandContext commandContext, String type, Map<String, String> historicData) {
+    protected ObjectNode generateJson(CommandContext commandContext, String type, Map<String, Object> historicData) {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         ObjectNode elementObjectNode = processEngineConfiguration.getObjectMapper().createObjectNode();
         elementObjectNode.put(HistoryJsonConstants.TYPE, type);
 
         ObjectNode dataNode = elementObjectNode.putObject(HistoryJsonConstants.DATA);
         for (String key : historicData.keySet()) {
-            dataNode.put(key, historicData.get(key));
+            putValue(dataNode, key, historicData.get(key));
         }
         return elementObjectNode;
     }
 
+    /**
+     * Keeps the type of the collected value in the json, so no text needs to be parsed when the data is written to the history tables.
+     * Dates are stored as epoch milliseconds.
+     */
+    protected void putValue(ObjectNode dataNode, String key, Object value) {
+        if (value instanceof String) {
+            dataNode.put(key, (String) value);
+        } else if (value instanceof Date) {
+            dataNode.put(key, ((Date) value).getTime());
+        } else if (value instanceof Integer) {
+            dataNode.put(key, (Integer) value);
+        } else if (value instanceof Long) {
+            dataNode.put(key, (Long) value);
+        } else if (value instanceof Double) {
+            dataNode.put(key, (Double) value);
+        } else if (value instanceof Boolean) {
+            dataNode.put(key, (Boolean) value);
+        } else if (value == null) {
+            dataNode.putNull(key);
+        } else {
+            dataNode.put(key, value.toString());
+        }
+    }
+
     @Override
     public void closed(CommandContext commandContext) {
     }
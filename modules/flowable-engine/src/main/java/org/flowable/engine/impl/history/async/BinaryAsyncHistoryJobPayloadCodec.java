@@ -0,0 +1,360 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * {@link AsyncHistoryJobPayloadCodec} that stores the historic data in a compact, typed binary format instead of json text.
+ * 
+ * The historic data keeps the type of the collected values (see {@link AsyncHistorySessionCommandContextCloseListener}), dates being epoch milliseconds. So:
+ * <ul>
+ * <li>integer numbers (including dates) are written as variable length numbers,</li>
+ * <li>field names and short text values that occur more than once (e.g. the process instance id) are only written the first time, and referenced afterwards.</li>
+ * </ul>
+ * Decoding gives back exactly the same json tree, so the transformers don't need to know which codec was used.
+ * 
+ * Payloads that don't start with the binary header are decoded as json, so jobs that were created before switching to this codec can still be executed.
+ */
+public class BinaryAsyncHistoryJobPayloadCodec implements AsyncHistoryJobPayloadCodec {
+
+    protected static final byte[] HEADER = new byte[] { (byte) 0xFA, (byte) 0x01 };
+
+    protected static final byte NULL = 0;
+    protected static final byte TRUE = 1;
+    protected static final byte FALSE = 2;
+    protected static final byte INT = 3;
+    protected static final byte LONG = 4;
+    protected static final byte DOUBLE = 5;
+    protected static final byte BIG_INTEGER = 6;
+    protected static final byte BIG_DECIMAL = 7;
+    protected static final byte TEXT = 8;
+    protected static final byte TEXT_REFERENCE = 9;
+    protected static final byte ARRAY = 10;
+    protected static final byte OBJECT = 11;
+    protected static final byte BINARY = 12;
+
+    /**
+     * Text values longer than this are not kept for referencing, as they are unlikely to be repeated.
+     */
+    protected static final int MAX_REFERENCED_TEXT_LENGTH = 128;
+
+    protected JsonAsyncHistoryJobPayloadCodec jsonCodec;
+    protected JsonNodeFactory nodeFactory;
+
+    public BinaryAsyncHistoryJobPayloadCodec(ObjectMapper objectMapper) {
+        this.jsonCodec = new JsonAsyncHistoryJobPayloadCodec(objectMapper);
+        this.nodeFactory = objectMapper.getNodeFactory();
+    }
+
+    public static boolean isBinaryPayload(byte[] bytes) {
+        return bytes != null && bytes.length >= HEADER.length && bytes[0] == HEADER[0] && bytes[1] == HEADER[1];
+    }
+
+    @Override
+    public byte[] encode(JsonNode historyNode) {
+        Encoder encoder = new Encoder();
+        encoder.writeBytes(HEADER);
+        encoder.writeNode(historyNode);
+        return encoder.toByteArray();
+    }
+
+    @Override
+    public JsonNode decode(byte[] bytes) {
+        if (!isBinaryPayload(bytes)) {
+            return jsonCodec.decode(bytes);
+        }
+
+        try {
+            Decoder decoder = new Decoder(bytes, HEADER.length);
+            return decoder.readNode();
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new FlowableException("Could not deserialize historic data for async history: unexpected end of binary payload", e);
+        }
+    }
+
+    protected class Encoder {
+
+        protected byte[] buffer = new byte[512];
+        protected int position;
+        protected Map<String, Integer> textReferences = new HashMap<>();
+
+        public void writeNode(JsonNode node) {
+            switch (node.getNodeType()) {
+            case OBJECT:
+                writeByte(OBJECT);
+                writeVarInt(node.size());
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    writeText(field.getKey());
+                    writeNode(field.getValue());
+                }
+                break;
+
+            case ARRAY:
+                writeByte(ARRAY);
+                writeVarInt(node.size());
+                for (JsonNode element : node) {
+                    writeNode(element);
+                }
+                break;
+
+            case STRING:
+                writeText(node.textValue());
+                break;
+
+            case NUMBER:
+                writeNumber(node);
+                break;
+
+            case BOOLEAN:
+                writeByte(node.booleanValue() ? TRUE : FALSE);
+                break;
+
+            case BINARY:
+                try {
+                    byte[] binaryValue = node.binaryValue();
+                    writeByte(BINARY);
+                    writeVarInt(binaryValue.length);
+                    writeBytes(binaryValue);
+                } catch (IOException e) {
+                    throw new FlowableException("Could not serialize historic data for async history", e);
+                }
+                break;
+
+            default:
+                writeByte(NULL);
+                break;
+            }
+        }
+
+        protected void writeNumber(JsonNode node) {
+            if (node.isInt() || node.isShort()) {
+                writeByte(INT);
+                writeVarLong(zigZag(node.intValue()));
+            } else if (node.isLong()) {
+                writeByte(LONG);
+                writeVarLong(zigZag(node.longValue()));
+            } else if (node.isBigInteger()) {
+                writeByte(BIG_INTEGER);
+                writeText(node.bigIntegerValue().toString());
+            } else if (node.isBigDecimal()) {
+                writeByte(BIG_DECIMAL);
+                writeText(node.decimalValue().toString());
+            } else {
+                writeByte(DOUBLE);
+                long bits = Double.doubleToLongBits(node.doubleValue());
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    writeByte((byte) (bits >>> shift));
+                }
+            }
+        }
+
+        protected void writeText(String text) {
+            Integer reference = textReferences.get(text);
+            if (reference != null) {
+                writeByte(TEXT_REFERENCE);
+                writeVarInt(reference);
+                return;
+            }
+
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            writeByte(TEXT);
+            writeVarInt(bytes.length);
+            writeBytes(bytes);
+            if (text.length() <= MAX_REFERENCED_TEXT_LENGTH) {
+                textReferences.put(text, textReferences.size());
+            }
+        }
+
+        protected long zigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+
+        protected void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        protected void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((byte) value);
+        }
+
+        protected void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[position++] = value;
+        }
+
+        protected void writeBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        protected void ensureCapacity(int length) {
+            if (position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            }
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+    }
+
+    protected class Decoder {
+
+        protected byte[] bytes;
+        protected int position;
+        protected String[] textReferences = new String[64];
+        protected int textReferenceCount;
+
+        public Decoder(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        public JsonNode readNode() {
+            byte type = bytes[position++];
+            switch (type) {
+            case OBJECT:
+                int fieldCount = readVarInt();
+                ObjectNode objectNode = nodeFactory.objectNode();
+                for (int i = 0; i < fieldCount; i++) {
+                    String fieldName = readText(bytes[position++]);
+                    objectNode.set(fieldName, readNode());
+                }
+                return objectNode;
+
+            case ARRAY:
+                int size = readVarInt();
+                ArrayNode arrayNode = nodeFactory.arrayNode();
+                for (int i = 0; i < size; i++) {
+                    arrayNode.add(readNode());
+                }
+                return arrayNode;
+
+            case TEXT:
+            case TEXT_REFERENCE:
+                return nodeFactory.textNode(readText(type));
+
+            case INT:
+                return nodeFactory.numberNode((int) unZigZag(readVarLong()));
+
+            case LONG:
+                return nodeFactory.numberNode(unZigZag(readVarLong()));
+
+            case DOUBLE:
+                long bits = 0;
+                for (int i = 0; i < 8; i++) {
+                    bits = (bits << 8) | (bytes[position++] & 0xFF);
+                }
+                return nodeFactory.numberNode(Double.longBitsToDouble(bits));
+
+            case BIG_INTEGER:
+                return nodeFactory.numberNode(new BigInteger(readText(bytes[position++])));
+
+            case BIG_DECIMAL:
+                return nodeFactory.numberNode(new BigDecimal(readText(bytes[position++])));
+
+            case TRUE:
+                return nodeFactory.booleanNode(true);
+
+            case FALSE:
+                return nodeFactory.booleanNode(false);
+
+            case BINARY:
+                int length = readVarInt();
+                byte[] binaryValue = Arrays.copyOfRange(bytes, position, position + length);
+                position += length;
+                return nodeFactory.binaryNode(binaryValue);
+
+            case NULL:
+                return nodeFactory.nullNode();
+
+            default:
+                throw new FlowableException("Could not deserialize historic data for async history: unknown type " + type + " at position " + (position - 1));
+            }
+        }
+
+        protected String readText(byte type) {
+            if (type == TEXT_REFERENCE) {
+                int reference = readVarInt();
+                if (reference >= textReferenceCount) {
+                    throw new FlowableException("Could not deserialize historic data for async history: unknown text reference " + reference);
+                }
+                return textReferences[reference];
+
+            } else if (type != TEXT) {
+                throw new FlowableException("Could not deserialize historic data for async history: expected text at position " + (position - 1));
+            }
+
+            int length = readVarInt();
+            if (position + length > bytes.length) {
+                throw new FlowableException("Could not deserialize historic data for async history: unexpected end of binary payload");
+            }
+            String text = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+
+            if (text.length() <= MAX_REFERENCED_TEXT_LENGTH) {
+                if (textReferenceCount == textReferences.length) {
+                    textReferences = Arrays.copyOf(textReferences, textReferenceCount * 2);
+                }
+                textReferences[textReferenceCount++] = text;
+            }
+            return text;
+        }
+
+        protected long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        protected int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        protected long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+    }
+
+}
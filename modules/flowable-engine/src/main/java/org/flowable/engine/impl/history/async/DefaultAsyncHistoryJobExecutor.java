@@ -12,14 +12,30 @@
  */
 package org.flowable.engine.impl.history.async;
 
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.asyncexecutor.JobManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.JobInfo;
 
 public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
+
+    /**
+     * When larger than 1, the acquired history jobs are executed in batches of (at most) this number of jobs, each batch in one transaction.
+     * When a batch fails, its jobs are executed one by one (see {@link ExecuteAsyncHistoryJobBatchRunnable}).
+     */
+    protected int historyJobBatchSize = 1;
     
     public DefaultAsyncHistoryJobExecutor() {
         setTimerRunnableNeeded(false);
         setAcquireRunnableThreadName("flowable-acquire-history-jobs");
         setResetExpiredRunnableName("flowable-reset-expired-history-jobs");
+        setMetricsPrefix("flowable.async-history-executor");
         setAsyncRunnableExecutionExceptionHandler(new UnacquireAsyncHistoryJobExceptionHandler());
     }
     
@@ -30,4 +46,72 @@ public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
         }
     }
 
+    @Override
+    protected void initializeRunnables() {
+        if (isHistoryJobBatchExecutionEnabled() && !isMessageQueueMode && asyncJobsDueRunnable == null) {
+            asyncJobsDueRunnable = new AcquireAsyncHistoryJobBatchesDueRunnable(acquireRunnableThreadName, this, jobEntityManager);
+        }
+        super.initializeRunnables();
+    }
+
+    /**
+     * Executes the given history jobs in one transaction on the thread pool of this executor.
+     * Returns false when the thread pool queue is full, in which case all jobs of the batch are unacquired.
+     */
+    public boolean executeAsyncHistoryJobBatch(final List<? extends JobInfo> jobs) {
+        if (jobs.size() == 1) {
+            return executeAsyncJob(jobs.get(0));
+        }
+
+        if (isMessageQueueMode) {
+            return true;
+        }
+
+        if (!isActive) {
+            temporaryJobQueue.addAll(jobs);
+            return true;
+        }
+
+        try {
+            executorService.execute(new ExecuteAsyncHistoryJobBatchRunnable(jobs, processEngineConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler));
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            countRejectedJobs(jobs.size());
+
+            // Same as for a single job: the jobs are unlocked so they can be acquired again later or by another executor
+            CommandContext commandContext = Context.getCommandContext();
+            if (commandContext != null) {
+                unacquireJobs(commandContext, jobs);
+            } else {
+                processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+                    public Void execute(CommandContext commandContext) {
+                        unacquireJobs(commandContext, jobs);
+                        return null;
+                    }
+                });
+            }
+            return false;
+        }
+    }
+
+    protected void unacquireJobs(CommandContext commandContext, List<? extends JobInfo> jobs) {
+        JobManager jobManager = CommandContextUtil.getJobManager(commandContext);
+        for (JobInfo job : jobs) {
+            jobManager.unacquire(job);
+        }
+    }
+
+    public boolean isHistoryJobBatchExecutionEnabled() {
+        return historyJobBatchSize > 1;
+    }
+
+    public int getHistoryJobBatchSize() {
+        return historyJobBatchSize;
+    }
+
+    public void setHistoryJobBatchSize(int historyJobBatchSize) {
+        this.historyJobBatchSize = historyJobBatchSize;
+    }
+
 }
@@ -25,7 +25,6 @@ import org.flowable.engine.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.engine.impl.persistence.entity.HistoryJobEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -74,15 +73,11 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
     }
 
     protected void addJsonToJob(CommandContext commandContext, HistoryJobEntity jobEntity, JsonNode rootObjectNode, boolean applyCompression) {
-        try {
-            byte[] bytes = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper().writeValueAsBytes(rootObjectNode);
-            if (applyCompression) {
-                bytes = compress(bytes);
-            }
-            jobEntity.setAdvancedJobHandlerConfigurationBytes(bytes);
-        } catch (JsonProcessingException e) {
-            throw new FlowableException("Could not serialize historic data for async history", e);
+        byte[] bytes = CommandContextUtil.getProcessEngineConfiguration(commandContext).getAsyncHistoryJobPayloadCodec().encode(rootObjectNode);
+        if (applyCompression) {
+            bytes = compress(bytes);
         }
+        jobEntity.setAdvancedJobHandlerConfigurationBytes(bytes);
     }
 
     protected byte[] compress(final byte[] bytes) {
@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.impl.asyncexecutor.AsyncRunnableExecutionExceptionHandler;
+import org.flowable.engine.impl.asyncexecutor.ExecuteAsyncRunnable;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.ExecuteHistoryJobBatchCmd;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntityManager;
+import org.flowable.engine.runtime.JobInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a batch of history jobs in one transaction (see {@link ExecuteHistoryJobBatchCmd}).
+ * 
+ * When the batch fails, for example because one of the jobs is not applicable yet or because of a concurrent update,
+ * the jobs are executed one by one in the same way as when batching is disabled. This way, a failing job gets its retries decremented
+ * or is unacquired on its own, without holding back the other jobs of the batch.
+ */
+public class ExecuteAsyncHistoryJobBatchRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteAsyncHistoryJobBatchRunnable.class);
+
+    protected List<? extends JobInfo> jobs;
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler;
+
+    public ExecuteAsyncHistoryJobBatchRunnable(List<? extends JobInfo> jobs, ProcessEngineConfigurationImpl processEngineConfiguration,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
+            AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler) {
+        this.jobs = jobs;
+        this.processEngineConfiguration = processEngineConfiguration;
+        this.jobEntityManager = jobEntityManager;
+        this.asyncRunnableExecutionExceptionHandler = asyncRunnableExecutionExceptionHandler;
+    }
+
+    @Override
+    public void run() {
+        List<String> jobIds = new ArrayList<>(jobs.size());
+        for (JobInfo job : jobs) {
+            jobIds.add(job.getId());
+        }
+
+        try {
+            processEngineConfiguration.getCommandExecutor().execute(new ExecuteHistoryJobBatchCmd(jobIds, jobEntityManager));
+
+        } catch (Throwable exception) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Batch of {} history jobs could not be executed, executing the jobs one by one. Exception message: {}", jobs.size(), exception.getMessage());
+            }
+            executeJobsOneByOne();
+        }
+    }
+
+    protected void executeJobsOneByOne() {
+        for (JobInfo job : jobs) {
+            new ExecuteAsyncRunnable(job, processEngineConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler).run();
+        }
+    }
+
+    public List<? extends JobInfo> getJobs() {
+        return jobs;
+    }
+
+}
@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.io.IOException;
+
+import org.flowable.engine.common.api.FlowableException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Default {@link AsyncHistoryJobPayloadCodec}, storing the historic data as json text.
+ */
+public class JsonAsyncHistoryJobPayloadCodec implements AsyncHistoryJobPayloadCodec {
+
+    protected ObjectMapper objectMapper;
+
+    public JsonAsyncHistoryJobPayloadCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] encode(JsonNode historyNode) {
+        try {
+            return objectMapper.writeValueAsBytes(historyNode);
+        } catch (IOException e) {
+            throw new FlowableException("Could not serialize historic data for async history", e);
+        }
+    }
+
+    @Override
+    public JsonNode decode(byte[] bytes) {
+        try {
+            return objectMapper.readTree(bytes);
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize historic data for async history", e);
+        }
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+}
@@ -24,6 +24,7 @@ import org.flowable.engine.impl.history.async.HistoryJsonConstants;
 import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public abstract class AbstractHistoryJsonTransformer implements HistoryJsonTransformer {
@@ -36,6 +37,11 @@ public abstract class AbstractHistoryJsonTransformer implements HistoryJsonTrans
     }
 
     protected Date getDateFromJson(ObjectNode objectNode, String fieldName) {
+        JsonNode dateNode = objectNode.get(fieldName);
+        if (dateNode != null && dateNode.isNumber()) {
+            return new Date(dateNode.longValue());
+        }
+        // Historic data of jobs created before dates were stored as epoch milliseconds
         String s = getStringFromJson(objectNode, fieldName);
         return AsyncHistoryDateUtil.parseDate(s);
     }
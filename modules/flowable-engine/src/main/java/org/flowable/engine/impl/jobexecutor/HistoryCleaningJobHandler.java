@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.asyncexecutor.JobManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.CleanHistoryCmd;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes a batch of the historic process instances that ended longer ago than their retention period (see {@link CleanHistoryCmd}).
+ *
+ * Executed by the repeating history cleaning timer job. When a batch is full, an async job with this handler is scheduled to delete the next batch
+ * right away, each batch in its own transaction, until everything that is due has been deleted.
+ */
+public class HistoryCleaningJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistoryCleaningJobHandler.class);
+
+    public static final String TYPE = "history-cleaning";
+
+    public String getType() {
+        return TYPE;
+    }
+
+    public void execute(JobEntity job, String configuration, ExecutionEntity execution, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (!processEngineConfiguration.isEnableHistoryCleaning()) {
+            LOGGER.debug("History cleaning is not enabled on this engine, skipping job {}", job.getId());
+            return;
+        }
+
+        long deletedHistoricProcessInstances = new CleanHistoryCmd().execute(commandContext);
+        if (deletedHistoricProcessInstances >= processEngineConfiguration.getHistoryCleaningBatchSize()) {
+            scheduleNextBatch(job, processEngineConfiguration);
+        }
+    }
+
+    protected void scheduleNextBatch(JobEntity job, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        JobManager jobManager = processEngineConfiguration.getJobManager();
+        JobEntity nextBatchJob = jobManager.createAsyncJob(TYPE, null);
+        nextBatchJob.setTenantId(job.getTenantId());
+        jobManager.scheduleAsyncJob(nextBatchJob);
+    }
+
+}
@@ -0,0 +1,191 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.ProcessInstanceQueryImpl;
+import org.flowable.engine.impl.asyncexecutor.JobManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityManager;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.json.JSONObject;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes the process instances of the process definition of the job in batches, one batch per job (and thus per transaction).
+ * After each batch, a new job is scheduled for the next batch, with the progress so far in its configuration.
+ *
+ * When the history needs to be deleted too, the historic process instances that are left once all process instances are deleted
+ * are deleted in batches the same way. These are deleted directly, with one statement per historic table, also when the history is async:
+ * the next job would find them again otherwise. A job that doesn't find anything to delete anymore ends the deletion.
+ */
+public class ProcessInstancesDeletionJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessInstancesDeletionJobHandler.class);
+
+    public static final String TYPE = "delete-process-instances";
+
+    public static final String PROPERTYNAME_DELETE_REASON = "deleteReason";
+    public static final String PROPERTYNAME_DELETE_HISTORY = "deleteHistory";
+    public static final String PROPERTYNAME_DELETED_PROCESS_INSTANCES = "deletedProcessInstances";
+    public static final String PROPERTYNAME_DELETED_HISTORIC_PROCESS_INSTANCES = "deletedHistoricProcessInstances";
+
+    public String getType() {
+        return TYPE;
+    }
+
+    public void execute(JobEntity job, String configuration, ExecutionEntity execution, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        int batchSize = processEngineConfiguration.getProcessInstancesDeletionBatchSize();
+
+        JSONObject cfgJson = new JSONObject(configuration);
+        String processDefinitionId = job.getProcessDefinitionId();
+        String deleteReason = getDeleteReason(cfgJson);
+        boolean deleteHistory = isDeleteHistory(cfgJson);
+        long deletedProcessInstances = getDeletedProcessInstances(cfgJson);
+        long deletedHistoricProcessInstances = getDeletedHistoricProcessInstances(cfgJson);
+
+        List<ProcessInstance> processInstances = new ProcessInstanceQueryImpl(commandContext)
+                .processDefinitionId(processDefinitionId)
+                .listPage(0, batchSize);
+
+        if (!processInstances.isEmpty()) {
+            ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+            for (ProcessInstance processInstance : processInstances) {
+                // A process instance could already be deleted as sub process instance of another process instance of the batch
+                ExecutionEntity processInstanceEntity = (ExecutionEntity) processInstance;
+                if (!processInstanceEntity.isDeleted()) {
+                    executionEntityManager.deleteProcessInstance(processInstanceEntity.getId(), deleteReason, deleteHistory);
+                }
+                deletedProcessInstances++;
+            }
+
+        } else if (deleteHistory) {
+            // Only looked at once all process instances are deleted, as the historic process instances deleted in this transaction would be found again otherwise
+            List<HistoricProcessInstance> historicProcessInstances = new HistoricProcessInstanceQueryImpl(commandContext)
+                    .processDefinitionId(processDefinitionId)
+                    .listPage(0, batchSize);
+
+            if (historicProcessInstances.isEmpty()) {
+                LOGGER.info("Deleted {} process instances and {} historic process instances of process definition {}",
+                        deletedProcessInstances, deletedHistoricProcessInstances, processDefinitionId);
+                return;
+            }
+
+            Set<String> historicProcessInstanceIds = new LinkedHashSet<>();
+            for (HistoricProcessInstance historicProcessInstance : historicProcessInstances) {
+                historicProcessInstanceIds.add(historicProcessInstance.getId());
+            }
+            deletedHistoricProcessInstances += historicProcessInstanceIds.size();
+            collectSubProcessInstanceIds(historicProcessInstanceIds, commandContext);
+            CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).deleteHistoricProcessInstancesAndRelatedDataForIds(historicProcessInstanceIds);
+
+        } else {
+            LOGGER.info("Deleted {} process instances of process definition {}", deletedProcessInstances, processDefinitionId);
+            return;
+        }
+
+        scheduleJob(processDefinitionId, job.getTenantId(),
+                createConfiguration(deleteReason, deleteHistory, deletedProcessInstances, deletedHistoricProcessInstances), true, commandContext);
+    }
+
+    /**
+     * Adds the historic sub process instances (of any process definition) of the given historic process instances, all levels deep, with one query per level.
+     */
+    protected void collectSubProcessInstanceIds(Set<String> historicProcessInstanceIds, CommandContext commandContext) {
+        HistoricProcessInstanceEntityManager historicProcessInstanceEntityManager = CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext);
+        Collection<String> superProcessInstanceIds = new ArrayList<>(historicProcessInstanceIds);
+        while (!superProcessInstanceIds.isEmpty()) {
+            List<String> subProcessInstanceIds = new ArrayList<>();
+            for (String subProcessInstanceId : historicProcessInstanceEntityManager.findHistoricProcessInstanceIdsBySuperProcessInstanceIds(superProcessInstanceIds)) {
+                if (historicProcessInstanceIds.add(subProcessInstanceId)) {
+                    subProcessInstanceIds.add(subProcessInstanceId);
+                }
+            }
+            superProcessInstanceIds = subProcessInstanceIds;
+        }
+    }
+
+    /**
+     * Schedules a job that deletes the next batch. When the job is scheduled for a batch following another one and a
+     * {@link ProcessEngineConfigurationImpl#getProcessInstancesDeletionBatchDelay() batch delay} is configured, it's scheduled as a timer job
+     * that is due after the delay. Otherwise it's an async job that can be executed right away.
+     */
+    public static void scheduleJob(String processDefinitionId, String tenantId, String configuration, boolean nextBatch, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        int batchDelay = processEngineConfiguration.getProcessInstancesDeletionBatchDelay();
+
+        if (nextBatch && batchDelay > 0) {
+            TimerJobEntity timerJob = processEngineConfiguration.getTimerJobEntityManager().create();
+            timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+            timerJob.setRevision(1);
+            timerJob.setRetries(processEngineConfiguration.getAsyncExecutorNumberOfRetries());
+            timerJob.setProcessDefinitionId(processDefinitionId);
+            timerJob.setTenantId(tenantId);
+            timerJob.setDuedate(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + batchDelay));
+            timerJob.setJobHandlerType(TYPE);
+            timerJob.setJobHandlerConfiguration(configuration);
+            processEngineConfiguration.getJobManager().scheduleTimerJob(timerJob);
+
+        } else {
+            JobManager jobManager = processEngineConfiguration.getJobManager();
+            JobEntity job = jobManager.createAsyncJob(TYPE, configuration);
+            job.setProcessDefinitionId(processDefinitionId);
+            job.setTenantId(tenantId);
+            jobManager.scheduleAsyncJob(job);
+        }
+    }
+
+    public static String createConfiguration(String deleteReason, boolean deleteHistory, long deletedProcessInstances, long deletedHistoricProcessInstances) {
+        JSONObject cfgJson = new JSONObject();
+        if (deleteReason != null) {
+            cfgJson.put(PROPERTYNAME_DELETE_REASON, deleteReason);
+        }
+        cfgJson.put(PROPERTYNAME_DELETE_HISTORY, deleteHistory);
+        cfgJson.put(PROPERTYNAME_DELETED_PROCESS_INSTANCES, deletedProcessInstances);
+        cfgJson.put(PROPERTYNAME_DELETED_HISTORIC_PROCESS_INSTANCES, deletedHistoricProcessInstances);
+        return cfgJson.toString();
+    }
+
+    public static String getDeleteReason(JSONObject cfgJson) {
+        return cfgJson.has(PROPERTYNAME_DELETE_REASON) ? cfgJson.getString(PROPERTYNAME_DELETE_REASON) : null;
+    }
+
+    public static boolean isDeleteHistory(JSONObject cfgJson) {
+        return cfgJson.getBoolean(PROPERTYNAME_DELETE_HISTORY);
+    }
+
+    public static long getDeletedProcessInstances(JSONObject cfgJson) {
+        return cfgJson.optLong(PROPERTYNAME_DELETED_PROCESS_INSTANCES);
+    }
+
+    public static long getDeletedHistoricProcessInstances(JSONObject cfgJson) {
+        return cfgJson.optLong(PROPERTYNAME_DELETED_HISTORIC_PROCESS_INSTANCES);
+    }
+
+}
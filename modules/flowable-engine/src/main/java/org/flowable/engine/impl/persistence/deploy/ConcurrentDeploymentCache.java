@@ -0,0 +1,129 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import org.flowable.engine.common.impl.util.BoundedConcurrentCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache that can be read concurrently without locking, unlike the {@link DefaultDeploymentCache} whose LRU bookkeeping changes the map on every get.
+ *
+ * Backed by a {@link BoundedConcurrentCache}: when a limit is set, the least frequently used object is evicted when the limit is exceeded.
+ * An object that was just added is never evicted by that same add, as the {@link DeploymentManager} expects deployed objects to be in the cache right after deploying.
+ *
+ * The limit is expressed in weight: by default every object has weight 1, a {@link DeploymentCacheWeigher} can be passed to give big objects a bigger weight.
+ * Hits, misses and evictions are counted and can be retrieved for monitoring.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected BoundedConcurrentCache<String, T> cache;
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(-1, null);
+    }
+
+    /** Cache which has a hard limit: no more elements will be cached than the limit. */
+    public ConcurrentDeploymentCache(int limit) {
+        this(limit, null);
+    }
+
+    /**
+     * Cache which has a limit on the total weight of the cached objects, as calculated by the given weigher.
+     * When the weigher is null, every object has weight 1. When the maximum weight is zero or negative, there is no limit.
+     */
+    public ConcurrentDeploymentCache(long maximumWeight, final DeploymentCacheWeigher<T> weigher) {
+        BoundedConcurrentCache.Weigher<String, T> cacheWeigher = null;
+        if (weigher != null) {
+            cacheWeigher = new BoundedConcurrentCache.Weigher<String, T>() {
+
+                @Override
+                public int weigh(String id, T object) {
+                    return weigher.weigh(id, object);
+                }
+            };
+        }
+
+        this.cache = new BoundedConcurrentCache<String, T>(maximumWeight, cacheWeigher);
+        this.cache.setEvictionListener(new BoundedConcurrentCache.EvictionListener<String, T>() {
+
+            @Override
+            public void onEviction(String id, T object) {
+                LOGGER.trace("Cache limit is reached, {} will be evicted", id);
+            }
+        });
+    }
+
+    @Override
+    public T get(String id) {
+        return cache.get(id);
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public void add(String id, T object) {
+        cache.put(id, object);
+    }
+
+    @Override
+    public void remove(String id) {
+        cache.remove(id);
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    // statistics
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    /**
+     * Returns the ratio of gets that found an object in the cache, or 1.0 when there were no gets yet.
+     */
+    public double getHitRatio() {
+        return cache.getHitRatio();
+    }
+
+    public long getWeightedSize() {
+        return cache.getWeightedSize();
+    }
+
+    public long getMaximumWeight() {
+        return cache.getMaximumWeight();
+    }
+
+    // For testing purposes only
+    public int size() {
+        return cache.size();
+    }
+
+}
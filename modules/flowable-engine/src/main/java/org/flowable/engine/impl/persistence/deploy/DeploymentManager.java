@@ -22,6 +22,10 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
@@ -41,10 +45,13 @@ import org.flowable.engine.repository.ProcessDefinition;
  */
 public class DeploymentManager {
 
+    protected static final String ATTRIBUTE_LATEST_PROCESS_DEFINITIONS_CHANGED = "ctx.attribute.latestProcessDefinitionsChanged";
+
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
     protected DeploymentCache<Object> appResourceCache;
     protected DeploymentCache<Object> knowledgeBaseCache; // Needs to be object to avoid an import to Drools in this core class
+    protected LatestProcessDefinitionCache latestProcessDefinitionCache; // Null when not enabled
     protected List<Deployer> deployers;
 
     protected ProcessEngineConfigurationImpl processEngineConfiguration;
@@ -81,24 +88,125 @@ public class DeploymentManager {
     }
 
     public ProcessDefinition findDeployedLatestProcessDefinitionByKey(String processDefinitionKey) {
+        boolean useLatestProcessDefinitionCache = isLatestProcessDefinitionCacheUsable();
+        if (useLatestProcessDefinitionCache) {
+            ProcessDefinition processDefinition = findCachedLatestProcessDefinition(processDefinitionKey, null);
+            if (processDefinition != null) {
+                return processDefinition;
+            }
+        }
+
+        long invalidationCount = useLatestProcessDefinitionCache ? latestProcessDefinitionCache.getInvalidationCount() : 0L;
         ProcessDefinition processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
 
         if (processDefinition == null) {
             throw new FlowableObjectNotFoundException("no processes deployed with key '" + processDefinitionKey + "'", ProcessDefinition.class);
         }
         processDefinition = resolveProcessDefinition(processDefinition).getProcessDefinition();
+
+        if (useLatestProcessDefinitionCache) {
+            latestProcessDefinitionCache.add(processDefinition, invalidationCount);
+        }
         return processDefinition;
     }
 
     public ProcessDefinition findDeployedLatestProcessDefinitionByKeyAndTenantId(String processDefinitionKey, String tenantId) {
+        boolean useLatestProcessDefinitionCache = isLatestProcessDefinitionCacheUsable();
+        if (useLatestProcessDefinitionCache) {
+            ProcessDefinition processDefinition = findCachedLatestProcessDefinition(processDefinitionKey, tenantId);
+            if (processDefinition != null) {
+                return processDefinition;
+            }
+        }
+
+        long invalidationCount = useLatestProcessDefinitionCache ? latestProcessDefinitionCache.getInvalidationCount() : 0L;
         ProcessDefinition processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, tenantId);
         if (processDefinition == null) {
             throw new FlowableObjectNotFoundException("no processes deployed with key '" + processDefinitionKey + "' for tenant identifier '" + tenantId + "'", ProcessDefinition.class);
         }
         processDefinition = resolveProcessDefinition(processDefinition).getProcessDefinition();
+
+        if (useLatestProcessDefinitionCache) {
+            latestProcessDefinitionCache.add(processDefinition, invalidationCount);
+        }
         return processDefinition;
     }
 
+    /**
+     * The latest process definition cache can't be used in a transaction that deployed or deleted process definitions:
+     * it is only updated when that transaction is committed.
+     */
+    protected boolean isLatestProcessDefinitionCacheUsable() {
+        if (latestProcessDefinitionCache == null) {
+            return false;
+        }
+        CommandContext commandContext = Context.getCommandContext();
+        return commandContext == null || commandContext.getAttribute(ATTRIBUTE_LATEST_PROCESS_DEFINITIONS_CHANGED) == null;
+    }
+
+    protected ProcessDefinition findCachedLatestProcessDefinition(String processDefinitionKey, String tenantId) {
+        String processDefinitionId = latestProcessDefinitionCache.get(processDefinitionKey, tenantId);
+        if (processDefinitionId == null) {
+            return null;
+        }
+
+        ProcessDefinitionCacheEntry cacheEntry = processDefinitionCache.get(processDefinitionId);
+        if (cacheEntry != null) {
+            return cacheEntry.getProcessDefinition();
+        }
+
+        ProcessDefinition processDefinition = processDefinitionEntityManager.findById(processDefinitionId);
+        if (processDefinition == null) {
+            // Deleted by another engine that didn't invalidate the cache
+            latestProcessDefinitionCache.invalidate(processDefinitionKey, tenantId);
+            return null;
+        }
+        return resolveProcessDefinition(processDefinition).getProcessDefinition();
+    }
+
+    /**
+     * Called when process definitions are deployed (or deleted) in the current transaction: the latest process definition cache
+     * will be updated when the transaction is committed and isn't used in the current transaction anymore.
+     * Passing null as process definitions invalidates the whole cache, for changes that can't be expressed per process definition.
+     */
+    public void latestProcessDefinitionsChanged(List<? extends ProcessDefinition> processDefinitions, boolean deployed) {
+        if (latestProcessDefinitionCache == null || (processDefinitions != null && processDefinitions.isEmpty())) {
+            return;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            commandContext.addAttribute(ATTRIBUTE_LATEST_PROCESS_DEFINITIONS_CHANGED, Boolean.TRUE);
+        }
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                    new LatestProcessDefinitionCacheTransactionListener(latestProcessDefinitionCache, processDefinitions, deployed));
+        } else {
+            new LatestProcessDefinitionCacheTransactionListener(latestProcessDefinitionCache, processDefinitions, false).execute(commandContext);
+        }
+    }
+
+    /**
+     * Removes the latest version of the process definition with the given key and tenant id from the cache,
+     * to be called when another engine sharing the same database deployed or deleted a version of it.
+     */
+    public void invalidateLatestProcessDefinition(String processDefinitionKey, String tenantId) {
+        if (latestProcessDefinitionCache != null) {
+            latestProcessDefinitionCache.invalidate(processDefinitionKey, tenantId);
+        }
+    }
+
+    /**
+     * Removes all cached latest process definition versions, e.g. when another engine sharing the same database deployed or deleted process definitions.
+     */
+    public void invalidateLatestProcessDefinitions() {
+        if (latestProcessDefinitionCache != null) {
+            latestProcessDefinitionCache.invalidateAll();
+        }
+    }
+
     public ProcessDefinition findDeployedProcessDefinitionByKeyAndVersionAndTenantId(String processDefinitionKey, Integer processDefinitionVersion, String tenantId) {
         ProcessDefinition processDefinition = (ProcessDefinitionEntity) processDefinitionEntityManager
                 .findProcessDefinitionByKeyAndVersionAndTenantId(processDefinitionKey, processDefinitionVersion, tenantId);
@@ -211,6 +319,7 @@ public class DeploymentManager {
             processDefinitionCache.remove(processDefinition.getId());
             processDefinitionInfoCache.remove(processDefinition.getId());
         }
+        latestProcessDefinitionsChanged(processDefinitions, false);
 
         appResourceCache.remove(deploymentId);
         knowledgeBaseCache.remove(deploymentId);
@@ -259,6 +368,14 @@ public class DeploymentManager {
         this.appResourceCache = appResourceCache;
     }
 
+    public LatestProcessDefinitionCache getLatestProcessDefinitionCache() {
+        return latestProcessDefinitionCache;
+    }
+
+    public void setLatestProcessDefinitionCache(LatestProcessDefinitionCache latestProcessDefinitionCache) {
+        this.latestProcessDefinitionCache = latestProcessDefinitionCache;
+    }
+
     public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
         return processEngineConfiguration;
     }
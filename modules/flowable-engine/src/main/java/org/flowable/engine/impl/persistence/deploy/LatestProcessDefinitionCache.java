@@ -0,0 +1,122 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.repository.ProcessDefinition;
+
+/**
+ * Keeps the id of the latest version of the process definitions by key and tenant id,
+ * so that starting a process instance by key doesn't need to query the latest version every time.
+ *
+ * Every invalidation increments a counter. A process definition that was looked up in the database is only cached
+ * when no invalidation happened since before the lookup (see {@link #getInvalidationCount()}), so that a lookup done concurrently
+ * with a deployment or a deletion can't overwrite the new state.
+ *
+ * When multiple engines share the same database, the other engines need to be told about deployments and deletions
+ * by calling {@link #invalidate(String, String)} or {@link #invalidateAll()}.
+ */
+public class LatestProcessDefinitionCache {
+
+    protected ConcurrentMap<String, LatestProcessDefinition> latestProcessDefinitions = new ConcurrentHashMap<String, LatestProcessDefinition>();
+    protected AtomicLong invalidationCount = new AtomicLong();
+
+    /**
+     * Returns the id of the latest version of the process definition with the given key and tenant id, or null when it isn't cached.
+     */
+    public String get(String processDefinitionKey, String tenantId) {
+        LatestProcessDefinition latestProcessDefinition = latestProcessDefinitions.get(getCacheKey(processDefinitionKey, tenantId));
+        return latestProcessDefinition != null ? latestProcessDefinition.id : null;
+    }
+
+    /**
+     * Returns the number of invalidations so far. Needs to be fetched before looking up a process definition in the database
+     * and passed to {@link #add(ProcessDefinition, long)} when caching the result.
+     */
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    /**
+     * Caches the given process definition, which was looked up in the database, as the latest version for its key and tenant id,
+     * unless an invalidation happened since the given invalidation count was fetched.
+     */
+    public void add(ProcessDefinition processDefinition, long invalidationCountBeforeLookup) {
+        if (invalidationCount.get() != invalidationCountBeforeLookup) {
+            return;
+        }
+
+        String cacheKey = getCacheKey(processDefinition.getKey(), processDefinition.getTenantId());
+        LatestProcessDefinition latestProcessDefinition = new LatestProcessDefinition(processDefinition.getId(), processDefinition.getVersion());
+        latestProcessDefinitions.put(cacheKey, latestProcessDefinition);
+
+        // An invalidation could have happened right before the put, in which case the value might be outdated already
+        if (invalidationCount.get() != invalidationCountBeforeLookup) {
+            latestProcessDefinitions.remove(cacheKey, latestProcessDefinition);
+        }
+    }
+
+    /**
+     * Caches the given process definition, which was just deployed, unless a higher version is cached already.
+     */
+    public void addDeployed(ProcessDefinition processDefinition) {
+        invalidationCount.incrementAndGet(); // Lookups that started before aren't cached anymore
+
+        String cacheKey = getCacheKey(processDefinition.getKey(), processDefinition.getTenantId());
+        LatestProcessDefinition latestProcessDefinition = new LatestProcessDefinition(processDefinition.getId(), processDefinition.getVersion());
+        while (true) {
+            LatestProcessDefinition currentProcessDefinition = latestProcessDefinitions.putIfAbsent(cacheKey, latestProcessDefinition);
+            if (currentProcessDefinition == null
+                    || currentProcessDefinition.version >= latestProcessDefinition.version
+                    || latestProcessDefinitions.replace(cacheKey, currentProcessDefinition, latestProcessDefinition)) {
+                return;
+            }
+        }
+    }
+
+    public void invalidate(String processDefinitionKey, String tenantId) {
+        invalidationCount.incrementAndGet();
+        latestProcessDefinitions.remove(getCacheKey(processDefinitionKey, tenantId));
+    }
+
+    public void invalidateAll() {
+        invalidationCount.incrementAndGet();
+        latestProcessDefinitions.clear();
+    }
+
+    public int size() {
+        return latestProcessDefinitions.size();
+    }
+
+    protected String getCacheKey(String processDefinitionKey, String tenantId) {
+        // A process definition key can't contain a '#', as it is the id of the process element (an xml NCName).
+        // No tenant id is stored as an empty string, so null and empty are the same here.
+        return tenantId != null ? processDefinitionKey + "#" + tenantId : processDefinitionKey + "#";
+    }
+
+    protected static class LatestProcessDefinition {
+
+        protected final String id;
+        protected final int version;
+
+        public LatestProcessDefinition(String id, int version) {
+            this.id = id;
+            this.version = version;
+        }
+
+    }
+
+}
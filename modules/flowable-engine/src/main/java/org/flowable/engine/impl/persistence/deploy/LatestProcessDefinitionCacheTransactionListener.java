@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import java.util.List;
+
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.repository.ProcessDefinition;
+
+/**
+ * Updates the {@link LatestProcessDefinitionCache} once the transaction that deployed or deleted process definitions is committed.
+ * When no process definitions are given, the whole cache is invalidated.
+ */
+public class LatestProcessDefinitionCacheTransactionListener implements TransactionListener {
+
+    protected LatestProcessDefinitionCache latestProcessDefinitionCache;
+    protected List<? extends ProcessDefinition> processDefinitions;
+    protected boolean deployed;
+
+    public LatestProcessDefinitionCacheTransactionListener(LatestProcessDefinitionCache latestProcessDefinitionCache,
+            List<? extends ProcessDefinition> processDefinitions, boolean deployed) {
+
+        this.latestProcessDefinitionCache = latestProcessDefinitionCache;
+        this.processDefinitions = processDefinitions;
+        this.deployed = deployed;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        if (processDefinitions == null) {
+            latestProcessDefinitionCache.invalidateAll();
+            return;
+        }
+
+        for (ProcessDefinition processDefinition : processDefinitions) {
+            if (deployed) {
+                latestProcessDefinitionCache.addDeployed(processDefinition);
+            } else {
+                latestProcessDefinitionCache.invalidate(processDefinition.getKey(), processDefinition.getTenantId());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import org.flowable.engine.common.impl.metrics.MetricsCounter;
+import org.flowable.engine.common.impl.metrics.MetricsGauge;
+import org.flowable.engine.common.impl.metrics.MetricsRegistry;
+
+/**
+ * Wraps a {@link DeploymentCache} to count the hits and misses of {@link #get(String)} in a {@link MetricsRegistry}.
+ * The hit ratio is registered as gauge.
+ */
+public class MetricsDeploymentCache<T> implements DeploymentCache<T> {
+
+    protected DeploymentCache<T> delegate;
+    protected MetricsCounter hits;
+    protected MetricsCounter misses;
+
+    public MetricsDeploymentCache(DeploymentCache<T> delegate, MetricsRegistry metricsRegistry, String hitsName, String missesName, String hitRatioName) {
+        this.delegate = delegate;
+        this.hits = metricsRegistry.counter(hitsName);
+        this.misses = metricsRegistry.counter(missesName);
+
+        metricsRegistry.gauge(hitRatioName, new MetricsGauge() {
+
+            @Override
+            public double getValue() {
+                long hitCount = hits.getCount();
+                long total = hitCount + misses.getCount();
+                return total > 0 ? (double) hitCount / total : 0.0;
+            }
+
+        });
+    }
+
+    @Override
+    public T get(String id) {
+        T object = delegate.get(id);
+        if (object != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return object;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return delegate.contains(id);
+    }
+
+    @Override
+    public void add(String id, T object) {
+        delegate.add(id, object);
+    }
+
+    @Override
+    public void remove(String id) {
+        delegate.remove(id);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    public DeploymentCache<T> getDelegate() {
+        return delegate;
+    }
+
+}
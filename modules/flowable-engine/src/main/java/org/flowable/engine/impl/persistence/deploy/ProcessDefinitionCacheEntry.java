@@ -33,6 +33,11 @@ public class ProcessDefinitionCacheEntry implements Serializable {
         this.processDefinition = processDefinition;
         this.bpmnModel = bpmnModel;
         this.process = process;
+
+        // The process doesn't change anymore once cached, so its flow elements can be indexed
+        if (process != null && process.getFlowElementsIndex() == null) {
+            process.buildFlowElementsIndex();
+        }
     }
 
     public ProcessDefinition getProcessDefinition() {
@@ -22,6 +22,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.engine.runtime.JobInfo;
 
 /**
@@ -29,7 +30,7 @@ import org.flowable.engine.runtime.JobInfo;
  *
  * @author Tijs Rademakers
  */
-public abstract class AbstractJobEntityImpl extends AbstractEntity implements AbstractRuntimeJobEntity, Serializable {
+public abstract class AbstractJobEntityImpl extends AbstractEntity implements AbstractRuntimeJobEntity, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -43,6 +44,7 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
     protected boolean isExclusive = DEFAULT_EXCLUSIVE;
 
     protected int retries;
+    protected int priority;
 
     protected int maxIterations;
     protected String repeat;
@@ -60,6 +62,7 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
     public Object getPersistentState() {
         Map<String, Object> persistentState = new HashMap<String, Object>();
         persistentState.put("retries", retries);
+        persistentState.put("priority", priority);
         persistentState.put("createTime", createTime);
         persistentState.put("duedate", duedate);
         persistentState.put("exceptionMessage", exceptionMessage);
@@ -86,6 +89,7 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
 
     public void setCreateTime(Date createTime) {
         this.createTime = createTime;
+        isDirty = true;
     }
 
     public Date getDuedate() {
@@ -94,6 +98,7 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
 
     public void setDuedate(Date duedate) {
         this.duedate = duedate;
+        isDirty = true;
     }
 
     public String getExecutionId() {
@@ -110,6 +115,16 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
 
     public void setRetries(int retries) {
         this.retries = retries;
+        isDirty = true;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public void setPriority(int priority) {
+        this.priority = priority;
+        isDirty = true;
     }
 
     public String getProcessInstanceId() {
@@ -166,6 +181,7 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
 
     public void setJobHandlerType(String jobHandlerType) {
         this.jobHandlerType = jobHandlerType;
+        isDirty = true;
     }
 
     public String getJobHandlerConfiguration() {
@@ -214,6 +230,7 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
             exceptionByteArrayRef = new ByteArrayRef();
         }
         exceptionByteArrayRef.setValue("stacktrace", getUtf8Bytes(exception));
+        isDirty = true;
     }
 
     public String getExceptionMessage() {
@@ -222,6 +239,7 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
 
     public void setExceptionMessage(String exceptionMessage) {
         this.exceptionMessage = StringUtils.abbreviate(exceptionMessage, JobInfo.MAX_EXCEPTION_MESSAGE_LENGTH);
+        isDirty = true;
     }
 
     public ByteArrayRef getExceptionByteArrayRef() {
@@ -50,4 +50,6 @@ public interface AbstractRuntimeJobEntity extends Job, AbstractJobEntity {
     
     void setCreateTime(Date createTime);
 
+    void setPriority(int priority);
+
 }
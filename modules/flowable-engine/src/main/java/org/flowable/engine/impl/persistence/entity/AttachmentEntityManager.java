@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
@@ -27,4 +28,10 @@ public interface AttachmentEntityManager extends EntityManager<AttachmentEntity>
 
     void deleteAttachmentsByTaskId(String taskId);
 
+    /**
+     * Deletes the attachments of the given process instances and of their historic tasks, and the content of these attachments, with set based statements.
+     * Needs to happen before the historic tasks are deleted.
+     */
+    void deleteAttachmentsForProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.api.FlowableException;
@@ -96,6 +97,11 @@ public class AttachmentEntityManagerImpl extends AbstractEntityManager<Attachmen
         }
     }
 
+    @Override
+    public void deleteAttachmentsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        attachmentDataManager.deleteAttachmentsForProcessInstanceIds(processInstanceIds);
+    }
+
     public AttachmentDataManager getAttachmentDataManager() {
         return attachmentDataManager;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
@@ -32,4 +33,9 @@ public interface ByteArrayEntityManager extends EntityManager<ByteArrayEntity> {
      */
     void deleteByteArrayById(String byteArrayEntityId);
 
+    /**
+     * Deletes the {@link ByteArrayEntity}s with the given ids from the database with one statement, without optimistic locking: see {@link #deleteByteArrayById(String)}.
+     */
+    void deleteByteArraysById(Collection<String> byteArrayEntityIds);
+
 }
\ No newline at end of file
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
@@ -45,4 +46,10 @@ public interface CommentEntityManager extends EntityManager<CommentEntity> {
 
     Event findEvent(String commentId);
 
+    /**
+     * Deletes the comments of the given process instances and of their historic tasks with one statement.
+     * Needs to happen before the historic tasks are deleted.
+     */
+    void deleteCommentsForProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
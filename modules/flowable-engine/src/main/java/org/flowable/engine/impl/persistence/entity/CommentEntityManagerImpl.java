@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.api.FlowableException;
@@ -184,6 +185,11 @@ public class CommentEntityManagerImpl extends AbstractEntityManager<CommentEntit
         }
     }
 
+    @Override
+    public void deleteCommentsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        commentDataManager.deleteCommentsForProcessInstanceIds(processInstanceIds);
+    }
+
     public CommentDataManager getCommentDataManager() {
         return commentDataManager;
     }
@@ -30,6 +30,11 @@ public interface DeadLetterJobEntityManager extends EntityManager<DeadLetterJobE
      */
     List<DeadLetterJobEntity> findJobsByExecutionId(String id);
 
+    /**
+     * Returns all {@link DeadLetterJobEntity} instances related to the executions of the given process instance.
+     */
+    List<DeadLetterJobEntity> findJobsByProcessInstanceId(String processInstanceId);
+
     /**
      * Executes a {@link JobQueryImpl} and returns the matching {@link DeadLetterJobEntity} instances.
      */
@@ -44,6 +44,11 @@ public class DeadLetterJobEntityManagerImpl extends AbstractEntityManager<DeadLe
         return jobDataManager.findJobsByExecutionId(id);
     }
 
+    @Override
+    public List<DeadLetterJobEntity> findJobsByProcessInstanceId(String processInstanceId) {
+        return jobDataManager.findJobsByProcessInstanceId(processInstanceId);
+    }
+
     @Override
     public List<Job> findJobsByQueryCriteria(DeadLetterJobQueryImpl jobQuery) {
         return jobDataManager.findJobsByQueryCriteria(jobQuery);
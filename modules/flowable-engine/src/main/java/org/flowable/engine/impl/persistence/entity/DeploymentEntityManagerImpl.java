@@ -29,10 +29,15 @@ import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.DeadLetterJobQueryImpl;
 import org.flowable.engine.impl.DeploymentQueryImpl;
+import org.flowable.engine.impl.JobQueryImpl;
 import org.flowable.engine.impl.ModelQueryImpl;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
+import org.flowable.engine.impl.ProcessInstanceQueryImpl;
+import org.flowable.engine.impl.TimerJobQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.ProcessInstancesDeletionJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerEventHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.persistence.entity.data.DeploymentDataManager;
@@ -41,6 +46,9 @@ import org.flowable.engine.impl.util.TimerUtil;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.repository.Model;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Tom Baeyens
@@ -48,6 +56,8 @@ import org.flowable.engine.repository.ProcessDefinition;
  */
 public class DeploymentEntityManagerImpl extends AbstractEntityManager<DeploymentEntity> implements DeploymentEntityManager {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeploymentEntityManagerImpl.class);
+
     protected DeploymentDataManager deploymentDataManager;
 
     public DeploymentEntityManagerImpl(ProcessEngineConfigurationImpl processEngineConfiguration, DeploymentDataManager deploymentDataManager) {
@@ -129,10 +139,42 @@ public class DeploymentEntityManagerImpl extends AbstractEntityManager<Deploymen
 
     protected void deleteProcessInstancesForProcessDefinitions(List<ProcessDefinition> processDefinitions) {
         for (ProcessDefinition processDefinition : processDefinitions) {
+            removeProcessInstancesDeletionJobs(processDefinition);
+            checkProcessInstancesCascadeDeletionThreshold(processDefinition);
             getExecutionEntityManager().deleteProcessInstancesByProcessDefinition(processDefinition.getId(), "deleted deployment", true);
         }
     }
 
+    /**
+     * Warns when the process definition has more process instances than the configured threshold, as they are all deleted in the current transaction.
+     */
+    protected void checkProcessInstancesCascadeDeletionThreshold(ProcessDefinition processDefinition) {
+        int threshold = getProcessEngineConfiguration().getProcessInstancesCascadeDeletionWarningThreshold();
+        if (threshold >= 0) {
+            long processInstanceCount = new ProcessInstanceQueryImpl().processDefinitionId(processDefinition.getId()).count();
+            if (processInstanceCount > threshold) {
+                LOGGER.warn("Deleting {} process instances of process definition {} in one transaction, as part of the cascading delete of deployment {}. "
+                        + "Consider deleting them with ManagementService#deleteProcessInstancesInBackground before deleting the deployment.",
+                        processInstanceCount, processDefinition.getId(), processDefinition.getDeploymentId());
+            }
+        }
+    }
+
+    /**
+     * A background deletion of the process instances that is still going on isn't needed anymore, as all process instances are deleted now.
+     */
+    protected void removeProcessInstancesDeletionJobs(ProcessDefinition processDefinition) {
+        for (Job job : new JobQueryImpl().processDefinitionId(processDefinition.getId()).handlerType(ProcessInstancesDeletionJobHandler.TYPE).list()) {
+            getJobEntityManager().delete((JobEntity) job);
+        }
+        for (Job job : new TimerJobQueryImpl().processDefinitionId(processDefinition.getId()).handlerType(ProcessInstancesDeletionJobHandler.TYPE).list()) {
+            getTimerJobEntityManager().delete((TimerJobEntity) job);
+        }
+        for (Job job : new DeadLetterJobQueryImpl().processDefinitionId(processDefinition.getId()).handlerType(ProcessInstancesDeletionJobHandler.TYPE).list()) {
+            getDeadLetterJobEntityManager().delete((DeadLetterJobEntity) job);
+        }
+    }
+
     protected void removeTimerStartJobs(ProcessDefinition processDefinition) {
         List<TimerJobEntity> timerStartJobs = getTimerJobEntityManager()
                 .findJobsByTypeAndProcessDefinitionId(TimerStartEventJobHandler.TYPE, processDefinition.getId());
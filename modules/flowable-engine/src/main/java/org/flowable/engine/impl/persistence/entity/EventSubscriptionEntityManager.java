@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -48,6 +49,12 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     void deleteEventSubscriptionsForProcessDefinition(String processDefinitionId);
 
+    /**
+     * Deletes the event subscriptions of the given process instance, with one statement per event type. The given event subscriptions, as returned by
+     * {@link #findEventSubscriptionsByProcessInstance(String)}, are seen as deleted from now on. No events are dispatched: this is up to the caller.
+     */
+    void deleteEventSubscriptionsByProcessInstanceId(String processInstanceId, Collection<EventSubscriptionEntity> eventSubscriptions);
+
     /* Event receival */
 
     void eventReceived(EventSubscriptionEntity eventSubscriptionEntity, Object payload, boolean processASync);
@@ -60,6 +67,8 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     List<EventSubscriptionEntity> findEventSubscriptionsByExecution(String executionId);
 
+    List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstance(String processInstanceId);
+
     List<EventSubscriptionEntity> findEventSubscriptionsByExecutionAndType(String executionId, String type);
 
     List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceAndActivityId(String processInstanceId, String activityId, String type);
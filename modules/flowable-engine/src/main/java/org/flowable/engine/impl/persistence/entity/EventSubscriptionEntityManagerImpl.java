@@ -14,6 +14,7 @@
 package org.flowable.engine.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -216,6 +217,11 @@ public class EventSubscriptionEntityManagerImpl extends AbstractEntityManager<Ev
         return eventSubscriptionDataManager.findEventSubscriptionsByExecution(executionId);
     }
 
+    @Override
+    public List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstance(String processInstanceId) {
+        return eventSubscriptionDataManager.findEventSubscriptionsByProcessInstance(processInstanceId);
+    }
+
     @Override
     public List<EventSubscriptionEntity> findEventSubscriptionsByTypeAndProcessDefinitionId(String type, String processDefinitionId, String tenantId) {
         return eventSubscriptionDataManager.findEventSubscriptionsByTypeAndProcessDefinitionId(type, processDefinitionId, tenantId);
@@ -246,6 +252,11 @@ public class EventSubscriptionEntityManagerImpl extends AbstractEntityManager<Ev
         eventSubscriptionDataManager.deleteEventSubscriptionsForProcessDefinition(processDefinitionId);
     }
 
+    @Override
+    public void deleteEventSubscriptionsByProcessInstanceId(String processInstanceId, Collection<EventSubscriptionEntity> eventSubscriptions) {
+        eventSubscriptionDataManager.deleteEventSubscriptionsByProcessInstanceId(processInstanceId, eventSubscriptions);
+    }
+
     // Processing /////////////////////////////////////////////////////////////
 
     @Override
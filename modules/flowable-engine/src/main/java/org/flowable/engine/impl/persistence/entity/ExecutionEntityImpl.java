@@ -26,6 +26,7 @@ import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -41,7 +42,7 @@ import org.flowable.engine.impl.util.ProcessDefinitionUtil;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionEntity, CountingExecutionEntity, DirtyTrackingEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -274,8 +275,10 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         this.currentFlowElement = currentFlowElement;
         if (currentFlowElement != null) {
             this.activityId = currentFlowElement.getId();
+            isDirty = true;
         } else {
             this.activityId = null;
+            isDirty = true;
         }
     }
 
@@ -317,6 +320,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setBusinessKey(String businessKey) {
         this.businessKey = businessKey;
+        isDirty = true;
     }
 
     public String getProcessInstanceBusinessKey() {
@@ -327,6 +331,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setProcessDefinitionId(String processDefinitionId) {
         this.processDefinitionId = processDefinitionId;
+        isDirty = true;
     }
 
     public String getProcessDefinitionId() {
@@ -409,8 +414,10 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
         if (parent != null) {
             this.parentId = parent.getId();
+            isDirty = true;
         } else {
             this.parentId = null;
+            isDirty = true;
         }
     }
 
@@ -433,8 +440,10 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
         if (superExecution != null) {
             this.superExecutionId = ((ExecutionEntityImpl) superExecution).getId();
+            isDirty = true;
         } else {
             this.superExecutionId = null;
+            isDirty = true;
         }
     }
 
@@ -475,8 +484,10 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
         if (rootProcessInstance != null) {
             this.rootProcessInstanceId = rootProcessInstance.getId();
+            isDirty = true;
         } else {
             this.rootProcessInstanceId = null;
+            isDirty = true;
         }
     }
 
@@ -486,6 +497,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
         this.rootProcessInstanceId = rootProcessInstanceId;
+        isDirty = true;
     }
 
     // scopes ///////////////////////////////////////////////////////////////////
@@ -496,10 +508,12 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setScope(boolean isScope) {
         this.isScope = isScope;
+        isDirty = true;
     }
 
     public void forceUpdate() {
         this.forcedUpdate = true;
+        isDirty = true;
     }
 
     // VariableScopeImpl methods //////////////////////////////////////////////////////////////////
@@ -663,6 +677,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setParentId(String parentId) {
         this.parentId = parentId;
+        isDirty = true;
     }
 
     public String getActivityId() {
@@ -675,6 +690,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setConcurrent(boolean isConcurrent) {
         this.isConcurrent = isConcurrent;
+        isDirty = true;
     }
 
     public boolean isActive() {
@@ -683,10 +699,12 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setActive(boolean isActive) {
         this.isActive = isActive;
+        isDirty = true;
     }
 
     public void inactivate() {
         this.isActive = false;
+        isDirty = true;
     }
 
     public boolean isEnded() {
@@ -719,6 +737,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setSuspensionState(int suspensionState) {
         this.suspensionState = suspensionState;
+        isDirty = true;
     }
 
     public boolean isSuspended() {
@@ -731,6 +750,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setEventScope(boolean isEventScope) {
         this.isEventScope = isEventScope;
+        isDirty = true;
     }
 
     @Override
@@ -741,6 +761,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setMultiInstanceRoot(boolean isMultiInstanceRoot) {
         this.isMultiInstanceRoot = isMultiInstanceRoot;
+        isDirty = true;
     }
 
     @Override
@@ -751,6 +772,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
         this.isCountEnabled = isCountEnabled;
+        isDirty = true;
     }
 
     public String getCurrentActivityId() {
@@ -768,6 +790,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setName(String name) {
         this.name = name;
+        isDirty = true;
     }
 
     public String getDescription() {
@@ -812,6 +835,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setLockTime(Date lockTime) {
         this.lockTime = lockTime;
+        isDirty = true;
     }
 
     public Map<String, Object> getProcessVariables() {
@@ -855,6 +879,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setStartActivityId(String startActivityId) {
         this.startActivityId = startActivityId;
+        isDirty = true;
     }
 
     public String getStartUserId() {
@@ -863,6 +888,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setStartUserId(String startUserId) {
         this.startUserId = startUserId;
+        isDirty = true;
     }
 
     public Date getStartTime() {
@@ -871,6 +897,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setStartTime(Date startTime) {
         this.startTime = startTime;
+        isDirty = true;
     }
 
     public int getEventSubscriptionCount() {
@@ -879,6 +906,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setEventSubscriptionCount(int eventSubscriptionCount) {
         this.eventSubscriptionCount = eventSubscriptionCount;
+        isDirty = true;
     }
 
     public int getTaskCount() {
@@ -887,6 +915,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setTaskCount(int taskCount) {
         this.taskCount = taskCount;
+        isDirty = true;
     }
 
     public int getJobCount() {
@@ -895,6 +924,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setJobCount(int jobCount) {
         this.jobCount = jobCount;
+        isDirty = true;
     }
 
     public int getTimerJobCount() {
@@ -903,6 +933,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setTimerJobCount(int timerJobCount) {
         this.timerJobCount = timerJobCount;
+        isDirty = true;
     }
 
     public int getSuspendedJobCount() {
@@ -911,6 +942,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setSuspendedJobCount(int suspendedJobCount) {
         this.suspendedJobCount = suspendedJobCount;
+        isDirty = true;
     }
 
     public int getDeadLetterJobCount() {
@@ -919,6 +951,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setDeadLetterJobCount(int deadLetterJobCount) {
         this.deadLetterJobCount = deadLetterJobCount;
+        isDirty = true;
     }
 
     public int getVariableCount() {
@@ -927,6 +960,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setVariableCount(int variableCount) {
         this.variableCount = variableCount;
+        isDirty = true;
     }
 
     public int getIdentityLinkCount() {
@@ -935,6 +969,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setIdentityLinkCount(int identityLinkCount) {
         this.identityLinkCount = identityLinkCount;
+        isDirty = true;
     }
 
     // toString /////////////////////////////////////////////////////////////////
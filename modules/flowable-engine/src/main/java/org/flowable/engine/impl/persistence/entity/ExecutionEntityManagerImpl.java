@@ -16,6 +16,7 @@ package org.flowable.engine.impl.persistence.entity;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
@@ -420,13 +421,16 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             return;
         }
 
+        ProcessInstanceRelatedData relatedData = collectProcessInstanceRelatedData(processInstanceExecutionEntity);
+
         List<ExecutionEntity> childExecutions = collectChildren(execution.getProcessInstance());
         for (int i = childExecutions.size() - 1; i >= 0; i--) {
             ExecutionEntity childExecutionEntity = childExecutions.get(i);
-            deleteExecutionAndRelatedData(childExecutionEntity, deleteReason, false);
+            deleteExecutionAndRelatedData(childExecutionEntity, deleteReason, false, relatedData);
         }
 
-        deleteExecutionAndRelatedData(execution, deleteReason, false);
+        deleteExecutionAndRelatedData(execution, deleteReason, false, relatedData);
+        deleteProcessInstanceRelatedData(relatedData);
 
         if (deleteHistory) {
             getHistoryManager().recordProcessInstanceDeleted(execution.getId());
@@ -438,13 +442,17 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
 
     @Override
     public void deleteExecutionAndRelatedData(ExecutionEntity executionEntity, String deleteReason, boolean cancel) {
+        deleteExecutionAndRelatedData(executionEntity, deleteReason, cancel, null);
+    }
+
+    protected void deleteExecutionAndRelatedData(ExecutionEntity executionEntity, String deleteReason, boolean cancel, ProcessInstanceRelatedData relatedData) {
         if (executionEntity.isActive()
                 && executionEntity.getCurrentFlowElement() != null 
                 && !executionEntity.isMultiInstanceRoot()
                 && !(executionEntity.getCurrentFlowElement() instanceof BoundaryEvent)) {  // Boundary events will handle the history themselves (see TriggerExecutionOperation for example)
             getHistoryManager().recordActivityEnd(executionEntity, deleteReason);
         }
-        deleteRelatedDataForExecution(executionEntity, deleteReason, cancel);
+        deleteRelatedDataForExecution(executionEntity, deleteReason, cancel, relatedData);
         delete(executionEntity);
     }
 
@@ -476,15 +484,18 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             }
         }
 
+        ProcessInstanceRelatedData relatedData = collectProcessInstanceRelatedData(processInstanceEntity);
+
         // delete event scope executions
         for (ExecutionEntity childExecution : processInstanceEntity.getExecutions()) {
             if (childExecution.isEventScope()) {
-                deleteExecutionAndRelatedData(childExecution, null, false);
+                deleteExecutionAndRelatedData(childExecution, null, false, relatedData);
             }
         }
 
-        deleteChildExecutions(processInstanceEntity, deleteReason, cancel);
-        deleteExecutionAndRelatedData(processInstanceEntity, deleteReason, cancel);
+        deleteChildExecutions(processInstanceEntity, deleteReason, cancel, relatedData);
+        deleteExecutionAndRelatedData(processInstanceEntity, deleteReason, cancel, relatedData);
+        deleteProcessInstanceRelatedData(relatedData);
 
         if (getEventDispatcher().isEnabled() && fireEvents) {
             if (!cancel) {
@@ -502,6 +513,10 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
 
     @Override
     public void deleteChildExecutions(ExecutionEntity executionEntity, String deleteReason, boolean cancel) {
+        deleteChildExecutions(executionEntity, deleteReason, cancel, null);
+    }
+
+    protected void deleteChildExecutions(ExecutionEntity executionEntity, String deleteReason, boolean cancel, ProcessInstanceRelatedData relatedData) {
 
         // The children of an execution for a tree. For correct deletions
         // (taking care of foreign keys between child-parent)
@@ -511,7 +526,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         for (int i = childExecutions.size() - 1; i >= 0; i--) {
             ExecutionEntity childExecutionEntity = childExecutions.get(i);
             if (!childExecutionEntity.isEnded()) {
-                deleteExecutionAndRelatedData(childExecutionEntity, deleteReason, cancel);
+                deleteExecutionAndRelatedData(childExecutionEntity, deleteReason, cancel, relatedData);
             }
         }
 
@@ -696,6 +711,216 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
 
     }
 
+    /**
+     * Same as {@link #deleteRelatedDataForExecution(ExecutionEntity, String, boolean)}, but using the data fetched upfront for the whole process instance
+     * when the execution belongs to the process instance of the given {@link ProcessInstanceRelatedData}. The identity links, variables and event subscriptions
+     * (and the byte arrays of the variables) aren't deleted here, but all at once by {@link #deleteProcessInstanceRelatedData(ProcessInstanceRelatedData)}.
+     */
+    protected void deleteRelatedDataForExecution(ExecutionEntity executionEntity, String deleteReason, boolean cancel, ProcessInstanceRelatedData relatedData) {
+        if (relatedData == null || !relatedData.isRelatedTo(executionEntity)) {
+            deleteRelatedDataForExecution(executionEntity, deleteReason, cancel);
+            return;
+        }
+
+        // To start, deactivate the current incoming execution
+        executionEntity.setEnded(true);
+        executionEntity.setActive(false);
+
+        boolean eventDispatcherEnabled = getEventDispatcher().isEnabled();
+
+        if (executionEntity.getId().equals(executionEntity.getProcessInstanceId()) && eventDispatcherEnabled) {
+            for (IdentityLinkEntity identityLink : relatedData.identityLinks) {
+                getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, identityLink));
+            }
+        }
+
+        if (eventDispatcherEnabled) {
+            for (VariableInstanceEntity variableInstance : relatedData.getVariableInstances(executionEntity)) {
+                getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstance));
+                getEventDispatcher().dispatchEvent(FlowableEventBuilder.createVariableEvent(FlowableEngineEventType.VARIABLE_DELETED, variableInstance.getName(), null,
+                        variableInstance.getType(), null, variableInstance.getExecutionId(), variableInstance.getProcessInstanceId(), executionEntity.getProcessDefinitionId()));
+            }
+        }
+
+        TaskEntityManager taskEntityManager = getTaskEntityManager();
+        for (TaskEntity taskEntity : relatedData.getForExecution(relatedData.tasks, executionEntity)) {
+            taskEntityManager.deleteTask(taskEntity, deleteReason, false, cancel, true);
+        }
+
+        // Jobs are deleted one by one, with the usual optimistic locking checks, as they are concurrently updated by the async executor
+
+        TimerJobEntityManager timerJobEntityManager = getTimerJobEntityManager();
+        for (TimerJobEntity job : relatedData.getForExecution(relatedData.timerJobs, executionEntity)) {
+            timerJobEntityManager.delete(job);
+            if (eventDispatcherEnabled) {
+                getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job));
+            }
+        }
+
+        JobEntityManager jobEntityManager = getJobEntityManager();
+        for (JobEntity job : relatedData.getForExecution(relatedData.jobs, executionEntity)) {
+            jobEntityManager.delete(job);
+            if (eventDispatcherEnabled) {
+                getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job));
+            }
+        }
+
+        SuspendedJobEntityManager suspendedJobEntityManager = getSuspendedJobEntityManager();
+        for (SuspendedJobEntity job : relatedData.getForExecution(relatedData.suspendedJobs, executionEntity)) {
+            suspendedJobEntityManager.delete(job);
+            if (eventDispatcherEnabled) {
+                getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job));
+            }
+        }
+
+        DeadLetterJobEntityManager deadLetterJobEntityManager = getDeadLetterJobEntityManager();
+        for (DeadLetterJobEntity job : relatedData.getForExecution(relatedData.deadLetterJobs, executionEntity)) {
+            deadLetterJobEntityManager.delete(job);
+            if (eventDispatcherEnabled) {
+                getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job));
+            }
+        }
+
+        if (eventDispatcherEnabled) {
+            for (EventSubscriptionEntity eventSubscription : relatedData.getForExecution(relatedData.eventSubscriptions, executionEntity)) {
+                getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, eventSubscription));
+
+                if (MessageEventSubscriptionEntity.EVENT_TYPE.equals(eventSubscription.getEventType())) {
+                    getEventDispatcher().dispatchEvent(FlowableEventBuilder.createMessageEvent(FlowableEngineEventType.ACTIVITY_MESSAGE_CANCELLED,
+                            eventSubscription.getActivityId(), eventSubscription.getEventName(), null, eventSubscription.getExecutionId(),
+                            eventSubscription.getProcessInstanceId(), eventSubscription.getProcessDefinitionId()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Fetches the data related to the executions of the given process instance, which is about to be deleted as a whole,
+     * with one query per type of data instead of one query per execution and type of data.
+     * 
+     * @return null when the given execution is not a process instance, or when the process instance was inserted in the current transaction:
+     *         then all its data is in the entity cache and nothing needs to be fetched.
+     */
+    protected ProcessInstanceRelatedData collectProcessInstanceRelatedData(ExecutionEntity processInstanceEntity) {
+        if (processInstanceEntity == null || !processInstanceEntity.isProcessInstanceType() || processInstanceEntity.isInserted()) {
+            return null;
+        }
+
+        String processInstanceId = processInstanceEntity.getId();
+        List<ExecutionEntity> executions = new ArrayList<>();
+        executions.add(processInstanceEntity);
+        for (ExecutionEntity childExecution : collectChildren(processInstanceEntity)) {
+            if (processInstanceId.equals(childExecution.getProcessInstanceId())) {
+                executions.add(childExecution);
+            }
+        }
+
+        // With the execution related entity counts, only the types of data of which at least one execution has something need to be fetched
+        boolean fetchVariables = false;
+        boolean fetchTasks = false;
+        boolean fetchTimerJobs = false;
+        boolean fetchJobs = false;
+        boolean fetchSuspendedJobs = false;
+        boolean fetchDeadLetterJobs = false;
+        boolean fetchEventSubscriptions = false;
+        for (ExecutionEntity executionEntity : executions) {
+            if (!isExecutionRelatedEntityCountEnabled(executionEntity)) {
+                fetchVariables = fetchTasks = fetchTimerJobs = fetchJobs = fetchSuspendedJobs = fetchDeadLetterJobs = fetchEventSubscriptions = true;
+                break;
+            }
+
+            CountingExecutionEntity countingExecutionEntity = (CountingExecutionEntity) executionEntity;
+            fetchVariables |= countingExecutionEntity.getVariableCount() > 0;
+            fetchTasks |= countingExecutionEntity.getTaskCount() > 0;
+            fetchTimerJobs |= countingExecutionEntity.getTimerJobCount() > 0;
+            fetchJobs |= countingExecutionEntity.getJobCount() > 0;
+            fetchSuspendedJobs |= countingExecutionEntity.getSuspendedJobCount() > 0;
+            fetchDeadLetterJobs |= countingExecutionEntity.getDeadLetterJobCount() > 0;
+            fetchEventSubscriptions |= countingExecutionEntity.getEventSubscriptionCount() > 0;
+        }
+
+        ProcessInstanceRelatedData relatedData = new ProcessInstanceRelatedData(processInstanceId);
+
+        if (!isExecutionRelatedEntityCountEnabled(processInstanceEntity) || ((CountingExecutionEntity) processInstanceEntity).getIdentityLinkCount() > 0) {
+            relatedData.identityLinks = getIdentityLinkEntityManager().findIdentityLinksByProcessInstanceId(processInstanceId);
+        }
+        if (fetchVariables) {
+            for (VariableInstanceEntity variableInstance : getVariableInstanceEntityManager().findVariableInstancesByProcessInstanceId(processInstanceId)) {
+                relatedData.addVariableInstance(variableInstance);
+            }
+        }
+        if (fetchTasks) {
+            for (TaskEntity taskEntity : getTaskEntityManager().findTasksByProcessInstanceId(processInstanceId)) {
+                relatedData.addForExecution(relatedData.tasks, taskEntity.getExecutionId(), taskEntity);
+            }
+        }
+        if (fetchTimerJobs) {
+            for (TimerJobEntity job : getTimerJobEntityManager().findJobsByProcessInstanceId(processInstanceId)) {
+                relatedData.addForExecution(relatedData.timerJobs, job.getExecutionId(), job);
+            }
+        }
+        if (fetchJobs) {
+            for (JobEntity job : getJobEntityManager().findJobsByProcessInstanceId(processInstanceId)) {
+                relatedData.addForExecution(relatedData.jobs, job.getExecutionId(), job);
+            }
+        }
+        if (fetchSuspendedJobs) {
+            for (SuspendedJobEntity job : getSuspendedJobEntityManager().findJobsByProcessInstanceId(processInstanceId)) {
+                relatedData.addForExecution(relatedData.suspendedJobs, job.getExecutionId(), job);
+            }
+        }
+        if (fetchDeadLetterJobs) {
+            for (DeadLetterJobEntity job : getDeadLetterJobEntityManager().findJobsByProcessInstanceId(processInstanceId)) {
+                relatedData.addForExecution(relatedData.deadLetterJobs, job.getExecutionId(), job);
+            }
+        }
+        if (fetchEventSubscriptions) {
+            for (EventSubscriptionEntity eventSubscription : getEventSubscriptionEntityManager().findEventSubscriptionsByProcessInstance(processInstanceId)) {
+                relatedData.addForExecution(relatedData.eventSubscriptions, eventSubscription.getExecutionId(), eventSubscription);
+            }
+        }
+
+        return relatedData;
+    }
+
+    /**
+     * Deletes the identity links, variables and event subscriptions of the process instance with one statement per table (per event type for the event subscriptions).
+     * The byte arrays of the variables are deleted by id with one statement too: they can't be selected through the variables, as these need to be deleted first
+     * (the byte array deletes are flushed after the variable deletes, see {@link org.flowable.engine.impl.db.EntityDependencyOrder}).
+     */
+    protected void deleteProcessInstanceRelatedData(ProcessInstanceRelatedData relatedData) {
+        if (relatedData == null) {
+            return;
+        }
+
+        if (!relatedData.identityLinks.isEmpty()) {
+            getIdentityLinkEntityManager().deleteIdentityLinksByProcessInstanceId(relatedData.processInstanceId, relatedData.identityLinks);
+        }
+
+        List<VariableInstanceEntity> variableInstances = new ArrayList<>();
+        List<String> byteArrayIds = new ArrayList<>();
+        for (Map<String, VariableInstanceEntity> executionVariableInstances : relatedData.variableInstances.values()) {
+            for (VariableInstanceEntity variableInstance : executionVariableInstances.values()) {
+                variableInstances.add(variableInstance);
+                ByteArrayRef byteArrayRef = variableInstance.getByteArrayRef();
+                if (byteArrayRef != null && byteArrayRef.getId() != null && !byteArrayRef.isDeleted()) {
+                    byteArrayIds.add(byteArrayRef.getId());
+                }
+            }
+        }
+        if (!byteArrayIds.isEmpty()) {
+            getByteArrayEntityManager().deleteByteArraysById(byteArrayIds);
+        }
+        if (!variableInstances.isEmpty()) {
+            getVariableInstanceEntityManager().deleteVariableInstancesByProcessInstanceId(relatedData.processInstanceId, variableInstances);
+        }
+
+        List<EventSubscriptionEntity> eventSubscriptions = relatedData.getAll(relatedData.eventSubscriptions);
+        if (!eventSubscriptions.isEmpty()) {
+            getEventSubscriptionEntityManager().deleteEventSubscriptionsByProcessInstanceId(relatedData.processInstanceId, eventSubscriptions);
+        }
+    }
+
     // OTHER METHODS
 
     @Override
@@ -739,4 +964,68 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         this.executionDataManager = executionDataManager;
     }
 
+    /**
+     * The data related to the executions of one process instance, grouped by execution id.
+     */
+    protected static class ProcessInstanceRelatedData {
+
+        protected String processInstanceId;
+        protected List<IdentityLinkEntity> identityLinks = Collections.emptyList();
+        protected Map<String, Map<String, VariableInstanceEntity>> variableInstances = new HashMap<>();
+        protected Map<String, List<TaskEntity>> tasks = new HashMap<>();
+        protected Map<String, List<TimerJobEntity>> timerJobs = new HashMap<>();
+        protected Map<String, List<JobEntity>> jobs = new HashMap<>();
+        protected Map<String, List<SuspendedJobEntity>> suspendedJobs = new HashMap<>();
+        protected Map<String, List<DeadLetterJobEntity>> deadLetterJobs = new HashMap<>();
+        protected Map<String, List<EventSubscriptionEntity>> eventSubscriptions = new HashMap<>();
+
+        public ProcessInstanceRelatedData(String processInstanceId) {
+            this.processInstanceId = processInstanceId;
+        }
+
+        public boolean isRelatedTo(ExecutionEntity executionEntity) {
+            return processInstanceId.equals(executionEntity.getProcessInstanceId());
+        }
+
+        /**
+         * The variables are kept by name, like they are kept by the execution itself, so they are deleted in the same order as through the execution.
+         */
+        protected void addVariableInstance(VariableInstanceEntity variableInstance) {
+            Map<String, VariableInstanceEntity> executionVariableInstances = variableInstances.get(variableInstance.getExecutionId());
+            if (executionVariableInstances == null) {
+                executionVariableInstances = new HashMap<>();
+                variableInstances.put(variableInstance.getExecutionId(), executionVariableInstances);
+            }
+            executionVariableInstances.put(variableInstance.getName(), variableInstance);
+        }
+
+        protected Collection<VariableInstanceEntity> getVariableInstances(ExecutionEntity executionEntity) {
+            Map<String, VariableInstanceEntity> executionVariableInstances = variableInstances.get(executionEntity.getId());
+            return executionVariableInstances != null ? executionVariableInstances.values() : Collections.<VariableInstanceEntity>emptyList();
+        }
+
+        protected <T> void addForExecution(Map<String, List<T>> entitiesByExecutionId, String executionId, T entity) {
+            List<T> entities = entitiesByExecutionId.get(executionId);
+            if (entities == null) {
+                entities = new ArrayList<>();
+                entitiesByExecutionId.put(executionId, entities);
+            }
+            entities.add(entity);
+        }
+
+        protected <T> List<T> getForExecution(Map<String, List<T>> entitiesByExecutionId, ExecutionEntity executionEntity) {
+            List<T> entities = entitiesByExecutionId.get(executionEntity.getId());
+            return entities != null ? entities : Collections.<T>emptyList();
+        }
+
+        protected <T> List<T> getAll(Map<String, List<T>> entitiesByExecutionId) {
+            List<T> entities = new ArrayList<>();
+            for (List<T> executionEntities : entitiesByExecutionId.values()) {
+                entities.addAll(executionEntities);
+            }
+            return entities;
+        }
+
+    }
+
 }
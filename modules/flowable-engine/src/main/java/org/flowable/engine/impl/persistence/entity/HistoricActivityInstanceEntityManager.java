@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -40,4 +41,9 @@ public interface HistoricActivityInstanceEntityManager extends EntityManager<His
 
     void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId);
 
+    /**
+     * Deletes the historic activity instances of the given process instances with one statement.
+     */
+    void deleteHistoricActivityInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
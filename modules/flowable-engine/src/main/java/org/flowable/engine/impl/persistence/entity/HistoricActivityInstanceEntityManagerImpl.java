@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -83,6 +84,11 @@ public class HistoricActivityInstanceEntityManagerImpl extends AbstractEntityMan
         return historicActivityInstanceDataManager.findHistoricActivityInstanceCountByNativeQuery(parameterMap);
     }
 
+    @Override
+    public void deleteHistoricActivityInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicActivityInstanceDataManager.deleteHistoricActivityInstancesForProcessInstanceIds(processInstanceIds);
+    }
+
     public HistoricActivityInstanceDataManager getHistoricActivityInstanceDataManager() {
         return historicActivityInstanceDataManager;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -40,4 +41,9 @@ public interface HistoricDetailEntityManager extends EntityManager<HistoricDetai
 
     void deleteHistoricDetailsByProcessInstanceId(String historicProcessInstanceId);
 
+    /**
+     * Deletes the historic details of the given process instances, and the byte arrays they refer to, with set based statements.
+     */
+    void deleteHistoricDetailsForProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
@@ -29,4 +30,10 @@ public interface HistoricIdentityLinkEntityManager extends EntityManager<Histori
 
     void deleteHistoricIdentityLinksByProcInstance(String processInstanceId);
 
+    /**
+     * Deletes the historic identity links of the given process instances and of their historic tasks with one statement.
+     * Needs to happen before the historic tasks are deleted.
+     */
+    void deleteHistoricIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
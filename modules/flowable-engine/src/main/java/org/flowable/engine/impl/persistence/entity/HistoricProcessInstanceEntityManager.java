@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
@@ -39,7 +41,30 @@ public interface HistoricProcessInstanceEntityManager extends EntityManager<Hist
     List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceId(String historicProcessInstanceId);
     
     List<String> findHistoricProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
+
+    /**
+     * Returns the ids of the historic process instances of which the super process instance is one of the given historic process instances.
+     */
+    List<String> findHistoricProcessInstanceIdsBySuperProcessInstanceIds(Collection<String> superProcessInstanceIds);
     
     long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
+    /**
+     * Returns the historic process instances that ended before the given date, oldest first. When set, only the ones of the given
+     * process definition key and tenant are returned. The ones of the excluded process definition keys and tenants are never returned.
+     */
+    List<HistoricProcessInstanceEntity> findEndedHistoricProcessInstancesToClean(Date endedBefore, String processDefinitionKey, String tenantId,
+            Collection<String> excludedProcessDefinitionKeys, Collection<String> excludedTenantIds, int maxResults);
+
+    /**
+     * Deletes the given historic process instances with one statement. Their related historic data is not deleted: this is up to the caller.
+     */
+    void deleteHistoricProcessInstancesForIds(Collection<String> historicProcessInstanceIds);
+
+    /**
+     * Deletes the given historic process instances together with all their related historic data, with one statement per table.
+     * Their sub process instances are not deleted, unless they are part of the given historic process instances too.
+     */
+    void deleteHistoricProcessInstancesAndRelatedDataForIds(Collection<String> historicProcessInstanceIds);
+
 }
\ No newline at end of file
@@ -13,11 +13,15 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -29,6 +33,11 @@ import org.flowable.engine.impl.persistence.entity.data.HistoricProcessInstanceD
  */
 public class HistoricProcessInstanceEntityManagerImpl extends AbstractEntityManager<HistoricProcessInstanceEntity> implements HistoricProcessInstanceEntityManager {
 
+    /**
+     * The maximum number of ids passed to one statement, as e.g. Oracle doesn't allow more than 1000 expressions in an IN list.
+     */
+    protected static final int MAX_IDS_PER_STATEMENT = 1000;
+
     protected HistoricProcessInstanceDataManager historicProcessInstanceDataManager;
 
     public HistoricProcessInstanceEntityManagerImpl(ProcessEngineConfigurationImpl processEngineConfiguration, HistoricProcessInstanceDataManager historicProcessInstanceDataManager) {
@@ -87,11 +96,48 @@ public class HistoricProcessInstanceEntityManagerImpl extends AbstractEntityMana
         return historicProcessInstanceDataManager.findHistoricProcessInstanceIdsByProcessDefinitionId(processDefinitionId);
     }
 
+    @Override
+    public List<String> findHistoricProcessInstanceIdsBySuperProcessInstanceIds(Collection<String> superProcessInstanceIds) {
+        List<String> historicProcessInstanceIds = new ArrayList<>();
+        for (List<String> superProcessInstanceIdsPartition : CollectionUtil.partition(superProcessInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            historicProcessInstanceIds.addAll(historicProcessInstanceDataManager.findHistoricProcessInstanceIdsBySuperProcessInstanceIds(superProcessInstanceIdsPartition));
+        }
+        return historicProcessInstanceIds;
+    }
+
     @Override
     public long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap) {
         return historicProcessInstanceDataManager.findHistoricProcessInstanceCountByNativeQuery(parameterMap);
     }
 
+    @Override
+    public List<HistoricProcessInstanceEntity> findEndedHistoricProcessInstancesToClean(Date endedBefore, String processDefinitionKey, String tenantId,
+            Collection<String> excludedProcessDefinitionKeys, Collection<String> excludedTenantIds, int maxResults) {
+        return historicProcessInstanceDataManager.findEndedHistoricProcessInstancesToClean(endedBefore, processDefinitionKey, tenantId,
+                excludedProcessDefinitionKeys, excludedTenantIds, maxResults);
+    }
+
+    @Override
+    public void deleteHistoricProcessInstancesForIds(Collection<String> historicProcessInstanceIds) {
+        historicProcessInstanceDataManager.deleteHistoricProcessInstancesForIds(historicProcessInstanceIds);
+    }
+
+    @Override
+    public void deleteHistoricProcessInstancesAndRelatedDataForIds(Collection<String> historicProcessInstanceIds) {
+        for (List<String> ids : CollectionUtil.partition(historicProcessInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            // The comments, attachments and identity links of the historic tasks are found through the historic tasks,
+            // which is fine as the bulk deletes of the historic tasks are flushed after the ones of these entities.
+            getCommentEntityManager().deleteCommentsForProcessInstanceIds(ids);
+            getAttachmentEntityManager().deleteAttachmentsForProcessInstanceIds(ids);
+            getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksForProcessInstanceIds(ids);
+            getHistoricDetailEntityManager().deleteHistoricDetailsForProcessInstanceIds(ids);
+            getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesForProcessInstanceIds(ids);
+            getHistoricActivityInstanceEntityManager().deleteHistoricActivityInstancesForProcessInstanceIds(ids);
+            getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstancesForProcessInstanceIds(ids);
+            deleteHistoricProcessInstancesForIds(ids);
+        }
+    }
+
     public HistoricProcessInstanceDataManager getHistoricProcessInstanceDataManager() {
         return historicProcessInstanceDataManager;
     }
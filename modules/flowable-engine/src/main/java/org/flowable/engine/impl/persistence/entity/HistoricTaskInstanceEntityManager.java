@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -38,4 +39,10 @@ public interface HistoricTaskInstanceEntityManager extends EntityManager<Histori
 
     void deleteHistoricTaskInstancesByProcessInstanceId(String processInstanceId);
 
+    /**
+     * Deletes the historic tasks of the given process instances with one statement.
+     * Sub tasks that don't belong to the process instance themselves are not deleted.
+     */
+    void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
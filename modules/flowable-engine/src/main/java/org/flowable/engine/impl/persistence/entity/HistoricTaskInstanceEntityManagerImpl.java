@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -125,6 +126,11 @@ public class HistoricTaskInstanceEntityManagerImpl extends AbstractEntityManager
         return historicTaskInstanceDataManager.findHistoricTaskInstanceCountByNativeQuery(parameterMap);
     }
 
+    @Override
+    public void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicTaskInstanceDataManager.deleteHistoricTaskInstancesForProcessInstanceIds(processInstanceIds);
+    }
+
     public HistoricTaskInstanceDataManager getHistoricTaskInstanceDataManager() {
         return historicTaskInstanceDataManager;
     }
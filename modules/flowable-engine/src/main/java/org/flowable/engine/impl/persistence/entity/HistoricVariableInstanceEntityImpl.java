@@ -19,13 +19,14 @@ import java.util.HashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.engine.impl.variable.VariableType;
 
 /**
  * @author Christian Lipphardt (camunda)
  * @author Joram Barrez
  */
-public class HistoricVariableInstanceEntityImpl extends AbstractEntity implements HistoricVariableInstanceEntity, Serializable {
+public class HistoricVariableInstanceEntityImpl extends AbstractEntity implements HistoricVariableInstanceEntity, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -99,6 +100,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
             byteArrayRef = new ByteArrayRef();
         }
         byteArrayRef.setValue("hist.var-" + name, bytes);
+        isDirty = true;
     }
 
     // getters and setters //////////////////////////////////////////////////////
@@ -126,6 +128,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
     @Override
     public void setName(String name) {
         this.name = name;
+        isDirty = true;
     }
 
     @Override
@@ -136,6 +139,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
     @Override
     public void setLongValue(Long longValue) {
         this.longValue = longValue;
+        isDirty = true;
     }
 
     @Override
@@ -146,6 +150,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
     @Override
     public void setDoubleValue(Double doubleValue) {
         this.doubleValue = doubleValue;
+        isDirty = true;
     }
 
     @Override
@@ -156,6 +161,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
     @Override
     public void setTextValue(String textValue) {
         this.textValue = textValue;
+        isDirty = true;
     }
 
     @Override
@@ -166,6 +172,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
     @Override
     public void setTextValue2(String textValue2) {
         this.textValue2 = textValue2;
+        isDirty = true;
     }
 
     @Override
@@ -181,6 +188,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
     @Override
     public void setVariableType(VariableType variableType) {
         this.variableType = variableType;
+        isDirty = true;
     }
 
     @Override
@@ -211,6 +219,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
     @Override
     public void setCreateTime(Date createTime) {
         this.createTime = createTime;
+        isDirty = true;
     }
 
     @Override
@@ -221,6 +230,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
     @Override
     public void setLastUpdatedTime(Date lastUpdatedTime) {
         this.lastUpdatedTime = lastUpdatedTime;
+        isDirty = true;
     }
 
     @Override
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -42,4 +43,9 @@ public interface HistoricVariableInstanceEntityManager extends EntityManager<His
 
     void deleteHistoricVariableInstanceByProcessInstanceId(String historicProcessInstanceId);
 
+    /**
+     * Deletes the historic variables of the given process instances, and the byte arrays they refer to, with set based statements.
+     */
+    void deleteHistoricVariableInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
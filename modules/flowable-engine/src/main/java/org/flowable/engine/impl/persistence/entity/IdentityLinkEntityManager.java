@@ -24,6 +24,11 @@ public interface IdentityLinkEntityManager extends EntityManager<IdentityLinkEnt
 
     List<IdentityLinkEntity> findIdentityLinksByTaskId(String taskId);
 
+    /**
+     * Returns the identity links of the given tasks with one query. The returned identity links are not put in the entity cache.
+     */
+    List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds);
+
     List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId);
 
     List<IdentityLinkEntity> findIdentityLinksByProcessDefinitionId(String processDefinitionId);
@@ -69,4 +74,10 @@ public interface IdentityLinkEntityManager extends EntityManager<IdentityLinkEnt
 
     void deleteIdentityLinksByProcDef(String processDefId);
 
+    /**
+     * Deletes the identity links of the given process instance with one statement. The given identity links, as returned by
+     * {@link #findIdentityLinksByProcessInstanceId(String)}, are seen as deleted from now on. No events are dispatched: this is up to the caller.
+     */
+    void deleteIdentityLinksByProcessInstanceId(String processInstanceId, Collection<IdentityLinkEntity> identityLinks);
+
 }
\ No newline at end of file
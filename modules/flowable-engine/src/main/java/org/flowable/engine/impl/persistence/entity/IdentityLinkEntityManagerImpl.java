@@ -93,6 +93,11 @@ public class IdentityLinkEntityManagerImpl extends AbstractEntityManager<Identit
         return identityLinkDataManager.findIdentityLinksByTaskId(taskId);
     }
 
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds) {
+        return identityLinkDataManager.findIdentityLinksByTaskIds(taskIds);
+    }
+
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId) {
         return identityLinkDataManager.findIdentityLinksByProcessInstanceId(processInstanceId);
@@ -266,6 +271,11 @@ public class IdentityLinkEntityManagerImpl extends AbstractEntityManager<Identit
         identityLinkDataManager.deleteIdentityLinksByProcDef(processDefId);
     }
 
+    @Override
+    public void deleteIdentityLinksByProcessInstanceId(String processInstanceId, Collection<IdentityLinkEntity> identityLinks) {
+        identityLinkDataManager.deleteIdentityLinksByProcessInstanceId(processInstanceId, identityLinks);
+    }
+
     public IdentityLinkDataManager getIdentityLinkDataManager() {
         return identityLinkDataManager;
     }
@@ -50,6 +50,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
 
     public void setLockOwner(String claimedBy) {
         this.lockOwner = claimedBy;
+        isDirty = true;
     }
 
     public Date getLockExpirationTime() {
@@ -58,6 +59,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
 
     public void setLockExpirationTime(Date claimedUntil) {
         this.lockExpirationTime = claimedUntil;
+        isDirty = true;
     }
 
     @Override
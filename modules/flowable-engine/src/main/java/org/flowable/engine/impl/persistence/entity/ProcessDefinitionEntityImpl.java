@@ -20,6 +20,7 @@ import java.util.Map;
 
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.engine.impl.bpmn.data.IOSpecification;
 import org.flowable.engine.impl.util.CommandContextUtil;
 
@@ -27,7 +28,7 @@ import org.flowable.engine.impl.util.CommandContextUtil;
  * @author Joram Barrez
  * @author Tijs Rademakers
  */
-public class ProcessDefinitionEntityImpl extends AbstractEntity implements ProcessDefinitionEntity, Serializable {
+public class ProcessDefinitionEntityImpl extends AbstractEntity implements ProcessDefinitionEntity, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -149,6 +150,7 @@ public class ProcessDefinitionEntityImpl extends AbstractEntity implements Proce
 
     public void setCategory(String category) {
         this.category = category;
+        isDirty = true;
     }
 
     public String getDiagramResourceName() {
@@ -193,6 +195,7 @@ public class ProcessDefinitionEntityImpl extends AbstractEntity implements Proce
 
     public void setSuspensionState(int suspensionState) {
         this.suspensionState = suspensionState;
+        isDirty = true;
     }
 
     public boolean isSuspended() {
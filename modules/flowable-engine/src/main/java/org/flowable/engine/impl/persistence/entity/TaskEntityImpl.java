@@ -28,6 +28,7 @@ import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.persistence.CountingTaskEntity;
@@ -42,7 +43,7 @@ import org.flowable.engine.task.IdentityLinkType;
  * @author Falko Menge
  * @author Tijs Rademakers
  */
-public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, CountingTaskEntity, Serializable {
+public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, CountingTaskEntity, DirtyTrackingEntity, Serializable {
 
     public static final String DELETE_REASON_COMPLETED = "completed";
     public static final String DELETE_REASON_DELETED = "deleted";
@@ -156,6 +157,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void forceUpdate() {
         this.forcedUpdate = true;
+        isDirty = true;
     }
 
     // variables //////////////////////////////////////////////////////////////////
@@ -310,43 +312,51 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setName(String taskName) {
         this.name = taskName;
+        isDirty = true;
     }
 
     @Override
     public void setDescription(String description) {
         this.description = description;
+        isDirty = true;
     }
 
     @Override
     public void setAssignee(String assignee) {
         this.originalAssignee = this.assignee;
         this.assignee = assignee;
+        isDirty = true;
         assigneeUpdatedCount++;
     }
 
     @Override
     public void setOwner(String owner) {
         this.owner = owner;
+        isDirty = true;
     }
 
     @Override
     public void setDueDate(Date dueDate) {
         this.dueDate = dueDate;
+        isDirty = true;
     }
 
     @Override
     public void setPriority(int priority) {
         this.priority = priority;
+        isDirty = true;
     }
 
     @Override
     public void setCategory(String category) {
         this.category = category;
+        isDirty = true;
     }
 
     @Override
     public void setParentTaskId(String parentTaskId) {
         this.parentTaskId = parentTaskId;
+        isDirty = true;
     }
 
     @Override
@@ -357,6 +367,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setFormKey(String formKey) {
         this.formKey = formKey;
+        isDirty = true;
     }
 
     // Override from VariableScopeImpl
@@ -443,6 +454,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setCreateTime(Date createTime) {
         this.createTime = createTime;
+        isDirty = true;
     }
 
     @Override
@@ -463,6 +475,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
         this.processDefinitionId = processDefinitionId;
+        isDirty = true;
     }
 
     @Override
@@ -512,6 +525,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
+        isDirty = true;
     }
 
     @Override
@@ -549,6 +563,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setDelegationState(DelegationState delegationState) {
         this.delegationState = delegationState;
+        isDirty = true;
     }
 
     public String getDelegationStateString() { // Needed for Activiti 5 compatibility, not exposed in interface
@@ -557,6 +572,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     public void setDelegationStateString(String delegationStateString) {
         this.delegationState = (delegationStateString != null ? DelegationState.valueOf(DelegationState.class, delegationStateString) : null);
+        isDirty = true;
     }
 
     @Override
@@ -598,6 +614,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setSuspensionState(int suspensionState) {
         this.suspensionState = suspensionState;
+        isDirty = true;
     }
 
     @Override
@@ -676,6 +693,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setClaimTime(Date claimTime) {
         this.claimTime = claimTime;
+        isDirty = true;
     }
 
     public String toString() {
@@ -690,11 +708,13 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
         this.isCountEnabled = isCountEnabled;
+        isDirty = true;
     }
 
     @Override
     public void setVariableCount(int variableCount) {
         this.variableCount = variableCount;
+        isDirty = true;
     }
 
     @Override
@@ -705,6 +725,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
         this.identityLinkCount = identityLinkCount;
+        isDirty = true;
     }
 
     @Override
@@ -13,11 +13,17 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.delegate.TaskListener;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
@@ -264,9 +270,88 @@ public class TaskEntityManagerImpl extends AbstractEntityManager<TaskEntity> imp
 
     @Override
     public List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery) {
+        if (getProcessEngineConfiguration().isEnableTaskQueryRelatedEntitiesPrefetch()) {
+            List<Task> tasks = taskDataManager.findTasksByQueryCriteriaNoCacheCheck(taskQuery);
+            prefetchRelatedEntities(tasks, taskQuery);
+            return tasks;
+        }
         return taskDataManager.findTasksWithRelatedEntitiesByQueryCriteria(taskQuery);
     }
 
+    /**
+     * Fetches the variables and identity links requested by the query for the given page of tasks, with 'in' queries
+     * of at most taskQueryRelatedEntitiesPrefetchBatchSize ids, and sets them on the tasks.
+     */
+    protected void prefetchRelatedEntities(List<Task> tasks, TaskQueryImpl taskQuery) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        List<String> taskIds = new ArrayList<>(tasks.size());
+        Set<String> processInstanceIds = new LinkedHashSet<>();
+        for (Task task : tasks) {
+            taskIds.add(task.getId());
+            if (task.getProcessInstanceId() != null) {
+                processInstanceIds.add(task.getProcessInstanceId());
+            }
+        }
+
+        int batchSize = getProcessEngineConfiguration().getTaskQueryRelatedEntitiesPrefetchBatchSize();
+        Map<String, List<VariableInstanceEntity>> variablesByTaskId = new HashMap<>();
+        if (taskQuery.isIncludeTaskLocalVariables()) {
+            for (List<String> taskIdsBatch : CollectionUtil.partition(taskIds, batchSize)) {
+                for (VariableInstanceEntity variableInstance : getVariableInstanceEntityManager().findVariableInstancesByTaskIdsAndNames(taskIdsBatch, null)) {
+                    addToMultiMap(variablesByTaskId, variableInstance.getTaskId(), variableInstance);
+                }
+            }
+        }
+
+        Map<String, List<VariableInstanceEntity>> variablesByProcessInstanceId = new HashMap<>();
+        if (taskQuery.isIncludeProcessVariables()) {
+            Collection<String> variableNames = taskQuery.getIncludeProcessVariableNames();
+            for (List<String> processInstanceIdsBatch : CollectionUtil.partition(processInstanceIds, batchSize)) {
+                for (VariableInstanceEntity variableInstance : getVariableInstanceEntityManager().findVariableInstancesByExecutionIdsAndNames(processInstanceIdsBatch, variableNames)) {
+                    addToMultiMap(variablesByProcessInstanceId, variableInstance.getExecutionId(), variableInstance);
+                }
+            }
+        }
+
+        Map<String, List<IdentityLinkEntity>> identityLinksByTaskId = new HashMap<>();
+        if (taskQuery.isIncludeIdentityLinks()) {
+            for (List<String> taskIdsBatch : CollectionUtil.partition(taskIds, batchSize)) {
+                for (IdentityLinkEntity identityLink : getIdentityLinkEntityManager().findIdentityLinksByTaskIds(taskIdsBatch)) {
+                    addToMultiMap(identityLinksByTaskId, identityLink.getTaskId(), identityLink);
+                }
+            }
+        }
+
+        for (Task task : tasks) {
+            TaskEntityImpl taskEntity = (TaskEntityImpl) task;
+            if (taskQuery.isIncludeTaskLocalVariables() || taskQuery.isIncludeProcessVariables()) {
+                List<VariableInstanceEntity> queryVariables = taskEntity.getQueryVariables();
+                if (variablesByTaskId.containsKey(task.getId())) {
+                    queryVariables.addAll(variablesByTaskId.get(task.getId()));
+                }
+                if (task.getProcessInstanceId() != null && variablesByProcessInstanceId.containsKey(task.getProcessInstanceId())) {
+                    queryVariables.addAll(variablesByProcessInstanceId.get(task.getProcessInstanceId()));
+                }
+            }
+            if (taskQuery.isIncludeIdentityLinks()) {
+                List<IdentityLinkEntity> identityLinks = identityLinksByTaskId.get(task.getId());
+                taskEntity.setQueryIdentityLinks(identityLinks != null ? identityLinks : new ArrayList<IdentityLinkEntity>());
+            }
+        }
+    }
+
+    protected <T> void addToMultiMap(Map<String, List<T>> map, String key, T value) {
+        List<T> values = map.get(key);
+        if (values == null) {
+            values = new ArrayList<>();
+            map.put(key, values);
+        }
+        values.add(value);
+    }
+
     @Override
     public long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery) {
         return taskDataManager.findTaskCountByQueryCriteria(taskQuery);
@@ -44,6 +44,7 @@ public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJo
 
     public void setLockOwner(String claimedBy) {
         this.lockOwner = claimedBy;
+        isDirty = true;
     }
 
     public Date getLockExpirationTime() {
@@ -52,6 +53,7 @@ public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJo
 
     public void setLockExpirationTime(Date claimedUntil) {
         this.lockExpirationTime = claimedUntil;
+        isDirty = true;
     }
 
     @Override
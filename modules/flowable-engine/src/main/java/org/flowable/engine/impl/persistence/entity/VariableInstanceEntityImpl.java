@@ -18,6 +18,7 @@ import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.engine.impl.variable.ValueFields;
 import org.flowable.engine.impl.variable.VariableType;
 
@@ -26,7 +27,7 @@ import org.flowable.engine.impl.variable.VariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractEntity implements VariableInstanceEntity, ValueFields, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -80,6 +81,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     public void forceUpdate() {
         forcedUpdate = true;
+        isDirty = true;
     }
 
     public void setProcessInstanceId(String processInstanceId) {
@@ -88,6 +90,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
+        isDirty = true;
     }
 
     // byte array value ///////////////////////////////////////////////////////////
@@ -102,6 +105,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     public void setBytes(byte[] bytes) {
         ensureByteArrayRefInitialized();
         byteArrayRef.setValue("var-" + name, bytes);
+        isDirty = true;
     }
 
     public ByteArrayRef getByteArrayRef() {
@@ -133,6 +137,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     public void setName(String name) {
         this.name = name;
+        isDirty = true;
     }
 
     public String getName() {
@@ -159,6 +164,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     public void setType(VariableType type) {
         this.type = type;
+        isDirty = true;
     }
 
     public String getProcessInstanceId() {
@@ -183,6 +189,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     public void setLongValue(Long longValue) {
         this.longValue = longValue;
+        isDirty = true;
     }
 
     public Double getDoubleValue() {
@@ -191,6 +198,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     public void setDoubleValue(Double doubleValue) {
         this.doubleValue = doubleValue;
+        isDirty = true;
     }
 
     public String getTextValue() {
@@ -199,6 +207,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     public void setTextValue(String textValue) {
         this.textValue = textValue;
+        isDirty = true;
     }
 
     public String getTextValue2() {
@@ -207,6 +216,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     public void setTextValue2(String textValue2) {
         this.textValue2 = textValue2;
+        isDirty = true;
     }
 
     public Object getCachedValue() {
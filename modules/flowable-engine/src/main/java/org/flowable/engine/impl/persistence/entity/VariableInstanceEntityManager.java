@@ -34,6 +34,11 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    /**
+     * Returns the variables of all executions of the given process instance, without the task local variables.
+     */
+    List<VariableInstanceEntity> findVariableInstancesByProcessInstanceId(String processInstanceId);
+
     VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName);
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> names);
@@ -42,6 +47,25 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
 
     List<VariableInstanceEntity> findVariableInstancesByTaskAndNames(String taskId, Collection<String> names);
 
+    /**
+     * Returns the task local variables of the given tasks with one query, restricted to the given names if any are passed.
+     * The returned variables are not put in the entity cache.
+     */
+    List<VariableInstanceEntity> findVariableInstancesByTaskIdsAndNames(Collection<String> taskIds, Collection<String> names);
+
+    /**
+     * Returns the variables of the given executions (not the task local variables) with one query, restricted to the given names if any are passed.
+     * The returned variables are not put in the entity cache.
+     */
+    List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Collection<String> executionIds, Collection<String> names);
+
     void deleteVariableInstanceByTask(TaskEntity task);
 
+    /**
+     * Deletes the variables of all executions of the given process instance (not the task local variables) with one statement.
+     * The given variables, as returned by {@link #findVariableInstancesByProcessInstanceId(String)}, are seen as deleted from now on.
+     * No events are dispatched and the byte arrays of the variables are not deleted: this is up to the caller.
+     */
+    void deleteVariableInstancesByProcessInstanceId(String processInstanceId, Collection<VariableInstanceEntity> variableInstances);
+
 }
\ No newline at end of file
@@ -95,6 +95,21 @@ public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<Var
         return variableInstanceDataManager.findVariableInstancesByExecutionIds(executionIds);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByTaskIdsAndNames(Collection<String> taskIds, Collection<String> names) {
+        return variableInstanceDataManager.findVariableInstancesByTaskIdsAndNames(taskIds, names);
+    }
+
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Collection<String> executionIds, Collection<String> names) {
+        return variableInstanceDataManager.findVariableInstancesByExecutionIdsAndNames(executionIds, names);
+    }
+
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByProcessInstanceId(String processInstanceId) {
+        return variableInstanceDataManager.findVariableInstancesByProcessInstanceId(processInstanceId);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName) {
         return variableInstanceDataManager.findVariableInstanceByExecutionAndName(executionId, variableName);
@@ -175,6 +190,11 @@ public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<Var
         }
     }
 
+    @Override
+    public void deleteVariableInstancesByProcessInstanceId(String processInstanceId, Collection<VariableInstanceEntity> variableInstances) {
+        variableInstanceDataManager.deleteVariableInstancesByProcessInstanceId(processInstanceId, variableInstances);
+    }
+
     public VariableInstanceDataManager getVariableInstanceDataManager() {
         return variableInstanceDataManager;
     }
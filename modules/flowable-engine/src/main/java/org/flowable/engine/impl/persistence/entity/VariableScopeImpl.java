@@ -29,6 +29,7 @@ import org.flowable.engine.common.impl.javax.el.ELContext;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
 import org.flowable.engine.delegate.VariableScope;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.variable.SerializableType;
 import org.flowable.engine.impl.variable.VariableType;
 import org.flowable.engine.impl.variable.VariableTypes;
 
@@ -253,6 +254,28 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         return value;
     }
 
+    public Object getVariableReadOnly(String variableName) {
+        return getReadOnlyValue(getVariableInstance(variableName, true));
+    }
+
+    public Object getVariableLocalReadOnly(String variableName) {
+        return getReadOnlyValue(getVariableInstanceLocal(variableName, true));
+    }
+
+    protected Object getReadOnlyValue(VariableInstance variableInstance) {
+        if (variableInstance == null) {
+            return null;
+        }
+
+        if (variableInstance instanceof VariableInstanceEntity) {
+            VariableType type = ((VariableInstanceEntity) variableInstance).getType();
+            if (type instanceof SerializableType) {
+                return ((SerializableType) type).getReadOnlyValue((VariableInstanceEntity) variableInstance);
+            }
+        }
+        return variableInstance.getValue();
+    }
+
     public VariableInstance getVariableInstance(String variableName, boolean fetchAllVariables) {
 
         // Transient variable
@@ -26,6 +26,8 @@ public interface DeadLetterJobDataManager extends DataManager<DeadLetterJobEntit
 
     List<DeadLetterJobEntity> findJobsByExecutionId(String executionId);
 
+    List<DeadLetterJobEntity> findJobsByProcessInstanceId(String processInstanceId);
+
     List<Job> findJobsByQueryCriteria(DeadLetterJobQueryImpl jobQuery);
 
     long findJobCountByQueryCriteria(DeadLetterJobQueryImpl jobQuery);
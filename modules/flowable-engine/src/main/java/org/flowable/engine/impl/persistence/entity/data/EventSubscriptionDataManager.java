@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -51,6 +52,8 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     List<EventSubscriptionEntity> findEventSubscriptionsByExecution(final String executionId);
 
+    List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstance(final String processInstanceId);
+
     List<EventSubscriptionEntity> findEventSubscriptionsByTypeAndProcessDefinitionId(String type, String processDefinitionId, String tenantId);
 
     List<EventSubscriptionEntity> findEventSubscriptionsByName(final String type, final String eventName, final String tenantId);
@@ -63,4 +66,6 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     void deleteEventSubscriptionsForProcessDefinition(String processDefinitionId);
 
+    void deleteEventSubscriptionsByProcessInstanceId(String processInstanceId, Collection<EventSubscriptionEntity> eventSubscriptions);
+
 }
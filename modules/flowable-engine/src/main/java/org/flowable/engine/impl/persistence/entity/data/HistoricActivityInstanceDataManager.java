@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -41,4 +42,6 @@ public interface HistoricActivityInstanceDataManager extends DataManager<Histori
 
     long findHistoricActivityInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
+    void deleteHistoricActivityInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -46,4 +47,6 @@ public interface HistoricDetailDataManager extends DataManager<HistoricDetailEnt
 
     long findHistoricDetailCountByNativeQuery(Map<String, Object> parameterMap);
 
+    void deleteHistoricDetailsForProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
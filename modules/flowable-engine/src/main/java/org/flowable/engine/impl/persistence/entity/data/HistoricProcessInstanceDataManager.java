@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +34,8 @@ public interface HistoricProcessInstanceDataManager extends DataManager<Historic
 
     List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceId(String superProcessInstanceId);
 
+    List<String> findHistoricProcessInstanceIdsBySuperProcessInstanceIds(Collection<String> superProcessInstanceIds);
+
     long findHistoricProcessInstanceCountByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
@@ -42,4 +46,9 @@ public interface HistoricProcessInstanceDataManager extends DataManager<Historic
 
     long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
+    List<HistoricProcessInstanceEntity> findEndedHistoricProcessInstancesToClean(Date endedBefore, String processDefinitionKey, String tenantId,
+            Collection<String> excludedProcessDefinitionKeys, Collection<String> excludedTenantIds, int maxResults);
+
+    void deleteHistoricProcessInstancesForIds(Collection<String> historicProcessInstanceIds);
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -24,6 +25,8 @@ public interface IdentityLinkDataManager extends DataManager<IdentityLinkEntity>
 
     List<IdentityLinkEntity> findIdentityLinksByTaskId(String taskId);
 
+    List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds);
+
     List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId);
 
     List<IdentityLinkEntity> findIdentityLinksByProcessDefinitionId(String processDefinitionId);
@@ -36,4 +39,6 @@ public interface IdentityLinkDataManager extends DataManager<IdentityLinkEntity>
 
     void deleteIdentityLinksByProcDef(String processDefId);
 
+    void deleteIdentityLinksByProcessInstanceId(String processInstanceId, Collection<IdentityLinkEntity> identityLinks);
+
 }
@@ -33,6 +33,8 @@ public interface TaskDataManager extends DataManager<TaskEntity> {
 
     List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery);
 
+    List<Task> findTasksByQueryCriteriaNoCacheCheck(TaskQueryImpl taskQuery);
+
     long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery);
 
     List<Task> findTasksByNativeQuery(Map<String, Object> parameterMap);
@@ -32,6 +32,8 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    List<VariableInstanceEntity> findVariableInstancesByProcessInstanceId(String processInstanceId);
+
     VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName);
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> names);
@@ -40,4 +42,10 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
 
     List<VariableInstanceEntity> findVariableInstancesByTaskAndNames(String taskId, Collection<String> names);
 
+    List<VariableInstanceEntity> findVariableInstancesByTaskIdsAndNames(Collection<String> taskIds, Collection<String> names);
+
+    List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Collection<String> executionIds, Collection<String> names);
+
+    void deleteVariableInstancesByProcessInstanceId(String processInstanceId, Collection<VariableInstanceEntity> variableInstances);
+
 }
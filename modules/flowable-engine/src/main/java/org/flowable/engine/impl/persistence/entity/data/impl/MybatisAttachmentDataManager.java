@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -51,4 +52,10 @@ public class MybatisAttachmentDataManager extends AbstractDataManager<Attachment
         return getDbSqlSession().selectList("selectAttachmentsByTaskId", taskId);
     }
 
+    @Override
+    public void deleteAttachmentsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteAttachmentContentsForProcessInstanceIds", processInstanceIds, AttachmentEntityImpl.class);
+        getDbSqlSession().delete("bulkDeleteAttachmentsForProcessInstanceIds", processInstanceIds, AttachmentEntityImpl.class);
+    }
+
 }
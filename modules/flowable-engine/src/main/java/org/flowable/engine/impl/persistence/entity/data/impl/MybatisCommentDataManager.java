@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -111,4 +112,9 @@ public class MybatisCommentDataManager extends AbstractDataManager<CommentEntity
         return findById(commentId);
     }
 
+    @Override
+    public void deleteCommentsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteCommentsForProcessInstanceIds", processInstanceIds, CommentEntityImpl.class);
+    }
+
 }
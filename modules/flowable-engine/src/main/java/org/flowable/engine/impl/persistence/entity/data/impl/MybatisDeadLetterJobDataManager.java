@@ -23,6 +23,7 @@ import org.flowable.engine.impl.persistence.entity.DeadLetterJobEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.flowable.engine.impl.persistence.entity.data.DeadLetterJobDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.DeadLetterJobsByExecutionIdMatcher;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.DeadLetterJobsByProcessInstanceIdMatcher;
 import org.flowable.engine.runtime.Job;
 
 /**
@@ -32,6 +33,8 @@ public class MybatisDeadLetterJobDataManager extends AbstractDataManager<DeadLet
 
     protected CachedEntityMatcher<DeadLetterJobEntity> deadLetterByExecutionIdMatcher = new DeadLetterJobsByExecutionIdMatcher();
 
+    protected CachedEntityMatcher<DeadLetterJobEntity> deadLetterByProcessInstanceIdMatcher = new DeadLetterJobsByProcessInstanceIdMatcher();
+
     public MybatisDeadLetterJobDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
         super(processEngineConfiguration);
     }
@@ -63,6 +66,11 @@ public class MybatisDeadLetterJobDataManager extends AbstractDataManager<DeadLet
         return getList("selectDeadLetterJobsByExecutionId", executionId, deadLetterByExecutionIdMatcher, true);
     }
 
+    @Override
+    public List<DeadLetterJobEntity> findJobsByProcessInstanceId(String processInstanceId) {
+        return getList("selectDeadLetterJobsByProcessInstanceId", processInstanceId, deadLetterByProcessInstanceIdMatcher, true);
+    }
+
     @Override
     public void updateJobTenantIdForDeployment(String deploymentId, String newTenantId) {
         HashMap<String, Object> params = new HashMap<String, Object>();
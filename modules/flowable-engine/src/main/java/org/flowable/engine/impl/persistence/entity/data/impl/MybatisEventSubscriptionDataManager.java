@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,7 @@ import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.EventS
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.EventSubscriptionsByExecutionIdMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.EventSubscriptionsByNameMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.EventSubscriptionsByProcInstTypeAndActivityMatcher;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.EventSubscriptionsByProcessInstanceIdMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.MessageEventSubscriptionsByProcInstAndEventNameMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.SignalEventSubscriptionByEventNameMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.SignalEventSubscriptionByNameAndExecutionMatcher;
@@ -58,6 +60,8 @@ public class MybatisEventSubscriptionDataManager extends AbstractDataManager<Eve
 
     protected CachedEntityMatcher<EventSubscriptionEntity> eventSubscritionsByExecutionIdMatcher = new EventSubscriptionsByExecutionIdMatcher();
 
+    protected CachedEntityMatcher<EventSubscriptionEntity> eventSubscriptionsByProcessInstanceIdMatcher = new EventSubscriptionsByProcessInstanceIdMatcher();
+
     protected CachedEntityMatcher<EventSubscriptionEntity> eventSubscriptionsByProcInstTypeAndActivityMatcher = new EventSubscriptionsByProcInstTypeAndActivityMatcher();
 
     protected CachedEntityMatcher<EventSubscriptionEntity> eventSubscriptionsByExecutionAndTypeMatcher = new EventSubscriptionsByExecutionAndTypeMatcher();
@@ -180,6 +184,11 @@ public class MybatisEventSubscriptionDataManager extends AbstractDataManager<Eve
         return getList("selectEventSubscriptionsByExecution", executionId, eventSubscritionsByExecutionIdMatcher, true);
     }
 
+    @Override
+    public List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstance(final String processInstanceId) {
+        return getList("selectEventSubscriptionsByProcessInstance", processInstanceId, eventSubscriptionsByProcessInstanceIdMatcher, true);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<EventSubscriptionEntity> findEventSubscriptionsByTypeAndProcessDefinitionId(String type, String processDefinitionId, String tenantId) {
@@ -243,6 +252,27 @@ public class MybatisEventSubscriptionDataManager extends AbstractDataManager<Eve
         getDbSqlSession().delete("deleteEventSubscriptionsForProcessDefinition", processDefinitionId, EventSubscriptionEntityImpl.class);
     }
 
+    @Override
+    public void deleteEventSubscriptionsByProcessInstanceId(String processInstanceId, Collection<EventSubscriptionEntity> eventSubscriptions) {
+        // One statement per type, executed together with the deletes of the event subscription entities of that type
+        Map<Class<? extends EventSubscriptionEntity>, List<EventSubscriptionEntity>> eventSubscriptionsByClass = new HashMap<Class<? extends EventSubscriptionEntity>, List<EventSubscriptionEntity>>();
+        for (EventSubscriptionEntity eventSubscription : eventSubscriptions) {
+            List<EventSubscriptionEntity> eventSubscriptionsOfClass = eventSubscriptionsByClass.get(eventSubscription.getClass());
+            if (eventSubscriptionsOfClass == null) {
+                eventSubscriptionsOfClass = new ArrayList<EventSubscriptionEntity>();
+                eventSubscriptionsByClass.put(eventSubscription.getClass(), eventSubscriptionsOfClass);
+            }
+            eventSubscriptionsOfClass.add(eventSubscription);
+        }
+
+        for (Map.Entry<Class<? extends EventSubscriptionEntity>, List<EventSubscriptionEntity>> eventSubscriptionsOfClass : eventSubscriptionsByClass.entrySet()) {
+            Map<String, String> params = new HashMap<String, String>();
+            params.put("processInstanceId", processInstanceId);
+            params.put("eventType", eventSubscriptionsOfClass.getValue().get(0).getEventType());
+            getDbSqlSession().delete("deleteEventSubscriptionsByProcessInstanceAndType", params, eventSubscriptionsOfClass.getKey(), eventSubscriptionsOfClass.getValue());
+        }
+    }
+
     protected List<SignalEventSubscriptionEntity> toSignalEventSubscriptionEntityList(List<EventSubscriptionEntity> result) {
         List<SignalEventSubscriptionEntity> signalEventSubscriptionEntities = new ArrayList<SignalEventSubscriptionEntity>(result.size());
         for (EventSubscriptionEntity eventSubscriptionEntity : result) {
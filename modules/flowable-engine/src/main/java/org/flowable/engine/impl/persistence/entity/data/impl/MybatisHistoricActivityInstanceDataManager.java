@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -99,4 +100,9 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractDataMana
         return (Long) getDbSqlSession().selectOne("selectHistoricActivityInstanceCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    public void deleteHistoricActivityInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricActivityInstancesForProcessInstanceIds", processInstanceIds, HistoricActivityInstanceEntityImpl.class);
+    }
+
 }
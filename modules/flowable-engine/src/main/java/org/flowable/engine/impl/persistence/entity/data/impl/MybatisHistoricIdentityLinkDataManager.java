@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -54,4 +55,9 @@ public class MybatisHistoricIdentityLinkDataManager extends AbstractDataManager<
         return getList("selectHistoricIdentityLinksByProcessInstance", processInstanceId, historicIdentityLinksByProcInstMatcher, true);
     }
 
+    @Override
+    public void deleteHistoricIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricIdentityLinksForProcessInstanceIds", processInstanceIds, HistoricIdentityLinkEntityImpl.class);
+    }
+
 }
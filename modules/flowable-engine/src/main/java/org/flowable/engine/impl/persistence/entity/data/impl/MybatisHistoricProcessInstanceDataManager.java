@@ -12,10 +12,14 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.impl.db.ListQueryParameterObject;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -61,6 +65,12 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractDataManag
         return getDbSqlSession().selectList("selectHistoricProcessInstanceIdsBySuperProcessInstanceId", superProcessInstanceId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricProcessInstanceIdsBySuperProcessInstanceIds(Collection<String> superProcessInstanceIds) {
+        return getDbSqlSession().selectList("selectHistoricProcessInstanceIdsBySuperProcessInstanceIds", superProcessInstanceIds);
+    }
+
     @Override
     public long findHistoricProcessInstanceCountByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
         return (Long) getDbSqlSession().selectOne("selectHistoricProcessInstanceCountByQueryCriteria", historicProcessInstanceQuery);
@@ -119,4 +129,25 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractDataManag
         return (Long) getDbSqlSession().selectOne("selectHistoricProcessInstanceCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoricProcessInstanceEntity> findEndedHistoricProcessInstancesToClean(Date endedBefore, String processDefinitionKey, String tenantId,
+            Collection<String> excludedProcessDefinitionKeys, Collection<String> excludedTenantIds, int maxResults) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("endedBefore", endedBefore);
+        params.put("processDefinitionKey", processDefinitionKey);
+        params.put("tenantId", tenantId);
+        params.put("excludedProcessDefinitionKeys", excludedProcessDefinitionKeys);
+        params.put("excludedTenantIds", excludedTenantIds);
+
+        ListQueryParameterObject parameterObject = new ListQueryParameterObject(params, 0, maxResults);
+        parameterObject.setOrderByColumns("RES.END_TIME_ asc");
+        return getDbSqlSession().selectList("selectEndedHistoricProcessInstancesToClean", parameterObject);
+    }
+
+    @Override
+    public void deleteHistoricProcessInstancesForIds(Collection<String> historicProcessInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricProcessInstancesForIds", historicProcessInstanceIds, HistoricProcessInstanceEntityImpl.class);
+    }
+
 }
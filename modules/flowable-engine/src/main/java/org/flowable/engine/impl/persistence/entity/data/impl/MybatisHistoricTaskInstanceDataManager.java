@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -120,4 +121,9 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
         return (Long) getDbSqlSession().selectOne("selectHistoricTaskInstanceCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    public void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricTaskInstancesForProcessInstanceIds", processInstanceIds, HistoricTaskInstanceEntityImpl.class);
+    }
+
 }
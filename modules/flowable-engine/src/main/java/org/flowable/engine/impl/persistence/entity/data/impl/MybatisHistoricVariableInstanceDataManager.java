@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -91,4 +92,10 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
         return (Long) getDbSqlSession().selectOne("selectHistoricVariableInstanceCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    public void deleteHistoricVariableInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricVariableInstanceByteArraysForProcessInstanceIds", processInstanceIds, HistoricVariableInstanceEntityImpl.class);
+        getDbSqlSession().delete("bulkDeleteHistoricVariableInstancesForProcessInstanceIds", processInstanceIds, HistoricVariableInstanceEntityImpl.class);
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +52,12 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
         return getDbSqlSession().selectList("selectIdentityLinksByTask", taskId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds) {
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectIdentityLinksByTaskIds", taskIds);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId) {
@@ -100,4 +107,9 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
         getDbSqlSession().delete("deleteIdentityLinkByProcDef", processDefId, IdentityLinkEntityImpl.class);
     }
 
+    @Override
+    public void deleteIdentityLinksByProcessInstanceId(String processInstanceId, Collection<IdentityLinkEntity> identityLinks) {
+        getDbSqlSession().delete("deleteIdentityLinksByProcessInstanceId", processInstanceId, IdentityLinkEntityImpl.class, identityLinks);
+    }
+
 }
@@ -17,7 +17,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.AbstractEngineConfiguration;
 import org.flowable.engine.common.impl.Page;
+import org.flowable.engine.common.impl.db.ListQueryParameterObject;
 import org.flowable.engine.impl.JobQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
@@ -26,6 +28,7 @@ import org.flowable.engine.impl.persistence.entity.JobEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.flowable.engine.impl.persistence.entity.data.JobDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.JobsByExecutionIdMatcher;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.JobsByProcessInstanceIdMatcher;
 import org.flowable.engine.runtime.Job;
 
 /**
@@ -34,8 +37,12 @@ import org.flowable.engine.runtime.Job;
  */
 public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implements JobDataManager {
 
+    protected static final String JOBS_TO_EXECUTE_ORDER_BY = "RES.PRIORITY_ desc, RES.CREATE_TIME_ asc";
+
     protected CachedEntityMatcher<JobEntity> jobsByExecutionIdMatcher = new JobsByExecutionIdMatcher();
 
+    protected CachedEntityMatcher<JobEntity> jobsByProcessInstanceIdMatcher = new JobsByProcessInstanceIdMatcher();
+
     public MybatisJobDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
         super(processEngineConfiguration);
     }
@@ -53,7 +60,20 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
     @Override
     @SuppressWarnings("unchecked")
     public List<JobEntity> findJobsToExecute(Page page) {
-        return getDbSqlSession().selectList("selectJobsToExecute", null, page);
+        ListQueryParameterObject parameter = new ListQueryParameterObject(null, page.getFirstResult(), page.getMaxResults());
+        parameter.setOrderByColumns(JOBS_TO_EXECUTE_ORDER_BY);
+
+        if (getProcessEngineConfiguration().isAsyncExecutorSkipLockedJobAcquisition() && isSkipLockedSupported()) {
+            return getDbSqlSession().selectListWithRowLimit("selectJobsToExecuteSkipLocked", parameter, page.getMaxResults());
+        }
+        return getDbSqlSession().selectList("selectJobsToExecute", parameter);
+    }
+
+    protected boolean isSkipLockedSupported() {
+        String databaseType = getProcessEngineConfiguration().getDatabaseType();
+        return AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES.equals(databaseType)
+                || AbstractEngineConfiguration.DATABASE_TYPE_MYSQL.equals(databaseType)
+                || AbstractEngineConfiguration.DATABASE_TYPE_ORACLE.equals(databaseType);
     }
 
     @Override
@@ -62,9 +82,8 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<JobEntity> findJobsByProcessInstanceId(final String processInstanceId) {
-        return getDbSqlSession().selectList("selectJobsByProcessInstanceId", processInstanceId);
+        return getList("selectJobsByProcessInstanceId", processInstanceId, jobsByProcessInstanceIdMatcher, true);
     }
 
     @Override
@@ -23,6 +23,7 @@ import org.flowable.engine.impl.persistence.entity.SuspendedJobEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.flowable.engine.impl.persistence.entity.data.SuspendedJobDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.SuspendedJobsByExecutionIdMatcher;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.SuspendedJobsByProcessInstanceIdMatcher;
 import org.flowable.engine.runtime.Job;
 
 /**
@@ -32,6 +33,8 @@ public class MybatisSuspendedJobDataManager extends AbstractDataManager<Suspende
 
     protected CachedEntityMatcher<SuspendedJobEntity> suspendedJobsByExecutionIdMatcher = new SuspendedJobsByExecutionIdMatcher();
 
+    protected CachedEntityMatcher<SuspendedJobEntity> suspendedJobsByProcessInstanceIdMatcher = new SuspendedJobsByProcessInstanceIdMatcher();
+
     public MybatisSuspendedJobDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
         super(processEngineConfiguration);
     }
@@ -64,9 +67,8 @@ public class MybatisSuspendedJobDataManager extends AbstractDataManager<Suspende
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<SuspendedJobEntity> findJobsByProcessInstanceId(final String processInstanceId) {
-        return getDbSqlSession().selectList("selectSuspendedJobsByProcessInstanceId", processInstanceId);
+        return getList("selectSuspendedJobsByProcessInstanceId", processInstanceId, suspendedJobsByProcessInstanceIdMatcher, true);
     }
 
     @Override
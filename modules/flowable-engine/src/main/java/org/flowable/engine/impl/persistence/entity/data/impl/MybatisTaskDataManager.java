@@ -25,6 +25,7 @@ import org.flowable.engine.impl.persistence.entity.TaskEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.flowable.engine.impl.persistence.entity.data.TaskDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.TasksByExecutionIdMatcher;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.TasksByProcessInstanceIdMatcher;
 import org.flowable.engine.task.Task;
 
 /**
@@ -33,6 +34,8 @@ import org.flowable.engine.task.Task;
 public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> implements TaskDataManager {
 
     protected CachedEntityMatcher<TaskEntity> tasksByExecutionIdMatcher = new TasksByExecutionIdMatcher();
+    
+    protected CachedEntityMatcher<TaskEntity> tasksByProcessInstanceIdMatcher = new TasksByProcessInstanceIdMatcher();
 
     public MybatisTaskDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
         super(processEngineConfiguration);
@@ -54,9 +57,8 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<TaskEntity> findTasksByProcessInstanceId(String processInstanceId) {
-        return getDbSqlSession().selectList("selectTasksByProcessInstanceId", processInstanceId);
+        return getList("selectTasksByProcessInstanceId", processInstanceId, tasksByProcessInstanceIdMatcher, true);
     }
 
     @Override
@@ -102,6 +104,12 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Task> findTasksByQueryCriteriaNoCacheCheck(TaskQueryImpl taskQuery) {
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectTaskByQueryCriteria", taskQuery);
+    }
+
     @Override
     public long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery) {
         return (Long) getDbSqlSession().selectOne("selectTaskCountByQueryCriteria", taskQuery);
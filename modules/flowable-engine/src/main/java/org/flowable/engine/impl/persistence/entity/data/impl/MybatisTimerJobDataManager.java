@@ -26,6 +26,7 @@ import org.flowable.engine.impl.persistence.entity.TimerJobEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.flowable.engine.impl.persistence.entity.data.TimerJobDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.TimerJobsByExecutionIdMatcher;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.TimerJobsByProcessInstanceIdMatcher;
 import org.flowable.engine.runtime.Job;
 
 /**
@@ -36,6 +37,8 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
 
     protected CachedEntityMatcher<TimerJobEntity> timerJobsByExecutionIdMatcher = new TimerJobsByExecutionIdMatcher();
 
+    protected CachedEntityMatcher<TimerJobEntity> timerJobsByProcessInstanceIdMatcher = new TimerJobsByProcessInstanceIdMatcher();
+
     public MybatisTimerJobDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
         super(processEngineConfiguration);
     }
@@ -85,9 +88,8 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsByProcessInstanceId(final String processInstanceId) {
-        return getDbSqlSession().selectList("selectTimerJobsByProcessInstanceId", processInstanceId);
+        return getList("selectTimerJobsByProcessInstanceId", processInstanceId, timerJobsByProcessInstanceIdMatcher, true);
     }
 
     @Override
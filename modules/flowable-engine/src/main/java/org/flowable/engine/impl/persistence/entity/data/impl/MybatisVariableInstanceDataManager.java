@@ -25,6 +25,7 @@ import org.flowable.engine.impl.persistence.entity.VariableInstanceEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.flowable.engine.impl.persistence.entity.data.VariableInstanceDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.VariableByExecutionIdMatcher;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.VariablesByProcessInstanceIdMatcher;
 
 /**
  * @author Joram Barrez
@@ -33,6 +34,8 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
 
     protected CachedEntityMatcher<VariableInstanceEntity> variableInstanceEntity = new VariableByExecutionIdMatcher();
 
+    protected CachedEntityMatcher<VariableInstanceEntity> variablesByProcessInstanceIdMatcher = new VariablesByProcessInstanceIdMatcher();
+
     public MybatisVariableInstanceDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
         super(processEngineConfiguration);
     }
@@ -72,6 +75,11 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         return getDbSqlSession().selectList("selectVariablesByExecutionIds", executionIds);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByProcessInstanceId(String processInstanceId) {
+        return getList("selectVariablesByProcessInstanceId", processInstanceId, variablesByProcessInstanceIdMatcher, true);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName) {
         Map<String, String> params = new HashMap<String, String>(2);
@@ -106,4 +114,27 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         return getDbSqlSession().selectList("selectVariableInstancesByTaskAndNames", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<VariableInstanceEntity> findVariableInstancesByTaskIdsAndNames(Collection<String> taskIds, Collection<String> names) {
+        Map<String, Object> params = new HashMap<String, Object>(2);
+        params.put("taskIds", taskIds);
+        params.put("names", names);
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectVariablesByTaskIdsAndNames", params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Collection<String> executionIds, Collection<String> names) {
+        Map<String, Object> params = new HashMap<String, Object>(2);
+        params.put("executionIds", executionIds);
+        params.put("names", names);
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectVariablesByExecutionIdsAndNames", params);
+    }
+
+    @Override
+    public void deleteVariableInstancesByProcessInstanceId(String processInstanceId, Collection<VariableInstanceEntity> variableInstances) {
+        getDbSqlSession().delete("deleteVariableInstancesByProcessInstanceId", processInstanceId, VariableInstanceEntityImpl.class, variableInstances);
+    }
+
 }
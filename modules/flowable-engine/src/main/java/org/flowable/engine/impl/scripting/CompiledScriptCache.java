@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.scripting;
+
+import javax.script.CompiledScript;
+
+import org.flowable.engine.common.impl.util.BoundedConcurrentCache;
+
+/**
+ * Bounded cache of {@link CompiledScript}s, keyed by language, process definition, element and script text.
+ * Backed by a {@link BoundedConcurrentCache}, so scripts are looked up without locking and the least frequently used ones are evicted when the limit is reached.
+ */
+public class CompiledScriptCache {
+
+    protected int limit;
+    protected BoundedConcurrentCache<CompiledScriptKey, CompiledScript> cache;
+
+    public CompiledScriptCache(int limit) {
+        this.limit = limit;
+        this.cache = new BoundedConcurrentCache<CompiledScriptKey, CompiledScript>(limit);
+    }
+
+    public CompiledScript get(CompiledScriptKey key) {
+        return cache.get(key);
+    }
+
+    public void add(CompiledScriptKey key, CompiledScript compiledScript) {
+        cache.put(key, compiledScript);
+    }
+
+    /**
+     * Removes all compiled scripts of the given process definition, e.g. when the scripts were overridden through the {@link org.flowable.engine.DynamicBpmnService}.
+     * As the script text is part of the key, an overridden script is never served from the cache anyway:
+     * this only frees the memory of the compiled scripts that won't be used anymore.
+     */
+    public void removeProcessDefinition(String processDefinitionId) {
+        for (CompiledScriptKey key : cache.keySet()) {
+            if (key.getProcessDefinitionId() != null && key.getProcessDefinitionId().equals(processDefinitionId)) {
+                cache.remove(key);
+            }
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public static class CompiledScriptKey {
+
+        protected final String language;
+        protected final String processDefinitionId;
+        protected final String elementId;
+        protected final String script;
+        protected final int hashCode;
+
+        public CompiledScriptKey(String language, String processDefinitionId, String elementId, String script) {
+            this.language = language;
+            this.processDefinitionId = processDefinitionId;
+            this.elementId = elementId;
+            this.script = script;
+
+            int result = language.hashCode();
+            result = 31 * result + (processDefinitionId != null ? processDefinitionId.hashCode() : 0);
+            result = 31 * result + (elementId != null ? elementId.hashCode() : 0);
+            result = 31 * result + script.hashCode();
+            this.hashCode = result;
+        }
+
+        public String getLanguage() {
+            return language;
+        }
+
+        public String getProcessDefinitionId() {
+            return processDefinitionId;
+        }
+
+        public String getElementId() {
+            return elementId;
+        }
+
+        public String getScript() {
+            return script;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CompiledScriptKey)) {
+                return false;
+            }
+
+            CompiledScriptKey other = (CompiledScriptKey) obj;
+            return hashCode == other.hashCode
+                    && language.equals(other.language)
+                    && (processDefinitionId != null ? processDefinitionId.equals(other.processDefinitionId) : other.processDefinitionId == null)
+                    && (elementId != null ? elementId.equals(other.elementId) : other.elementId == null)
+                    && script.equals(other.script);
+        }
+
+    }
+
+}
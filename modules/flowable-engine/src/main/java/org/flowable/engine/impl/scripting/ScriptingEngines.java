@@ -12,11 +12,13 @@
  */
 package org.flowable.engine.impl.scripting;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -24,7 +26,10 @@ import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.DelegateTask;
 import org.flowable.engine.delegate.VariableScope;
+import org.flowable.engine.impl.scripting.CompiledScriptCache.CompiledScriptKey;
 
 /**
  * @author Tom Baeyens
@@ -42,6 +47,11 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    /**
+     * When set, scripts of cached engines that implement {@link Compilable} are compiled once and the {@link CompiledScript} is reused.
+     */
+    protected CompiledScriptCache compiledScriptCache;
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -49,7 +59,7 @@ public class ScriptingEngines {
 
     public ScriptingEngines(ScriptEngineManager scriptEngineManager) {
         this.scriptEngineManager = scriptEngineManager;
-        cachedEngines = new HashMap<String, ScriptEngine>();
+        cachedEngines = new ConcurrentHashMap<String, ScriptEngine>();
     }
 
     public ScriptingEngines addScriptEngineFactory(ScriptEngineFactory scriptEngineFactory) {
@@ -66,11 +76,11 @@ public class ScriptingEngines {
     }
 
     public Object evaluate(String script, String language, VariableScope variableScope) {
-        return evaluate(script, language, createBindings(variableScope));
+        return evaluate(script, language, createBindings(variableScope), variableScope);
     }
 
     public Object evaluate(String script, String language, VariableScope variableScope, boolean storeScriptVariables) {
-        return evaluate(script, language, createBindings(variableScope, storeScriptVariables));
+        return evaluate(script, language, createBindings(variableScope, storeScriptVariables), variableScope);
     }
 
     public void setCacheScriptingEngines(boolean cacheScriptingEngines) {
@@ -82,14 +92,59 @@ public class ScriptingEngines {
     }
 
     protected Object evaluate(String script, String language, Bindings bindings) {
+        return evaluate(script, language, bindings, null);
+    }
+
+    protected Object evaluate(String script, String language, Bindings bindings, VariableScope variableScope) {
         ScriptEngine scriptEngine = getEngineByName(language);
         try {
+            CompiledScript compiledScript = getCompiledScript(scriptEngine, script, language, variableScope);
+            if (compiledScript != null) {
+                try {
+                    return compiledScript.eval(bindings);
+                } catch (ScriptException e) {
+                    // Same message as when evaluating the script text, where the engine (e.g. Groovy) wraps the exception of the compiled script once more,
+                    // which gives the class name and message of the exception of the compiled script
+                    throw new FlowableException("problem evaluating script: " + e.toString(), e);
+                }
+            }
             return scriptEngine.eval(script, bindings);
         } catch (ScriptException e) {
             throw new FlowableException("problem evaluating script: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Returns the cached {@link CompiledScript} for the given script, compiling it when it isn't cached yet.
+     * Returns null when the script can't be compiled up front: only scripts of engines that are shared between threads
+     * (see {@link #getEngineByName(String)}) are compiled.
+     */
+    protected CompiledScript getCompiledScript(ScriptEngine scriptEngine, String script, String language, VariableScope variableScope) throws ScriptException {
+        // The JUEL script engine binds the variables when parsing, so its scripts can't be compiled without the bindings
+        if (compiledScriptCache == null || !(scriptEngine instanceof Compilable) || DEFAULT_SCRIPTING_LANGUAGE.equals(language)
+                || cachedEngines.get(language) != scriptEngine) {
+            return null;
+        }
+
+        String processDefinitionId = null;
+        String elementId = null;
+        if (variableScope instanceof DelegateExecution) {
+            processDefinitionId = ((DelegateExecution) variableScope).getProcessDefinitionId();
+            elementId = ((DelegateExecution) variableScope).getCurrentActivityId();
+        } else if (variableScope instanceof DelegateTask) {
+            processDefinitionId = ((DelegateTask) variableScope).getProcessDefinitionId();
+            elementId = ((DelegateTask) variableScope).getTaskDefinitionKey();
+        }
+
+        CompiledScriptKey key = new CompiledScriptKey(language, processDefinitionId, elementId, script);
+        CompiledScript compiledScript = compiledScriptCache.get(key);
+        if (compiledScript == null) {
+            compiledScript = ((Compilable) scriptEngine).compile(script);
+            compiledScriptCache.add(key, compiledScript);
+        }
+        return compiledScript;
+    }
+
     protected ScriptEngine getEngineByName(String language) {
         ScriptEngine scriptEngine = null;
 
@@ -139,6 +194,14 @@ public class ScriptingEngines {
         return scriptBindingsFactory.createBindings(variableScope, storeScriptVariables);
     }
 
+    public CompiledScriptCache getCompiledScriptCache() {
+        return compiledScriptCache;
+    }
+
+    public void setCompiledScriptCache(CompiledScriptCache compiledScriptCache) {
+        this.compiledScriptCache = compiledScriptCache;
+    }
+
     public ScriptBindingsFactory getScriptBindingsFactory() {
         return scriptBindingsFactory;
     }
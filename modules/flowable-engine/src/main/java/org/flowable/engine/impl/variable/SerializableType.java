@@ -21,6 +21,15 @@ import java.io.ObjectOutputStream;
 import java.io.ObjectStreamClass;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
@@ -36,8 +45,18 @@ public class SerializableType extends ByteArrayType {
 
     public static final String TYPE_NAME = "serializable";
 
+    protected static final Set<Class<?>> DEFAULT_IMMUTABLE_TYPES = Collections.unmodifiableSet(new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+            String.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, Boolean.class,
+            BigDecimal.class, BigInteger.class, Locale.class, URI.class)));
+
     protected boolean trackDeserializedObjects;
 
+    /**
+     * Values of these types (and enums) can't change after deserialization, so they are never tracked.
+     * Fixed when the type is created, as it is read concurrently by all commands.
+     */
+    protected Set<Class<?>> immutableTypes = DEFAULT_IMMUTABLE_TYPES;
+
     public String getTypeName() {
         return TYPE_NAME;
     }
@@ -50,6 +69,18 @@ public class SerializableType extends ByteArrayType {
         this.trackDeserializedObjects = trackDeserializedObjects;
     }
 
+    /**
+     * @param additionalImmutableTypes classes that are never tracked, next to the default immutable types
+     */
+    public SerializableType(boolean trackDeserializedObjects, Collection<Class<?>> additionalImmutableTypes) {
+        this.trackDeserializedObjects = trackDeserializedObjects;
+        if (additionalImmutableTypes != null && !additionalImmutableTypes.isEmpty()) {
+            Set<Class<?>> types = new HashSet<Class<?>>(DEFAULT_IMMUTABLE_TYPES);
+            types.addAll(additionalImmutableTypes);
+            this.immutableTypes = Collections.unmodifiableSet(types);
+        }
+    }
+
     public Object getValue(ValueFields valueFields) {
         Object cachedObject = valueFields.getCachedValue();
         if (cachedObject != null) {
@@ -62,7 +93,7 @@ public class SerializableType extends ByteArrayType {
             Object deserializedObject = deserialize(bytes, valueFields);
             valueFields.setCachedValue(deserializedObject);
 
-            if (trackDeserializedObjects && valueFields instanceof VariableInstanceEntity) {
+            if (isTracked(deserializedObject, valueFields)) {
                 Context.getCommandContext().addCloseListener(new VerifyDeserializedObjectCommandContextCloseListener(
                         new DeserializedObject(this, valueFields.getCachedValue(), bytes, (VariableInstanceEntity) valueFields)));
             }
@@ -72,19 +103,54 @@ public class SerializableType extends ByteArrayType {
         return null; // byte array is null
     }
 
+    /**
+     * Returns the value without tracking changes to it: the caller must not modify the returned object, as the changes won't be stored.
+     * 
+     * When the value isn't deserialized yet, the deserialized object is not kept as the cached value of the variable,
+     * so a later {@link #getValue(ValueFields)} still returns a tracked object.
+     */
+    public Object getReadOnlyValue(ValueFields valueFields) {
+        Object cachedObject = valueFields.getCachedValue();
+        if (cachedObject != null) {
+            return cachedObject;
+        }
+
+        byte[] bytes = (byte[]) super.getValue(valueFields);
+        if (bytes != null) {
+            return deserialize(bytes, valueFields);
+        }
+        return null;
+    }
+
     public void setValue(Object value, ValueFields valueFields) {
         byte[] bytes = serialize(value, valueFields);
         valueFields.setCachedValue(value);
 
         super.setValue(bytes, valueFields);
 
-        if (trackDeserializedObjects && valueFields instanceof VariableInstanceEntity) {
+        if (isTracked(value, valueFields)) {
             Context.getCommandContext().addCloseListener(new VerifyDeserializedObjectCommandContextCloseListener(
                     new DeserializedObject(this, valueFields.getCachedValue(), bytes, (VariableInstanceEntity) valueFields)));
         }
 
     }
 
+    protected boolean isTrackable(ValueFields valueFields) {
+        return trackDeserializedObjects && valueFields instanceof VariableInstanceEntity;
+    }
+
+    protected boolean isTracked(Object value, ValueFields valueFields) {
+        return isTrackable(valueFields) && !isImmutable(value);
+    }
+
+    public boolean isImmutable(Object value) {
+        return value == null || value instanceof Enum || immutableTypes.contains(value.getClass());
+    }
+
+    public Set<Class<?>> getImmutableTypes() {
+        return immutableTypes;
+    }
+
     public byte[] serialize(Object value, ValueFields valueFields) {
         if (value == null) {
             return null;
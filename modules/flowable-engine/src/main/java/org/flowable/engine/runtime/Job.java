@@ -58,4 +58,9 @@ public interface Job extends JobInfo {
      */
     String getJobType();
 
+    /**
+     * Returns the priority of this job. Jobs with a higher priority are acquired before jobs with a lower priority.
+     */
+    int getPriority();
+
 }
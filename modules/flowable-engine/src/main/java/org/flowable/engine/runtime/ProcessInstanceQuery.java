@@ -13,6 +13,7 @@
 package org.flowable.engine.runtime;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -284,6 +285,12 @@ public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, Proces
      */
     ProcessInstanceQuery includeProcessVariables();
 
+    /**
+     * Include only the process variables with the given names in the process query result.
+     * Other variables are not fetched, and neither are their byte array values. At least one name is required.
+     */
+    ProcessInstanceQuery includeProcessVariables(Collection<String> variableNames);
+
     /**
      * Limit process instance variables
      */
@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+import org.flowable.engine.ManagementService;
+
+/**
+ * The progress of the background deletion of the process instances of a process definition,
+ * as started with {@link ManagementService#deleteProcessInstancesInBackground(String, String, boolean)}.
+ */
+public interface ProcessInstancesDeletionStatus {
+
+    /**
+     * The id of the process definition of which the process instances are being deleted.
+     */
+    String getProcessDefinitionId();
+
+    /**
+     * The id of the job that deletes the next batch. Every batch is deleted by a new job.
+     */
+    String getJobId();
+
+    /**
+     * The reason with which the process instances are deleted.
+     */
+    String getDeleteReason();
+
+    /**
+     * Returns true when the historic process instances are deleted too.
+     */
+    boolean isDeleteHistory();
+
+    /**
+     * The number of process instances deleted so far.
+     */
+    long getDeletedProcessInstanceCount();
+
+    /**
+     * The number of historic process instances deleted so far, not counting the history of the deleted process instances.
+     */
+    long getDeletedHistoricProcessInstanceCount();
+
+    /**
+     * The number of process instances that are left to be deleted.
+     */
+    long getRemainingProcessInstanceCount();
+
+    /**
+     * The number of historic process instances that are left to be deleted (including those of the remaining process instances), 0 when the history isn't deleted.
+     */
+    long getRemainingHistoricProcessInstanceCount();
+
+    /**
+     * Returns the message of the exception that occurred the last time a batch was deleted. Returns null when no exception occurred.
+     */
+    String getExceptionMessage();
+
+    /**
+     * Returns true when the deletion is stopped because a batch failed too many times, i.e. the job is a dead letter job.
+     * The deletion continues once the job is moved back with {@link ManagementService#moveDeadLetterJobToExecutableJob(String, int)}.
+     */
+    boolean isFailed();
+
+}
@@ -13,6 +13,7 @@
 package org.flowable.engine.task;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -518,6 +519,12 @@ public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo
      */
     T includeProcessVariables();
 
+    /**
+     * Include only the global task variables with the given names in the task query result.
+     * Other variables are not fetched, and neither are their byte array values. At least one name is required.
+     */
+    T includeProcessVariables(Collection<String> variableNames);
+
     /**
      * Limit task variables
      */
@@ -105,6 +105,7 @@ create table ACT_RU_JOB (
     HANDLER_TYPE_ varchar(255),
     HANDLER_CFG_ varchar(4000),
     CREATE_TIME_ timestamp,
+    PRIORITY_ integer default 0,
     TENANT_ID_ varchar(255) default '',
     primary key (ID_)
 );
@@ -127,6 +128,7 @@ create table ACT_RU_TIMER_JOB (
     HANDLER_TYPE_ varchar(255),
     HANDLER_CFG_ varchar(4000),
     CREATE_TIME_ timestamp,
+    PRIORITY_ integer default 0,
     TENANT_ID_ varchar(255) default '',
     primary key (ID_)
 );
@@ -147,6 +149,7 @@ create table ACT_RU_SUSPENDED_JOB (
     HANDLER_TYPE_ varchar(255),
     HANDLER_CFG_ varchar(4000),
     CREATE_TIME_ timestamp,
+    PRIORITY_ integer default 0,
     TENANT_ID_ varchar(255) default '',
     primary key (ID_)
 );
@@ -166,6 +169,7 @@ create table ACT_RU_DEADLETTER_JOB (
     HANDLER_TYPE_ varchar(255),
     HANDLER_CFG_ varchar(4000),
     CREATE_TIME_ timestamp,
+    PRIORITY_ integer default 0,
     TENANT_ID_ varchar(255) default '',
     primary key (ID_)
 );
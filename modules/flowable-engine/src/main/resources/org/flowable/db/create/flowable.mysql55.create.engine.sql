@@ -104,6 +104,7 @@ create table ACT_RU_JOB (
     HANDLER_TYPE_ varchar(255),
     HANDLER_CFG_ varchar(4000),
     CREATE_TIME_ timestamp NULL,
+    PRIORITY_ integer default 0,
     TENANT_ID_ varchar(255) default '',
     primary key (ID_)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
@@ -126,6 +127,7 @@ create table ACT_RU_TIMER_JOB (
     HANDLER_TYPE_ varchar(255),
     HANDLER_CFG_ varchar(4000),
     CREATE_TIME_ timestamp NULL,
+    PRIORITY_ integer default 0,
     TENANT_ID_ varchar(255) default '',
     primary key (ID_)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
@@ -146,6 +148,7 @@ create table ACT_RU_SUSPENDED_JOB (
     HANDLER_TYPE_ varchar(255),
     HANDLER_CFG_ varchar(4000),
     CREATE_TIME_ timestamp NULL,
+    PRIORITY_ integer default 0,
     TENANT_ID_ varchar(255) default '',
     primary key (ID_)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
@@ -165,6 +168,7 @@ create table ACT_RU_DEADLETTER_JOB (
     HANDLER_TYPE_ varchar(255),
     HANDLER_CFG_ varchar(4000),
     CREATE_TIME_ timestamp NULL,
+    PRIORITY_ integer default 0,
     TENANT_ID_ varchar(255) default '',
     primary key (ID_)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
@@ -105,6 +105,7 @@ create table ACT_RU_JOB (
     HANDLER_TYPE_ NVARCHAR2(255),
     HANDLER_CFG_ NVARCHAR2(2000),
     CREATE_TIME_ TIMESTAMP(6),
+    PRIORITY_ INTEGER DEFAULT 0,
     TENANT_ID_ NVARCHAR2(255) DEFAULT '',
     primary key (ID_)
 );
@@ -127,6 +128,7 @@ create table ACT_RU_TIMER_JOB (
     HANDLER_TYPE_ NVARCHAR2(255),
     HANDLER_CFG_ NVARCHAR2(2000),
     CREATE_TIME_ TIMESTAMP(6),
+    PRIORITY_ INTEGER DEFAULT 0,
     TENANT_ID_ NVARCHAR2(255) DEFAULT '',
     primary key (ID_)
 );
@@ -147,6 +149,7 @@ create table ACT_RU_SUSPENDED_JOB (
     HANDLER_TYPE_ NVARCHAR2(255),
     HANDLER_CFG_ NVARCHAR2(2000),
     CREATE_TIME_ TIMESTAMP(6),
+    PRIORITY_ INTEGER DEFAULT 0,
     TENANT_ID_ NVARCHAR2(255) DEFAULT '',
     primary key (ID_)
 );
@@ -166,6 +169,7 @@ create table ACT_RU_DEADLETTER_JOB (
     HANDLER_TYPE_ NVARCHAR2(255),
     HANDLER_CFG_ NVARCHAR2(2000),
     CREATE_TIME_ TIMESTAMP(6),
+    PRIORITY_ INTEGER DEFAULT 0,
     TENANT_ID_ NVARCHAR2(255) DEFAULT '',
     primary key (ID_)
 );
@@ -9,3 +9,13 @@ update ACT_RU_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
 update ACT_RU_TIMER_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
 update ACT_RU_SUSPENDED_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
 update ACT_RU_DEADLETTER_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
+
+alter table ACT_RU_JOB add PRIORITY_ int default 0;
+alter table ACT_RU_TIMER_JOB add PRIORITY_ int default 0;
+alter table ACT_RU_SUSPENDED_JOB add PRIORITY_ int default 0;
+alter table ACT_RU_DEADLETTER_JOB add PRIORITY_ int default 0;
+
+update ACT_RU_JOB set PRIORITY_=0;
+update ACT_RU_TIMER_JOB set PRIORITY_=0;
+update ACT_RU_SUSPENDED_JOB set PRIORITY_=0;
+update ACT_RU_DEADLETTER_JOB set PRIORITY_=0;
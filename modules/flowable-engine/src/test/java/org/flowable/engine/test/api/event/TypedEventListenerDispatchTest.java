@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+import org.flowable.engine.common.api.delegate.event.FlowableTypedEventListener;
+import org.flowable.engine.common.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.impl.FlowableEventImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+
+public class TypedEventListenerDispatchTest extends PluggableFlowableTestCase {
+
+    protected FlowableEventDispatcher dispatcher;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        dispatcher = new FlowableEventDispatcherImpl();
+    }
+
+    public void testGlobalListenerWithDeclaredTypes() {
+        TestTypedEventListener typedListener = new TestTypedEventListener(FlowableEngineEventType.TASK_CREATED, FlowableEngineEventType.TASK_COMPLETED);
+        dispatcher.addEventListener(typedListener);
+
+        dispatcher.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.TASK_CREATED));
+        dispatcher.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.TASK_ASSIGNED));
+        dispatcher.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.TASK_COMPLETED));
+
+        assertEquals(2, typedListener.getEventsReceived().size());
+        assertEquals(FlowableEngineEventType.TASK_CREATED, typedListener.getEventsReceived().get(0).getType());
+        assertEquals(FlowableEngineEventType.TASK_COMPLETED, typedListener.getEventsReceived().get(1).getType());
+
+        dispatcher.removeEventListener(typedListener);
+        typedListener.clearEventsReceived();
+        dispatcher.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.TASK_CREATED));
+        assertTrue(typedListener.getEventsReceived().isEmpty());
+    }
+
+    public void testGlobalListenerWithoutDeclaredTypes() {
+        TestTypedEventListener typedListener = new TestTypedEventListener();
+        dispatcher.addEventListener(typedListener);
+
+        dispatcher.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.TASK_CREATED));
+        dispatcher.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.JOB_EXECUTION_SUCCESS));
+
+        assertEquals(2, typedListener.getEventsReceived().size());
+    }
+
+    public void testDispatchOrder() {
+        final List<String> invocations = new ArrayList<String>();
+        dispatcher.addEventListener(new RecordingEventListener("typed", invocations), FlowableEngineEventType.TASK_CREATED);
+        dispatcher.addEventListener(new RecordingEventListener("global", invocations));
+
+        dispatcher.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.TASK_CREATED));
+        assertEquals(Arrays.asList("global", "typed"), invocations);
+
+        // Listeners added later are taken into account
+        invocations.clear();
+        dispatcher.addEventListener(new RecordingEventListener("global2", invocations));
+        dispatcher.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.TASK_CREATED));
+        dispatcher.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.TASK_ASSIGNED));
+        assertEquals(Arrays.asList("global", "global2", "typed", "global", "global2"), invocations);
+    }
+
+    protected static class TestTypedEventListener extends TestFlowableEventListener implements FlowableTypedEventListener {
+
+        protected List<FlowableEventType> types;
+
+        public TestTypedEventListener(FlowableEventType... types) {
+            this.types = Arrays.asList(types);
+        }
+
+        @Override
+        public Collection<? extends FlowableEventType> getTypes() {
+            return types;
+        }
+    }
+
+    protected static class RecordingEventListener implements FlowableEventListener {
+
+        protected String name;
+        protected List<String> invocations;
+
+        public RecordingEventListener(String name, List<String> invocations) {
+            this.name = name;
+            this.invocations = invocations;
+        }
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            invocations.add(name);
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return true;
+        }
+    }
+
+}
@@ -13,6 +13,7 @@
 package org.flowable.engine.test.api.history;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -183,6 +184,30 @@ public class HistoricProcessInstanceAndVariablesQueryTest extends PluggableFlowa
         }
     }
 
+    public void testQueryWithNamedVariables() {
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            List<HistoricProcessInstance> instanceList = historyService.createHistoricProcessInstanceQuery().includeProcessVariables(Arrays.asList("test2", "anothertest"))
+                    .processDefinitionKey(PROCESS_DEFINITION_KEY).list();
+            assertEquals(4, instanceList.size());
+            for (HistoricProcessInstance processInstance : instanceList) {
+                Map<String, Object> variableMap = processInstance.getProcessVariables();
+                assertEquals(1, variableMap.size());
+                assertEquals("test2", variableMap.get("test2"));
+            }
+
+            HistoricProcessInstance processInstance = historyService.createHistoricProcessInstanceQuery().includeProcessVariables(Arrays.asList("anothertest"))
+                    .processDefinitionKey(PROCESS_DEFINITION_KEY_2).singleResult();
+            assertEquals(1, processInstance.getProcessVariables().size());
+            assertEquals(123, processInstance.getProcessVariables().get("anothertest"));
+
+            // Process instances without any of the requested variables are still returned
+            processInstance = historyService.createHistoricProcessInstanceQuery().includeProcessVariables(Arrays.asList("test"))
+                    .processDefinitionKey(PROCESS_DEFINITION_KEY_3).singleResult();
+            assertNotNull(processInstance);
+            assertEquals(0, processInstance.getProcessVariables().size());
+        }
+    }
+
     public void testQueryByprocessDefinition() {
         if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
             // DeploymentId
@@ -14,6 +14,7 @@ package org.flowable.engine.test.api.history;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -416,6 +417,35 @@ public class HistoricTaskAndVariablesQueryTest extends PluggableFlowableTestCase
         }
     }
 
+    @Deployment(resources = "org/flowable/engine/test/api/history/HistoricTaskAndVariablesQueryTest.testQuery.bpmn20.xml")
+    public void testQueryWithNamedProcessVariables() {
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            Map<String, Object> startMap = new HashMap<String, Object>();
+            startMap.put("processVar", true);
+            startMap.put("anotherProcessVar", 123);
+            startMap.put("binaryVariable", "This is a binary process variable".getBytes());
+            runtimeService.startProcessInstanceByKey("oneTaskProcess", startMap);
+
+            Task task = taskService.createTaskQuery().taskAssignee("kermit").singleResult();
+            taskService.setVariableLocal(task.getId(), "localVar", "test");
+            taskService.complete(task.getId());
+
+            HistoricTaskInstance historicTask = historyService.createHistoricTaskInstanceQuery().includeProcessVariables(Arrays.asList("processVar", "binaryVariable"))
+                    .taskAssignee("kermit").singleResult();
+            assertEquals(2, historicTask.getProcessVariables().size());
+            assertEquals(true, historicTask.getProcessVariables().get("processVar"));
+            assertEquals("This is a binary process variable", new String((byte[]) historicTask.getProcessVariables().get("binaryVariable")));
+            assertEquals(0, historicTask.getTaskLocalVariables().size());
+
+            historicTask = historyService.createHistoricTaskInstanceQuery().includeProcessVariables(Arrays.asList("anotherProcessVar")).includeTaskLocalVariables()
+                    .taskAssignee("kermit").singleResult();
+            assertEquals(1, historicTask.getProcessVariables().size());
+            assertEquals(123, historicTask.getProcessVariables().get("anotherProcessVar"));
+            assertEquals(1, historicTask.getTaskLocalVariables().size());
+            assertEquals("test", historicTask.getTaskLocalVariables().get("localVar"));
+        }
+    }
+
     public void testQueryWithPagingAndVariables() {
         if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
             List<HistoricTaskInstance> tasks = historyService.createHistoricTaskInstanceQuery().includeProcessVariables().includeTaskLocalVariables().orderByTaskPriority().desc().listPage(0, 1);
@@ -0,0 +1,190 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.mgmt;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstancesDeletionStatus;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class ProcessInstancesDeletionTest extends PluggableFlowableTestCase {
+
+    protected int originalBatchSize;
+    protected int originalBatchDelay;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        originalBatchSize = processEngineConfiguration.getProcessInstancesDeletionBatchSize();
+        originalBatchDelay = processEngineConfiguration.getProcessInstancesDeletionBatchDelay();
+        processEngineConfiguration.setProcessInstancesDeletionBatchSize(2);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.setProcessInstancesDeletionBatchSize(originalBatchSize);
+        processEngineConfiguration.setProcessInstancesDeletionBatchDelay(originalBatchDelay);
+        super.tearDown();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testDeleteProcessInstancesInBatches() {
+        String processDefinitionId = startProcessInstances();
+        assertNull(managementService.getProcessInstancesDeletionStatus(processDefinitionId));
+
+        managementService.deleteProcessInstancesInBackground(processDefinitionId, "cleanup", false);
+
+        ProcessInstancesDeletionStatus status = managementService.getProcessInstancesDeletionStatus(processDefinitionId);
+        assertEquals(processDefinitionId, status.getProcessDefinitionId());
+        assertEquals("cleanup", status.getDeleteReason());
+        assertFalse(status.isDeleteHistory());
+        assertEquals(0, status.getDeletedProcessInstanceCount());
+        assertEquals(4, status.getRemainingProcessInstanceCount());
+        assertFalse(status.isFailed());
+
+        try {
+            managementService.deleteProcessInstancesInBackground(processDefinitionId, "cleanup", false);
+            fail();
+        } catch (FlowableException e) {
+            // expected: already being deleted
+        }
+
+        managementService.executeJob(status.getJobId());
+        status = managementService.getProcessInstancesDeletionStatus(processDefinitionId);
+        assertEquals(2, status.getDeletedProcessInstanceCount());
+        assertEquals(2, status.getRemainingProcessInstanceCount());
+
+        managementService.executeJob(status.getJobId());
+        status = managementService.getProcessInstancesDeletionStatus(processDefinitionId);
+        assertEquals(4, status.getDeletedProcessInstanceCount());
+        assertEquals(0, status.getRemainingProcessInstanceCount());
+
+        // The last job doesn't find anything to delete anymore
+        managementService.executeJob(status.getJobId());
+        assertNull(managementService.getProcessInstancesDeletionStatus(processDefinitionId));
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processDefinitionId(processDefinitionId).count());
+        assertEquals(0, managementService.createJobQuery().count());
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            assertEquals(5, historyService.createHistoricProcessInstanceQuery().processDefinitionId(processDefinitionId).count());
+            assertEquals(4, historyService.createHistoricProcessInstanceQuery().processDefinitionId(processDefinitionId).deleted().count());
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testDeleteProcessInstancesAndHistory() {
+        String processDefinitionId = startProcessInstances();
+
+        managementService.deleteProcessInstancesInBackground(processDefinitionId, null, true);
+        ProcessInstancesDeletionStatus status = managementService.getProcessInstancesDeletionStatus(processDefinitionId);
+        assertTrue(status.isDeleteHistory());
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            assertEquals(5, status.getRemainingHistoricProcessInstanceCount());
+        }
+
+        int jobCount = 0;
+        while (status != null) {
+            managementService.executeJob(status.getJobId());
+            jobCount++;
+            status = managementService.getProcessInstancesDeletionStatus(processDefinitionId);
+        }
+
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processDefinitionId(processDefinitionId).count());
+        assertEquals(0, historyService.createHistoricProcessInstanceQuery().processDefinitionId(processDefinitionId).count());
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            // 2 batches of process instances, 1 with the historic process instance of the ended process instance and a last one that finds nothing
+            assertEquals(4, jobCount);
+        }
+    }
+
+    @Deployment(resources = {
+            "org/flowable/engine/test/bpmn/callactivity/CallActivity.testCallSimpleSubProcess.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/callactivity/simpleSubProcess.bpmn20.xml" })
+    public void testDeleteHistoryOfEndedProcessInstancesWithSubProcessInstance() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("callSimpleSubProcess");
+        for (int i = 0; i < 3; i++) {
+            Task task = taskService.createTaskQuery().singleResult();
+            taskService.complete(task.getId());
+        }
+        assertProcessEnded(processInstance.getId());
+        assertEquals(2, historyService.createHistoricProcessInstanceQuery().count());
+
+        String processDefinitionId = processInstance.getProcessDefinitionId();
+        managementService.deleteProcessInstancesInBackground(processDefinitionId, null, true);
+        ProcessInstancesDeletionStatus status = managementService.getProcessInstancesDeletionStatus(processDefinitionId);
+        while (status != null) {
+            managementService.executeJob(status.getJobId());
+            status = managementService.getProcessInstancesDeletionStatus(processDefinitionId);
+        }
+
+        // The sub process instance of the other process definition is deleted together with its super process instance
+        assertEquals(0, historyService.createHistoricProcessInstanceQuery().count());
+        assertEquals(0, historyService.createHistoricTaskInstanceQuery().count());
+        assertEquals(0, historyService.createHistoricActivityInstanceQuery().count());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBatchDelay() {
+        processEngineConfiguration.setProcessInstancesDeletionBatchDelay(60000);
+        String processDefinitionId = startProcessInstances();
+
+        managementService.deleteProcessInstancesInBackground(processDefinitionId, null, false);
+
+        // The first batch isn't delayed, the next one is
+        managementService.executeJob(managementService.getProcessInstancesDeletionStatus(processDefinitionId).getJobId());
+        assertEquals(0, managementService.createJobQuery().count());
+        Job timerJob = managementService.createTimerJobQuery().singleResult();
+        assertNotNull(timerJob);
+        assertEquals(timerJob.getId(), managementService.getProcessInstancesDeletionStatus(processDefinitionId).getJobId());
+        assertTrue(timerJob.getDuedate().getTime() >= processEngineConfiguration.getClock().getCurrentTime().getTime() + 59000);
+
+        Job job = managementService.moveTimerToExecutableJob(timerJob.getId());
+        managementService.executeJob(job.getId());
+        assertEquals(4, managementService.getProcessInstancesDeletionStatus(processDefinitionId).getDeletedProcessInstanceCount());
+        assertEquals(1, managementService.createTimerJobQuery().count());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testCascadingDeploymentDeletionRemovesDeletionJob() {
+        String processDefinitionId = startProcessInstances();
+        managementService.deleteProcessInstancesInBackground(processDefinitionId, null, false);
+        assertEquals(1, managementService.createJobQuery().count());
+
+        repositoryService.deleteDeployment(repositoryService.getProcessDefinition(processDefinitionId).getDeploymentId(), true);
+        assertEquals(0, managementService.createJobQuery().count());
+    }
+
+    /**
+     * Starts 5 process instances, of which one is completed.
+     */
+    protected String startProcessInstances() {
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult();
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceById(processDefinition.getId());
+        }
+        Task task = taskService.createTaskQuery().processDefinitionId(processDefinition.getId()).listPage(0, 1).get(0);
+        taskService.complete(task.getId());
+        return processDefinition.getId();
+    }
+
+}
@@ -12,10 +12,13 @@
  */
 package org.flowable.engine.test.api.runtime;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
@@ -129,6 +132,36 @@ public class ProcessInstanceAndVariablesQueryTest extends PluggableFlowableTestC
         assertEquals(0, instanceList.size());
     }
 
+    public void testQueryWithNamedVariables() {
+        List<ProcessInstance> instanceList = runtimeService.createProcessInstanceQuery().includeProcessVariables(Arrays.asList("test2", "anothertest"))
+                .processDefinitionKey(PROCESS_DEFINITION_KEY).list();
+        assertEquals(4, instanceList.size());
+        for (ProcessInstance processInstance : instanceList) {
+            Map<String, Object> variableMap = processInstance.getProcessVariables();
+            assertEquals(1, variableMap.size());
+            assertEquals("test2", variableMap.get("test2"));
+        }
+
+        instanceList = runtimeService.createProcessInstanceQuery().includeProcessVariables(Arrays.asList("test2", "anothertest"))
+                .orderByProcessDefinitionKey().asc().listPage(3, 2);
+        assertEquals(2, instanceList.size());
+        assertEquals("test2", instanceList.get(0).getProcessVariables().get("test2"));
+        assertEquals(Collections.singletonMap("anothertest", (Object) 123), instanceList.get(1).getProcessVariables());
+
+        // Process instances without any of the requested variables are still returned
+        ProcessInstance processInstance = runtimeService.createProcessInstanceQuery().includeProcessVariables(Arrays.asList("test"))
+                .processDefinitionKey(PROCESS_DEFINITION_KEY_3).singleResult();
+        assertNotNull(processInstance);
+        assertEquals(0, processInstance.getProcessVariables().size());
+
+        try {
+            runtimeService.createProcessInstanceQuery().includeProcessVariables(Collections.<String>emptyList());
+            fail();
+        } catch (FlowableIllegalArgumentException e) {
+            // expected: no names would mean all variables
+        }
+    }
+
     public void testOrQuery() {
         ProcessInstance processInstance = runtimeService.createProcessInstanceQuery().includeProcessVariables()
                 .or().variableValueEquals("undefined", 999).variableValueEquals("anothertest", 123).endOr().singleResult();
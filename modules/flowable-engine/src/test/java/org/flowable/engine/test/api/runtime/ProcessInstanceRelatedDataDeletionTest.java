@@ -0,0 +1,128 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.impl.persistence.entity.ByteArrayEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.api.event.TestFlowableEventListener;
+
+public class ProcessInstanceRelatedDataDeletionTest extends PluggableFlowableTestCase {
+
+    protected TestFlowableEventListener listener;
+
+    @Override
+    protected void initializeServices() {
+        super.initializeServices();
+        listener = new TestFlowableEventListener();
+        processEngineConfiguration.getEventDispatcher().addEventListener(listener);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        super.tearDown();
+        if (listener != null) {
+            processEngineConfiguration.getEventDispatcher().removeEventListener(listener);
+        }
+    }
+
+    @Deployment
+    public void testDeleteProcessInstance() {
+        ProcessInstance processInstance = startProcessInstance();
+        long byteArrayCount = getByteArrayCount();
+        listener.clearEventsReceived();
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+
+        assertNoRuntimeData(processInstance.getId());
+        // The byte arrays of the bytes process variable and the serializable local variables (those of the historic variables are kept)
+        assertEquals(byteArrayCount - 4, getByteArrayCount());
+        assertEquals(3, countEvents(FlowableEngineEventType.JOB_CANCELED));
+        assertEquals(3, countEvents(FlowableEngineEventType.ACTIVITY_MESSAGE_CANCELLED));
+        // 2 process variables, 6 local variables and the multi instance variables (3 on the multi instance root, a loopCounter for each instance)
+        assertEquals(14, countEvents(FlowableEngineEventType.VARIABLE_DELETED));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/ProcessInstanceRelatedDataDeletionTest.testDeleteProcessInstance.bpmn20.xml")
+    public void testCompleteProcessInstance() {
+        ProcessInstance processInstance = startProcessInstance();
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        for (int i = 0; i < tasks.size() - 1; i++) {
+            taskService.complete(tasks.get(i).getId());
+        }
+        assertEquals(1, taskService.createTaskQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(1, managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count());
+
+        // Completing the last task ends the process instance, which deletes its data that is left
+        listener.clearEventsReceived();
+        taskService.complete(tasks.get(tasks.size() - 1).getId());
+
+        assertNoRuntimeData(processInstance.getId());
+        assertEquals(1, countEvents(FlowableEngineEventType.JOB_CANCELED));
+        assertEquals(1, countEvents(FlowableEngineEventType.ACTIVITY_MESSAGE_CANCELLED));
+    }
+
+    protected ProcessInstance startProcessInstance() {
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("stringVar", "test");
+        variables.put("bytesVar", "test".getBytes());
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("relatedDataProcess", variables);
+        runtimeService.addUserIdentityLink(processInstance.getId(), "fozzie", "custom");
+
+        List<Execution> taskExecutions = runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("task").list();
+        assertEquals(3, taskExecutions.size());
+        for (Execution execution : taskExecutions) {
+            runtimeService.setVariableLocal(execution.getId(), "localVar", execution.getId());
+            runtimeService.setVariableLocal(execution.getId(), "serializableVar", new HashMap<String, Object>(variables));
+        }
+
+        assertEquals(3, taskService.createTaskQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(3, managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(3, runtimeService.createEventSubscriptionQuery().processInstanceId(processInstance.getId()).count());
+        return processInstance;
+    }
+
+    protected void assertNoRuntimeData(String processInstanceId) {
+        assertEquals(0, runtimeService.createExecutionQuery().processInstanceId(processInstanceId).count());
+        assertEquals(0, taskService.createTaskQuery().processInstanceId(processInstanceId).count());
+        assertEquals(0, managementService.createTimerJobQuery().processInstanceId(processInstanceId).count());
+        assertEquals(0, managementService.createJobQuery().processInstanceId(processInstanceId).count());
+        assertEquals(0, runtimeService.createEventSubscriptionQuery().processInstanceId(processInstanceId).count());
+        // The variables, byte arrays and identity links are covered by the check for a clean database after each test
+    }
+
+    protected long getByteArrayCount() {
+        return managementService.getTableCount().get(managementService.getTableName(ByteArrayEntity.class));
+    }
+
+    protected int countEvents(FlowableEngineEventType eventType) {
+        int count = 0;
+        for (FlowableEvent event : listener.getEventsReceived()) {
+            if (event.getType() == eventType) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
@@ -14,10 +14,13 @@ package org.flowable.engine.test.api.task;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.task.Task;
 import org.flowable.engine.task.TaskQuery;
@@ -133,6 +136,41 @@ public class TaskAndVariablesQueryTest extends PluggableFlowableTestCase {
         assertEquals("This is a binary process variable", new String((byte[]) task.getProcessVariables().get("binaryVariable")));
     }
 
+    @Deployment(resources = "org/flowable/engine/test/api/task/TaskAndVariablesQueryTest.testQuery.bpmn20.xml")
+    public void testQueryWithNamedProcessVariables() {
+        Map<String, Object> startMap = new HashMap<String, Object>();
+        startMap.put("processVar", true);
+        startMap.put("anotherProcessVar", 123);
+        startMap.put("binaryVariable", "This is a binary process variable".getBytes());
+        runtimeService.startProcessInstanceByKey("oneTaskProcess", startMap);
+
+        Task task = taskService.createTaskQuery().taskAssignee("kermit").singleResult();
+        taskService.setVariableLocal(task.getId(), "localVar", "test");
+
+        task = taskService.createTaskQuery().includeProcessVariables(Arrays.asList("processVar", "binaryVariable")).taskAssignee("kermit").singleResult();
+        assertEquals(2, task.getProcessVariables().size());
+        assertEquals(true, task.getProcessVariables().get("processVar"));
+        assertEquals("This is a binary process variable", new String((byte[]) task.getProcessVariables().get("binaryVariable")));
+        assertEquals(0, task.getTaskLocalVariables().size());
+
+        task = taskService.createTaskQuery().includeProcessVariables(Arrays.asList("anotherProcessVar")).includeTaskLocalVariables().taskAssignee("kermit").singleResult();
+        assertEquals(1, task.getProcessVariables().size());
+        assertEquals(123, task.getProcessVariables().get("anotherProcessVar"));
+        assertEquals(1, task.getTaskLocalVariables().size());
+        assertEquals("test", task.getTaskLocalVariables().get("localVar"));
+
+        task = taskService.createTaskQuery().includeProcessVariables(Arrays.asList("unknown")).taskAssignee("kermit").singleResult();
+        assertNotNull(task);
+        assertEquals(0, task.getProcessVariables().size());
+
+        try {
+            taskService.createTaskQuery().includeProcessVariables(Collections.<String>emptyList());
+            fail();
+        } catch (FlowableIllegalArgumentException e) {
+            // expected: no names would mean all variables
+        }
+    }
+
     public void testQueryWithPagingAndVariables() {
         List<Task> tasks = taskService.createTaskQuery().includeProcessVariables().includeTaskLocalVariables().orderByTaskPriority().desc().listPage(0, 1);
         assertEquals(1, tasks.size());
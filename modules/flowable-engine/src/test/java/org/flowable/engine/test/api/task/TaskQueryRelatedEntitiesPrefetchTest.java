@@ -0,0 +1,186 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.IdentityLinkInfo;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.task.TaskQuery;
+import org.flowable.engine.test.Deployment;
+
+public class TaskQueryRelatedEntitiesPrefetchTest extends PluggableFlowableTestCase {
+
+    protected int originalBatchSize;
+    protected String standaloneTaskId;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        originalBatchSize = processEngineConfiguration.getTaskQueryRelatedEntitiesPrefetchBatchSize();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.setEnableTaskQueryRelatedEntitiesPrefetch(false);
+        processEngineConfiguration.setTaskQueryRelatedEntitiesPrefetchBatchSize(originalBatchSize);
+        if (standaloneTaskId != null) {
+            taskService.deleteTask(standaloneTaskId, true);
+        }
+        super.tearDown();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testPrefetchMatchesJoin() {
+        createTestData();
+
+        assertSameResults(false, false, true);
+        assertSameResults(false, true, false);
+        assertSameResults(true, false, false);
+        assertSameResults(true, true, true);
+
+        processEngineConfiguration.setEnableTaskQueryRelatedEntitiesPrefetch(true);
+        Task task = taskService.createTaskQuery().processVariableValueEquals("index", 2).includeProcessVariables().includeTaskLocalVariables()
+                .includeIdentityLinks().singleResult();
+        assertEquals(3, task.getProcessVariables().size());
+        assertEquals(2, task.getProcessVariables().get("index"));
+        assertEquals("binary 2", new String((byte[]) task.getProcessVariables().get("binary")));
+        assertEquals(1, task.getTaskLocalVariables().size());
+        assertEquals("local 2", task.getTaskLocalVariables().get("local"));
+        assertEquals(1, task.getIdentityLinks().size());
+        IdentityLinkInfo identityLink = task.getIdentityLinks().get(0);
+        assertEquals("kermit", identityLink.getUserId());
+        assertEquals(task.getId(), identityLink.getTaskId());
+
+        task = taskService.createTaskQuery().taskName("standalone").includeProcessVariables().includeTaskLocalVariables().includeIdentityLinks().singleResult();
+        assertEquals(0, task.getProcessVariables().size());
+        assertEquals("standalone local", task.getTaskLocalVariables().get("local"));
+        assertEquals(0, task.getIdentityLinks().size());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testNamedProcessVariables() {
+        createTestData();
+        processEngineConfiguration.setEnableTaskQueryRelatedEntitiesPrefetch(true);
+
+        List<Task> tasks = taskService.createTaskQuery().processDefinitionKey("oneTaskProcess").includeProcessVariables(Arrays.asList("index", "unknown"))
+                .includeTaskLocalVariables().orderByTaskPriority().asc().list();
+        assertEquals(5, tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            assertEquals(Collections.singletonMap("index", (Object) i), task.getProcessVariables());
+            assertEquals(Collections.singletonMap("local", (Object) ("local " + i)), task.getTaskLocalVariables());
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testPaging() {
+        createTestData();
+        processEngineConfiguration.setEnableTaskQueryRelatedEntitiesPrefetch(true);
+        processEngineConfiguration.setTaskQueryRelatedEntitiesPrefetchBatchSize(2);
+
+        List<Task> tasks = taskService.createTaskQuery().processDefinitionKey("oneTaskProcess").includeProcessVariables().includeTaskLocalVariables()
+                .orderByTaskPriority().asc().listPage(1, 3);
+        assertEquals(3, tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            assertEquals(i + 1, task.getPriority());
+            assertEquals(i + 1, task.getProcessVariables().get("index"));
+            assertEquals("local " + (i + 1), task.getTaskLocalVariables().get("local"));
+        }
+
+        tasks = taskService.createTaskQuery().processDefinitionKey("oneTaskProcess").includeProcessVariables().orderByTaskPriority().asc().listPage(5, 3);
+        assertEquals(0, tasks.size());
+    }
+
+    protected void createTestData() {
+        for (int i = 0; i < 5; i++) {
+            Map<String, Object> variables = new HashMap<String, Object>();
+            variables.put("index", i);
+            variables.put("name", "process " + i);
+            variables.put("binary", ("binary " + i).getBytes());
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            task.setPriority(i);
+            taskService.saveTask(task);
+            taskService.setVariableLocal(task.getId(), "local", "local " + i);
+            taskService.addCandidateUser(task.getId(), "kermit");
+        }
+
+        Task task = taskService.newTask();
+        task.setName("standalone");
+        taskService.saveTask(task);
+        taskService.setVariableLocal(task.getId(), "local", "standalone local");
+        standaloneTaskId = task.getId();
+    }
+
+    protected void assertSameResults(boolean includeProcessVariables, boolean includeTaskLocalVariables, boolean includeIdentityLinks) {
+        processEngineConfiguration.setEnableTaskQueryRelatedEntitiesPrefetch(false);
+        List<Task> joinedTasks = createQuery(includeProcessVariables, includeTaskLocalVariables, includeIdentityLinks).list();
+        processEngineConfiguration.setEnableTaskQueryRelatedEntitiesPrefetch(true);
+        List<Task> prefetchedTasks = createQuery(includeProcessVariables, includeTaskLocalVariables, includeIdentityLinks).list();
+
+        assertEquals(6, prefetchedTasks.size());
+        assertEquals(joinedTasks.size(), prefetchedTasks.size());
+        for (int i = 0; i < joinedTasks.size(); i++) {
+            Task joinedTask = joinedTasks.get(i);
+            Task prefetchedTask = prefetchedTasks.get(i);
+            assertEquals(joinedTask.getId(), prefetchedTask.getId());
+            assertEquals(toComparableMap(joinedTask.getProcessVariables()), toComparableMap(prefetchedTask.getProcessVariables()));
+            assertEquals(toComparableMap(joinedTask.getTaskLocalVariables()), toComparableMap(prefetchedTask.getTaskLocalVariables()));
+            if (includeIdentityLinks) {
+                assertEquals(getIdentityLinkUserIds(joinedTask), getIdentityLinkUserIds(prefetchedTask));
+            }
+        }
+    }
+
+    protected TaskQuery createQuery(boolean includeProcessVariables, boolean includeTaskLocalVariables, boolean includeIdentityLinks) {
+        TaskQuery taskQuery = taskService.createTaskQuery().orderByTaskPriority().asc().orderByTaskId().asc();
+        if (includeProcessVariables) {
+            taskQuery.includeProcessVariables();
+        }
+        if (includeTaskLocalVariables) {
+            taskQuery.includeTaskLocalVariables();
+        }
+        if (includeIdentityLinks) {
+            taskQuery.includeIdentityLinks();
+        }
+        return taskQuery;
+    }
+
+    protected Map<String, Object> toComparableMap(Map<String, Object> variables) {
+        Map<String, Object> comparableVariables = new HashMap<String, Object>();
+        for (Map.Entry<String, Object> entry : variables.entrySet()) {
+            Object value = entry.getValue();
+            comparableVariables.put(entry.getKey(), value instanceof byte[] ? new String((byte[]) value) : value);
+        }
+        return comparableVariables;
+    }
+
+    protected List<String> getIdentityLinkUserIds(Task task) {
+        List<String> userIds = new ArrayList<String>();
+        for (IdentityLinkInfo identityLink : task.getIdentityLinks()) {
+            userIds.add(identityLink.getUserId());
+        }
+        return userIds;
+    }
+
+}
@@ -13,12 +13,20 @@
 package org.flowable.engine.test.api.variables;
 
 import java.io.Serializable;
+import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandContextCloseListener;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.variable.VerifyDeserializedObjectCommandContextCloseListener;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.task.Task;
 import org.flowable.engine.test.Deployment;
@@ -43,6 +51,89 @@ public class SerializableVariableTest extends PluggableFlowableTestCase {
         assertEquals(2, testSerializableVariable.getNumber());
     }
 
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testReadOnlyAccess() {
+        Map<String, Object> vars = new HashMap<String, Object>();
+        vars.put("myVar", new TestSerializableVariable(1));
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", vars);
+
+        int nrOfCloseListeners = managementService.executeCommand(new Command<Integer>() {
+
+            @Override
+            public Integer execute(CommandContext commandContext) {
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+                TestSerializableVariable var = (TestSerializableVariable) execution.getVariableReadOnly("myVar");
+                var.setNumber(2);
+                return getNrOfCloseListeners(commandContext);
+            }
+
+        });
+        assertEquals(0, nrOfCloseListeners);
+
+        // Changes to read-only values are not stored
+        assertEquals(1, ((TestSerializableVariable) runtimeService.getVariable(processInstance.getId(), "myVar")).getNumber());
+
+        // A regular get after a read-only get in the same command is still tracked
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+                execution.getVariableReadOnly("myVar");
+                ((TestSerializableVariable) execution.getVariable("myVar")).setNumber(3);
+                return null;
+            }
+
+        });
+        assertEquals(3, ((TestSerializableVariable) runtimeService.getVariable(processInstance.getId(), "myVar")).getNumber());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testImmutableValuesNotTracked() {
+        Map<String, Object> vars = new HashMap<String, Object>();
+        vars.put("bigDecimalVar", new BigDecimal("123.45"));
+        vars.put("enumVar", TimeUnit.SECONDS);
+        vars.put("myVar", new TestSerializableVariable(1));
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", vars);
+
+        int nrOfCloseListeners = managementService.executeCommand(new Command<Integer>() {
+
+            @Override
+            public Integer execute(CommandContext commandContext) {
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+                assertEquals(new BigDecimal("123.45"), execution.getVariable("bigDecimalVar"));
+                assertEquals(TimeUnit.SECONDS, execution.getVariable("enumVar"));
+                return getNrOfCloseListeners(commandContext);
+            }
+
+        });
+        assertEquals(0, nrOfCloseListeners);
+
+        nrOfCloseListeners = managementService.executeCommand(new Command<Integer>() {
+
+            @Override
+            public Integer execute(CommandContext commandContext) {
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+                execution.getVariable("myVar");
+                return getNrOfCloseListeners(commandContext);
+            }
+
+        });
+        assertEquals(1, nrOfCloseListeners);
+    }
+
+    protected int getNrOfCloseListeners(CommandContext commandContext) {
+        int nrOfCloseListeners = 0;
+        if (commandContext.getCloseListeners() != null) {
+            for (CommandContextCloseListener closeListener : commandContext.getCloseListeners()) {
+                if (closeListener instanceof VerifyDeserializedObjectCommandContextCloseListener) {
+                    nrOfCloseListeners++;
+                }
+            }
+        }
+        return nrOfCloseListeners;
+    }
+
     public static class TestUpdateSerializableVariableDelegate implements JavaDelegate {
 
         public void execute(DelegateExecution execution) {
@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.parse;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.BoundaryEvent;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.Event;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.SubProcess;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.test.Deployment;
+
+public class FlowElementsIndexTest extends PluggableFlowableTestCase {
+
+    protected static final String NESTED_PROCESS = "org/flowable/engine/test/bpmn/event/error/BoundaryErrorEventTest.testDeeplyNestedErrorThrown.bpmn20.xml";
+
+    @Deployment(resources = NESTED_PROCESS)
+    public void testIndexedLookupsMatchUnindexedLookups() throws Exception {
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("deeplyNestedErrorThrown").singleResult();
+        Process indexedProcess = repositoryService.getBpmnModel(processDefinition.getId()).getMainProcess();
+        assertNotNull(indexedProcess.getFlowElementsIndex());
+
+        Process process = readProcess();
+        assertNull(process.getFlowElementsIndex());
+
+        Class<?>[] types = new Class<?>[] { FlowElement.class, FlowNode.class, Activity.class, Event.class, StartEvent.class, BoundaryEvent.class, SubProcess.class, UserTask.class, SequenceFlow.class };
+        for (Class<?> type : types) {
+            assertFlowElementsOfType(process, indexedProcess, type.asSubclass(FlowElement.class));
+        }
+
+        for (FlowElement flowElement : process.findFlowElementsOfType(FlowElement.class, true)) {
+            assertSameId(process.getFlowElement(flowElement.getId(), false), indexedProcess.getFlowElement(flowElement.getId(), false));
+            assertEquals(getIds(findBoundaryEventsByScanning(process, flowElement.getId())), getIds(indexedProcess.findBoundaryEventsAttachedTo(flowElement.getId())));
+        }
+        assertEquals(1, indexedProcess.findBoundaryEventsAttachedTo("subprocess2").size());
+        assertEquals("subprocess2Catch", indexedProcess.findBoundaryEventsAttachedTo("subprocess2").get(0).getId());
+    }
+
+    public void testIndexDroppedOnChange() throws Exception {
+        Process process = readProcess();
+        process.buildFlowElementsIndex();
+        SubProcess subProcess = (SubProcess) process.getFlowElement("subprocess4", true);
+        assertNotNull(subProcess.getFlowElementsIndex());
+        int userTaskCount = process.findFlowElementsOfType(UserTask.class).size();
+
+        UserTask userTask = new UserTask();
+        userTask.setId("addedTask");
+        subProcess.addFlowElement(userTask);
+
+        // The index of the sub process and of the containers around it are dropped
+        assertNull(subProcess.getFlowElementsIndex());
+        assertNull(process.getFlowElementsIndex());
+        assertNotNull(((SubProcess) process.getFlowElement("subprocess5", true)).getFlowElementsIndex());
+        assertEquals(userTaskCount + 1, process.findFlowElementsOfType(UserTask.class).size());
+
+        process.buildFlowElementsIndex();
+        process.removeFlowElement("theStart");
+        assertNull(process.getFlowElementsIndex());
+        assertNull(process.getFlowElement("theStart", false));
+    }
+
+    protected <T extends FlowElement> void assertFlowElementsOfType(Process process, Process indexedProcess, Class<T> type) {
+        assertEquals(getIds(process.findFlowElementsOfType(type, true)), getIds(indexedProcess.findFlowElementsOfType(type, true)));
+        assertEquals(getIds(process.findFlowElementsOfType(type, false)), getIds(indexedProcess.findFlowElementsOfType(type, false)));
+
+        for (SubProcess subProcess : process.findFlowElementsOfType(SubProcess.class)) {
+            SubProcess indexedSubProcess = (SubProcess) indexedProcess.getFlowElement(subProcess.getId(), true);
+            assertNotNull(indexedSubProcess.getFlowElementsIndex());
+            assertEquals(getIds(process.findFlowElementsInSubProcessOfType(subProcess, type, true)),
+                    getIds(indexedProcess.findFlowElementsInSubProcessOfType(indexedSubProcess, type, true)));
+            assertEquals(getIds(process.findFlowElementsInSubProcessOfType(subProcess, type, false)),
+                    getIds(indexedProcess.findFlowElementsInSubProcessOfType(indexedSubProcess, type, false)));
+        }
+    }
+
+    protected List<BoundaryEvent> findBoundaryEventsByScanning(Process process, String attachedToRefId) {
+        List<BoundaryEvent> boundaryEvents = new ArrayList<>();
+        for (BoundaryEvent boundaryEvent : process.findFlowElementsOfType(BoundaryEvent.class, true)) {
+            if (attachedToRefId.equals(boundaryEvent.getAttachedToRefId())) {
+                boundaryEvents.add(boundaryEvent);
+            }
+        }
+        return boundaryEvents;
+    }
+
+    protected void assertSameId(FlowElement expected, FlowElement actual) {
+        if (expected == null) {
+            assertNull(actual);
+        } else {
+            assertEquals(expected.getId(), actual.getId());
+        }
+    }
+
+    protected List<String> getIds(List<? extends FlowElement> flowElements) {
+        List<String> ids = new ArrayList<>();
+        for (FlowElement flowElement : flowElements) {
+            ids.add(flowElement.getId());
+        }
+        return ids;
+    }
+
+    protected Process readProcess() throws Exception {
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(NESTED_PROCESS);
+        try {
+            XMLStreamReader xmlStreamReader = XMLInputFactory.newInstance().createXMLStreamReader(inputStream);
+            BpmnModel bpmnModel = new BpmnXMLConverter().convertToBpmnModel(xmlStreamReader);
+            return bpmnModel.getMainProcess();
+        } finally {
+            inputStream.close();
+        }
+    }
+
+}
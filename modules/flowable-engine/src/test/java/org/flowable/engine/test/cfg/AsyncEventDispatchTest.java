@@ -0,0 +1,191 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableNonBlockingEventListener;
+import org.flowable.engine.common.impl.event.AsyncEventDispatcher;
+import org.flowable.engine.common.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.impl.FlowableEventImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.api.event.TestFlowableEventListener;
+
+public class AsyncEventDispatchTest extends ResourceFlowableTestCase {
+
+    protected NonBlockingEventListener nonBlockingListener;
+    protected TestFlowableEventListener blockingListener;
+
+    public AsyncEventDispatchTest() {
+        super("flowable.cfg.xml", AsyncEventDispatchTest.class.getName());
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        ((ProcessEngineConfigurationImpl) processEngineConfiguration).setEnableAsyncEventDispatch(true);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        nonBlockingListener = new NonBlockingEventListener();
+        blockingListener = new TestFlowableEventListener();
+        processEngineConfiguration.getEventDispatcher().addEventListener(nonBlockingListener, FlowableEngineEventType.TASK_COMPLETED);
+        processEngineConfiguration.getEventDispatcher().addEventListener(blockingListener, FlowableEngineEventType.TASK_COMPLETED);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.getEventDispatcher().removeEventListener(nonBlockingListener);
+        processEngineConfiguration.getEventDispatcher().removeEventListener(blockingListener);
+        super.tearDown();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testEventsDeliveredAfterCommit() throws Exception {
+        AsyncEventDispatcher asyncEventDispatcher = ((FlowableEventDispatcherImpl) processEngineConfiguration.getEventDispatcher()).getAsyncEventDispatcher();
+        long bufferedEventCount = asyncEventDispatcher.getBufferedEventCount();
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        Task task = taskService.createTaskQuery().singleResult();
+        taskService.complete(task.getId());
+
+        // Blocking listeners are still called on the engine thread
+        assertEquals(1, blockingListener.getEventsReceived().size());
+
+        List<FlowableEvent> events = nonBlockingListener.waitForEvents(1, 5000L);
+        assertEquals(1, events.size());
+        assertEquals(FlowableEngineEventType.TASK_COMPLETED, events.get(0).getType());
+        assertFalse(Thread.currentThread().getName().equals(nonBlockingListener.getThreadName()));
+
+        // Only the events with a non-blocking listener were buffered
+        assertEquals(bufferedEventCount + 1, asyncEventDispatcher.getBufferedEventCount());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testEventsNotDeliveredOnRollback() throws Exception {
+        AsyncEventDispatcher asyncEventDispatcher = ((FlowableEventDispatcherImpl) processEngineConfiguration.getEventDispatcher()).getAsyncEventDispatcher();
+        long bufferedEventCount = asyncEventDispatcher.getBufferedEventCount();
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        final Task task = taskService.createTaskQuery().singleResult();
+
+        try {
+            managementService.executeCommand(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    CommandContextUtil.getProcessEngineConfiguration(commandContext).getTaskService().complete(task.getId());
+                    throw new FlowableException("rollback");
+                }
+            });
+            fail("Exception expected");
+        } catch (FlowableException e) {
+            assertEquals("rollback", e.getMessage());
+        }
+
+        // Nothing was buffered for the rolled back completion
+        assertEquals(bufferedEventCount, asyncEventDispatcher.getBufferedEventCount());
+
+        // Committed afterwards, only this completion is buffered and delivered
+        taskService.complete(task.getId());
+        assertEquals(bufferedEventCount + 1, asyncEventDispatcher.getBufferedEventCount());
+        assertEquals(1, nonBlockingListener.waitForEvents(1, 5000L).size());
+    }
+
+    public void testBackpressureAndDroppedEvents() {
+        AsyncEventDispatcher asyncEventDispatcher = new AsyncEventDispatcher() {
+
+            @Override
+            protected void dispatchBufferedEvents() {
+                // Nothing is taken out of the buffer
+            }
+        };
+        asyncEventDispatcher.setQueueSize(2);
+        asyncEventDispatcher.setOfferTimeout(10L);
+        NonBlockingEventListener listener = new NonBlockingEventListener();
+        asyncEventDispatcher.getEventSupport().addEventListener(listener);
+
+        // Not started yet
+        assertFalse(asyncEventDispatcher.bufferEvent(new FlowableEventImpl(FlowableEngineEventType.CUSTOM)));
+        assertEquals(1, asyncEventDispatcher.getDroppedEventCount());
+
+        asyncEventDispatcher.start();
+        assertTrue(asyncEventDispatcher.bufferEvent(new FlowableEventImpl(FlowableEngineEventType.CUSTOM)));
+        assertTrue(asyncEventDispatcher.bufferEvent(new FlowableEventImpl(FlowableEngineEventType.CUSTOM)));
+        assertEquals(0, asyncEventDispatcher.getRemainingCapacity());
+
+        assertFalse(asyncEventDispatcher.bufferEvent(new FlowableEventImpl(FlowableEngineEventType.CUSTOM)));
+        assertEquals(1, asyncEventDispatcher.getBackpressureCount());
+        assertEquals(2, asyncEventDispatcher.getDroppedEventCount());
+        assertEquals(2, asyncEventDispatcher.getBufferedEventCount());
+
+        // Buffered events are delivered on shutdown
+        asyncEventDispatcher.shutdown();
+        assertEquals(2, listener.getEvents().size());
+        assertEquals(2, asyncEventDispatcher.getDeliveredEventCount());
+        assertEquals(0, asyncEventDispatcher.getBufferedEventsInQueue());
+    }
+
+    protected static class NonBlockingEventListener implements FlowableNonBlockingEventListener {
+
+        protected List<FlowableEvent> events = Collections.synchronizedList(new ArrayList<FlowableEvent>());
+        protected volatile String threadName;
+        protected volatile CountDownLatch eventsLatch = new CountDownLatch(0);
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            threadName = Thread.currentThread().getName();
+            synchronized (events) {
+                events.add(event);
+                eventsLatch.countDown();
+            }
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return false;
+        }
+
+        public List<FlowableEvent> waitForEvents(int count, long maxWaitTime) throws InterruptedException {
+            synchronized (events) {
+                eventsLatch = new CountDownLatch(Math.max(0, count - events.size()));
+            }
+            eventsLatch.await(maxWaitTime, TimeUnit.MILLISECONDS);
+            return getEvents();
+        }
+
+        public List<FlowableEvent> getEvents() {
+            return new ArrayList<>(events);
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+    }
+
+}
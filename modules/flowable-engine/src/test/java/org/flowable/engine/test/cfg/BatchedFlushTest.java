@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import java.util.List;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandConfig;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.TaskEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.task.TaskQuery;
+import org.flowable.engine.test.Deployment;
+
+public class BatchedFlushTest extends ResourceFlowableTestCase {
+
+    public BatchedFlushTest() {
+        super("flowable.cfg.xml", BatchedFlushTest.class.getName());
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        ((ProcessEngineConfigurationImpl) processEngineConfiguration).setBatchedFlushEnabled(true);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/gateway/ParallelGatewayTest.testNestedForkJoin.bpmn20.xml")
+    public void testNestedForkJoinWithBatchedFlush() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("nestedForkJoin");
+
+        TaskQuery query = taskService.createTaskQuery().orderByTaskName().asc();
+        taskService.complete(query.singleResult().getId());
+
+        List<Task> tasks = query.list();
+        assertEquals(2, tasks.size());
+        taskService.complete(tasks.get(0).getId());
+        taskService.complete(tasks.get(1).getId());
+
+        tasks = query.list();
+        assertEquals(2, tasks.size());
+        assertEquals("Task B1", tasks.get(0).getName());
+        assertEquals("Task B2", tasks.get(1).getName());
+
+        // Completing B1 and B2 updates and deletes multiple executions in one flush
+        taskService.complete(tasks.get(0).getId());
+        taskService.complete(tasks.get(1).getId());
+        tasks = query.list();
+        assertEquals(1, tasks.size());
+        assertEquals("Task C", tasks.get(0).getName());
+        assertEquals(1, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).onlyChildExecutions().count());
+
+        taskService.complete(tasks.get(0).getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/gateway/ParallelGatewayTest.testNestedForkJoin.bpmn20.xml")
+    public void testOptimisticLockingWithBatchedFlush() {
+        runtimeService.startProcessInstanceByKey("nestedForkJoin");
+        taskService.complete(taskService.createTaskQuery().singleResult().getId());
+
+        final List<Task> tasks = taskService.createTaskQuery().orderByTaskName().asc().list();
+        assertEquals(2, tasks.size());
+
+        try {
+            managementService.executeCommand(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    for (Task task : tasks) {
+                        TaskEntity taskEntity = CommandContextUtil.getTaskEntityManager(commandContext).findById(task.getId());
+                        taskEntity.setName("Changed " + taskEntity.getName());
+                    }
+
+                    // Concurrent change of the second task, in a separate transaction
+                    CommandConfig commandConfig = processEngineConfiguration.getCommandExecutor().getDefaultConfig().transactionRequiresNew();
+                    processEngineConfiguration.getCommandExecutor().execute(commandConfig, new Command<Void>() {
+
+                        @Override
+                        public Void execute(CommandContext commandContext) {
+                            TaskEntity taskEntity = CommandContextUtil.getTaskEntityManager(commandContext).findById(tasks.get(1).getId());
+                            taskEntity.setDescription("concurrent change");
+                            return null;
+                        }
+
+                    });
+                    return null;
+                }
+
+            });
+            fail("Expected optimistic locking exception");
+        } catch (FlowableOptimisticLockingException e) {
+            // expected
+        }
+
+        List<Task> tasksAfterFailure = taskService.createTaskQuery().orderByTaskName().asc().list();
+        assertEquals("Task A", tasksAfterFailure.get(0).getName());
+        assertEquals("Task B", tasksAfterFailure.get(1).getName());
+        assertEquals("concurrent change", tasksAfterFailure.get(1).getDescription());
+    }
+
+}
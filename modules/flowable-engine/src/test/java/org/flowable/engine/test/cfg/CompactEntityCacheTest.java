@@ -0,0 +1,174 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.cache.CachedEntity;
+import org.flowable.engine.common.impl.persistence.cache.CompactEntityCacheImpl;
+import org.flowable.engine.common.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntityImpl;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class CompactEntityCacheTest extends ResourceFlowableTestCase {
+
+    public CompactEntityCacheTest() {
+        super("flowable.cfg.xml", CompactEntityCacheTest.class.getName());
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        ((ProcessEngineConfigurationImpl) processEngineConfiguration).setCompactEntityCacheEnabled(true);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testProcessExecution() {
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                assertTrue(commandContext.getSession(EntityCache.class) instanceof CompactEntityCacheImpl);
+                return null;
+            }
+
+        });
+
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("var", "abc");
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+        runtimeService.setVariable(processInstance.getId(), "var", "def");
+        assertEquals("def", runtimeService.getVariable(processInstance.getId(), "var"));
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.setAssignee(task.getId(), "kermit");
+        assertEquals("kermit", taskService.createTaskQuery().taskId(task.getId()).singleResult().getAssignee());
+
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    public void testPutFindAndRemove() {
+        CompactEntityCacheImpl entityCache = new CompactEntityCacheImpl();
+        Map<String, ExecutionEntityImpl> expected = new HashMap<String, ExecutionEntityImpl>();
+        Random random = new Random(42L);
+
+        for (int i = 0; i < 5000; i++) {
+            String id = "execution-" + random.nextInt(1000);
+            if (random.nextInt(3) == 0) {
+                entityCache.cacheRemove(ExecutionEntityImpl.class, id);
+                expected.remove(id);
+            } else {
+                ExecutionEntityImpl execution = new ExecutionEntityImpl();
+                execution.setId(id);
+                entityCache.put(execution, random.nextBoolean());
+                expected.put(id, execution);
+            }
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            String id = "execution-" + i;
+            assertSame(expected.get(id), entityCache.findInCache(ExecutionEntityImpl.class, id));
+        }
+        assertEquals(expected.size(), entityCache.findInCache(ExecutionEntityImpl.class).size());
+        assertEquals(expected.size(), entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class).size());
+
+        Set<String> iteratedIds = new HashSet<String>();
+        for (CachedEntity cachedEntity : entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class)) {
+            assertSame(expected.get(cachedEntity.getEntity().getId()), cachedEntity.getEntity());
+            iteratedIds.add(cachedEntity.getEntity().getId());
+        }
+        assertEquals(expected.keySet(), iteratedIds);
+    }
+
+    public void testCachedEntitiesView() {
+        CompactEntityCacheImpl entityCache = new CompactEntityCacheImpl();
+        ExecutionEntityImpl execution = new ExecutionEntityImpl();
+        execution.setId("execution");
+        entityCache.put(execution, true);
+
+        // The views and their cached entities are reused as long as the entity isn't put again
+        Map<String, CachedEntity> cachedEntities = entityCache.getAllCachedEntities().get(ExecutionEntityImpl.class);
+        assertSame(cachedEntities, entityCache.getAllCachedEntities().get(ExecutionEntityImpl.class));
+        assertSame(cachedEntities.get("execution"), entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class).iterator().next());
+
+        // Adding entities while iterating doesn't affect the iteration, even when the slot is resized
+        int iterated = 0;
+        for (CachedEntity cachedEntity : entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class)) {
+            for (int i = 0; i < 100; i++) {
+                ExecutionEntityImpl addedExecution = new ExecutionEntityImpl();
+                addedExecution.setId("added-" + i);
+                entityCache.put(addedExecution, true);
+            }
+            assertSame(execution, cachedEntity.getEntity());
+            iterated++;
+        }
+        assertEquals(1, iterated);
+        assertEquals(101, cachedEntities.size());
+        assertEquals(101, cachedEntities.values().size());
+    }
+
+    public void testLookupByInterface() {
+        CompactEntityCacheImpl entityCache = new CompactEntityCacheImpl();
+        assertNull(entityCache.findInCache(ExecutionEntity.class, "1"));
+        assertTrue(entityCache.findInCache(ExecutionEntity.class).isEmpty());
+
+        VariableInstanceEntityImpl variableInstance = new VariableInstanceEntityImpl();
+        variableInstance.setId("1");
+        entityCache.put(variableInstance, true);
+
+        ExecutionEntityImpl execution = new ExecutionEntityImpl();
+        execution.setId("1");
+        entityCache.put(execution, true);
+
+        assertSame(execution, entityCache.findInCache(ExecutionEntity.class, "1"));
+        assertSame(variableInstance, entityCache.findInCache(VariableInstanceEntityImpl.class, "1"));
+        assertEquals(1, entityCache.findInCache(ExecutionEntity.class).size());
+
+        // Lookups by interface don't apply to the entities as cached objects
+        assertNull(entityCache.findInCacheAsCachedObjects(ExecutionEntity.class));
+        assertEquals(2, entityCache.getAllCachedEntities().size());
+    }
+
+    public void testChangeDetection() {
+        CompactEntityCacheImpl entityCache = new CompactEntityCacheImpl();
+
+        ExecutionEntityImpl loadedExecution = new ExecutionEntityImpl();
+        loadedExecution.setId("loaded");
+        entityCache.put(loadedExecution, true);
+
+        ExecutionEntityImpl insertedExecution = new ExecutionEntityImpl();
+        insertedExecution.setId("inserted");
+        entityCache.put(insertedExecution, false);
+
+        Map<String, CachedEntity> cachedEntities = entityCache.getAllCachedEntities().get(ExecutionEntityImpl.class);
+        assertFalse(cachedEntities.get("loaded").hasChanged());
+        assertTrue(cachedEntities.get("inserted").hasChanged());
+
+        loadedExecution.setName("changed");
+        assertTrue(entityCache.getAllCachedEntities().get(ExecutionEntityImpl.class).get("loaded").hasChanged());
+    }
+
+}
@@ -0,0 +1,180 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.cache.DirtyTrackingEntityCacheImpl;
+import org.flowable.engine.common.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class EntityDirtyTrackingTest extends ResourceFlowableTestCase {
+
+    public EntityDirtyTrackingTest() {
+        super("flowable.cfg.xml", EntityDirtyTrackingTest.class.getName());
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        ((ProcessEngineConfigurationImpl) processEngineConfiguration).setEntityDirtyTrackingEnabled(true);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testVariableOnlyUpdatedWhenChanged() {
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("stringVar", "abc");
+        variables.put("longVar", 123L);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+        int revision = getVariableRevision(processInstance.getId(), "stringVar");
+
+        // Reading the variables doesn't update them
+        assertEquals("abc", runtimeService.getVariable(processInstance.getId(), "stringVar"));
+        assertEquals(123L, runtimeService.getVariables(processInstance.getId()).get("longVar"));
+        assertEquals(revision, getVariableRevision(processInstance.getId(), "stringVar"));
+
+        // Changing the value does
+        runtimeService.setVariable(processInstance.getId(), "stringVar", "def");
+        assertEquals("def", runtimeService.getVariable(processInstance.getId(), "stringVar"));
+        assertEquals(revision + 1, getVariableRevision(processInstance.getId(), "stringVar"));
+
+        // Changing the type as well
+        runtimeService.setVariable(processInstance.getId(), "longVar", "456");
+        assertEquals("456", runtimeService.getVariable(processInstance.getId(), "longVar"));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testProcessDefinitionSuspension() {
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                assertTrue(commandContext.getSession(EntityCache.class) instanceof DirtyTrackingEntityCacheImpl);
+                return null;
+            }
+
+        });
+
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult();
+        repositoryService.suspendProcessDefinitionById(processDefinition.getId());
+        assertTrue(repositoryService.isProcessDefinitionSuspended(processDefinition.getId()));
+
+        repositoryService.activateProcessDefinitionById(processDefinition.getId());
+        assertFalse(repositoryService.isProcessDefinitionSuspended(processDefinition.getId()));
+
+        repositoryService.setProcessDefinitionCategory(processDefinition.getId(), "newCategory");
+        assertEquals("newCategory", repositoryService.createProcessDefinitionQuery().processDefinitionId(processDefinition.getId()).singleResult().getCategory());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testExecutionAndTaskOnlyUpdatedWhenChanged() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+        int executionRevision = getExecutionRevision(processInstance.getId());
+        int taskRevision = getTaskRevision(task.getId());
+
+        // Reading the execution and the task doesn't update them
+        runtimeService.getVariables(processInstance.getId());
+        taskService.getVariables(task.getId());
+        assertNotNull(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).singleResult());
+        assertEquals(executionRevision, getExecutionRevision(processInstance.getId()));
+        assertEquals(taskRevision, getTaskRevision(task.getId()));
+
+        // Changing them does
+        runtimeService.setProcessInstanceName(processInstance.getId(), "newName");
+        assertEquals("newName", runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).singleResult().getName());
+        assertEquals(executionRevision + 1, getExecutionRevision(processInstance.getId()));
+
+        taskService.setAssignee(task.getId(), "kermit");
+        assertEquals("kermit", taskService.createTaskQuery().taskId(task.getId()).singleResult().getAssignee());
+        assertEquals(taskRevision + 1, getTaskRevision(task.getId()));
+
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/mgmt/timerOnTask.bpmn20.xml")
+    public void testJobOnlyUpdatedWhenChanged() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("timerOnTask");
+        Job timerJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        int retries = timerJob.getRetries();
+
+        int revision = getTimerJobRevision(timerJob.getId());
+        assertNotNull(managementService.createTimerJobQuery().jobId(timerJob.getId()).singleResult());
+        assertEquals(revision, getTimerJobRevision(timerJob.getId()));
+
+        managementService.setTimerJobRetries(timerJob.getId(), retries + 1);
+        assertEquals(retries + 1, managementService.createTimerJobQuery().jobId(timerJob.getId()).singleResult().getRetries());
+        assertEquals(revision + 1, getTimerJobRevision(timerJob.getId()));
+    }
+
+    protected int getExecutionRevision(final String executionId) {
+        return managementService.executeCommand(new Command<Integer>() {
+
+            @Override
+            public Integer execute(CommandContext commandContext) {
+                return CommandContextUtil.getExecutionEntityManager(commandContext).findById(executionId).getRevision();
+            }
+
+        });
+    }
+
+    protected int getTaskRevision(final String taskId) {
+        return managementService.executeCommand(new Command<Integer>() {
+
+            @Override
+            public Integer execute(CommandContext commandContext) {
+                return CommandContextUtil.getTaskEntityManager(commandContext).findById(taskId).getRevision();
+            }
+
+        });
+    }
+
+    protected int getTimerJobRevision(final String jobId) {
+        return managementService.executeCommand(new Command<Integer>() {
+
+            @Override
+            public Integer execute(CommandContext commandContext) {
+                return CommandContextUtil.getTimerJobEntityManager(commandContext).findById(jobId).getRevision();
+            }
+
+        });
+    }
+
+    protected int getVariableRevision(final String executionId, final String variableName) {
+        return managementService.executeCommand(new Command<Integer>() {
+
+            @Override
+            public Integer execute(CommandContext commandContext) {
+                VariableInstanceEntity variableInstance = CommandContextUtil.getVariableInstanceEntityManager(commandContext)
+                        .findVariableInstanceByExecutionAndName(executionId, variableName);
+                return variableInstance.getRevision();
+            }
+
+        });
+    }
+
+}
@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.deploy.LatestProcessDefinitionCache;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+
+public class LatestProcessDefinitionCacheTest extends ResourceFlowableTestCase {
+
+    protected static final String ONE_TASK_PROCESS = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml";
+
+    public LatestProcessDefinitionCacheTest() {
+        super("flowable.cfg.xml", LatestProcessDefinitionCacheTest.class.getName());
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        ((ProcessEngineConfigurationImpl) processEngineConfiguration).setLatestProcessDefinitionCacheEnabled(true);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+        super.tearDown();
+    }
+
+    public void testLatestVersionUpdatedOnDeploy() {
+        LatestProcessDefinitionCache latestProcessDefinitionCache = processEngineConfiguration.getLatestProcessDefinitionCache();
+        assertNotNull(latestProcessDefinitionCache);
+
+        repositoryService.createDeployment().addClasspathResource(ONE_TASK_PROCESS).deploy();
+        ProcessDefinition version1 = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").latestVersion().singleResult();
+        assertEquals(1, version1.getVersion());
+        assertEquals(version1.getId(), latestProcessDefinitionCache.get("oneTaskProcess", null));
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertEquals(version1.getId(), processInstance.getProcessDefinitionId());
+
+        repositoryService.createDeployment().addClasspathResource(ONE_TASK_PROCESS).deploy();
+        ProcessDefinition version2 = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").latestVersion().singleResult();
+        assertEquals(2, version2.getVersion());
+        assertEquals(version2.getId(), latestProcessDefinitionCache.get("oneTaskProcess", null));
+
+        processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertEquals(version2.getId(), processInstance.getProcessDefinitionId());
+    }
+
+    public void testLatestVersionInvalidatedOnDeploymentRemoval() {
+        LatestProcessDefinitionCache latestProcessDefinitionCache = processEngineConfiguration.getLatestProcessDefinitionCache();
+
+        repositoryService.createDeployment().addClasspathResource(ONE_TASK_PROCESS).deploy();
+        Deployment deployment2 = repositoryService.createDeployment().addClasspathResource(ONE_TASK_PROCESS).deploy();
+        ProcessDefinition version1 = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").processDefinitionVersion(1).singleResult();
+
+        repositoryService.deleteDeployment(deployment2.getId(), true);
+        assertNull(latestProcessDefinitionCache.get("oneTaskProcess", null));
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertEquals(version1.getId(), processInstance.getProcessDefinitionId());
+        assertEquals(version1.getId(), latestProcessDefinitionCache.get("oneTaskProcess", null));
+    }
+
+    public void testLatestVersionByTenant() {
+        LatestProcessDefinitionCache latestProcessDefinitionCache = processEngineConfiguration.getLatestProcessDefinitionCache();
+
+        repositoryService.createDeployment().addClasspathResource(ONE_TASK_PROCESS).deploy();
+        repositoryService.createDeployment().addClasspathResource(ONE_TASK_PROCESS).tenantId("acme").deploy();
+        repositoryService.createDeployment().addClasspathResource(ONE_TASK_PROCESS).tenantId("acme").deploy();
+
+        ProcessDefinition noTenantDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").processDefinitionWithoutTenantId().singleResult();
+        ProcessDefinition acmeDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").processDefinitionTenantId("acme").latestVersion().singleResult();
+        assertEquals(2, acmeDefinition.getVersion());
+        assertEquals(noTenantDefinition.getId(), latestProcessDefinitionCache.get("oneTaskProcess", null));
+        assertEquals(acmeDefinition.getId(), latestProcessDefinitionCache.get("oneTaskProcess", "acme"));
+
+        assertEquals(noTenantDefinition.getId(), runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId());
+        assertEquals(acmeDefinition.getId(), runtimeService.startProcessInstanceByKeyAndTenantId("oneTaskProcess", "acme").getProcessDefinitionId());
+    }
+
+    public void testInvalidateFromOtherEngine() {
+        LatestProcessDefinitionCache latestProcessDefinitionCache = processEngineConfiguration.getLatestProcessDefinitionCache();
+
+        repositoryService.createDeployment().addClasspathResource(ONE_TASK_PROCESS).deploy();
+        assertEquals(1, latestProcessDefinitionCache.size());
+
+        processEngineConfiguration.getDeploymentManager().invalidateLatestProcessDefinition("oneTaskProcess", null);
+        assertNull(latestProcessDefinitionCache.get("oneTaskProcess", null));
+
+        // Looked up again and cached on the next start
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertEquals(processInstance.getProcessDefinitionId(), latestProcessDefinitionCache.get("oneTaskProcess", null));
+
+        processEngineConfiguration.getDeploymentManager().invalidateLatestProcessDefinitions();
+        assertEquals(0, latestProcessDefinitionCache.size());
+    }
+
+}
@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.common.impl.metrics.MetricNames;
+import org.flowable.engine.common.impl.metrics.MetricsRegistry;
+import org.flowable.engine.common.impl.metrics.MetricsTimer;
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.CompleteTaskCmd;
+import org.flowable.engine.impl.cmd.StartProcessInstanceCmd;
+import org.flowable.engine.impl.persistence.deploy.MetricsDeploymentCache;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class MetricsTest extends ResourceFlowableTestCase {
+
+    public MetricsTest() {
+        super("flowable.cfg.xml", MetricsTest.class.getName());
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        ((ProcessEngineConfigurationImpl) processEngineConfiguration).setMetricsEnabled(true);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testEngineMetrics() {
+        MetricsRegistry metricsRegistry = processEngineConfiguration.getMetricsRegistry();
+        assertNotNull(metricsRegistry);
+        assertTrue(processEngineConfiguration.getProcessDefinitionCache() instanceof MetricsDeploymentCache);
+
+        long startCount = getCommandCount(metricsRegistry, StartProcessInstanceCmd.class);
+        long insertCount = metricsRegistry.counter(MetricNames.DB_INSERTS).getCount();
+        long cacheHitCount = metricsRegistry.counter(MetricNames.PROCESS_DEFINITION_CACHE_HITS).getCount();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+
+        assertEquals(startCount + 1, getCommandCount(metricsRegistry, StartProcessInstanceCmd.class));
+        assertEquals(1, getCommandCount(metricsRegistry, CompleteTaskCmd.class));
+        MetricsTimer completeTaskTimer = metricsRegistry.getTimers().get(MetricNames.COMMAND + CompleteTaskCmd.class.getName());
+        assertTrue(completeTaskTimer.getMax(TimeUnit.NANOSECONDS) > 0);
+
+        assertTrue(metricsRegistry.counter(MetricNames.DB_INSERTS).getCount() > insertCount);
+        assertTrue(metricsRegistry.counter(MetricNames.DB_DELETES).getCount() > 0);
+        assertTrue(metricsRegistry.timer(MetricNames.DB_FLUSH).getCount() > 0);
+
+        assertTrue(metricsRegistry.counter(MetricNames.PROCESS_DEFINITION_CACHE_HITS).getCount() > cacheHitCount);
+        double hitRatio = metricsRegistry.getGauges().get(MetricNames.PROCESS_DEFINITION_CACHE_HIT_RATIO).getValue();
+        assertTrue(hitRatio > 0.0 && hitRatio <= 1.0);
+    }
+
+    public void testFailedCommandsCounted() {
+        MetricsRegistry metricsRegistry = processEngineConfiguration.getMetricsRegistry();
+        String failuresName = MetricNames.COMMAND_FAILURES + CompleteTaskCmd.class.getName();
+        long failureCount = metricsRegistry.counter(failuresName).getCount();
+
+        try {
+            taskService.complete("unexisting");
+            fail();
+        } catch (FlowableObjectNotFoundException e) {
+            // expected
+        }
+
+        assertEquals(failureCount + 1, metricsRegistry.counter(failuresName).getCount());
+    }
+
+    public void testAsyncExecutorGaugesRemovedOnShutdown() {
+        MetricsRegistry metricsRegistry = processEngineConfiguration.getMetricsRegistry();
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        String queueSizeName = asyncExecutor.getMetricsPrefix() + MetricNames.ASYNC_EXECUTOR_QUEUE_SIZE;
+        String activeThreadsName = asyncExecutor.getMetricsPrefix() + MetricNames.ASYNC_EXECUTOR_ACTIVE_THREADS;
+
+        asyncExecutor.start();
+        try {
+            assertTrue(metricsRegistry.getGauges().containsKey(queueSizeName));
+            assertTrue(metricsRegistry.getGauges().containsKey(activeThreadsName));
+        } finally {
+            asyncExecutor.shutdown();
+        }
+
+        assertFalse(metricsRegistry.getGauges().containsKey(queueSizeName));
+        assertFalse(metricsRegistry.getGauges().containsKey(activeThreadsName));
+    }
+
+    public void testTimerHistogram() {
+        MetricsTimer timer = new MetricsTimer("test");
+        for (int i = 0; i < 98; i++) {
+            timer.record(3, TimeUnit.MILLISECONDS);
+        }
+        timer.record(150, TimeUnit.MILLISECONDS);
+        timer.record(20, TimeUnit.SECONDS);
+
+        assertEquals(100, timer.getCount());
+        assertEquals(20000.0, timer.getMax(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals((98 * 3 + 150 + 20000) / 100.0, timer.getMean(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(5.0, timer.getPercentile(0.5, TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(200.0, timer.getPercentile(0.985, TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(20000.0, timer.getPercentile(1.0, TimeUnit.MILLISECONDS), 0.001);
+
+        long[] bucketCounts = timer.getBucketCounts();
+        assertEquals(timer.getBucketBoundaries(TimeUnit.MILLISECONDS).length + 1, bucketCounts.length);
+        assertEquals(98, bucketCounts[2]);
+        assertEquals(1, bucketCounts[bucketCounts.length - 1]);
+    }
+
+    protected long getCommandCount(MetricsRegistry metricsRegistry, Class<?> commandClass) {
+        MetricsTimer timer = metricsRegistry.getTimers().get(MetricNames.COMMAND + commandClass.getName());
+        return timer != null ? timer.getCount() : 0L;
+    }
+
+}
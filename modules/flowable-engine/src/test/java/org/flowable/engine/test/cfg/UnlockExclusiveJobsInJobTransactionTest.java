@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import java.util.Date;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.asyncexecutor.ExecuteAsyncRunnable;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+
+public class UnlockExclusiveJobsInJobTransactionTest extends ResourceFlowableTestCase {
+
+    public UnlockExclusiveJobsInJobTransactionTest() {
+        super("flowable.cfg.xml", UnlockExclusiveJobsInJobTransactionTest.class.getName());
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        ((ProcessEngineConfigurationImpl) processEngineConfiguration).setAsyncExecutorUnlockExclusiveJobsInJobTransaction(true);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncTaskTest.testAsyncScript.bpmn20.xml")
+    public void testExclusiveJobExecution() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("asyncScript");
+        Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertTrue(job.isExclusive());
+
+        new ExecuteAsyncRunnable(job, processEngineConfiguration, processEngineConfiguration.getJobEntityManager(), null).run();
+
+        assertEquals(0, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals("true", runtimeService.getVariable(processInstance.getId(), "invoked"));
+        assertNull(getProcessInstanceLockTime(processInstance.getId()));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncTaskTest.testAsyncScript.bpmn20.xml")
+    public void testExclusiveJobWithLockedProcessInstance() {
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("asyncScript");
+
+        // Simulates another exclusive job of the same process instance being executed
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                CommandContextUtil.getExecutionEntityManager(commandContext).updateProcessInstanceLockTime(processInstance.getId());
+                return null;
+            }
+
+        });
+
+        Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        new ExecuteAsyncRunnable(job, processEngineConfiguration, processEngineConfiguration.getJobEntityManager(), null).run();
+
+        // The job is released to be acquired again, without using a retry
+        Job releasedJob = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertNotNull(releasedJob);
+        assertEquals(job.getRetries(), releasedJob.getRetries());
+        assertNull(releasedJob.getExceptionMessage());
+        assertNull(runtimeService.getVariable(processInstance.getId(), "invoked"));
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                CommandContextUtil.getExecutionEntityManager(commandContext).clearProcessInstanceLockTime(processInstance.getId());
+                return null;
+            }
+
+        });
+
+        new ExecuteAsyncRunnable(releasedJob, processEngineConfiguration, processEngineConfiguration.getJobEntityManager(), null).run();
+        assertEquals(0, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals("true", runtimeService.getVariable(processInstance.getId(), "invoked"));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/gateway/ParallelGatewayTest.testAsyncBehavior.bpmn20.xml")
+    public void testAsyncExecutor() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("async");
+        waitForJobExecutorToProcessAllJobs(5000L, 250L);
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+    }
+
+    protected Date getProcessInstanceLockTime(final String processInstanceId) {
+        return managementService.executeCommand(new Command<Date>() {
+
+            @Override
+            public Date execute(CommandContext commandContext) {
+                return CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstanceId).getLockTime();
+            }
+
+        });
+    }
+
+}
@@ -0,0 +1,216 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.history;
+
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.Date;
+
+import org.flowable.engine.common.impl.metrics.MetricNames;
+import org.flowable.engine.common.impl.metrics.MetricsRegistry;
+import org.flowable.engine.impl.cmd.HandleHistoryCleaningTimerJobCmd;
+import org.flowable.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.jobexecutor.HistoryCleaningJobHandler;
+import org.flowable.engine.impl.persistence.entity.AttachmentEntity;
+import org.flowable.engine.impl.persistence.entity.CommentEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricIdentityLinkEntity;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class HistoryCleaningTest extends PluggableFlowableTestCase {
+
+    protected static final long DAY = 24L * 60L * 60L * 1000L;
+
+    protected int originalRetentionDays;
+    protected int originalBatchSize;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        originalRetentionDays = processEngineConfiguration.getHistoryRetentionDays();
+        originalBatchSize = processEngineConfiguration.getHistoryCleaningBatchSize();
+        processEngineConfiguration.setHistoryRetentionDays(5);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.setHistoryRetentionDays(originalRetentionDays);
+        processEngineConfiguration.setHistoryCleaningBatchSize(originalBatchSize);
+        processEngineConfiguration.setHistoryRetentionDaysByProcessDefinitionKey(null);
+        processEngineConfiguration.setHistoryRetentionDaysByTenantId(null);
+        processEngineConfiguration.setEnableHistoryCleaning(false);
+        processEngineConfiguration.setMetricsRegistry(null);
+        processEngineConfiguration.getClock().reset();
+        super.tearDown();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testCleanHistory() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        Date now = processEngineConfiguration.getClock().getCurrentTime();
+        for (int i = 0; i < 3; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+                    Collections.<String, Object> singletonMap("bytes", "bytes".getBytes()));
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            taskService.addCandidateUser(task.getId(), "kermit");
+            taskService.setVariableLocal(task.getId(), "taskVariable", "value");
+            taskService.addComment(task.getId(), null, "task comment");
+            taskService.addComment(null, processInstance.getId(), "process comment");
+            taskService.createAttachment("text", task.getId(), null, "attachment", null, new ByteArrayInputStream("content".getBytes()));
+            taskService.complete(task.getId());
+        }
+        waitForHistoryJobExecutorToProcessAllJobs(5000, 100);
+        assertEquals(3, historyService.createHistoricProcessInstanceQuery().finished().count());
+
+        // Not due yet
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 4 * DAY));
+        assertEquals(0, historyService.cleanHistory());
+        assertEquals(3, historyService.createHistoricProcessInstanceQuery().count());
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 6 * DAY));
+        assertEquals(3, historyService.cleanHistory());
+        assertEquals(0, historyService.createHistoricProcessInstanceQuery().count());
+        assertEquals(0, historyService.createHistoricTaskInstanceQuery().count());
+        assertEquals(0, historyService.createHistoricActivityInstanceQuery().count());
+        assertEquals(0, historyService.createHistoricVariableInstanceQuery().count());
+        assertEquals(0, historyService.createHistoricDetailQuery().count());
+        assertEquals(0, managementService.getTableCount().get(managementService.getTableName(HistoricIdentityLinkEntity.class)).longValue());
+        assertEquals(0, managementService.getTableCount().get(managementService.getTableName(CommentEntity.class)).longValue());
+        assertEquals(0, managementService.getTableCount().get(managementService.getTableName(AttachmentEntity.class)).longValue());
+        // The byte arrays of the variables and of the attachment content are checked by the clean db check after the test
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml", "org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml" })
+    public void testRetentionByProcessDefinitionKey() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        Date now = processEngineConfiguration.getClock().getCurrentTime();
+        completeProcessInstance("oneTaskProcess", null);
+        completeProcessInstance("twoTasksProcess", null);
+        String keptProcessInstanceId = completeProcessInstance("twoTasksProcess", null);
+        waitForHistoryJobExecutorToProcessAllJobs(5000, 100);
+
+        processEngineConfiguration.setHistoryRetentionDaysByProcessDefinitionKey(Collections.singletonMap("twoTasksProcess", 10));
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 6 * DAY));
+        assertEquals(1, historyService.cleanHistory());
+        assertEquals(0, historyService.createHistoricProcessInstanceQuery().processDefinitionKey("oneTaskProcess").count());
+        assertEquals(2, historyService.createHistoricProcessInstanceQuery().processDefinitionKey("twoTasksProcess").count());
+
+        // Kept forever
+        processEngineConfiguration.setHistoryRetentionDaysByProcessDefinitionKey(Collections.singletonMap("twoTasksProcess", -1));
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 1000 * DAY));
+        assertEquals(0, historyService.cleanHistory());
+        assertEquals(2, historyService.createHistoricProcessInstanceQuery().processDefinitionKey("twoTasksProcess").count());
+
+        processEngineConfiguration.setHistoryRetentionDaysByProcessDefinitionKey(Collections.singletonMap("twoTasksProcess", 10));
+        assertEquals(2, historyService.cleanHistory());
+        assertNull(historyService.createHistoricProcessInstanceQuery().processInstanceId(keptProcessInstanceId).singleResult());
+    }
+
+    public void testRetentionByTenant() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        String deploymentId = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy().getId();
+        String tenantDeploymentId = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .tenantId("acme").deploy().getId();
+        try {
+            Date now = processEngineConfiguration.getClock().getCurrentTime();
+            completeProcessInstance("oneTaskProcess", null);
+            completeProcessInstance("oneTaskProcess", "acme");
+            waitForHistoryJobExecutorToProcessAllJobs(5000, 100);
+
+            processEngineConfiguration.setHistoryRetentionDaysByTenantId(Collections.singletonMap("acme", 10));
+            processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 6 * DAY));
+            assertEquals(1, historyService.cleanHistory());
+            assertEquals(1, historyService.createHistoricProcessInstanceQuery().processInstanceTenantId("acme").count());
+            assertEquals(1, historyService.createHistoricProcessInstanceQuery().count());
+
+            // The retention of the process definition key takes precedence over the one of the tenant
+            processEngineConfiguration.setHistoryRetentionDaysByProcessDefinitionKey(Collections.singletonMap("oneTaskProcess", 2));
+            assertEquals(1, historyService.cleanHistory());
+            assertEquals(0, historyService.createHistoricProcessInstanceQuery().count());
+
+        } finally {
+            repositoryService.deleteDeployment(deploymentId, true);
+            repositoryService.deleteDeployment(tenantDeploymentId, true);
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testHistoryCleaningJob() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        processEngineConfiguration.setMetricsRegistry(metricsRegistry);
+        processEngineConfiguration.setEnableHistoryCleaning(true);
+        processEngineConfiguration.setHistoryCleaningBatchSize(2);
+
+        Date now = processEngineConfiguration.getClock().getCurrentTime();
+        for (int i = 0; i < 3; i++) {
+            completeProcessInstance("oneTaskProcess", null);
+        }
+        waitForHistoryJobExecutorToProcessAllJobs(5000, 100);
+
+        managementService.executeCommand(new HandleHistoryCleaningTimerJobCmd());
+        managementService.executeCommand(new HandleHistoryCleaningTimerJobCmd());
+        Job timerJob = managementService.createTimerJobQuery().singleResult();
+        assertNotNull(timerJob);
+        assertEquals(HistoryCleaningJobHandler.TYPE, timerJob.getJobHandlerType());
+
+        // The first batch is executed by the timer job, the next one by an async job
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 7 * DAY));
+        managementService.moveTimerToExecutableJob(timerJob.getId());
+        managementService.executeJob(timerJob.getId());
+        assertEquals(1, historyService.createHistoricProcessInstanceQuery().count());
+        assertEquals(2 * DAY, metricsRegistry.getGauges().get(MetricNames.HISTORY_CLEANING_LAG).getValue(), 1000.0);
+
+        Job nextBatchJob = managementService.createJobQuery().singleResult();
+        assertEquals(HistoryCleaningJobHandler.TYPE, nextBatchJob.getJobHandlerType());
+        managementService.executeJob(nextBatchJob.getId());
+        assertEquals(0, historyService.createHistoricProcessInstanceQuery().count());
+        assertEquals(0, managementService.createJobQuery().count());
+        assertEquals(3, metricsRegistry.getCounters().get(MetricNames.HISTORY_CLEANING_DELETED_PROCESS_INSTANCES).getCount());
+        assertEquals(2, metricsRegistry.getTimers().get(MetricNames.HISTORY_CLEANING_BATCH).getCount());
+
+        // The timer job is repeated
+        Job nextTimerJob = managementService.createTimerJobQuery().singleResult();
+        assertEquals(HistoryCleaningJobHandler.TYPE, nextTimerJob.getJobHandlerType());
+        assertTrue(nextTimerJob.getDuedate().after(processEngineConfiguration.getClock().getCurrentTime()));
+        managementService.deleteTimerJob(nextTimerJob.getId());
+    }
+
+    protected String completeProcessInstance(String processDefinitionKey, String tenantId) {
+        ProcessInstance processInstance = tenantId != null ? runtimeService.startProcessInstanceByKeyAndTenantId(processDefinitionKey, tenantId)
+                : runtimeService.startProcessInstanceByKey(processDefinitionKey);
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        while (task != null) {
+            taskService.complete(task.getId());
+            task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        }
+        return processInstance.getId();
+    }
+
+}
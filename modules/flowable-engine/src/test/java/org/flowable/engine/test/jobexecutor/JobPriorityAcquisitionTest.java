@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.Date;
+
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.cmd.AcquireJobsCmd;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+
+public class JobPriorityAcquisitionTest extends PluggableFlowableTestCase {
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncTaskTest.testAsyncScript.bpmn20.xml")
+    public void testAcquireByPriorityAndCreateTime() {
+        Date startTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+        Job firstJob = startProcessInstanceAndGetJob();
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 1000));
+        Job secondJob = startProcessInstanceAndGetJob();
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 2000));
+        Job thirdJob = startProcessInstanceAndGetJob();
+        assertEquals(0, firstJob.getPriority());
+
+        managementService.setJobPriority(thirdJob.getId(), 10);
+        assertEquals(10, managementService.createJobQuery().jobId(thirdJob.getId()).singleResult().getPriority());
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        int originalMaxAsyncJobsDuePerAcquisition = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(1);
+        try {
+            // Highest priority first, then the oldest job
+            assertTrue(acquireJobs().contains(thirdJob.getId()));
+            assertTrue(acquireJobs().contains(firstJob.getId()));
+            assertTrue(acquireJobs().contains(secondJob.getId()));
+            assertEquals(0, acquireJobs().size());
+
+        } finally {
+            asyncExecutor.setMaxAsyncJobsDuePerAcquisition(originalMaxAsyncJobsDuePerAcquisition);
+            processEngineConfiguration.getClock().reset();
+        }
+    }
+
+    public void testSetPriorityOfUnexistingJob() {
+        try {
+            managementService.setJobPriority("unexisting", 5);
+            fail("Exception expected");
+        } catch (FlowableObjectNotFoundException e) {
+            assertEquals(Job.class, e.getObjectClass());
+        }
+    }
+
+    protected Job startProcessInstanceAndGetJob() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("asyncScript");
+        return managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+    }
+
+    protected AcquiredJobEntities acquireJobs() {
+        return managementService.executeCommand(new AcquireJobsCmd(processEngineConfiguration.getAsyncExecutor()));
+    }
+
+}
@@ -17,6 +17,8 @@ import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.util.CollectionUtil;
+import org.flowable.engine.impl.scripting.CompiledScriptCache;
+import org.flowable.engine.impl.scripting.CompiledScriptCache.CompiledScriptKey;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -104,6 +106,45 @@ public class ScriptTaskTest extends PluggableFlowableTestCase {
         assertProcessEnded(processInstance.getId());
     }
 
+    @Deployment
+    public void testCompiledScriptCache() {
+        CompiledScriptCache compiledScriptCache = processEngineConfiguration.getScriptingEngines().getCompiledScriptCache();
+        compiledScriptCache.clear();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testCompiledScriptCache", CollectionUtil.map("a", 20, "b", 22));
+        assertEquals(42, ((Number) runtimeService.getVariable(processInstance.getId(), "sum")).intValue());
+        assertEquals(1, compiledScriptCache.size());
+
+        // The compiled script is reused
+        processInstance = runtimeService.startProcessInstanceByKey("testCompiledScriptCache", CollectionUtil.map("a", 1, "b", 2));
+        assertEquals(3, ((Number) runtimeService.getVariable(processInstance.getId(), "sum")).intValue());
+        assertEquals(1, compiledScriptCache.size());
+
+        // Overriding the script removes the compiled scripts of the process definition
+        ObjectNode infoNode = dynamicBpmnService.changeScriptTaskScript("script1", "execution.setVariable('sum', a * b)");
+        dynamicBpmnService.saveProcessDefinitionInfo(processInstance.getProcessDefinitionId(), infoNode);
+        assertEquals(0, compiledScriptCache.size());
+
+        processInstance = runtimeService.startProcessInstanceByKey("testCompiledScriptCache", CollectionUtil.map("a", 3, "b", 4));
+        assertEquals(12, ((Number) runtimeService.getVariable(processInstance.getId(), "sum")).intValue());
+        assertEquals(1, compiledScriptCache.size());
+    }
+
+    public void testCompiledScriptCacheLimit() {
+        CompiledScriptCache compiledScriptCache = new CompiledScriptCache(10);
+        CompiledScriptKey usedKey = new CompiledScriptKey("groovy", "processDefinition", "used", "script");
+        compiledScriptCache.add(usedKey, null);
+
+        for (int i = 0; i < 20; i++) {
+            compiledScriptCache.get(usedKey);
+            compiledScriptCache.add(new CompiledScriptKey("groovy", "processDefinition", "element" + i, "script"), null);
+        }
+        assertTrue(compiledScriptCache.size() <= 10);
+
+        compiledScriptCache.removeProcessDefinition("processDefinition");
+        assertEquals(0, compiledScriptCache.size());
+    }
+
     protected void verifyExceptionInStacktrace(Exception rootException, Class<?> expectedExceptionClass) {
         Throwable expectedException = rootException;
         boolean found = false;
@@ -0,0 +1,118 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.text.MessageFormat;
+
+import org.flowable.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.DeploymentCacheWeigher;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+
+public class ConcurrentDeploymentCacheTest extends ResourceFlowableTestCase {
+
+    public ConcurrentDeploymentCacheTest() {
+        super("org/flowable/standalone/deploy/concurrent.deployment.cache.test.flowable.cfg.xml");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+        super.tearDown();
+    }
+
+    public void testDeploymentCacheLimit() {
+        int processDefinitionCacheLimit = 3; // This is set in the configuration above
+
+        assertTrue(processEngineConfiguration.getProcessDefinitionCache() instanceof ConcurrentDeploymentCache);
+        assertTrue(processEngineConfiguration.getKnowledgeBaseCache() instanceof ConcurrentDeploymentCache);
+        assertTrue(processEngineConfiguration.getAppResourceCache() instanceof ConcurrentDeploymentCache);
+
+        ConcurrentDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = (ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) processEngineConfiguration.getProcessDefinitionCache();
+        assertEquals(0, processDefinitionCache.size());
+
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        for (int i = 1; i <= 5; i++) {
+            repositoryService.createDeployment().addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i)).deploy();
+
+            if (i < processDefinitionCacheLimit) {
+                assertEquals(i, processDefinitionCache.size());
+            } else {
+                assertEquals(processDefinitionCacheLimit, processDefinitionCache.size());
+            }
+        }
+        assertEquals(2, processDefinitionCache.getEvictionCount());
+    }
+
+    public void testFrequentlyUsedProcessDefinitionIsNotEvicted() {
+        ConcurrentDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = (ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) processEngineConfiguration.getProcessDefinitionCache();
+
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        repositoryService.createDeployment().addString("Process 1.bpmn20.xml", MessageFormat.format(processDefinitionTemplate, 1)).deploy();
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess1").singleResult();
+
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("myProcess1");
+        }
+        assertTrue(processDefinitionCache.getHitCount() > 0);
+
+        // Deploying more process definitions than the limit evicts the ones that weren't used
+        for (int i = 2; i <= 5; i++) {
+            repositoryService.createDeployment().addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i)).deploy();
+        }
+        assertTrue(processDefinitionCache.contains(processDefinition.getId()));
+        assertEquals(3, processDefinitionCache.size());
+
+        // Evicted process definitions are fetched again when needed
+        runtimeService.startProcessInstanceByKey("myProcess2");
+        assertEquals(6, runtimeService.createProcessInstanceQuery().count());
+        assertEquals(1, runtimeService.createProcessInstanceQuery().processDefinitionKey("myProcess2").count());
+    }
+
+    public void testWeighedCache() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<String>(10, new DeploymentCacheWeigher<String>() {
+
+            @Override
+            public int weigh(String id, String object) {
+                return object.length();
+            }
+        });
+
+        cache.add("a", "aaaa");
+        cache.add("b", "bbbb");
+        assertEquals(8, cache.getWeightedSize());
+
+        cache.get("a");
+        cache.add("c", "cccc");
+        assertEquals(8, cache.getWeightedSize());
+        assertEquals("aaaa", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("cccc", cache.get("c"));
+
+        // An object heavier than the limit is still cached when added
+        cache.add("d", "dddddddddddd");
+        assertEquals("dddddddddddd", cache.get("d"));
+        assertEquals(1, cache.size());
+        assertEquals(3, cache.getEvictionCount());
+
+        cache.remove("d");
+        assertEquals(0, cache.getWeightedSize());
+        assertEquals(4, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+}
@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricTaskInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.BinaryAsyncHistoryJobPayloadCodec;
+import org.flowable.engine.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.HistoryJob;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+
+public class AsyncHistoryBinaryPayloadTest extends ResourceFlowableTestCase {
+
+    public AsyncHistoryBinaryPayloadTest() {
+        super("flowable.cfg.xml", AsyncHistoryBinaryPayloadTest.class.getName());
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        ((ProcessEngineConfigurationImpl) processEngineConfiguration)
+            .setAsyncHistoryEnabled(true)
+            .setAsyncHistoryBinaryPayloadEnabled(true);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOneTaskProcess() {
+        assertTrue(processEngineConfiguration.getAsyncHistoryJobPayloadCodec() instanceof BinaryAsyncHistoryJobPayloadCodec);
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        String processInstanceId = processInstance.getId();
+        taskService.complete(taskService.createTaskQuery().singleResult().getId());
+
+        List<HistoryJob> jobs = managementService.createHistoryJobQuery().list();
+        assertTrue(jobs.size() > 0);
+
+        // Executed one by one in creation order, to not depend on the timing of the async history executor
+        Collections.sort(jobs, new Comparator<HistoryJob>() {
+
+            @Override
+            public int compare(HistoryJob job1, HistoryJob job2) {
+                return Long.valueOf(job1.getId()).compareTo(Long.valueOf(job2.getId()));
+            }
+
+        });
+        for (final HistoryJob job : jobs) {
+            managementService.executeCommand(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    HistoryJobEntity historyJob = CommandContextUtil.getHistoryJobEntityManager(commandContext).findById(job.getId());
+                    assertTrue(BinaryAsyncHistoryJobPayloadCodec.isBinaryPayload(historyJob.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes()));
+                    CommandContextUtil.getJobManager(commandContext).execute(historyJob);
+                    return null;
+                }
+
+            });
+        }
+        assertEquals(0, managementService.createHistoryJobQuery().count());
+
+        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertEquals(processInstance.getStartTime().getTime(), historicProcessInstance.getStartTime().getTime());
+        assertNotNull(historicProcessInstance.getEndTime());
+
+        HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertEquals("theTask", historicTaskInstance.getTaskDefinitionKey());
+        assertNotNull(historicTaskInstance.getStartTime());
+        assertNotNull(historicTaskInstance.getEndTime());
+        assertEquals(3, historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).count());
+    }
+
+}
@@ -0,0 +1,117 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.DefaultAsyncHistoryJobExecutor;
+import org.flowable.engine.impl.history.async.ExecuteAsyncHistoryJobBatchRunnable;
+import org.flowable.engine.impl.history.async.UnacquireAsyncHistoryJobExceptionHandler;
+import org.flowable.engine.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.HistoryJob;
+import org.flowable.engine.test.Deployment;
+
+public class AsyncHistoryJobBatchTest extends ResourceFlowableTestCase {
+
+    public AsyncHistoryJobBatchTest() {
+        super("flowable.cfg.xml", AsyncHistoryJobBatchTest.class.getName());
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        ((ProcessEngineConfigurationImpl) processEngineConfiguration)
+            .setAsyncHistoryEnabled(true)
+            .setAsyncHistoryExecutorBatchSize(50);
+    }
+
+    public void testBatchConfiguration() {
+        DefaultAsyncHistoryJobExecutor asyncHistoryExecutor = (DefaultAsyncHistoryJobExecutor) processEngineConfiguration.getAsyncHistoryExecutor();
+        assertTrue(asyncHistoryExecutor.isHistoryJobBatchExecutionEnabled());
+        assertEquals(50, asyncHistoryExecutor.getHistoryJobBatchSize());
+        assertEquals(50 * processEngineConfiguration.getAsyncExecutorCorePoolSize(), asyncHistoryExecutor.getMaxAsyncJobsDuePerAcquisition());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testExecuteBatch() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        taskService.complete(taskService.createTaskQuery().singleResult().getId());
+
+        List<HistoryJob> jobs = getHistoryJobsInCreationOrder();
+        assertTrue(jobs.size() > 1);
+        createBatchRunnable(jobs).run();
+
+        assertEquals(0, managementService.createHistoryJobQuery().count());
+        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertNotNull(historicProcessInstance.getEndTime());
+        assertNotNull(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult().getEndTime());
+        assertEquals(3, historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).finished().count());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testFallbackToSingleJobExecution() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+
+        final List<HistoryJob> jobs = getHistoryJobsInCreationOrder();
+        assertTrue(jobs.size() > 1);
+
+        // The last job can't be executed, which fails the batch
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                HistoryJobEntity job = CommandContextUtil.getHistoryJobEntityManager(commandContext).findById(jobs.get(jobs.size() - 1).getId());
+                job.setAdvancedJobHandlerConfigurationBytes("not history data".getBytes());
+                return null;
+            }
+
+        });
+
+        createBatchRunnable(jobs).run();
+
+        // All other jobs were executed on their own
+        List<HistoryJob> remainingJobs = managementService.createHistoryJobQuery().list();
+        assertEquals(1, remainingJobs.size());
+        assertEquals(processEngineConfiguration.getAsyncHistoryExecutorNumberOfRetries() - 1, remainingJobs.get(0).getRetries());
+        assertNotNull(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult());
+
+        managementService.deleteHistoryJob(remainingJobs.get(0).getId());
+    }
+
+    protected List<HistoryJob> getHistoryJobsInCreationOrder() {
+        List<HistoryJob> jobs = managementService.createHistoryJobQuery().list();
+        Collections.sort(jobs, new Comparator<HistoryJob>() {
+
+            @Override
+            public int compare(HistoryJob job1, HistoryJob job2) {
+                return Long.valueOf(job1.getId()).compareTo(Long.valueOf(job2.getId()));
+            }
+
+        });
+        return jobs;
+    }
+
+    protected ExecuteAsyncHistoryJobBatchRunnable createBatchRunnable(List<HistoryJob> jobs) {
+        return new ExecuteAsyncHistoryJobBatchRunnable(jobs, processEngineConfiguration,
+                processEngineConfiguration.getHistoryJobEntityManager(), new UnacquireAsyncHistoryJobExceptionHandler());
+    }
+
+}
@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import java.util.Date;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.impl.history.async.AsyncHistoryDateUtil;
+import org.flowable.engine.impl.history.async.BinaryAsyncHistoryJobPayloadCodec;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.history.async.JsonAsyncHistoryJobPayloadCodec;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class BinaryAsyncHistoryJobPayloadCodecTest {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+    protected BinaryAsyncHistoryJobPayloadCodec binaryCodec = new BinaryAsyncHistoryJobPayloadCodec(objectMapper);
+    protected JsonAsyncHistoryJobPayloadCodec jsonCodec = new JsonAsyncHistoryJobPayloadCodec(objectMapper);
+
+    @Test
+    public void testEncodeAndDecode() {
+        ArrayNode historyNodes = objectMapper.createArrayNode();
+        for (int i = 0; i < 10; i++) {
+            ObjectNode historyNode = historyNodes.addObject();
+            historyNode.put(HistoryJsonConstants.TYPE, HistoryJsonConstants.TYPE_ACTIVITY_FULL);
+            ObjectNode dataNode = historyNode.putObject(HistoryJsonConstants.DATA);
+            dataNode.put(HistoryJsonConstants.PROCESS_INSTANCE_ID, "12345");
+            dataNode.put(HistoryJsonConstants.ACTIVITY_ID, "theTask" + i);
+            dataNode.put(HistoryJsonConstants.START_TIME, 1500000000000L + i);
+            dataNode.put("leadingZero", "007");
+            dataNode.put("negativeZero", "-0");
+            dataNode.put("negative", "-" + i);
+            dataNode.put("dateText", AsyncHistoryDateUtil.formatDate(new Date(1500000000000L + i)));
+            dataNode.put("numberText", Integer.toString(i));
+            dataNode.put("unicode", "éè中");
+            dataNode.put("empty", "");
+            dataNode.putNull("nullValue");
+            dataNode.put("intValue", -i);
+            dataNode.put("longValue", Long.MAX_VALUE);
+            dataNode.put("doubleValue", 1.5d * i);
+            dataNode.put("booleanValue", i % 2 == 0);
+        }
+
+        byte[] binaryBytes = binaryCodec.encode(historyNodes);
+        Assert.assertTrue(BinaryAsyncHistoryJobPayloadCodec.isBinaryPayload(binaryBytes));
+        Assert.assertEquals(historyNodes, binaryCodec.decode(binaryBytes));
+
+        byte[] jsonBytes = jsonCodec.encode(historyNodes);
+        Assert.assertTrue(binaryBytes.length * 2 < jsonBytes.length);
+    }
+
+    @Test
+    public void testDecodeJson() {
+        ObjectNode historyNode = objectMapper.createObjectNode();
+        historyNode.put(HistoryJsonConstants.TYPE, HistoryJsonConstants.TYPE_PROCESS_INSTANCE_START);
+        historyNode.putObject(HistoryJsonConstants.DATA).put(HistoryJsonConstants.ID, "1");
+
+        // Jobs created before switching to the binary codec
+        byte[] jsonBytes = jsonCodec.encode(historyNode);
+        Assert.assertFalse(BinaryAsyncHistoryJobPayloadCodec.isBinaryPayload(jsonBytes));
+        JsonNode decodedNode = binaryCodec.decode(jsonBytes);
+        Assert.assertEquals(historyNode, decodedNode);
+    }
+
+    @Test(expected = FlowableException.class)
+    public void testDecodeTruncatedPayload() {
+        ObjectNode historyNode = objectMapper.createObjectNode();
+        historyNode.put(HistoryJsonConstants.TYPE, HistoryJsonConstants.TYPE_PROCESS_INSTANCE_START);
+
+        byte[] bytes = binaryCodec.encode(historyNode);
+        byte[] truncatedBytes = new byte[bytes.length - 3];
+        System.arraycopy(bytes, 0, truncatedBytes, 0, truncatedBytes.length);
+        binaryCodec.decode(truncatedBytes);
+    }
+
+}
@@ -48,6 +48,12 @@ public abstract class HttpActivityBehavior extends AbstractBpmnActivityBehavior
     public static final String HTTP_TASK_REQUEST_HEADERS_INVALID = "requestHeaders are invalid";
     public static final String HTTP_TASK_REQUEST_FIELD_INVALID = "request fields are invalid";
 
+    // Transient variables used to pass the outcome of an async request to the trigger of the execution.
+    // When the trigger has to be retried by a job, they are stored as local variables until then.
+    public static final String HTTP_TASK_ASYNC_REQUEST = "_httpTaskAsyncRequest";
+    public static final String HTTP_TASK_ASYNC_RESPONSE = "_httpTaskAsyncResponse";
+    public static final String HTTP_TASK_ASYNC_EXCEPTION = "_httpTaskAsyncException";
+
     // HttpRequest method (GET,POST,PUT etc)
     protected Expression requestMethod;
     // HttpRequest URL (http://flowable.org)
@@ -74,6 +80,8 @@ public abstract class HttpActivityBehavior extends AbstractBpmnActivityBehavior
     protected Expression responseVariableName;
     // Prefix for the execution variable names (Optional)
     protected Expression resultVariablePrefix;
+    // Flag to send the request after the transaction commits and wait for the response like a receive task. default is false (Optional)
+    protected Expression asyncResponse;
     // Exception mapping
     protected List<MapExceptionEntry> mapExceptions;
 
@@ -133,77 +141,159 @@ public abstract class HttpActivityBehavior extends AbstractBpmnActivityBehavior
             }
         }
 
+        if (getBooleanFromField(asyncResponse, execution)) {
+            // The execution waits in this activity until the response triggers it
+            performAsync(execution, request);
+            return;
+        }
+
         try {
             HttpResponse response = perform(execution, request);
-            // Save response fields
-            if (response != null) {
-                // Save response body only by default
-                if (request.isSaveResponse()) {
-                    execution.setVariable(request.getPrefix() + ".responseProtocol", response.getProtocol());
-                    execution.setVariable(request.getPrefix() + ".responseStatusCode", response.getStatusCode());
-                    execution.setVariable(request.getPrefix() + ".responseReason", response.getReason());
-                    execution.setVariable(request.getPrefix() + ".responseHeaders", response.getHeaders());
-                }
-                
-                if (!response.isBodyResponseHandled()) {
-                    String responseVariableValue = getStringFromField(responseVariableName, execution);
-                    if (StringUtils.isNotEmpty(responseVariableValue)) {
-                        execution.setVariable(responseVariableValue, response.getBody());
-                    } else {
-                        execution.setVariable(request.getPrefix() + ".responseBody", response.getBody());
-                    }
-                }
+            if (!processResponse(execution, request, response)) {
+                return;
+            }
 
-                // Handle http status codes
-                if ((request.isNoRedirects() && response.getStatusCode() >= 300) || response.getStatusCode() >= 400) {
-
-                    String code = Integer.toString(response.statusCode);
-
-                    Set<String> handleCodes = request.getHandleCodes();
-                    if (handleCodes != null && !handleCodes.isEmpty()) {
-                        if (handleCodes.contains(code)
-                                || (code.startsWith("5") && handleCodes.contains("5XX"))
-                                || (code.startsWith("4") && handleCodes.contains("4XX"))
-                                || (code.startsWith("3") && handleCodes.contains("3XX"))) {
-                            
-                            ErrorPropagation.propagateError("HTTP" + code, execution);
-                            return;
-                        }
-                    }
+        } catch (Exception e) {
+            if (!handleException(execution, request, e)) {
+                return;
+            }
+        }
 
-                    Set<String> failCodes = request.getFailCodes();
-                    if (failCodes != null && !failCodes.isEmpty()) {
-                        if (failCodes.contains(code)
-                                || (code.startsWith("5") && failCodes.contains("5XX"))
-                                || (code.startsWith("4") && failCodes.contains("4XX"))
-                                || (code.startsWith("3") && failCodes.contains("3XX"))) {
-                            
-                            throw new FlowableException("HTTP" + code);
-                        }
-                    }
+        leave(execution);
+    }
+
+    @Override
+    public void trigger(DelegateExecution execution, String signalName, Object signalData) {
+        if (execution.getTransientVariable(HTTP_TASK_ASYNC_REQUEST) == null && execution.hasVariableLocal(HTTP_TASK_ASYNC_REQUEST)) {
+            restoreAsyncOutcome(execution);
+        }
+
+        HttpRequest request = (HttpRequest) execution.getTransientVariable(HTTP_TASK_ASYNC_REQUEST);
+        if (request == null) {
+            // Triggered by other means than an async response, e.g. to abandon a request of which the response won't arrive anymore
+            leave(execution);
+            return;
+        }
+
+        HttpResponse response = (HttpResponse) execution.getTransientVariable(HTTP_TASK_ASYNC_RESPONSE);
+        Throwable exception = (Throwable) execution.getTransientVariable(HTTP_TASK_ASYNC_EXCEPTION);
+
+        try {
+            if (exception != null) {
+                if (exception instanceof Exception) {
+                    throw (Exception) exception;
                 }
+                throw new FlowableException("Error occurred while sending async http request in execution " + execution.getId(), exception);
             }
-            
+
+            if (response != null) {
+                handleAsyncResponse(execution, request, response);
+            }
+            if (!processResponse(execution, request, response)) {
+                return;
+            }
+
         } catch (Exception e) {
-            if (request.isIgnoreErrors()) {
-                LOGGER.info("Error ignored while processing http task in execution {}", execution.getId(), e);
-                execution.setVariable(request.getPrefix() + ".errorMessage", e.getMessage());
-                
-            } else {
-                if (ErrorPropagation.mapException(e, (ExecutionEntity) execution, mapExceptions)) {
-                    return;
-                    
+            if (!handleException(execution, request, e)) {
+                return;
+            }
+        }
+
+        leave(execution);
+    }
+
+    /**
+     * Saves the response fields and handles the http status codes.
+     *
+     * @return false when an error was propagated, and the execution thus shouldn't leave the activity.
+     */
+    protected boolean processResponse(DelegateExecution execution, HttpRequest request, HttpResponse response) {
+        // Save response fields
+        if (response != null) {
+            // Save response body only by default
+            if (request.isSaveResponse()) {
+                execution.setVariable(request.getPrefix() + ".responseProtocol", response.getProtocol());
+                execution.setVariable(request.getPrefix() + ".responseStatusCode", response.getStatusCode());
+                execution.setVariable(request.getPrefix() + ".responseReason", response.getReason());
+                execution.setVariable(request.getPrefix() + ".responseHeaders", response.getHeaders());
+            }
+            
+            if (!response.isBodyResponseHandled()) {
+                String responseVariableValue = getStringFromField(responseVariableName, execution);
+                if (StringUtils.isNotEmpty(responseVariableValue)) {
+                    execution.setVariable(responseVariableValue, response.getBody());
                 } else {
-                    if (e instanceof FlowableException) {
-                        throw (FlowableException) e;
-                    } else {
-                        throw new FlowableException("Error occurred while processing http task in execution " + execution.getId(), e);
+                    execution.setVariable(request.getPrefix() + ".responseBody", response.getBody());
+                }
+            }
+
+            // Handle http status codes
+            if ((request.isNoRedirects() && response.getStatusCode() >= 300) || response.getStatusCode() >= 400) {
+
+                String code = Integer.toString(response.statusCode);
+
+                Set<String> handleCodes = request.getHandleCodes();
+                if (handleCodes != null && !handleCodes.isEmpty()) {
+                    if (handleCodes.contains(code)
+                            || (code.startsWith("5") && handleCodes.contains("5XX"))
+                            || (code.startsWith("4") && handleCodes.contains("4XX"))
+                            || (code.startsWith("3") && handleCodes.contains("3XX"))) {
+                        
+                        ErrorPropagation.propagateError("HTTP" + code, execution);
+                        return false;
+                    }
+                }
+
+                Set<String> failCodes = request.getFailCodes();
+                if (failCodes != null && !failCodes.isEmpty()) {
+                    if (failCodes.contains(code)
+                            || (code.startsWith("5") && failCodes.contains("5XX"))
+                            || (code.startsWith("4") && failCodes.contains("4XX"))
+                            || (code.startsWith("3") && failCodes.contains("3XX"))) {
+                        
+                        throw new FlowableException("HTTP" + code);
                     }
                 }
             }
         }
+        return true;
+    }
 
-        leave(execution);
+    /**
+     * Ignores or maps the exception, or rethrows it.
+     *
+     * @return false when the exception was mapped to an error, and the execution thus shouldn't leave the activity.
+     */
+    protected boolean handleException(DelegateExecution execution, HttpRequest request, Exception e) {
+        if (request.isIgnoreErrors()) {
+            LOGGER.info("Error ignored while processing http task in execution {}", execution.getId(), e);
+            execution.setVariable(request.getPrefix() + ".errorMessage", e.getMessage());
+            return true;
+        }
+
+        if (ErrorPropagation.mapException(e, (ExecutionEntity) execution, mapExceptions)) {
+            return false;
+        }
+
+        if (e instanceof FlowableException) {
+            throw (FlowableException) e;
+        } else {
+            throw new FlowableException("Error occurred while processing http task in execution " + execution.getId(), e);
+        }
+    }
+
+    /**
+     * Moves the outcome of an async request that was stored for a retried trigger back to transient variables.
+     *
+     * @param execution
+     */
+    protected void restoreAsyncOutcome(DelegateExecution execution) {
+        for (String variableName : Arrays.asList(HTTP_TASK_ASYNC_REQUEST, HTTP_TASK_ASYNC_RESPONSE, HTTP_TASK_ASYNC_EXCEPTION)) {
+            if (execution.hasVariableLocal(variableName)) {
+                execution.setTransientVariableLocal(variableName, execution.getVariableLocal(variableName));
+                execution.removeVariableLocal(variableName);
+            }
+        }
     }
 
     /**
@@ -214,6 +304,29 @@ public abstract class HttpActivityBehavior extends AbstractBpmnActivityBehavior
      * @return
      */
     protected abstract HttpResponse perform(final DelegateExecution execution, final HttpRequest request);
+
+    /**
+     * Sends the request without waiting for the response, used when asyncResponse is enabled.
+     * Implementations must trigger the execution with the {@link #HTTP_TASK_ASYNC_REQUEST} transient variable
+     * and either the {@link #HTTP_TASK_ASYNC_RESPONSE} or the {@link #HTTP_TASK_ASYNC_EXCEPTION} transient variable once the request is done.
+     *
+     * @param execution
+     * @param request
+     */
+    protected void performAsync(final DelegateExecution execution, final HttpRequest request) {
+        throw new FlowableException("Async http responses are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Called when the execution is triggered with an async response, before the response fields are saved.
+     *
+     * @param execution
+     * @param request
+     * @param response
+     */
+    protected void handleAsyncResponse(final DelegateExecution execution, final HttpRequest request, final HttpResponse response) {
+
+    }
     
     protected int getIntFromField(Expression expression, DelegateExecution execution) {
         if (expression != null) {
@@ -370,6 +483,14 @@ public abstract class HttpActivityBehavior extends AbstractBpmnActivityBehavior
         this.resultVariablePrefix = resultVariablePrefix;
     }
 
+    public Expression getAsyncResponse() {
+        return asyncResponse;
+    }
+
+    public void setAsyncResponse(Expression asyncResponse) {
+        this.asyncResponse = asyncResponse;
+    }
+
     public List<MapExceptionEntry> getMapExceptions() {
         return mapExceptions;
     }
@@ -12,12 +12,15 @@
  */
 package org.flowable.http;
 
+import java.io.Serializable;
 import java.util.Set;
 
 /**
  * @author Harsha Teja Kanna.
  */
-public class HttpRequest {
+public class HttpRequest implements Serializable {
+
+    private static final long serialVersionUID = 1L;
     
     protected String method;
     protected String url;
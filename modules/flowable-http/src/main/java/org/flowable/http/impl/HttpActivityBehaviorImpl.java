@@ -17,14 +17,23 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLSession;
 
+import org.apache.commons.lang3.SerializationException;
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.http.Header;
 import org.apache.http.HttpMessage;
 import org.apache.http.client.ClientProtocolException;
@@ -52,11 +61,20 @@ import org.flowable.bpmn.model.ImplementationType;
 import org.flowable.bpmn.model.ServiceTask;
 import org.flowable.engine.cfg.HttpClientConfig;
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.Expression;
 import org.flowable.engine.impl.bpmn.parser.FieldDeclaration;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.el.FixedValue;
+import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.http.HttpActivityBehavior;
 import org.flowable.http.HttpRequest;
@@ -82,6 +100,8 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
 
     protected final Timer timer = new Timer(true);
     protected final CloseableHttpClient client;
+    // Sends the requests of which the response is handled asynchronously, created on first use
+    protected ExecutorService asyncRequestExecutor;
 
     public HttpActivityBehaviorImpl() {  
         HttpClientConfig config = CommandContextUtil.getProcessEngineConfiguration().getHttpClientConfig();
@@ -111,6 +131,12 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
         }
         httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(retryCount, false));
 
+        // connection pool settings, so the async requests aren't limited by the default of 2 connections per route
+        if (config.getAsyncRequestThreadPoolSize() > 2) {
+            httpClientBuilder.setMaxConnPerRoute(config.getAsyncRequestThreadPoolSize());
+            httpClientBuilder.setMaxConnTotal(Math.max(20, config.getAsyncRequestThreadPoolSize()));
+        }
+
         // Build http client
         client = httpClientBuilder.build();
         LOGGER.info("HTTP client is initialized");
@@ -119,6 +145,11 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
         Runtime.getRuntime().addShutdownHook(new Thread() {
             @Override
             public void run() {
+                synchronized (HttpActivityBehaviorImpl.this) {
+                    if (asyncRequestExecutor != null) {
+                        asyncRequestExecutor.shutdownNow();
+                    }
+                }
                 if (client != null) {
                     try {
                         client.close();
@@ -133,12 +164,40 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
 
     @Override
     public HttpResponse perform(final DelegateExecution execution, final HttpRequest requestInfo) {
-
-        HttpRequestBase request = null;
-        CloseableHttpResponse response = null;
-        
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-        
+        invokeHttpRequestHandler(execution, requestInfo, processEngineConfiguration);
+
+        HttpResponse responseInfo = executeRequest(createRequest(requestInfo, processEngineConfiguration.getHttpClientConfig()), requestInfo);
+        invokeHttpResponseHandler(execution, responseInfo, processEngineConfiguration);
+        return responseInfo;
+    }
+
+    @Override
+    protected void performAsync(final DelegateExecution execution, final HttpRequest requestInfo) {
+        final ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        invokeHttpRequestHandler(execution, requestInfo, processEngineConfiguration);
+
+        final HttpRequestBase request = createRequest(requestInfo, processEngineConfiguration.getHttpClientConfig());
+        final String executionId = execution.getId();
+
+        // The request is only sent when the execution is stored in its wait state, so the response can always trigger it
+        Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+            @Override
+            public void execute(CommandContext commandContext) {
+                getAsyncRequestExecutor(processEngineConfiguration.getHttpClientConfig()).execute(
+                        new AsyncRequestRunnable(executionId, requestInfo, request, processEngineConfiguration));
+            }
+
+        });
+    }
+
+    @Override
+    protected void handleAsyncResponse(final DelegateExecution execution, final HttpRequest requestInfo, final HttpResponse responseInfo) {
+        invokeHttpResponseHandler(execution, responseInfo, CommandContextUtil.getProcessEngineConfiguration());
+    }
+
+    protected void invokeHttpRequestHandler(DelegateExecution execution, HttpRequest requestInfo, ProcessEngineConfigurationImpl processEngineConfiguration) {
         try {
             if (httpServiceTask.getHttpRequestHandler() != null) {
                 HttpRequestHandler httpRequestHandler = createHttpRequestHandler(httpServiceTask.getHttpRequestHandler(), processEngineConfiguration);
@@ -147,7 +206,22 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
         } catch (Exception e) {
             throw new FlowableException("Exception while invoking HttpRequestHandler: " + e.getMessage(), e);
         }
-        
+    }
+
+    protected void invokeHttpResponseHandler(DelegateExecution execution, HttpResponse responseInfo, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
+            if (httpServiceTask.getHttpResponseHandler() != null) {
+                HttpResponseHandler httpResponseHandler = createHttpResponseHandler(httpServiceTask.getHttpResponseHandler(), processEngineConfiguration);
+                httpResponseHandler.handleHttpResponse(execution, responseInfo);
+            }
+        } catch (Exception e) {
+            throw new FlowableException("Exception while invoking HttpResponseHandler: " + e.getMessage(), e);
+        }
+    }
+
+    protected HttpRequestBase createRequest(final HttpRequest requestInfo, final HttpClientConfig config) {
+        HttpRequestBase request = null;
+
         try {
             URIBuilder uri = new URIBuilder(requestInfo.getUrl());
             switch (requestInfo.getMethod()) {
@@ -181,8 +255,20 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
                 setHeaders(request, requestInfo.getHeaders());
             }
 
-            setConfig(request, requestInfo, CommandContextUtil.getProcessEngineConfiguration().getHttpClientConfig());
+            setConfig(request, requestInfo, config);
+            return request;
 
+        } catch (final IOException e) {
+            throw new FlowableException("IO exception occurred", e);
+        } catch (final URISyntaxException e) {
+            throw new FlowableException("Invalid URL exception occurred", e);
+        }
+    }
+
+    protected HttpResponse executeRequest(final HttpRequestBase request, final HttpRequest requestInfo) {
+        CloseableHttpResponse response = null;
+
+        try {
             if (requestInfo.getTimeout() > 0) {
                 timer.schedule(new TimeoutTask(request), requestInfo.getTimeout());
             }
@@ -204,15 +290,6 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
             if (response.getEntity() != null) {
                 responseInfo.setBody(EntityUtils.toString(response.getEntity()));
             }
-            
-            try {
-                if (httpServiceTask.getHttpResponseHandler() != null) {
-                    HttpResponseHandler httpResponseHandler = createHttpResponseHandler(httpServiceTask.getHttpResponseHandler(), processEngineConfiguration);
-                    httpResponseHandler.handleHttpResponse(execution, responseInfo);
-                }
-            } catch (Exception e) {
-                throw new FlowableException("Exception while invoking HttpResponseHandler: " + e.getMessage(), e);
-            }
 
             return responseInfo;
 
@@ -220,10 +297,6 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
             throw new FlowableException("HTTP exception occurred", e);
         } catch (final IOException e) {
             throw new FlowableException("IO exception occurred", e);
-        } catch (final URISyntaxException e) {
-            throw new FlowableException("Invalid URL exception occurred", e);
-        } catch (final FlowableException e) {
-            throw e;
         } finally {
             if (response != null) {
                 try {
@@ -234,7 +307,24 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
             }
         }
     }
-    
+
+    protected synchronized ExecutorService getAsyncRequestExecutor(HttpClientConfig config) {
+        if (asyncRequestExecutor == null) {
+            int poolSize = Math.max(1, config.getAsyncRequestThreadPoolSize());
+            // When all threads are busy and the queue is full, the committing thread sends the request itself: this slows down
+            // the creation of new requests instead of dropping them, as a dropped request would leave its execution waiting forever
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<Runnable>(Math.max(1, config.getAsyncRequestQueueSize())), new BasicThreadFactory.Builder()
+                            .namingPattern("flowable-http-async-request-%d")
+                            .daemon(true)
+                            .build(),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            asyncRequestExecutor = threadPoolExecutor;
+        }
+        return asyncRequestExecutor;
+    }
+
     protected void setConfig(final HttpRequestBase base, final HttpRequest requestInfo, final HttpClientConfig config) {
         base.setConfig(RequestConfig.custom()
                 .setRedirectsEnabled(!requestInfo.isNoRedirects())
@@ -313,6 +403,94 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
         return fieldDeclarations;
     }
 
+    /**
+     * Sends the request outside of any transaction and triggers the waiting execution with the outcome in a new command.
+     */
+    protected class AsyncRequestRunnable implements Runnable {
+
+        protected String executionId;
+        protected HttpRequest requestInfo;
+        protected HttpRequestBase request;
+        protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+        public AsyncRequestRunnable(String executionId, HttpRequest requestInfo, HttpRequestBase request, ProcessEngineConfigurationImpl processEngineConfiguration) {
+            this.executionId = executionId;
+            this.requestInfo = requestInfo;
+            this.request = request;
+            this.processEngineConfiguration = processEngineConfiguration;
+        }
+
+        @Override
+        public void run() {
+            Map<String, Object> transientVariables = new HashMap<>();
+            transientVariables.put(HTTP_TASK_ASYNC_REQUEST, requestInfo);
+            try {
+                transientVariables.put(HTTP_TASK_ASYNC_RESPONSE, executeRequest(request, requestInfo));
+            } catch (Throwable e) {
+                transientVariables.put(HTTP_TASK_ASYNC_EXCEPTION, e);
+            }
+
+            try {
+                processEngineConfiguration.getRuntimeService().trigger(executionId, null, transientVariables);
+            } catch (FlowableObjectNotFoundException e) {
+                LOGGER.info("Execution {} doesn't exist anymore, ignoring the async http response", executionId);
+            } catch (Throwable e) {
+                // E.g. the execution was changed concurrently: the job executor retries the trigger, and keeps a failed job when it doesn't succeed
+                LOGGER.warn("Could not trigger execution {} with the async http response, retrying with a job", executionId, e);
+                try {
+                    processEngineConfiguration.getManagementService().executeCommand(new CreateAsyncTriggerJobCmd(executionId, transientVariables));
+                } catch (Throwable jobException) {
+                    LOGGER.error("Could not create a job to trigger execution {} with the async http response", executionId, jobException);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores the outcome of an async request as local variables of the waiting execution, and creates a job that triggers it.
+     */
+    protected static class CreateAsyncTriggerJobCmd implements Command<Void> {
+
+        protected String executionId;
+        protected Map<String, Object> outcomeVariables;
+
+        public CreateAsyncTriggerJobCmd(String executionId, Map<String, Object> outcomeVariables) {
+            this.executionId = executionId;
+            this.outcomeVariables = outcomeVariables;
+        }
+
+        @Override
+        public Void execute(CommandContext commandContext) {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(executionId);
+            if (execution == null) {
+                LOGGER.info("Execution {} doesn't exist anymore, ignoring the async http response", executionId);
+                return null;
+            }
+
+            for (Map.Entry<String, Object> outcomeVariable : outcomeVariables.entrySet()) {
+                Object value = outcomeVariable.getValue();
+                if (value instanceof Throwable && !isSerializable((Throwable) value)) {
+                    value = new FlowableException(value.toString());
+                }
+                execution.setVariableLocal(outcomeVariable.getKey(), value);
+            }
+
+            JobEntity job = CommandContextUtil.getJobManager(commandContext).createAsyncJob(execution, true);
+            job.setJobHandlerType(AsyncTriggerJobHandler.TYPE);
+            CommandContextUtil.getJobManager(commandContext).scheduleAsyncJob(job);
+            return null;
+        }
+
+        protected boolean isSerializable(Throwable exception) {
+            try {
+                SerializationUtils.serialize(exception);
+                return true;
+            } catch (SerializationException e) {
+                return false;
+            }
+        }
+    }
+
     protected static class TimeoutTask extends TimerTask {
         private HttpRequestBase request;
 
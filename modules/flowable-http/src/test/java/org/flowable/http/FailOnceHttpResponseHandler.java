@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.http.delegate.HttpResponseHandler;
+
+public class FailOnceHttpResponseHandler implements HttpResponseHandler {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+    @Override
+    public void handleHttpResponse(DelegateExecution execution, HttpResponse httpResponse) {
+        if (INVOCATIONS.incrementAndGet() == 1) {
+            throw new FlowableException("Failing the first response on purpose");
+        }
+        execution.setVariable("statusCode", httpResponse.getStatusCode());
+    }
+
+}
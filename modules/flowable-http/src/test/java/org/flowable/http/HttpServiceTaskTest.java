@@ -25,6 +25,7 @@ import org.flowable.engine.RuntimeService;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.history.HistoricVariableInstance;
 import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.Job;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.slf4j.Logger;
@@ -67,6 +68,45 @@ public class HttpServiceTaskTest extends HttpServiceTaskTestCase {
         assertProcessEnded(procId);
     }
     
+    @Deployment
+    public void testAsyncResponse() throws Exception {
+        String procId = runtimeService.startProcessInstanceByKey("asyncResponseGet").getId();
+
+        // The execution is triggered in a new command once the response has been received
+        long endTime = System.currentTimeMillis() + 10000L;
+        while (runtimeService.createProcessInstanceQuery().processInstanceId(procId).count() > 0 && System.currentTimeMillis() < endTime) {
+            Thread.sleep(100L);
+        }
+        assertProcessEnded(procId);
+
+        List<HistoricVariableInstance> variables = historyService.createHistoricVariableInstanceQuery().processInstanceId(procId).list();
+        assertEquals(1, variables.size());
+        assertEquals("httpGet.responseBody", variables.get(0).getVariableName());
+        String variableValue = variables.get(0).getValue().toString();
+        assertTrue(variableValue.contains("firstName") && variableValue.contains("John"));
+    }
+
+    @Deployment
+    public void testAsyncResponseTriggerRetriedByJob() throws Exception {
+        FailOnceHttpResponseHandler.INVOCATIONS.set(0);
+        String procId = runtimeService.startProcessInstanceByKey("asyncResponseTriggerRetry").getId();
+
+        // The first trigger fails, so the response is kept for a job that triggers the execution again
+        long endTime = System.currentTimeMillis() + 10000L;
+        while (managementService.createJobQuery().processInstanceId(procId).count() == 0 && System.currentTimeMillis() < endTime) {
+            Thread.sleep(100L);
+        }
+        Job job = managementService.createJobQuery().processInstanceId(procId).singleResult();
+        assertNotNull(job);
+
+        managementService.executeJob(job.getId());
+        assertProcessEnded(procId);
+        assertEquals(2, FailOnceHttpResponseHandler.INVOCATIONS.get());
+
+        HistoricVariableInstance variable = historyService.createHistoricVariableInstanceQuery().processInstanceId(procId).variableName("statusCode").singleResult();
+        assertEquals(200, variable.getValue());
+    }
+
     @Deployment
     public void testGetWithResponseHandler() {
         String procId = runtimeService.startProcessInstanceByKey("simpleGetOnly").getId();
@@ -48,6 +48,7 @@ public class LDAPConfigurator extends AbstractProcessEngineConfigurator {
         if (ldapConfiguration.getGroupCacheSize() > 0) {
             ldapGroupCache = new LDAPGroupCache(ldapConfiguration.getGroupCacheSize(), 
                     ldapConfiguration.getGroupCacheExpirationTime(), processEngineConfiguration.getClock());
+            ldapGroupCache.setRefreshAheadFactor(ldapConfiguration.getGroupCacheRefreshAheadFactor());
             
             if (ldapConfiguration.getGroupCacheListener() != null) {
                 ldapGroupCache.setLdapCacheListener(ldapConfiguration.getGroupCacheListener());
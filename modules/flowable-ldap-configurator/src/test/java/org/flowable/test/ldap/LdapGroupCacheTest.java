@@ -12,12 +12,21 @@
  */
 package org.flowable.test.ldap;
 
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.flowable.engine.impl.util.EngineServiceUtil;
 import org.flowable.engine.test.Deployment;
+import org.flowable.idm.api.Group;
+import org.flowable.idm.engine.impl.persistence.entity.GroupEntityImpl;
 import org.flowable.ldap.LDAPGroupCache;
 import org.flowable.ldap.LDAPGroupCache.LDAPGroupCacheListener;
+import org.flowable.ldap.LDAPGroupCache.LDAPGroupLoader;
 import org.flowable.ldap.LDAPIdentityServiceImpl;
 import org.springframework.test.context.ContextConfiguration;
 
@@ -93,6 +102,53 @@ public class LdapGroupCacheTest extends LDAPTestCase {
         assertEquals("fozzie", cacheListener.getLastCacheMiss());
     }
 
+    public void testLdapGroupCacheRefreshAhead() throws Exception {
+        Date now = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(now);
+
+        LDAPGroupCache ldapGroupCache = new LDAPGroupCache(10, 1000L, processEngineConfiguration.getClock());
+        ldapGroupCache.setRefreshAheadFactor(0.5);
+        ExecutorService refreshExecutor = Executors.newSingleThreadExecutor();
+        ldapGroupCache.setRefreshExecutor(refreshExecutor);
+
+        final AtomicInteger loadCount = new AtomicInteger();
+        LDAPGroupLoader groupLoader = new LDAPGroupLoader() {
+
+            public List<Group> loadGroups(String userId) {
+                loadCount.incrementAndGet();
+                return createGroups("refreshed");
+            }
+
+        };
+
+        ldapGroupCache.add("kermit", createGroups("initial"));
+
+        // Before the refresh ahead time, the cached groups are returned as is
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 200));
+        assertEquals("initial", ldapGroupCache.get("kermit", groupLoader).get(0).getId());
+        assertEquals(0, loadCount.get());
+
+        // After the refresh ahead time, the cached groups are still returned, but the groups are fetched in the background
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 600));
+        assertEquals("initial", ldapGroupCache.get("kermit", groupLoader).get(0).getId());
+        refreshExecutor.shutdown();
+        assertTrue(refreshExecutor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1, loadCount.get());
+        assertEquals(1, ldapGroupCache.getRefreshCount());
+
+        // The refreshed groups don't expire at the original expiration time
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 1100));
+        assertEquals("refreshed", ldapGroupCache.get("kermit").get(0).getId());
+        assertEquals(3, ldapGroupCache.getHitCount());
+        assertEquals(0, ldapGroupCache.getMissCount());
+    }
+
+    protected List<Group> createGroups(String groupId) {
+        Group group = new GroupEntityImpl();
+        group.setId(groupId);
+        return Collections.singletonList(group);
+    }
+
     // Test cache listener
     static class TestLDAPGroupCacheListener implements LDAPGroupCacheListener {
 
@@ -47,6 +47,9 @@ public class LDAPConfiguration {
     // For parameters like connection pooling settings, etc.
     protected Map<String, String> customConnectionParameters = new HashMap<String, String>();
 
+    // Pooling of the connections made with the user and password above
+    protected boolean connectionPooling;
+
     // Query configuration
     protected String baseDn;
     protected String userBaseDn;
@@ -75,6 +78,7 @@ public class LDAPConfiguration {
     // Group caching
     protected int groupCacheSize = -1;
     protected long groupCacheExpirationTime = 3600000L; // default: one hour
+    protected double groupCacheRefreshAheadFactor = -1; // default: no refresh ahead
 
     // Cache listener (experimental)
     protected LDAPGroupCacheListener groupCacheListener;
@@ -165,6 +169,23 @@ public class LDAPConfiguration {
         this.customConnectionParameters = customConnectionParameters;
     }
 
+    public boolean isConnectionPooling() {
+        return connectionPooling;
+    }
+
+    /**
+     * Enables the connection pooling of the JNDI LDAP provider for the connections made with the configured user and password, ie for all queries. Closing such a connection returns it to the pool
+     * instead of closing the socket, so queries don't need to connect and bind each time. The connections made to check the password of a user are never pooled.
+     * 
+     * The pool itself is configured through system properties that apply to the whole JVM, like 'com.sun.jndi.ldap.connect.pool.maxsize', 'com.sun.jndi.ldap.connect.pool.prefsize' and
+     * 'com.sun.jndi.ldap.connect.pool.timeout'. See http://docs.oracle.com/javase/jndi/tutorial/ldap/connect/config.html.
+     * 
+     * By default set to false.
+     */
+    public void setConnectionPooling(boolean connectionPooling) {
+        this.connectionPooling = connectionPooling;
+    }
+
     public String getBaseDn() {
         return baseDn;
     }
@@ -425,6 +446,21 @@ public class LDAPConfiguration {
         this.groupCacheExpirationTime = groupCacheExpirationTime;
     }
 
+    public double getGroupCacheRefreshAheadFactor() {
+        return groupCacheRefreshAheadFactor;
+    }
+
+    /**
+     * Sets the fraction of the group cache expiration time (see {@link #setGroupCacheExpirationTime(long)}) after which cached groups are fetched again in the background when they are used. ie. when
+     * set to 0.75 and the expiration time is one hour, groups that are used between 45 and 60 minutes after being fetched are refreshed, while the cached groups are returned. Groups that are used
+     * regularly are thus never fetched while a query waits for it.
+     * 
+     * Only values between 0 and 1 enable the refresh ahead. By default set to -1, so no refresh ahead is done.
+     */
+    public void setGroupCacheRefreshAheadFactor(double groupCacheRefreshAheadFactor) {
+        this.groupCacheRefreshAheadFactor = groupCacheRefreshAheadFactor;
+    }
+
     public LDAPGroupCacheListener getGroupCacheListener() {
         return groupCacheListener;
     }
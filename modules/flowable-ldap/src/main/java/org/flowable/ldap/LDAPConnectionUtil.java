@@ -31,17 +31,26 @@ public class LDAPConnectionUtil {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LDAPConnectionUtil.class);
 
+    public static final String CONNECTION_POOLING_PROPERTY = "com.sun.jndi.ldap.connect.pool";
+
     public static InitialDirContext creatDirectoryContext(LDAPConfiguration ldapConfigurator) {
-        return createDirectoryContext(ldapConfigurator, ldapConfigurator.getUser(), ldapConfigurator.getPassword());
+        return createDirectoryContext(ldapConfigurator, ldapConfigurator.getUser(), ldapConfigurator.getPassword(), ldapConfigurator.isConnectionPooling());
     }
 
     public static InitialDirContext createDirectoryContext(LDAPConfiguration ldapConfigurator, String principal, String credentials) {
+        return createDirectoryContext(ldapConfigurator, principal, credentials, false);
+    }
+
+    public static InitialDirContext createDirectoryContext(LDAPConfiguration ldapConfigurator, String principal, String credentials, boolean pooled) {
         Properties properties = new Properties();
         properties.put(Context.INITIAL_CONTEXT_FACTORY, ldapConfigurator.getInitialContextFactory());
         properties.put(Context.PROVIDER_URL, ldapConfigurator.getServer() + ":" + ldapConfigurator.getPort());
         properties.put(Context.SECURITY_AUTHENTICATION, ldapConfigurator.getSecurityAuthentication());
         properties.put(Context.SECURITY_PRINCIPAL, principal);
         properties.put(Context.SECURITY_CREDENTIALS, credentials);
+        if (pooled) {
+            properties.put(CONNECTION_POOLING_PROPERTY, "true");
+        }
 
         if (ldapConfigurator.getCustomConnectionParameters() != null) {
             for (String customParameter : ldapConfigurator.getCustomConnectionParameters().keySet()) {
@@ -12,13 +12,25 @@
  */
 package org.flowable.ldap;
 
+import java.util.Collections;
 import java.util.Date;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.common.impl.util.BoundedConcurrentCache;
 import org.flowable.engine.common.runtime.ClockReader;
 import org.flowable.idm.api.Group;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Simple cache for groups a user belongs to, which avoid hitting the LDAP system too much. Groups are fetched internally by the engine for example when doing queries, eg when fetching tasks for a
@@ -26,68 +38,97 @@ import org.flowable.idm.api.Group;
  * 
  * Cached entries have an expiration time. For example when set to one hour, changes to the ldap system around the groups of a user will be visible after that hour.
  * 
+ * The cache is safe to use by concurrent threads: it is backed by a {@link BoundedConcurrentCache}, so lookups don't lock and the least frequently used
+ * entry is evicted when the cache size is exceeded.
+ * 
+ * When a refresh ahead factor is set (see {@link LDAPConfiguration#setGroupCacheRefreshAheadFactor(double)}), entries that are used close to their
+ * expiration are fetched again in the background, while the callers keep getting the cached groups.
+ * 
  * Experimental: can have a listener for cache events, and instance of {@link LDAPGroupCacheListener}.
  * 
  * @author Joram Barrez
  */
 public class LDAPGroupCache {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(LDAPGroupCache.class);
+
     private final ClockReader clockReader;
-    protected Map<String, LDAPGroupCacheEntry> groupCache;
+    protected BoundedConcurrentCache<String, LDAPGroupCacheEntry> groupCache;
+    protected int cacheSize;
     protected long expirationTime;
 
+    protected double refreshAheadFactor = -1;
+    protected ExecutorService refreshExecutor;
+    protected Set<String> refreshingUserIds = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    protected AtomicLong hitCount = new AtomicLong();
+    protected AtomicLong missCount = new AtomicLong();
+    protected AtomicLong expirationCount = new AtomicLong();
+    protected AtomicLong refreshCount = new AtomicLong();
+
     protected LDAPGroupCacheListener ldapCacheListener;
 
     public LDAPGroupCache(final int cacheSize, final long expirationTime, final ClockReader clockReader) {
         this.clockReader = clockReader;
+        this.cacheSize = cacheSize;
+        this.expirationTime = expirationTime;
+        this.groupCache = new BoundedConcurrentCache<String, LDAPGroupCacheEntry>(cacheSize);
+        this.groupCache.setEvictionListener(new BoundedConcurrentCache.EvictionListener<String, LDAPGroupCacheEntry>() {
 
-        // From
-        // http://stackoverflow.com/questions/224868/easy-simple-to-use-lru-cache-in-java
-        this.groupCache = new LinkedHashMap<String, LDAPGroupCache.LDAPGroupCacheEntry>(cacheSize + 1, 0.75f, true) {
-
-            private static final long serialVersionUID = 5207574193173514579L;
-
-            protected boolean removeEldestEntry(Map.Entry<String, LDAPGroupCacheEntry> eldest) {
-                boolean removeEldest = size() > cacheSize;
-
-                if (removeEldest && ldapCacheListener != null) {
-                    ldapCacheListener.cacheEviction(eldest.getKey());
+            @Override
+            public void onEviction(String userId, LDAPGroupCacheEntry cacheEntry) {
+                if (ldapCacheListener != null) {
+                    ldapCacheListener.cacheEviction(userId);
                 }
-
-                return removeEldest;
             }
-
-        };
-        this.expirationTime = expirationTime;
+        });
     }
 
     public void add(String userId, List<Group> groups) {
-        this.groupCache.put(userId, new LDAPGroupCacheEntry(clockReader.getCurrentTime(), groups));
+        long now = clockReader.getCurrentTime().getTime();
+        groupCache.put(userId, new LDAPGroupCacheEntry(new Date(now), now + expirationTime, groups));
     }
 
     public List<Group> get(String userId) {
-        LDAPGroupCacheEntry cacheEntry = groupCache.get(userId);
-        if (cacheEntry != null) {
-            if ((clockReader.getCurrentTime().getTime() - cacheEntry.getTimestamp().getTime()) < expirationTime) {
-
-                if (ldapCacheListener != null) {
-                    ldapCacheListener.cacheHit(userId);
-                }
+        return get(userId, null);
+    }
 
-                return cacheEntry.getGroups();
+    /**
+     * Returns the cached groups of the user, or null if they are not cached or expired.
+     * 
+     * When the groups are close to expiring and a group loader is passed, the groups are fetched again in the background using that loader.
+     */
+    public List<Group> get(String userId, LDAPGroupLoader groupLoader) {
+        LDAPGroupCacheEntry cacheEntry = groupCache.get(userId);
+        boolean expired = false;
+        if (cacheEntry != null && clockReader.getCurrentTime().getTime() >= cacheEntry.getExpirationTimestamp()) {
+            // Only counted once when several threads find the same expired entry
+            expired = groupCache.remove(userId, cacheEntry);
+            cacheEntry = null;
+        }
 
-            } else {
+        if (cacheEntry != null) {
+            hitCount.incrementAndGet();
+            if (ldapCacheListener != null) {
+                ldapCacheListener.cacheHit(userId);
+            }
 
-                this.groupCache.remove(userId);
+            if (groupLoader != null && isRefreshAheadNeeded(cacheEntry)) {
+                scheduleRefresh(userId, groupLoader);
+            }
 
-                if (ldapCacheListener != null) {
-                    ldapCacheListener.cacheExpired(userId);
-                    ldapCacheListener.cacheEviction(userId);
-                }
+            return cacheEntry.getGroups();
+        }
 
+        if (expired) {
+            expirationCount.incrementAndGet();
+            if (ldapCacheListener != null) {
+                ldapCacheListener.cacheExpired(userId);
+                ldapCacheListener.cacheEviction(userId);
             }
         }
 
+        missCount.incrementAndGet();
         if (ldapCacheListener != null) {
             ldapCacheListener.cacheMiss(userId);
         }
@@ -95,16 +136,78 @@ public class LDAPGroupCache {
         return null;
     }
 
+    protected long getAge(LDAPGroupCacheEntry cacheEntry) {
+        return clockReader.getCurrentTime().getTime() - cacheEntry.getTimestamp().getTime();
+    }
+
+    protected boolean isRefreshAheadNeeded(LDAPGroupCacheEntry cacheEntry) {
+        return refreshAheadFactor > 0 && refreshAheadFactor < 1 && getAge(cacheEntry) >= (long) (expirationTime * refreshAheadFactor);
+    }
+
+    protected void scheduleRefresh(final String userId, final LDAPGroupLoader groupLoader) {
+        // Only one refresh per user at the same time
+        if (!refreshingUserIds.add(userId)) {
+            return;
+        }
+
+        try {
+            getRefreshExecutor().execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        List<Group> groups = groupLoader.loadGroups(userId);
+                        add(userId, groups);
+                        refreshCount.incrementAndGet();
+                    } catch (Exception e) {
+                        LOGGER.warn("Could not refresh the cached groups of user {}, the groups will be fetched again when expired", userId, e);
+                    } finally {
+                        refreshingUserIds.remove(userId);
+                    }
+                }
+
+            });
+
+        } catch (RejectedExecutionException e) {
+            refreshingUserIds.remove(userId);
+            LOGGER.debug("Refresh of the cached groups of user {} was rejected", userId, e);
+        }
+    }
+
+    protected synchronized ExecutorService getRefreshExecutor() {
+        if (refreshExecutor == null) {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+
+                protected AtomicInteger threadNumber = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "flowable-ldap-group-cache-refresh-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+
+            });
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            refreshExecutor = threadPoolExecutor;
+        }
+        return refreshExecutor;
+    }
+
+    public int size() {
+        return groupCache.size();
+    }
+
     public void clear() {
         groupCache.clear();
     }
 
-    public Map<String, LDAPGroupCacheEntry> getGroupCache() {
+    public BoundedConcurrentCache<String, LDAPGroupCacheEntry> getGroupCache() {
         return groupCache;
     }
 
-    public void setGroupCache(Map<String, LDAPGroupCacheEntry> groupCache) {
-        this.groupCache = groupCache;
+    public int getCacheSize() {
+        return cacheSize;
     }
 
     public long getExpirationTime() {
@@ -115,6 +218,41 @@ public class LDAPGroupCache {
         this.expirationTime = expirationTime;
     }
 
+    public double getRefreshAheadFactor() {
+        return refreshAheadFactor;
+    }
+
+    public void setRefreshAheadFactor(double refreshAheadFactor) {
+        this.refreshAheadFactor = refreshAheadFactor;
+    }
+
+    public synchronized void setRefreshExecutor(ExecutorService refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the number of entries that were evicted because the cache size was exceeded or because they expired.
+     */
+    public long getEvictionCount() {
+        return groupCache.getEvictionCount() + expirationCount.get();
+    }
+
+    public long getExpirationCount() {
+        return expirationCount.get();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
     public LDAPGroupCacheListener getLdapCacheListener() {
         return ldapCacheListener;
     }
@@ -128,14 +266,16 @@ public class LDAPGroupCache {
     static class LDAPGroupCacheEntry {
 
         protected Date timestamp;
+        protected long expirationTimestamp;
         protected List<Group> groups;
 
         public LDAPGroupCacheEntry() {
 
         }
 
-        public LDAPGroupCacheEntry(Date timestamp, List<Group> groups) {
+        public LDAPGroupCacheEntry(Date timestamp, long expirationTimestamp, List<Group> groups) {
             this.timestamp = timestamp;
+            this.expirationTimestamp = expirationTimestamp;
             this.groups = groups;
         }
 
@@ -147,6 +287,14 @@ public class LDAPGroupCache {
             this.timestamp = timestamp;
         }
 
+        public long getExpirationTimestamp() {
+            return expirationTimestamp;
+        }
+
+        public void setExpirationTimestamp(long expirationTimestamp) {
+            this.expirationTimestamp = expirationTimestamp;
+        }
+
         public List<Group> getGroups() {
             return groups;
         }
@@ -157,6 +305,15 @@ public class LDAPGroupCache {
 
     }
 
+    /**
+     * Fetches the groups of a user from the LDAP system, used to refresh cached groups in the background.
+     */
+    public static interface LDAPGroupLoader {
+
+        List<Group> loadGroups(String userId);
+
+    }
+
     // Cache listeners. Currently not yet exposed (only programmatically for the
     // moment)
 
@@ -30,6 +30,7 @@ import org.flowable.idm.engine.impl.persistence.entity.GroupEntityImpl;
 import org.flowable.ldap.LDAPCallBack;
 import org.flowable.ldap.LDAPConfiguration;
 import org.flowable.ldap.LDAPGroupCache;
+import org.flowable.ldap.LDAPGroupCache.LDAPGroupLoader;
 import org.flowable.ldap.LDAPTemplate;
 
 public class LDAPGroupQueryImpl extends GroupQueryImpl {
@@ -66,14 +67,20 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
 
         // First try the cache (if one is defined)
         if (ldapGroupCache != null) {
-            List<Group> groups = ldapGroupCache.get(userId);
+            List<Group> groups = ldapGroupCache.get(userId, new LDAPGroupLoader() {
+
+                @Override
+                public List<Group> loadGroups(String userId) {
+                    return executeGroupsForUserQuery(userId);
+                }
+
+            });
             if (groups != null) {
                 return groups;
             }
         }
         
-        String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryGroupsForUser(ldapConfigurator, userId);
-        List<Group> groups = executeGroupQuery(searchExpression);
+        List<Group> groups = executeGroupsForUserQuery(userId);
         
         // Cache results for later
         if (ldapGroupCache != null) {
@@ -83,6 +90,11 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
         return groups;
     }
     
+    protected List<Group> executeGroupsForUserQuery(String userId) {
+        String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryGroupsForUser(ldapConfigurator, userId);
+        return executeGroupQuery(searchExpression);
+    }
+
     protected List<Group> findAllGroups() {
         String searchExpression = ldapConfigurator.getQueryAllGroups();
         List<Group> groups = executeGroupQuery(searchExpression);
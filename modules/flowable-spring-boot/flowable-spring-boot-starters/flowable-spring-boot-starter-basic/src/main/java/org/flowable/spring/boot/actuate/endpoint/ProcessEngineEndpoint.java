@@ -22,6 +22,7 @@ import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.MetricsDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.springframework.boot.actuate.endpoint.AbstractEndpoint;
@@ -85,6 +86,9 @@ public class ProcessEngineEndpoint extends AbstractEndpoint<Map<String, Object>>
 
         // Process definition cache
         DeploymentCache<ProcessDefinitionCacheEntry> deploymentCache = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getProcessDefinitionCache();
+        if (deploymentCache instanceof MetricsDeploymentCache) {
+            deploymentCache = ((MetricsDeploymentCache<ProcessDefinitionCacheEntry>) deploymentCache).getDelegate();
+        }
         if (deploymentCache instanceof DefaultDeploymentCache) {
             metrics.put("cachedProcessDefinitionCount", ((DefaultDeploymentCache) deploymentCache).size());
         }
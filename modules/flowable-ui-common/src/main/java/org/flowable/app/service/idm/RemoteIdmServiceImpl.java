@@ -21,19 +21,33 @@ import java.net.URLEncoder;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.apache.commons.codec.binary.Base64;
 import org.apache.http.HttpHeaders;
-import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLContextBuilder;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
 import org.flowable.app.model.common.RemoteGroup;
 import org.flowable.app.model.common.RemoteToken;
 import org.flowable.app.model.common.RemoteUser;
@@ -51,6 +65,12 @@ public class RemoteIdmServiceImpl implements RemoteIdmService {
     private static final String PROPERTY_URL = "idm.app.url";
     private static final String PROPERTY_ADMIN_USER = "idm.admin.user";
     private static final String PROPERTY_ADMIN_PASSWORD = "idm.admin.password";
+    private static final String PROPERTY_MAX_CONNECTIONS = "idm.app.http.max-connections";
+    private static final String PROPERTY_MAX_CONNECTIONS_PER_ROUTE = "idm.app.http.max-connections-per-route";
+    private static final String PROPERTY_CONNECT_TIMEOUT = "idm.app.http.connect-timeout";
+    private static final String PROPERTY_SOCKET_TIMEOUT = "idm.app.http.socket-timeout";
+    private static final String PROPERTY_CONNECTION_REQUEST_TIMEOUT = "idm.app.http.connection-request-timeout";
+    private static final String PROPERTY_IDLE_CONNECTION_TIMEOUT = "idm.app.http.idle-connection-timeout";
 
     @Autowired
     protected Environment environment;
@@ -62,11 +82,61 @@ public class RemoteIdmServiceImpl implements RemoteIdmService {
     protected String adminUser;
     protected String adminPassword;
 
+    // Shared by all calls, so connections to the IDM app are kept alive and reused
+    protected CloseableHttpClient client;
+
+    // Calls that are in progress, so concurrent lookups of the same resource share one request
+    protected ConcurrentMap<String, FutureTask<JsonNode>> inProgressCalls = new ConcurrentHashMap<String, FutureTask<JsonNode>>();
+
     @PostConstruct
     protected void init() {
         url = environment.getRequiredProperty(PROPERTY_URL);
         adminUser = environment.getRequiredProperty(PROPERTY_ADMIN_USER);
         adminPassword = environment.getRequiredProperty(PROPERTY_ADMIN_PASSWORD);
+        client = createHttpClient();
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        if (client != null) {
+            try {
+                client.close();
+            } catch (IOException e) {
+                LOGGER.warn("Exception while closing http client", e);
+            }
+        }
+    }
+
+    protected CloseableHttpClient createHttpClient() {
+        RegistryBuilder<ConnectionSocketFactory> socketFactoryRegistryBuilder = RegistryBuilder.<ConnectionSocketFactory> create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory());
+        try {
+            SSLContextBuilder builder = new SSLContextBuilder();
+            builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
+            socketFactoryRegistryBuilder.register("https",
+                    new SSLConnectionSocketFactory(builder.build(), SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER));
+        } catch (Exception e) {
+            LOGGER.warn("Could not configure SSL for http client", e);
+            socketFactoryRegistryBuilder.register("https", SSLConnectionSocketFactory.getSocketFactory());
+        }
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = socketFactoryRegistryBuilder.build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setMaxTotal(environment.getProperty(PROPERTY_MAX_CONNECTIONS, Integer.class, 100));
+        connectionManager.setDefaultMaxPerRoute(environment.getProperty(PROPERTY_MAX_CONNECTIONS_PER_ROUTE, Integer.class, 50));
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(environment.getProperty(PROPERTY_CONNECT_TIMEOUT, Integer.class, 5000))
+                .setSocketTimeout(environment.getProperty(PROPERTY_SOCKET_TIMEOUT, Integer.class, 10000))
+                .setConnectionRequestTimeout(environment.getProperty(PROPERTY_CONNECTION_REQUEST_TIMEOUT, Integer.class, 5000))
+                .build();
+
+        return HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(environment.getProperty(PROPERTY_IDLE_CONNECTION_TIMEOUT, Long.class, 30000L), TimeUnit.MILLISECONDS)
+                .build();
     }
 
     @Override
@@ -136,37 +206,64 @@ public class RemoteIdmServiceImpl implements RemoteIdmService {
         return new ArrayList<RemoteGroup>();
     }
 
-    protected JsonNode callRemoteIdmService(String url, String username, String password) {
-        HttpGet httpGet = new HttpGet(url);
-        httpGet.setHeader(HttpHeaders.AUTHORIZATION, "Basic " + new String(
-                Base64.encodeBase64((username + ":" + password).getBytes(Charset.forName("UTF-8")))));
+    protected JsonNode callRemoteIdmService(final String url, String username, String password) {
+        final String authorization = "Basic " + new String(
+                Base64.encodeBase64((username + ":" + password).getBytes(Charset.forName("UTF-8"))));
+
+        // The credentials are part of the key: a call with other credentials could have another outcome
+        String callKey = url + '\n' + authorization;
+        FutureTask<JsonNode> call = new FutureTask<JsonNode>(new Callable<JsonNode>() {
+
+            @Override
+            public JsonNode call() throws Exception {
+                return executeRemoteIdmCall(url, authorization);
+            }
+
+        });
+
+        FutureTask<JsonNode> inProgressCall = inProgressCalls.putIfAbsent(callKey, call);
+        if (inProgressCall == null) {
+            try {
+                call.run();
+            } finally {
+                inProgressCalls.remove(callKey, call);
+            }
+        } else {
+            call = inProgressCall;
+        }
 
-        HttpClientBuilder clientBuilder = HttpClientBuilder.create();
-        SSLConnectionSocketFactory sslsf = null;
         try {
-            SSLContextBuilder builder = new SSLContextBuilder();
-            builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-            sslsf = new SSLConnectionSocketFactory(builder.build(), SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
-            clientBuilder.setSSLSocketFactory(sslsf);
-        } catch (Exception e) {
-            LOGGER.warn("Could not configure SSL for http client", e);
+            return call.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for call to IDM app", e);
+        } catch (ExecutionException e) {
+            LOGGER.warn("Exception while calling IDM app", e.getCause());
         }
+        return null;
+    }
 
-        CloseableHttpClient client = clientBuilder.build();
+    protected JsonNode executeRemoteIdmCall(String url, String authorization) {
+        HttpGet httpGet = new HttpGet(url);
+        httpGet.setHeader(HttpHeaders.AUTHORIZATION, authorization);
 
+        CloseableHttpResponse response = null;
         try {
-            HttpResponse response = client.execute(httpGet);
+            response = client.execute(httpGet);
             if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
                 return objectMapper.readTree(response.getEntity().getContent());
             }
+
         } catch (Exception e) {
             LOGGER.warn("Exception while getting token", e);
         } finally {
-            if (client != null) {
+            if (response != null) {
                 try {
-                    client.close();
+                    // Fully consume the entity, so the connection is returned to the pool and can be reused
+                    EntityUtils.consumeQuietly(response.getEntity());
+                    response.close();
                 } catch (IOException e) {
-                    LOGGER.warn("Exception while closing http client", e);
+                    LOGGER.warn("Exception while closing http response", e);
                 }
             }
         }
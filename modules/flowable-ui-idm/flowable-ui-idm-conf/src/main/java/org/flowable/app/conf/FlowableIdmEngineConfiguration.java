@@ -101,11 +101,14 @@ public class FlowableIdmEngineConfiguration {
        
         ldapConfiguration.setGroupCacheSize(environment.getRequiredProperty("ldap.cache.groupsize", Integer.class));
         ldapConfiguration.setGroupCacheExpirationTime(environment.getRequiredProperty("ldap.cache.groupexpiration", Long.class));
+        ldapConfiguration.setGroupCacheRefreshAheadFactor(environment.getProperty("ldap.cache.grouprefreshahead", Double.class, -1d));
+        ldapConfiguration.setConnectionPooling(environment.getProperty("ldap.connection.pooling", Boolean.class, false));
         
         LDAPGroupCache ldapGroupCache = null;
         if (ldapConfiguration.getGroupCacheSize() > 0) {
             ldapGroupCache = new LDAPGroupCache(ldapConfiguration.getGroupCacheSize(), 
                     ldapConfiguration.getGroupCacheExpirationTime(), new DefaultClockImpl());
+            ldapGroupCache.setRefreshAheadFactor(ldapConfiguration.getGroupCacheRefreshAheadFactor());
             
             if (groupCacheListener != null) {
                 ldapGroupCache.setLdapCacheListener(groupCacheListener);
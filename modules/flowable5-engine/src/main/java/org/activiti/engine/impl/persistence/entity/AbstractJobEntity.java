@@ -221,6 +221,10 @@ public abstract class AbstractJobEntity implements Job, PersistentObject, HasRev
         return jobType;
     }
 
+    public int getPriority() {
+        return 0; // v5 jobs don't have a priority
+    }
+
     public void setJobType(String jobType) {
         this.jobType = jobType;
     }
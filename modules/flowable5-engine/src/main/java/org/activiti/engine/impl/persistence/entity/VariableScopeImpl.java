@@ -317,6 +317,22 @@ public abstract class VariableScopeImpl implements Serializable, VariableScope {
         return getVariableLocal(variableName, true);
     }
 
+    /**
+     * Read-only access is not optimized for Activiti 5 process instances, the value is fetched as with {@link #getVariable(String)}.
+     */
+    @Override
+    public Object getVariableReadOnly(String variableName) {
+        return getVariable(variableName);
+    }
+
+    /**
+     * Read-only access is not optimized for Activiti 5 process instances, the value is fetched as with {@link #getVariableLocal(String)}.
+     */
+    @Override
+    public Object getVariableLocalReadOnly(String variableName) {
+        return getVariableLocal(variableName);
+    }
+
     public VariableInstance getVariableInstanceLocal(String variableName) {
         return getVariableInstanceLocal(variableName, true);
     }